@@ -15,17 +15,23 @@ import games.strategy.triplea.delegate.remote.IPurchaseDelegate;
 import games.strategy.triplea.delegate.remote.ITechDelegate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import org.triplea.ai.flowfield.influence.InfluenceMap;
 import org.triplea.ai.flowfield.influence.InfluenceMapBuilder;
 import org.triplea.ai.flowfield.neighbors.MapWithNeighbors;
+import org.triplea.ai.flowfield.neighbors.MovementClass;
 import org.triplea.ai.flowfield.neighbors.NeighborGetter;
 
 public class FlowFieldAi extends AbstractAi {
 
   @Getter private Collection<InfluenceMap> diffusions = new ArrayList<>();
+  /** The map connections don't change during a game, so they are only built once per class */
+  private final Map<MovementClass, MapWithNeighbors> mapsWithNeighbors =
+      new EnumMap<>(MovementClass.class);
   private int round = -1;
 
   public FlowFieldAi(final String name, final String playerLabel) {
@@ -119,6 +125,11 @@ public class FlowFieldAi extends AbstractAi {
                     .gameSequence(getGameData().getSequence())
                     .lhtrHeavyBombers(Properties.getLhtrHeavyBombers(getGameData().getProperties()))
                     .supportAttachments(getGameData().getUnitTypeList().getSupportRules()))
+            .previousMaps(
+                diffusions.stream()
+                    .collect(
+                        Collectors.toMap(
+                            InfluenceMap::getName, Function.identity(), (first, second) -> first)))
             .build();
 
     diffusions =
@@ -132,11 +143,17 @@ public class FlowFieldAi extends AbstractAi {
             .map(
                 unitType ->
                     influenceMapBuilder.buildMaps(
-                        unitType.getName(),
-                        new MapWithNeighbors(
-                            getGameData().getMap().getTerritories(),
-                            new NeighborGetter(unitType, getGameData().getMap()))))
+                        unitType.getName(), getMapWithNeighbors(MovementClass.of(unitType))))
             .flatMap(Collection::stream)
             .collect(Collectors.toList());
   }
+
+  private MapWithNeighbors getMapWithNeighbors(final MovementClass movementClass) {
+    return mapsWithNeighbors.computeIfAbsent(
+        movementClass,
+        key ->
+            new MapWithNeighbors(
+                getGameData().getMap().getTerritories(),
+                new NeighborGetter(key, getGameData().getMap())));
+  }
 }
@@ -4,15 +4,12 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import games.strategy.engine.data.Territory;
 import java.util.ArrayDeque;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import lombok.Value;
 import org.triplea.ai.flowfield.neighbors.MapWithNeighbors;
 import org.triplea.ai.flowfield.odds.BattleDetails;
@@ -27,6 +24,9 @@ public class InfluenceMap {
   /** Percentage of the value to be copied to the */
   double diffuseRate;
 
+  /** The territories the value is diffused from and their initial value */
+  Map<Territory, Long> initialTerritories;
+
   Map<Territory, InfluenceTerritory> territories = new HashMap<>();
 
   public InfluenceMap(
@@ -35,7 +35,7 @@ public class InfluenceMap {
       final MapWithNeighbors mapWithNeighbors,
       final Function<Territory, BattleDetails> getBattleDetails) {
     this(
-        influenceMapSetup.getName() + "(" + suffix + ")",
+        buildName(influenceMapSetup, suffix),
         influenceMapSetup.getDiffusion(),
         influenceMapSetup.getTerritoryValuations(),
         mapWithNeighbors);
@@ -54,7 +54,7 @@ public class InfluenceMap {
       final InfluenceMapSetup influenceMapSetup,
       final MapWithNeighbors mapWithNeighbors) {
     this(
-        influenceMapSetup.getName() + "(" + suffix + ")",
+        buildName(influenceMapSetup, suffix),
         influenceMapSetup.getDiffusion(),
         influenceMapSetup.getTerritoryValuations(),
         mapWithNeighbors);
@@ -70,56 +70,79 @@ public class InfluenceMap {
     Preconditions.checkArgument(diffuseRate >= 0.0, "Diffusion rates can't be negative.");
     this.name = name;
     this.diffuseRate = diffuseRate;
-    final Collection<InfluenceTerritory> fieldTerritories =
-        initialTerritories.keySet().stream()
-            .map(InfluenceTerritory::new)
-            .peek(t -> territories.put(t.getTerritory(), t))
-            .collect(Collectors.toList());
-
-    // from each of the initial territories, diffuse their values to all of their neighbors
-    fieldTerritories.forEach(
-        territory ->
-            diffuseValue(
-                territory,
-                diffuseRate,
-                initialTerritories.get(territory.getTerritory()),
-                mapWithNeighbors));
+    this.initialTerritories = initialTerritories;
+    diffuseValues(mapWithNeighbors);
+  }
+
+  static String buildName(final InfluenceMapSetup influenceMapSetup, final String suffix) {
+    return influenceMapSetup.getName() + "(" + suffix + ")";
+  }
+
+  /** Whether this map has the same initial values as the setup, so it can be reused as is */
+  boolean hasSameInitialValues(final InfluenceMapSetup influenceMapSetup) {
+    return diffuseRate == influenceMapSetup.getDiffusion()
+        && initialTerritories.equals(influenceMapSetup.getTerritoryValuations());
   }
 
   /**
-   * Diffuse the value from one territory to all of its neighbors
+   * Diffuse the value of each initial territory to all of its neighbors
    *
    * <p>The value decreases by diffuseRate as the distance increases between the territories and the
-   * initial territory
+   * initial territory. The breadth first walks go over the index based adjacency of the map and
+   * only create an {@link InfluenceTerritory} for each territory that was reached once they are
+   * done.
    */
-  private void diffuseValue(
-      final InfluenceTerritory initialTerritory,
-      final double diffuseRate,
-      final long value,
-      final MapWithNeighbors mapWithNeighbors) {
-    final Set<Territory> seenTerritories = new HashSet<>(Set.of(initialTerritory.getTerritory()));
-    final ArrayDeque<InfluenceTerritory> workingTerritories =
-        new ArrayDeque<>(List.of(initialTerritory));
-    InfluenceTerritory lastTerritoryOfCurrentDistance = workingTerritories.peekLast();
-    long diffusedValue = value;
-    while (!workingTerritories.isEmpty()) {
-      final InfluenceTerritory currentTerritory = workingTerritories.removeFirst();
-      currentTerritory.addDiffusedInfluence(diffusedValue);
+  private void diffuseValues(final MapWithNeighbors mapWithNeighbors) {
+    final int territoryCount = mapWithNeighbors.getTerritoryCount();
+    final long[] influence = new long[territoryCount];
+    final boolean[] reached = new boolean[territoryCount];
+    // number of the diffusion that last saw the territory, so it doesn't need to be reset
+    final int[] seenByDiffusion = new int[territoryCount];
+    final int[] workingTerritories = new int[territoryCount];
+    int diffusion = 0;
+    for (final Map.Entry<Territory, Long> initialTerritory : initialTerritories.entrySet()) {
+      diffusion++;
+      final int initialIndex = mapWithNeighbors.getIndex(initialTerritory.getKey());
+      reached[initialIndex] = true;
+      seenByDiffusion[initialIndex] = diffusion;
+      workingTerritories[0] = initialIndex;
+      int head = 0;
+      int tail = 1;
+      int endOfCurrentDistance = 1;
+      long diffusedValue = initialTerritory.getValue();
+      while (head < tail) {
+        final int current = workingTerritories[head++];
+        influence[current] += diffusedValue;
 
-      mapWithNeighbors.getNeighbors(currentTerritory.getTerritory()).stream()
-          .map(neighbor -> this.territories.computeIfAbsent(neighbor, InfluenceTerritory::new))
-          .filter(Predicate.not(neighbor -> seenTerritories.contains(neighbor.getTerritory())))
-          .peek(neighbor -> seenTerritories.add(neighbor.getTerritory()))
-          .forEach(workingTerritories::add);
+        for (int i = mapWithNeighbors.getNeighborsStart(current);
+            i < mapWithNeighbors.getNeighborsEnd(current);
+            i++) {
+          final int neighbor = mapWithNeighbors.getNeighbor(i);
+          reached[neighbor] = true;
+          if (seenByDiffusion[neighbor] != diffusion) {
+            seenByDiffusion[neighbor] = diffusion;
+            workingTerritories[tail++] = neighbor;
+          }
+        }
 
-      if (lastTerritoryOfCurrentDistance.equals(currentTerritory)) {
-        lastTerritoryOfCurrentDistance = workingTerritories.peekLast();
-        diffusedValue = (long) (diffusedValue * diffuseRate);
-        if (diffusedValue < 1) {
-          break;
+        if (head == endOfCurrentDistance) {
+          endOfCurrentDistance = tail;
+          diffusedValue = (long) (diffusedValue * diffuseRate);
+          if (diffusedValue < 1) {
+            break;
+          }
         }
       }
     }
+
+    for (int i = 0; i < territoryCount; i++) {
+      if (reached[i]) {
+        final InfluenceTerritory influenceTerritory =
+            new InfluenceTerritory(mapWithNeighbors.getTerritory(i));
+        influenceTerritory.addDiffusedInfluence(influence[i]);
+        territories.put(influenceTerritory.getTerritory(), influenceTerritory);
+      }
+    }
   }
 
   /**
@@ -136,8 +159,9 @@ public class InfluenceMap {
    * it is smaller than what is already in D, it will replace what is in D and add D back to the
    * list to diffuse.
    *
-   * <p>This only diffuses to territories that received an influence value in {@link #diffuseValue},
-   * so it can assume that all the territories it sees have an InfluenceTerritory already created.
+   * <p>This only diffuses to territories that received an influence value in {@link
+   * #diffuseValues}, so it can assume that all the territories it sees have an InfluenceTerritory
+   * already created.
    */
   private void diffuseBattleDetails(
       final InfluenceTerritory initialTerritory,
@@ -39,6 +39,9 @@ public class InfluenceMapBuilder {
   @Nonnull CombatValueBuilder.MainBuilder offenseCombatBuilder;
   @Nonnull CombatValueBuilder.MainBuilder defenseCombatBuilder;
 
+  /** The maps of the previous turn by name, maps whose initial values didn't change are reused */
+  @Builder.Default Map<String, InfluenceMap> previousMaps = Map.of();
+
   public Collection<InfluenceMap> buildMaps(
       final String mapGroup, final MapWithNeighbors mapWithNeighbors) {
     return Stream.of(buildCombatMaps(mapGroup, mapWithNeighbors))
@@ -50,17 +53,20 @@ public class InfluenceMapBuilder {
       final String mapGroup, final MapWithNeighbors mapWithNeighbors) {
     final Collection<InfluenceMap> combatMaps = new ArrayList<>();
 
+    // the resource maps are independent of each other, so they are diffused in parallel
     combatMaps.addAll(
-        resourceList.getResources().stream()
+        resourceList.getResources().parallelStream()
             .map(
                 resource ->
-                    new InfluenceMap(
+                    buildOrReuse(
                         mapGroup,
                         ResourceToGet.build(
                             gamePlayer, relationshipTracker, gameMap.getTerritories(), resource),
                         mapWithNeighbors))
             .collect(Collectors.toList()));
 
+    // the battle details of these maps use the shared combat value builders, so they are built
+    // one after the other
     combatMaps.addAll(
         EnemyCapitals.build(gamePlayer, playerList, gameMap).splitIntoSingleTerritoryMaps().stream()
             .map(
@@ -71,6 +77,22 @@ public class InfluenceMapBuilder {
     return combatMaps;
   }
 
+  /**
+   * Returns the map of the previous turn if its initial values didn't change, as diffusing them
+   * again would give the same map.
+   */
+  private InfluenceMap buildOrReuse(
+      final String mapGroup,
+      final InfluenceMapSetup influenceMapSetup,
+      final MapWithNeighbors mapWithNeighbors) {
+    final InfluenceMap previousMap =
+        previousMaps.get(InfluenceMap.buildName(influenceMapSetup, mapGroup));
+    if (previousMap != null && previousMap.hasSameInitialValues(influenceMapSetup)) {
+      return previousMap;
+    }
+    return new InfluenceMap(mapGroup, influenceMapSetup, mapWithNeighbors);
+  }
+
   private Function<Territory, BattleDetails> getBattleDetails() {
     final Collection<GamePlayer> allies = relationshipTracker.getAllies(gamePlayer, true);
     final Collection<GamePlayer> enemies = relationshipTracker.getEnemies(gamePlayer);
@@ -1,16 +1,45 @@
 package org.triplea.ai.flowfield.neighbors;
 
+import com.google.common.base.Preconditions;
 import games.strategy.engine.data.Territory;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Value;
 
+/**
+ * The territories of a map and how they are connected for a movement class.
+ *
+ * <p>Besides the object graph, the connections are compiled into a compressed sparse row (CSR)
+ * adjacency: every territory gets an index and the indexes of the neighbors of territory {@code i}
+ * are stored in {@code neighbors[neighborOffsets[i]]} to {@code neighbors[neighborOffsets[i + 1] -
+ * 1]}. Diffusions walk this adjacency with primitive arrays instead of sets of territories.
+ */
 @Value
 public class MapWithNeighbors {
   Map<Territory, TerritoryWithNeighbors> territories;
 
+  @Getter(AccessLevel.NONE)
+  Territory[] indexedTerritories;
+
+  @Getter(AccessLevel.NONE)
+  Map<Territory, Integer> indexes;
+
+  @Getter(AccessLevel.NONE)
+  int[] neighborOffsets;
+
+  @Getter(AccessLevel.NONE)
+  int[] neighbors;
+
+  @Getter(AccessLevel.NONE)
+  List<List<Territory>> neighborLists;
+
   public MapWithNeighbors(
       final Collection<Territory> territories,
       final Function<Territory, Collection<Territory>> getNeighbors) {
@@ -26,11 +55,58 @@ public class MapWithNeighbors {
                     getNeighbors.apply(territoryWithNeighbors.getTerritory()).stream()
                         .map(this.territories::get)
                         .collect(Collectors.toSet())));
+
+    indexedTerritories = this.territories.keySet().toArray(Territory[]::new);
+    indexes = new HashMap<>(indexedTerritories.length * 2);
+    for (int i = 0; i < indexedTerritories.length; i++) {
+      indexes.put(indexedTerritories[i], i);
+    }
+    neighborOffsets = new int[indexedTerritories.length + 1];
+    neighborLists = new ArrayList<>(indexedTerritories.length);
+    final List<Integer> neighborIndexes = new ArrayList<>();
+    for (int i = 0; i < indexedTerritories.length; i++) {
+      final List<Territory> neighborList = new ArrayList<>();
+      for (final TerritoryWithNeighbors neighbor :
+          this.territories.get(indexedTerritories[i]).getNeighbors()) {
+        neighborList.add(neighbor.getTerritory());
+        neighborIndexes.add(indexes.get(neighbor.getTerritory()));
+      }
+      neighborLists.add(List.copyOf(neighborList));
+      neighborOffsets[i + 1] = neighborIndexes.size();
+    }
+    neighbors = neighborIndexes.stream().mapToInt(Integer::intValue).toArray();
   }
 
   public Collection<Territory> getNeighbors(final Territory territory) {
-    return territories.get(territory).getNeighbors().stream()
-        .map(TerritoryWithNeighbors::getTerritory)
-        .collect(Collectors.toSet());
+    return neighborLists.get(getIndex(territory));
+  }
+
+  public int getTerritoryCount() {
+    return indexedTerritories.length;
+  }
+
+  public int getIndex(final Territory territory) {
+    final Integer index = indexes.get(territory);
+    Preconditions.checkArgument(index != null, "Unknown territory: %s", territory);
+    return index;
+  }
+
+  public Territory getTerritory(final int index) {
+    return indexedTerritories[index];
+  }
+
+  /** Returns the position of the first neighbor of the territory in the neighbor array. */
+  public int getNeighborsStart(final int index) {
+    return neighborOffsets[index];
+  }
+
+  /** Returns the position after the last neighbor of the territory in the neighbor array. */
+  public int getNeighborsEnd(final int index) {
+    return neighborOffsets[index + 1];
+  }
+
+  /** Returns the territory index stored at the given position of the neighbor array. */
+  public int getNeighbor(final int position) {
+    return neighbors[position];
   }
 }
@@ -0,0 +1,24 @@
+package org.triplea.ai.flowfield.neighbors;
+
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.attachments.UnitAttachment;
+
+/**
+ * Groups unit types that can move through the same territories, so that they can share one {@link
+ * MapWithNeighbors}.
+ */
+public enum MovementClass {
+  LAND,
+  SEA,
+  AIR;
+
+  public static MovementClass of(final UnitType unitType) {
+    final UnitAttachment unitAttachment = unitType.getUnitAttachment();
+    if (unitAttachment.isSea()) {
+      return SEA;
+    } else if (unitAttachment.isAir()) {
+      return AIR;
+    }
+    return LAND;
+  }
+}
@@ -3,7 +3,6 @@ package org.triplea.ai.flowfield.neighbors;
 import games.strategy.engine.data.GameMap;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.UnitType;
-import games.strategy.triplea.attachments.UnitAttachment;
 import java.util.Collection;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -16,16 +15,19 @@ import org.triplea.java.PredicateBuilder;
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class NeighborGetter implements Function<Territory, Collection<Territory>> {
 
-  UnitType unitType;
+  MovementClass movementClass;
   GameMap gameMap;
 
+  public NeighborGetter(final UnitType unitType, final GameMap gameMap) {
+    this(MovementClass.of(unitType), gameMap);
+  }
+
   @Override
   public Collection<Territory> apply(final Territory territory) {
-    final UnitAttachment unitAttachment = unitType.getUnitAttachment();
     final PredicateBuilder<Territory> territoryPredicate = PredicateBuilder.trueBuilder();
-    if (unitAttachment.isSea()) {
+    if (movementClass == MovementClass.SEA) {
       territoryPredicate.and(Territory::isWater);
-    } else if (!unitAttachment.isAir()) {
+    } else if (movementClass == MovementClass.LAND) {
       territoryPredicate.and(Predicate.not(Territory::isWater));
     }
     return gameMap.getNeighbors(territory, territoryPredicate.build());
@@ -1,11 +1,15 @@
 package org.triplea.ai.flowfield.neighbors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 
 import games.strategy.engine.data.Territory;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 class MapWithNeighborsTest {
@@ -37,4 +41,37 @@ class MapWithNeighborsTest {
         mapWithNeighbors.getTerritories().get(territories.get(2)).getNeighbors(),
         hasSize(1));
   }
+
+  @Test
+  void territories3InLineIndexedConnections() {
+    final List<Territory> territories =
+        List.of(mock(Territory.class), mock(Territory.class), mock(Territory.class));
+    final MapWithNeighbors mapWithNeighbors =
+        new MapWithNeighbors(
+            territories,
+            (t) -> {
+              if (t.equals(territories.get(1))) {
+                return List.of(territories.get(0), territories.get(2));
+              } else {
+                return List.of(territories.get(1));
+              }
+            });
+
+    assertThat(mapWithNeighbors.getTerritoryCount(), is(3));
+    final int middle = mapWithNeighbors.getIndex(territories.get(1));
+    assertThat(mapWithNeighbors.getTerritory(middle), is(territories.get(1)));
+    final Set<Territory> neighborsOfMiddle = new HashSet<>();
+    for (int i = mapWithNeighbors.getNeighborsStart(middle);
+        i < mapWithNeighbors.getNeighborsEnd(middle);
+        i++) {
+      neighborsOfMiddle.add(mapWithNeighbors.getTerritory(mapWithNeighbors.getNeighbor(i)));
+    }
+    assertThat(
+        "Middle territory is connected to both edge territories",
+        neighborsOfMiddle,
+        is(Set.of(territories.get(0), territories.get(2))));
+    assertThat(
+        mapWithNeighbors.getNeighbors(territories.get(0)),
+        containsInAnyOrder(territories.get(1)));
+  }
 }
@@ -9,8 +9,10 @@ import games.strategy.engine.delegate.IDelegate;
 import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.IGameLoader;
 import games.strategy.engine.history.History;
+import games.strategy.engine.stats.RecordedStatistics;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.TripleA;
+import games.strategy.triplea.attachments.ConditionEvaluationCache;
 import games.strategy.triplea.delegate.AbstractMoveDelegate;
 import games.strategy.triplea.delegate.AbstractPlaceDelegate;
 import games.strategy.triplea.delegate.EndRoundDelegate;
@@ -22,6 +24,7 @@ import games.strategy.ui.Util;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -38,6 +41,8 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.Setter;
 import org.jetbrains.annotations.NonNls;
@@ -101,6 +106,8 @@ public class GameData implements Serializable, GameState {
   private final IGameLoader loader = new TripleA();
   private final Map<String, TerritoryEffect> territoryEffectList = new HashMap<>();
   private final BattleRecordsList battleRecordsList = new BattleRecordsList(this);
+  // null for games loaded from save games that were written before statistics were recorded
+  private @Nullable RecordedStatistics recordedStatistics = new RecordedStatistics();
   private transient ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
   private transient volatile boolean forceInSwingEventThread = false;
   private String gameName;
@@ -112,7 +119,9 @@ public class GameData implements Serializable, GameState {
   // Don't ensure the lock is held when getting the history.
   // History operations often acquire the write lock, and we can't acquire the write lock if we
   // have the read lock.
-  @Setter @Getter private History gameHistory = new History(this);
+  private volatile History gameHistory = new History(this);
+  // Reads the history of a save game when it is first needed, see GameDataManager.
+  private transient volatile @Nullable Supplier<History> historyLoader;
   private GameDataState state = new GameDataState(this);
 
   @Setter @Getter
@@ -147,6 +156,12 @@ public class GameData implements Serializable, GameState {
     gameDataEventListeners = new GameDataEventListeners();
   }
 
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    // the history field must not be written while it is a placeholder for a history not loaded yet
+    getHistory();
+    out.defaultWriteObject();
+  }
+
   /**
    * Converts the current GameData object to a byte array, useful for serialization or for copying
    * the game data.
@@ -229,6 +244,10 @@ public class GameData implements Serializable, GameState {
     return state.getTechTracker();
   }
 
+  public ConditionEvaluationCache getConditionEvaluationCache() {
+    return state.getConditionEvaluationCache();
+  }
+
   /**
    * Returns whether we should throw an error if changes to this game data are made outside of the
    * swing event thread.
@@ -380,20 +399,67 @@ public class GameData implements Serializable, GameState {
   }
 
   public History getHistory() {
-    return getGameHistory();
+    final Supplier<History> loader = historyLoader;
+    if (loader != null) {
+      loadHistory(loader);
+    }
+    return gameHistory;
+  }
+
+  private void loadHistory(final Supplier<History> loader) {
+    // Loaded without holding the monitor: the loader takes the read lock, so a thread holding the
+    // write lock must never wait for another thread that is loading the history.
+    final History history = loader.get();
+    synchronized (this) {
+      if (historyLoader == loader) {
+        gameHistory = history;
+        historyLoader = null;
+      }
+    }
+  }
+
+  public synchronized void setHistory(final History history) {
+    historyLoader = null;
+    gameHistory = history;
+  }
+
+  /**
+   * Defers loading the history until {@link #getHistory()} is first called, the current history is
+   * kept until then. Used for save games whose history is stored apart from the game state.
+   */
+  public synchronized void setHistoryLoader(final Supplier<History> loader) {
+    historyLoader = loader;
+  }
+
+  /**
+   * Replaces the history by an empty one without loading a history that is not loaded yet, see
+   * {@link #setHistoryLoader}. Returns the replaced history, to be put back with {@link
+   * #attachHistory}.
+   */
+  public synchronized DetachedHistory detachHistory() {
+    final DetachedHistory detached = new DetachedHistory(gameHistory, historyLoader);
+    setHistory(new History(this));
+    return detached;
   }
 
-  public void setHistory(final History history) {
-    setGameHistory(history);
+  /** Puts back the history replaced by {@link #detachHistory}, loaded or not. */
+  public synchronized void attachHistory(final DetachedHistory detached) {
+    gameHistory = detached.history;
+    historyLoader = detached.loader;
+  }
+
+  @VisibleForTesting
+  public boolean isHistoryLoaded() {
+    return historyLoader == null;
   }
 
   public void resetHistory() {
-    setGameHistory(new History(this));
+    setHistory(new History(this));
     GameStep step = getSequence().getStep();
     // Put the history in a round and step, so that child nodes can be added without errors.
     final boolean oldForceInSwingEventThread = forceInSwingEventThread;
     forceInSwingEventThread = false;
-    getGameHistory()
+    getHistory()
         .getHistoryWriter()
         .startNextStep(
             step.getName(), step.getDelegateName(), step.getPlayerId(), step.getDisplayName());
@@ -402,9 +468,10 @@ public class GameData implements Serializable, GameState {
 
   /** Not to be called by mere mortals. */
   public void postDeSerialize() {
-    state = new GameDataState(this);
     territoryListeners = new CopyOnWriteArrayList<>();
     dataChangeListeners = new CopyOnWriteArrayList<>();
+    // registers listeners, so must be created after the listener lists
+    state = new GameDataState(this);
     delegates = new HashMap<>();
     fixUpNullPlayers();
   }
@@ -502,6 +569,14 @@ public class GameData implements Serializable, GameState {
     return battleRecordsList;
   }
 
+  /**
+   * Returns the statistics recorded at the end of each round, or empty if this game was started
+   * from a save game that did not record them.
+   */
+  public Optional<RecordedStatistics> getRecordedStatistics() {
+    return Optional.ofNullable(recordedStatistics);
+  }
+
   @Override
   public BattleDelegate getBattleDelegate() {
     return (BattleDelegate) getDelegate("battle");
@@ -634,4 +709,20 @@ public class GameData implements Serializable, GameState {
     @Override
     void close();
   }
+
+  /** A history taken out of the game data by {@link #detachHistory}. */
+  public static final class DetachedHistory {
+    private final History history;
+    private final @Nullable Supplier<History> loader;
+
+    private DetachedHistory(final History history, final @Nullable Supplier<History> loader) {
+      this.history = history;
+      this.loader = loader;
+    }
+
+    /** Returns the loader of a history not loaded yet, see {@link #setHistoryLoader}. */
+    public @Nullable Supplier<History> getLoader() {
+      return loader;
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package games.strategy.engine.data;
 
+import games.strategy.triplea.attachments.ConditionEvaluationCache;
 import games.strategy.triplea.delegate.TechTracker;
 import java.io.Serializable;
 import lombok.Getter;
@@ -11,9 +12,11 @@ public class GameDataState implements Serializable {
   private static final long serialVersionUID = 9172897940709617550L;
 
   @Getter @Setter private transient TechTracker techTracker;
+  @Getter private final transient ConditionEvaluationCache conditionEvaluationCache;
 
   // @TODO remove gameData usages with "baseGameData" and history in the future
   public GameDataState(GameData gameData) {
     techTracker = new TechTracker(gameData); //
+    conditionEvaluationCache = new ConditionEvaluationCache(gameData);
   }
 }
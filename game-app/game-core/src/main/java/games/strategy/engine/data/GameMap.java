@@ -372,6 +372,35 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
         .findRouteByCost(start, end);
   }
 
+  /**
+   * Returns the routes with the minimum movement cost from {@code start} to all territories, see
+   * {@link #getRouteForUnits(Territory, Territory, Predicate, Collection, GamePlayer)}. Searching
+   * once is cheaper than calling getRouteForUnits for many ends.
+   *
+   * @param cond condition that covered territories of the routes must match
+   * @param units checked against canals and for movement costs
+   * @param player player used to check canal ownership
+   */
+  public RouteTree getRoutesForUnits(
+      @Nonnull final Territory start,
+      final Predicate<Territory> cond,
+      final Collection<Unit> units,
+      final GamePlayer player) {
+    checkNotNull(start);
+    return new RouteFinder(this, cond, units, player).findRoutesByCost(start);
+  }
+
+  /**
+   * Returns the shortest routes from {@code start} to all territories, see {@link
+   * #getRoute(Territory, Territory, Predicate)}.
+   *
+   * @param cond condition that covered territories of the routes must match
+   */
+  public RouteTree getRoutes(@Nonnull final Territory start, final Predicate<Territory> cond) {
+    checkNotNull(start);
+    return new RouteFinder(this, cond).findRoutesByDistance(start);
+  }
+
   /**
    * Returns the distance between two territories or -1 if they are not connected.
    *
@@ -1,22 +1,38 @@
 package games.strategy.engine.data;
 
 import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.net.NameTable;
 import games.strategy.triplea.settings.ClientSetting;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
+import javax.annotation.Nullable;
 
 /** Please refer to the comments on GameObjectOutputStream. */
 public class GameObjectInputStream extends ObjectInputStream {
   private final GameObjectStreamFactory dataSource;
+  private final @Nullable NameTable names;
 
   public GameObjectInputStream(final GameObjectStreamFactory dataSource, final InputStream input)
       throws IOException {
+    this(dataSource, input, null);
+  }
+
+  public GameObjectInputStream(
+      final GameObjectStreamFactory dataSource,
+      final InputStream input,
+      final @Nullable NameTable names)
+      throws IOException {
     super(input);
     this.dataSource = dataSource;
+    this.names = names;
     enableResolveObject(true);
   }
 
+  String readName() throws IOException, ClassNotFoundException {
+    return names == null ? (String) readObject() : names.readName(this);
+  }
+
   public GameData getData() {
     return dataSource.getData();
   }
@@ -1,8 +1,10 @@
 package games.strategy.engine.data;
 
+import games.strategy.net.NameTable;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import javax.annotation.Nullable;
 
 /**
  * To maintain == relationships and the singleton nature of many classes in GameData we do some work
@@ -12,14 +14,32 @@ import java.io.OutputStream;
  * other side, the territory name is read, and the territory returned by the GameObjectInputStream
  * is the territory with that name belonging to the GameData associated with the
  * GameObjectInputStream. This ensures the state of the territory remains consistent.
+ *
+ * <p>Given a {@link NameTable}, the names are written with it, so that a connection or file sends
+ * each name once. The GameObjectInputStream has to read them with a matching table.
  */
 public class GameObjectOutputStream extends ObjectOutputStream {
+  private final @Nullable NameTable names;
 
   public GameObjectOutputStream(final OutputStream output) throws IOException {
+    this(output, null);
+  }
+
+  public GameObjectOutputStream(final OutputStream output, final @Nullable NameTable names)
+      throws IOException {
     super(output);
+    this.names = names;
     enableReplaceObject(true);
   }
 
+  void writeName(final String name) throws IOException {
+    if (names == null) {
+      writeObject(name);
+    } else {
+      names.writeName(this, name);
+    }
+  }
+
   @Override
   protected Object replaceObject(final Object obj) {
     if (obj instanceof Named named && GameObjectStreamData.canSerialize(named)) {
@@ -79,13 +79,21 @@ public class GameObjectStreamData implements Externalizable {
 
   @Override
   public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
-    name = (String) in.readObject();
+    if (in instanceof GameObjectInputStream gameIn) {
+      name = gameIn.readName();
+    } else {
+      name = (String) in.readObject();
+    }
     type = GameType.values()[in.readByte()];
   }
 
   @Override
   public void writeExternal(final ObjectOutput out) throws IOException {
-    out.writeObject(name);
+    if (out instanceof GameObjectOutputStream gameOut) {
+      gameOut.writeName(name);
+    } else {
+      out.writeObject(name);
+    }
     out.writeByte((byte) type.ordinal());
   }
 }
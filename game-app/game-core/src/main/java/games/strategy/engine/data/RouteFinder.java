@@ -53,6 +53,16 @@ class RouteFinder {
     return findRouteByCost(start, end, this::getMaxMovementCost);
   }
 
+  /** Finds the routes with the fewest steps from {@code start} to all territories. */
+  RouteTree findRoutesByDistance(final @Nonnull Territory start) {
+    return findRoutes(start, t -> BigDecimal.ONE);
+  }
+
+  /** Finds the routes with the minimum movement cost from {@code start} to all territories. */
+  RouteTree findRoutesByCost(final @Nonnull Territory start) {
+    return findRoutes(start, this::getMaxMovementCost);
+  }
+
   private Optional<Route> findRouteByCost(
       final Territory start,
       final Territory end,
@@ -97,6 +107,46 @@ class RouteFinder {
         : Optional.of(getRoute(start, end, previous));
   }
 
+  /**
+   * Like {@link #findRouteByCost(Territory, Territory, Function)} without an end to stop at, the
+   * search goes on until the costs of all reachable territories are minimal.
+   */
+  private RouteTree findRoutes(
+      final Territory start, final Function<Territory, BigDecimal> territoryCostFunction) {
+    Preconditions.checkNotNull(start);
+
+    final Map<Territory, Territory> previous = new HashMap<>();
+    previous.put(start, null);
+    final Queue<Territory> toVisit = new ArrayDeque<>();
+    toVisit.add(start);
+    final Map<Territory, BigDecimal> routeCosts = new HashMap<>();
+    routeCosts.put(start, BigDecimal.ZERO);
+
+    while (!toVisit.isEmpty()) {
+      final Territory currentTerritory = toVisit.remove();
+      for (final Territory neighbor :
+          getNeighborsValidatingCanals(currentTerritory, condition, units, player)) {
+        final BigDecimal routeCost =
+            routeCosts.get(currentTerritory).add(territoryCostFunction.apply(neighbor));
+        if (!previous.containsKey(neighbor) || routeCost.compareTo(routeCosts.get(neighbor)) < 0) {
+          previous.put(neighbor, currentTerritory);
+          routeCosts.put(neighbor, routeCost);
+          toVisit.add(neighbor);
+        }
+      }
+    }
+    return new RouteTree(this, start, previous, routeCosts);
+  }
+
+  /** Returns the neighbors units can move into {@code territory} from, ignoring the condition. */
+  Set<Territory> getNeighborsLeadingInto(final Territory territory) {
+    return map.getNeighbors(
+        territory,
+        player == null
+            ? t -> true
+            : t -> moveValidator.canAnyUnitsPassCanal(t, territory, units, player));
+  }
+
   private Set<Territory> getNeighborsValidatingCanals(
       final Territory territory,
       final Predicate<Territory> neighborFilter,
@@ -115,7 +165,7 @@ class RouteFinder {
     return TerritoryEffectHelper.getMaxMovementCost(t, units);
   }
 
-  private static Route getRoute(
+  static Route getRoute(
       final Territory start,
       final Territory destination,
       final Map<Territory, Territory> previous) {
@@ -0,0 +1,57 @@
+package games.strategy.engine.data;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The cheapest routes from one start territory to all territories, as found by a single search.
+ * Routes cover only territories matching the condition of the search, except for their end, just
+ * like the routes of {@link GameMap#getRouteForUnits}. Once built, the route to any end is traced
+ * instead of searched.
+ *
+ * <p>The routes reflect the game data at the time of the search.
+ */
+public final class RouteTree {
+  private final RouteFinder routeFinder;
+  private final Territory start;
+  private final Map<Territory, Territory> previous;
+  private final Map<Territory, BigDecimal> routeCosts;
+
+  RouteTree(
+      final RouteFinder routeFinder,
+      final Territory start,
+      final Map<Territory, Territory> previous,
+      final Map<Territory, BigDecimal> routeCosts) {
+    this.routeFinder = routeFinder;
+    this.start = start;
+    this.previous = previous;
+    this.routeCosts = routeCosts;
+  }
+
+  public Territory getStart() {
+    return start;
+  }
+
+  /** Returns the cheapest route from the start to {@code end} or empty if there is none. */
+  public Optional<Route> getRoute(final Territory end) {
+    if (previous.containsKey(end)) {
+      return Optional.of(RouteFinder.getRoute(start, end, previous));
+    }
+    // the end does not have to match the condition, so it was not searched through: enter it from
+    // its cheapest neighbor, the cost of the end itself is the same from all of them
+    return routeFinder.getNeighborsLeadingInto(end).stream()
+        .filter(previous::containsKey)
+        .min(Comparator.comparing(routeCosts::get))
+        .map(
+            last -> {
+              final List<Territory> territories =
+                  new ArrayList<>(RouteFinder.getRoute(start, last, previous).getAllTerritories());
+              territories.add(end);
+              return new Route(territories);
+            });
+  }
+}
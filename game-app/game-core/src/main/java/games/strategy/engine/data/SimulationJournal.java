@@ -0,0 +1,87 @@
+package games.strategy.engine.data;
+
+import games.strategy.engine.data.changefactory.units.UnitDamageReceivedChange;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Applies the changes of a throwaway simulation, e.g. a battle calculator run, and rolls them back
+ * afterwards. Unit hits, by far the most frequent change in battle simulations, are set directly
+ * and their previous values are kept in a primitive undo journal, so rolling them back neither
+ * creates inverted {@link Change}s nor goes through {@link GameData#performChange(Change)}. Other
+ * changes are performed normally and inverted on rollback.
+ *
+ * <p>Listeners of the affected territories are notified as if the changes were performed normally.
+ */
+@NotThreadSafe
+public class SimulationJournal {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final GameData data;
+  // per entry: either a unit whose hits were set, or a change that was performed
+  private Object[] targets = new Object[INITIAL_CAPACITY];
+  private int[] oldHits = new int[INITIAL_CAPACITY];
+  private int size = 0;
+  private final Set<Territory> changedTerritories = new LinkedHashSet<>();
+
+  public SimulationJournal(final GameData data) {
+    this.data = data;
+  }
+
+  /** Performs the change and records how to undo it. */
+  public void perform(final Change change) {
+    if (change instanceof CompositeChange compositeChange) {
+      compositeChange.getChanges().forEach(this::perform);
+    } else if (change instanceof UnitDamageReceivedChange damageChange) {
+      for (final Map.Entry<Unit, Integer> entry :
+          damageChange.getNewTotalDamage(data).entrySet()) {
+        setHits(entry.getKey(), entry.getValue());
+      }
+      for (final Territory territory : damageChange.getTerritoriesToNotify(data)) {
+        changedTerritories.add(territory);
+        territory.notifyChanged();
+      }
+    } else {
+      data.performChange(change);
+      append(change, 0);
+    }
+  }
+
+  /** Sets the hits of the unit, the territory containing the unit must be notified separately. */
+  public void setHits(final Unit unit, final int hits) {
+    append(unit, unit.getHits());
+    unit.setHits(hits);
+  }
+
+  /** Undoes all changes performed since the last rollback, latest first. */
+  public void rollback() {
+    for (int i = size - 1; i >= 0; i--) {
+      if (targets[i] instanceof Unit unit) {
+        unit.setHits(oldHits[i]);
+      } else {
+        data.performChange(((Change) targets[i]).invert());
+      }
+      targets[i] = null;
+    }
+    size = 0;
+    changedTerritories.forEach(Territory::notifyChanged);
+    changedTerritories.clear();
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private void append(final Object target, final int hits) {
+    if (size == targets.length) {
+      targets = Arrays.copyOf(targets, size * 2);
+      oldHits = Arrays.copyOf(oldHits, size * 2);
+    }
+    targets[size] = target;
+    oldHits[size] = hits;
+    size++;
+  }
+}
@@ -7,7 +7,7 @@ import games.strategy.engine.data.Territory;
 import javax.annotation.Nullable;
 
 /** Changes ownership of a territory. */
-class OwnerChange extends Change {
+public class OwnerChange extends Change {
   private static final long serialVersionUID = -5938125380623744929L;
 
   /** Either new or old owner can be null. */
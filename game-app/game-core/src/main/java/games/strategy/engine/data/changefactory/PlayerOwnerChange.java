@@ -11,7 +11,7 @@ import java.util.Map;
 import java.util.UUID;
 
 /** Changes ownership of a unit. */
-class PlayerOwnerChange extends Change {
+public class PlayerOwnerChange extends Change {
   private static final long serialVersionUID = -9154938431233632882L;
 
   private final Map<UUID, String> oldOwnerNamesByUnitId;
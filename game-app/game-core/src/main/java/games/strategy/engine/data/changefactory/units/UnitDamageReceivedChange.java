@@ -44,6 +44,25 @@ public class UnitDamageReceivedChange extends Change {
         territoriesToNotify.stream().map(Territory::getName).collect(Collectors.toList());
   }
 
+  /** Returns the units whose damage this change sets, mapped to their new total damage. */
+  public IntegerMap<Unit> getNewTotalDamage(final GameState data) {
+    final IntegerMap<Unit> totalDamage = new IntegerMap<>();
+    newTotalDamage.forEach(
+        (unitId, damage) -> {
+          final Unit unit = data.getUnits().get(UUID.fromString(unitId));
+          if (unit != null) {
+            totalDamage.put(unit, damage);
+          }
+        });
+    return totalDamage;
+  }
+
+  public Collection<Territory> getTerritoriesToNotify(final GameState data) {
+    return territoriesToNotify.stream()
+        .map(territory -> data.getMap().getTerritoryOrNull(territory))
+        .collect(Collectors.toList());
+  }
+
   @Override
   protected void perform(final GameState data) {
     // update units damage
@@ -3,12 +3,15 @@ package games.strategy.engine.delegate;
 import static com.google.common.base.Preconditions.checkState;
 
 import games.strategy.engine.GameOverException;
+import games.strategy.engine.framework.StepProfiler;
 import games.strategy.engine.message.MessengerException;
 import games.strategy.engine.message.WrappedInvocationHandler;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -32,6 +35,19 @@ public class DelegateExecutionManager {
   private final ThreadLocal<Boolean> currentThreadHasReadLock =
       ThreadLocal.withInitial(() -> Boolean.FALSE);
   private volatile boolean isGameOver = false;
+  private final StepProfiler profiler;
+  // the names calls are recorded under, built once per method instead of on every call
+  private final Map<Method, String> outboundCallNames = new ConcurrentHashMap<>();
+  private final Map<Method, String> inboundCallNames = new ConcurrentHashMap<>();
+
+  public DelegateExecutionManager() {
+    this(new StepProfiler());
+  }
+
+  /** Records the time spent in calls entering and leaving delegate execution to the profiler. */
+  public DelegateExecutionManager(final StepProfiler profiler) {
+    this.profiler = profiler;
+  }
 
   public void setGameOver() {
     isGameOver = true;
@@ -75,6 +91,7 @@ public class DelegateExecutionManager {
           if (threadLocks) {
             leaveDelegateExecution();
           }
+          final StepProfiler.Sample sample = profiler.start();
           try {
             return method.invoke(implementor, args);
           } catch (final InvocationTargetException e) {
@@ -84,6 +101,7 @@ public class DelegateExecutionManager {
             assertGameNotOver();
             throw e;
           } finally {
+            profiler.record(getCallName(outboundCallNames, "outbound/", method), sample);
             if (threadLocks) {
               enterDelegateExecution();
             }
@@ -92,6 +110,12 @@ public class DelegateExecutionManager {
     return Proxy.newProxyInstance(implementor.getClass().getClassLoader(), interfaces, ih);
   }
 
+  private static String getCallName(
+      final Map<Method, String> callNames, final String prefix, final Method method) {
+    return callNames.computeIfAbsent(
+        method, m -> prefix + m.getDeclaringClass().getSimpleName() + "." + m.getName());
+  }
+
   private void assertGameNotOver() {
     if (isGameOver) {
       throw new GameOverException("Game Over");
@@ -115,6 +139,7 @@ public class DelegateExecutionManager {
               return super.handle(method, args);
             }
             assertGameNotOver();
+            final StepProfiler.Sample sample = profiler.start();
             enterDelegateExecution();
             try {
               return method.invoke(implementor, args);
@@ -126,6 +151,7 @@ public class DelegateExecutionManager {
               throw re;
             } finally {
               leaveDelegateExecution();
+              profiler.record(getCallName(inboundCallNames, "inbound/", method), sample);
             }
           }
         };
@@ -102,4 +102,13 @@ public interface IDelegateBridge {
   default IntegerMap<UnitType> getCostsForTuv(final GamePlayer player) {
     return new TuvCostsCalculator().getCostsForTuv(player);
   }
+
+  /**
+   * Returns true if this bridge is used to simulate game play, e.g. by the battle calculator. The
+   * history written and the display calls made through a simulating bridge are discarded, so
+   * callers may skip building history text and rendering data.
+   */
+  default boolean isSimulation() {
+    return false;
+  }
 }
@@ -78,6 +78,11 @@ public class AutoSaveFileUtils {
     return getAutoSaveFile(addExtension("autosave_round_even"));
   }
 
+  /** Returns the file the timings of the game steps are written to at the end of each round. */
+  public Path getStepProfileFile() {
+    return getAutoSaveFile("step_profile.txt");
+  }
+
   public Path getLostConnectionAutoSaveFile(final LocalDateTime localDateTime) {
     checkNotNull(localDateTime);
 
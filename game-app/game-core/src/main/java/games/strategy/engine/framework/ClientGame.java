@@ -5,6 +5,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameDataEvent;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.history.EventChild;
+import games.strategy.engine.message.RemoteMethodCall;
 import games.strategy.engine.message.RemoteName;
 import games.strategy.engine.player.Player;
 import games.strategy.engine.random.IRandomSource;
@@ -18,21 +19,55 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.Interruptibles;
 
 /** Implementation of {@link IGame} for a network client node. */
 @Slf4j
 public class ClientGame extends AbstractGame {
+  // the subscriber to the game modification channel, see JoiningChannel
+  private final IGameModifiedChannel gameModificationSubscriber;
+  private final Object catchUpLock = new Object();
+
+  @GuardedBy("catchUpLock")
+  private boolean catchUpEnded;
+
+  @GuardedBy("catchUpLock")
+  private boolean caughtUp;
+
+  @GuardedBy("catchUpLock")
+  private final List<Runnable> pendingModifications = new ArrayList<>();
+
+  // true once caught up and past the catch-up end, or if the game did not run before joining it
+  private volatile boolean joined;
+
   public ClientGame(
       final GameData data,
       final Set<Player> gamePlayers,
       final Map<String, INode> remotePlayerMapping,
       final Messengers messengers,
       final ClientNetworkBridge clientNetworkBridge) {
+    this(data, gamePlayers, remotePlayerMapping, messengers, clientNetworkBridge, false);
+  }
+
+  /**
+   * Creates a client game. An observer joining a running game is sent the modifications made after
+   * its game data was written through {@link #catchUp}, the modifications received over the game
+   * modification channel meanwhile are dropped or held back.
+   */
+  public ClientGame(
+      final GameData data,
+      final Set<Player> gamePlayers,
+      final Map<String, INode> remotePlayerMapping,
+      final Messengers messengers,
+      final ClientNetworkBridge clientNetworkBridge,
+      final boolean joinsRunningGame) {
     super(data, gamePlayers, remotePlayerMapping, messengers, clientNetworkBridge);
     gameModifiedChannel =
         new IGameModifiedChannel() {
@@ -80,6 +115,12 @@ public class ClientGame extends AbstractGame {
               firstRun = false;
             } else {
               try (GameData.Unlocker ignored = gameData.acquireWriteLock()) {
+                if (round > gameData.getSequence().getRound()) {
+                  // all changes of the previous round have been received before this step change
+                  gameData
+                      .getRecordedStatistics()
+                      .ifPresent(statistics -> statistics.recordRoundEnd(round - 1, gameData));
+                }
                 gameData.getSequence().next();
                 final int ourOriginalCurrentRound = gameData.getSequence().getRound();
                 int currentRound = ourOriginalCurrentRound;
@@ -130,7 +171,10 @@ public class ClientGame extends AbstractGame {
             ClientGame.this.shutDown();
           }
         };
-    messengers.registerChannelSubscriber(gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
+    joined = !joinsRunningGame;
+    gameModificationSubscriber = joinsRunningGame ? new JoiningChannel() : gameModifiedChannel;
+    messengers.registerChannelSubscriber(
+        gameModificationSubscriber, IGame.GAME_MODIFICATION_CHANNEL);
     final IGameStepAdvancer gameStepAdvancer =
         (stepName, player) -> {
           if (isGameOver) {
@@ -179,6 +223,109 @@ public class ClientGame extends AbstractGame {
     }
   }
 
+  /**
+   * Applies the game modifications that were recorded by the server while this game's data was
+   * being loaded, in the order they were broadcast. Then applies those held back since the end of
+   * the catch-up.
+   */
+  public void catchUp(final List<byte[]> gameModifications) {
+    synchronized (catchUpLock) {
+      if (caughtUp || isGameOver) {
+        return;
+      }
+      for (final byte[] modification : gameModifications) {
+        try {
+          final RemoteMethodCall call =
+              GameModificationRecorder.readModification(modification, gameData);
+          IGameModifiedChannel.class
+              .getMethod(call.getMethodName(), call.getArgTypes())
+              .invoke(gameModifiedChannel, call.getArgs());
+        } catch (final IOException | ReflectiveOperationException e) {
+          throw new IllegalStateException("Failed to apply game modification", e);
+        }
+      }
+      caughtUp = true;
+      pendingModifications.forEach(Runnable::run);
+      pendingModifications.clear();
+      joined = catchUpEnded;
+    }
+  }
+
+  private void receive(final Runnable modification) {
+    if (!joined) {
+      synchronized (catchUpLock) {
+        if (!joined) {
+          // those before the end of the catch-up are among the modifications to catch up with
+          if (catchUpEnded) {
+            pendingModifications.add(modification);
+          }
+          return;
+        }
+      }
+    }
+    modification.run();
+  }
+
+  private void receiveCatchUpEnd() {
+    synchronized (catchUpLock) {
+      catchUpEnded = true;
+      joined = caughtUp;
+    }
+  }
+
+  /**
+   * Subscribes an observer joining a running game to the game modifications. Those received before
+   * the end of the catch-up are dropped, those received after it are held back until the game has
+   * caught up.
+   */
+  private final class JoiningChannel implements IGameModifiedChannel {
+    @Override
+    public void gameDataChanged(final Change change) {
+      receive(() -> gameModifiedChannel.gameDataChanged(change));
+    }
+
+    @Override
+    public void startHistoryEvent(final String event, final Object renderingData) {
+      receive(() -> gameModifiedChannel.startHistoryEvent(event, renderingData));
+    }
+
+    @Override
+    public void startHistoryEvent(final String event) {
+      receive(() -> gameModifiedChannel.startHistoryEvent(event));
+    }
+
+    @Override
+    public void addChildToEvent(final String text, final Object renderingData) {
+      receive(() -> gameModifiedChannel.addChildToEvent(text, renderingData));
+    }
+
+    @Override
+    public void stepChanged(
+        final String stepName,
+        final String delegateName,
+        final GamePlayer player,
+        final int round,
+        final String displayName,
+        final boolean loadedFromSavedGame) {
+      receive(
+          () ->
+              gameModifiedChannel.stepChanged(
+                  stepName, delegateName, player, round, displayName, loadedFromSavedGame));
+    }
+
+    @Override
+    public void shutDown() {
+      receive(gameModifiedChannel::shutDown);
+    }
+
+    @Override
+    public void catchUpEnded(final INode observer) {
+      if (observer.equals(messengers.getLocalNode())) {
+        receiveCatchUpEnd();
+      }
+    }
+  }
+
   public static RemoteName getRemoteStepAdvancerName(final INode node) {
     return new RemoteName(
         ClientGame.class.getName() + ".REMOTE_STEP_ADVANCER:" + node.getPlayerName(),
@@ -196,7 +343,8 @@ public class ClientGame extends AbstractGame {
     isGameOver = true;
     GameData.setCurrent(null);
     try {
-      messengers.unregisterChannelSubscriber(gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
+      messengers.unregisterChannelSubscriber(
+          gameModificationSubscriber, IGame.GAME_MODIFICATION_CHANNEL);
       messengers.unregisterRemote(getRemoteStepAdvancerName(messengers.getLocalNode()));
       vault.shutDown();
       for (final Player gp : gamePlayers.values()) {
@@ -18,7 +18,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipException;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
@@ -62,8 +61,12 @@ public final class GameDataManager {
    * @return The loaded game data, or an empty optional if an error occurs.
    */
   public static Optional<GameData> loadGame(final InputStream is) {
-    try (GZIPInputStream input = new GZIPInputStream(is)) {
-      return loadGameUncompressed(input);
+    try {
+      final InputStream input = is.markSupported() ? is : new BufferedInputStream(is);
+      if (SaveGameSections.isSectioned(input)) {
+        return SaveGameSections.read(input);
+      }
+      return loadGzippedGame(input);
     } catch (final EOFException e) {
       log.warn("Bad save game file (corrupted or truncated) try redownloading the save file.", e);
     } catch (final ZipException e) {
@@ -74,6 +77,12 @@ public final class GameDataManager {
     return Optional.empty();
   }
 
+  private static Optional<GameData> loadGzippedGame(final InputStream is) throws IOException {
+    try (GZIPInputStream input = new GZIPInputStream(is)) {
+      return loadGameUncompressed(input);
+    }
+  }
+
   public static Optional<GameData> loadGameUncompressed(final InputStream is) {
     try (ObjectInputStream input = new ObjectInputStream(is)) {
       // read Version object (unused)
@@ -135,9 +144,8 @@ public final class GameDataManager {
     try {
       // write to temporary file first in case of error
       try (OutputStream os = Files.newOutputStream(tempFile);
-          OutputStream bufferedOutStream = new BufferedOutputStream(os);
-          OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream)) {
-        saveGameUncompressed(zippedOutStream, gameData, Options.forSaveGame());
+          OutputStream bufferedOutStream = new BufferedOutputStream(os)) {
+        SaveGameSections.write(bufferedOutStream, gameData);
       }
 
       // now write to sink (ensure sink is closed per method contract)
@@ -177,7 +185,9 @@ public final class GameDataManager {
     try (ObjectOutputStream outStream = new ObjectOutputStream(sink)) {
       outStream.writeObject(ProductVersionReader.getCurrentVersion());
       try (GameData.Unlocker ignored = data.acquireWriteLock()) {
-        final var history = data.getHistory();
+        // a history not loaded yet is put aside as is, it would only be loaded to be dropped
+        final GameData.DetachedHistory history =
+            options.withHistory ? null : data.detachHistory();
         if (!options.withHistory) {
           data.resetHistory();
         }
@@ -190,7 +200,7 @@ public final class GameDataManager {
           data.setAttachmentOrderAndValues(attachments);
         }
         if (!options.withHistory) {
-          data.setHistory(history);
+          data.attachHistory(history);
         }
         if (options.withDelegates) {
           writeDelegates(data, outStream);
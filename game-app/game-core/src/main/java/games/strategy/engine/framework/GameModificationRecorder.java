@@ -0,0 +1,148 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.message.RemoteMethodCall;
+import games.strategy.net.INode;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.triplea.io.IoUtils;
+
+/**
+ * Wraps the broadcaster of the {@link IGame#GAME_MODIFICATION_CHANNEL} so that the modifications
+ * broadcast after a snapshot of the game data can be recorded and replayed to an observer that
+ * joins the running game.
+ *
+ * <p>Broadcasts and snapshots are serialized by a single lock: a recording starts exactly after
+ * the modifications its snapshot contains, and ends exactly before the mark it broadcasts when it
+ * is finished. The modifications are recorded serialized, as they were when broadcast.
+ */
+@ThreadSafe
+class GameModificationRecorder {
+  private final Object lock = new Object();
+  private final Collection<Recording> recordings = new CopyOnWriteArrayList<>();
+  private final IGameModifiedChannel channel;
+  private final IGameModifiedChannel broadcaster;
+
+  GameModificationRecorder(final IGameModifiedChannel broadcaster) {
+    channel = checkNotNull(broadcaster);
+    this.broadcaster =
+        (IGameModifiedChannel)
+            Proxy.newProxyInstance(
+                IGameModifiedChannel.class.getClassLoader(),
+                new Class<?>[] {IGameModifiedChannel.class},
+                (proxy, method, args) -> {
+                  if (method.getDeclaringClass() == Object.class) {
+                    return method.invoke(broadcaster, args);
+                  }
+                  synchronized (lock) {
+                    if (!recordings.isEmpty()) {
+                      final byte[] call =
+                          writeModification(
+                              new RemoteMethodCall(
+                                  IGame.GAME_MODIFICATION_CHANNEL.getName(), method, args));
+                      recordings.forEach(recording -> recording.add(call));
+                    }
+                    try {
+                      return method.invoke(broadcaster, args);
+                    } catch (final InvocationTargetException e) {
+                      throw e.getCause();
+                    }
+                  }
+                });
+  }
+
+  private static byte[] writeModification(final RemoteMethodCall call) throws IOException {
+    return IoUtils.writeToMemory(
+        os -> {
+          try (ObjectOutputStream out = new GameObjectOutputStream(os)) {
+            out.writeObject(call);
+          }
+        });
+  }
+
+  /** Reads a recorded modification, the game objects it refers to are those of {@code data}. */
+  static RemoteMethodCall readModification(final byte[] modification, final GameData data)
+      throws IOException {
+    try (ObjectInputStream in =
+        new GameObjectStreamFactory(data).create(new ByteArrayInputStream(modification))) {
+      final RemoteMethodCall call = (RemoteMethodCall) in.readObject();
+      call.resolve(IGameModifiedChannel.class);
+      return call;
+    } catch (final ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /** Returns the broadcaster all game modifications have to be sent through. */
+  IGameModifiedChannel getBroadcaster() {
+    return broadcaster;
+  }
+
+  /**
+   * Takes a snapshot of the game data, e.g. the serialized game, and records every modification
+   * broadcast after it until the returned recording is finished or stopped.
+   */
+  Recording startRecording(final Supplier<byte[]> snapshot) {
+    synchronized (lock) {
+      final Recording recording = new Recording(snapshot.get());
+      recordings.add(recording);
+      return recording;
+    }
+  }
+
+  /** The modifications broadcast since a snapshot was taken. */
+  final class Recording {
+    private final byte[] snapshot;
+
+    @GuardedBy("lock")
+    private final List<byte[]> modifications = new ArrayList<>();
+
+    private Recording(final byte[] snapshot) {
+      this.snapshot = snapshot;
+    }
+
+    byte[] getSnapshot() {
+      return snapshot;
+    }
+
+    @GuardedBy("lock")
+    private void add(final byte[] call) {
+      modifications.add(call);
+    }
+
+    /**
+     * Stops recording and broadcasts {@link IGameModifiedChannel#catchUpEnded} for {@code
+     * observer}. Returns the modifications recorded since the snapshot, those broadcast before the
+     * mark.
+     *
+     * @throws IllegalStateException If the recording was stopped before, it may miss modifications.
+     */
+    List<byte[]> finish(final INode observer) {
+      synchronized (lock) {
+        checkState(recordings.remove(this), "Recording was stopped");
+        channel.catchUpEnded(observer);
+        return List.copyOf(modifications);
+      }
+    }
+
+    /** Stops recording, does nothing if the recording was stopped before. */
+    void stop() {
+      recordings.remove(this);
+    }
+  }
+}
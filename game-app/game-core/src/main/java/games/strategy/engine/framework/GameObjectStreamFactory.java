@@ -4,6 +4,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameObjectInputStream;
 import games.strategy.engine.data.GameObjectOutputStream;
 import games.strategy.net.IObjectStreamFactory;
+import games.strategy.net.NameTable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
@@ -33,6 +34,18 @@ public class GameObjectStreamFactory implements IObjectStreamFactory {
     return new GameObjectOutputStream(stream);
   }
 
+  @Override
+  public ObjectInputStream create(final InputStream stream, final NameTable names)
+      throws IOException {
+    return new GameObjectInputStream(this, stream, names);
+  }
+
+  @Override
+  public ObjectOutputStream create(final OutputStream stream, final NameTable names)
+      throws IOException {
+    return new GameObjectOutputStream(stream, names);
+  }
+
   public void setData(final GameData data) {
     gameData = data;
   }
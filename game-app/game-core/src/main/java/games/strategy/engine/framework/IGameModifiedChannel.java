@@ -4,6 +4,7 @@ import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.message.IChannelSubscriber;
 import games.strategy.engine.message.RemoteActionCode;
+import games.strategy.net.INode;
 
 /** All changes to game data (Changes and History events) can be tracked through this channel. */
 public interface IGameModifiedChannel extends IChannelSubscriber {
@@ -36,4 +37,12 @@ public interface IGameModifiedChannel extends IChannelSubscriber {
 
   @RemoteActionCode(2)
   void shutDown();
+
+  /**
+   * Marks the end of the modifications recorded for {@code observer}, an observer joining the
+   * running game. The observer drops the modifications it receives before this mark, since they are
+   * among those it is sent to catch up with the game. Other subscribers ignore it.
+   */
+  @RemoteActionCode(6)
+  default void catchUpEnded(INode observer) {}
 }
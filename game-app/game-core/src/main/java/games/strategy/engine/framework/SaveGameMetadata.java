@@ -0,0 +1,129 @@
+package games.strategy.engine.framework;
+
+import com.google.common.base.Strings;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.data.GameStep;
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.config.product.ProductVersionReader;
+
+/**
+ * A summary of a save game that is stored uncompressed in front of the game data, so listings of
+ * save games can show and sort them without loading each one. Save games written before the summary
+ * was introduced have none.
+ */
+@Builder
+@Value
+@Slf4j
+public class SaveGameMetadata {
+  private static final int LAYOUT_VERSION = 1;
+  // the summary is a few hundred bytes, anything larger is not read
+  private static final int MAX_LENGTH = 64 * 1024;
+
+  /** The version of the engine that wrote the save game. */
+  @NonNull String engineVersion;
+
+  @NonNull String gameName;
+  @NonNull String mapName;
+  int round;
+  /** The display name of the current step, empty if the game has no steps. */
+  @NonNull String stepName;
+  /** The name of the player of the current step, empty for steps without a player. */
+  @NonNull String currentPlayer;
+
+  @NonNull List<String> players;
+  long savedAtMillis;
+
+  static SaveGameMetadata of(final GameData data) {
+    final GameSequence sequence = data.getSequence();
+    final Optional<GameStep> step =
+        sequence.size() == 0 ? Optional.empty() : Optional.of(sequence.getStep());
+    return SaveGameMetadata.builder()
+        .engineVersion(ProductVersionReader.getCurrentVersion().toString())
+        .gameName(Strings.nullToEmpty(data.getGameName()))
+        .mapName(data.getMapName())
+        .round(sequence.getRound())
+        .stepName(step.map(GameStep::getDisplayName).orElse(""))
+        .currentPlayer(step.map(GameStep::getPlayerId).map(GamePlayer::getName).orElse(""))
+        .players(data.getPlayerList().getPlayers().stream().map(GamePlayer::getName).toList())
+        .savedAtMillis(System.currentTimeMillis())
+        .build();
+  }
+
+  /**
+   * Reads the summary of the save game {@code file}. Only the first bytes of the file are read.
+   *
+   * @return The summary, or empty if the file is no save game or was written without a summary.
+   */
+  public static Optional<SaveGameMetadata> read(final Path file) {
+    try (InputStream is = new BufferedInputStream(Files.newInputStream(file))) {
+      if (!SaveGameSections.isSectioned(is)) {
+        return Optional.empty();
+      }
+      final DataInputStream input = new DataInputStream(is);
+      SaveGameSections.readFormatVersion(input);
+      final Map<String, Integer> lengths = SaveGameSections.readTable(input);
+      // the summary is the first section, so its bytes directly follow the table
+      final Map.Entry<String, Integer> first = lengths.entrySet().iterator().next();
+      if (!first.getKey().equals(SaveGameSections.METADATA) || first.getValue() > MAX_LENGTH) {
+        return Optional.empty();
+      }
+      return Optional.of(readFrom(input));
+    } catch (final IOException | RuntimeException e) {
+      log.warn("Failed to read the summary of save game: " + file.toAbsolutePath(), e);
+      return Optional.empty();
+    }
+  }
+
+  static SaveGameMetadata readFrom(final DataInput input) throws IOException {
+    final int layoutVersion = input.readInt();
+    if (layoutVersion != LAYOUT_VERSION) {
+      throw new IOException("Unknown save game summary layout: " + layoutVersion);
+    }
+    final SaveGameMetadataBuilder builder =
+        SaveGameMetadata.builder()
+            .engineVersion(input.readUTF())
+            .gameName(input.readUTF())
+            .mapName(input.readUTF())
+            .round(input.readInt())
+            .stepName(input.readUTF())
+            .currentPlayer(input.readUTF());
+    final int playerCount = input.readInt();
+    final List<String> players = new ArrayList<>(playerCount);
+    for (int i = 0; i < playerCount; i++) {
+      players.add(input.readUTF());
+    }
+    return builder.players(players).savedAtMillis(input.readLong()).build();
+  }
+
+  void writeTo(final DataOutput output) throws IOException {
+    output.writeInt(LAYOUT_VERSION);
+    output.writeUTF(engineVersion);
+    output.writeUTF(gameName);
+    output.writeUTF(mapName);
+    output.writeInt(round);
+    output.writeUTF(stepName);
+    output.writeUTF(currentPlayer);
+    output.writeInt(players.size());
+    for (final String player : players) {
+      output.writeUTF(player);
+    }
+    output.writeLong(savedAtMillis);
+  }
+}
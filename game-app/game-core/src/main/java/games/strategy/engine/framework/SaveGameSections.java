@@ -0,0 +1,255 @@
+package games.strategy.engine.framework;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.history.History;
+import games.strategy.net.NameTable;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.io.IoUtils;
+import org.triplea.java.function.ThrowingConsumer;
+
+/**
+ * The container format of save games. A save game starts with a table of the names and lengths of
+ * its sections, each section can be read on its own or skipped:
+ *
+ * <ul>
+ *   <li>{@value #METADATA}: the uncompressed {@link SaveGameMetadata}, always the first section
+ *   <li>{@value #STATE}: the game data without its history, followed by the delegates, in the
+ *       format of {@link GameDataManager#saveGameUncompressed}
+ *   <li>{@value #HISTORY}: the history, written with references to the game data of the state
+ *       section instead of copies. The names of the referenced game objects are written once, with
+ *       a {@link NameTable}, since format version 2.
+ * </ul>
+ *
+ * <p>Except for the metadata, sections are compressed.
+ *
+ * <p>The history is only deserialized when the game data is first asked for it. Save games written
+ * before sections were introduced are a single gzip stream, see {@link #isSectioned}.
+ */
+@Slf4j
+@UtilityClass
+class SaveGameSections {
+  // "TSAV", gzip streams start with 0x1f8b instead
+  private static final int MAGIC = 0x54534156;
+  private static final int FORMAT_VERSION = 2;
+  private static final int FIRST_FORMAT_VERSION_WITH_NAME_TABLE = 2;
+
+  static final String METADATA = "metadata";
+  static final String STATE = "state";
+  static final String HISTORY = "history";
+
+  /** Returns whether the save game in {@code input} is sectioned, without consuming any bytes. */
+  static boolean isSectioned(final InputStream input) throws IOException {
+    input.mark(Integer.BYTES);
+    try {
+      return new DataInputStream(input).readInt() == MAGIC;
+    } catch (final IOException e) {
+      return false;
+    } finally {
+      input.reset();
+    }
+  }
+
+  static void write(final OutputStream out, final GameData data) throws IOException {
+    final Map<String, byte[]> sections = new LinkedHashMap<>();
+    try (GameData.Unlocker ignored = data.acquireWriteLock()) {
+      final SaveGameMetadata metadata = SaveGameMetadata.of(data);
+      sections.put(
+          METADATA, IoUtils.writeToMemory(os -> metadata.writeTo(new DataOutputStream(os))));
+      // the state is written with an empty history, unlike a reset one it needs no game step
+      final GameData.DetachedHistory history = data.detachHistory();
+      try {
+        sections.put(
+            STATE,
+            compress(
+                os ->
+                    GameDataManager.saveGameUncompressed(
+                        os, data, GameDataManager.Options.forSaveGame())));
+      } finally {
+        data.attachHistory(history);
+      }
+      // a history not loaded since it was read is unchanged, its section is written as it was read
+      sections.put(
+          HISTORY,
+          history.getLoader() instanceof HistoryLoader loader && loader.isCurrentFormatOf(data)
+              ? loader.section
+              : compress(os -> writeHistory(os, data.getHistory())));
+    }
+    final DataOutputStream output = new DataOutputStream(out);
+    output.writeInt(MAGIC);
+    output.writeInt(FORMAT_VERSION);
+    output.writeInt(sections.size());
+    for (final Map.Entry<String, byte[]> section : sections.entrySet()) {
+      output.writeUTF(section.getKey());
+      output.writeInt(section.getValue().length);
+    }
+    for (final byte[] section : sections.values()) {
+      output.write(section);
+    }
+    output.flush();
+  }
+
+  private static byte[] compress(final ThrowingConsumer<OutputStream, IOException> writer)
+      throws IOException {
+    return IoUtils.writeToMemory(
+        os -> {
+          try (OutputStream zipped = new GZIPOutputStream(os)) {
+            writer.accept(zipped);
+          }
+        });
+  }
+
+  private static void writeHistory(final OutputStream os, final History history)
+      throws IOException {
+    try (ObjectOutputStream out = new HistoryOutputStream(os, new NameTable())) {
+      out.writeObject(history);
+    }
+  }
+
+  /**
+   * Reads the game data from the state section. The history section is kept compressed in memory
+   * and read on demand.
+   */
+  static Optional<GameData> read(final InputStream input) throws IOException {
+    final DataInputStream dataInput = new DataInputStream(input);
+    final int formatVersion = readFormatVersion(dataInput);
+    final Map<String, byte[]> sections = readSections(dataInput);
+    final byte[] state = sections.get(STATE);
+    if (state == null) {
+      throw new IOException("Save game has no game state");
+    }
+    final Optional<GameData> data =
+        GameDataManager.loadGameUncompressed(new GZIPInputStream(new ByteArrayInputStream(state)));
+    final byte[] history = sections.get(HISTORY);
+    if (history != null) {
+      data.ifPresent(
+          gameData -> {
+            // the state section holds an empty history, kept if the history section is unreadable
+            final History emptyHistory = gameData.getHistory();
+            gameData.setHistoryLoader(
+                new HistoryLoader(history, formatVersion, gameData, emptyHistory));
+          });
+    }
+    return data;
+  }
+
+  private static Map<String, byte[]> readSections(final DataInputStream input)
+      throws IOException {
+    final Map<String, byte[]> sections = new LinkedHashMap<>();
+    for (final Map.Entry<String, Integer> length : readTable(input).entrySet()) {
+      final byte[] section = new byte[length.getValue()];
+      input.readFully(section);
+      sections.put(length.getKey(), section);
+    }
+    return sections;
+  }
+
+  /** Reads the start of a save game, it is followed by the table of sections. */
+  static int readFormatVersion(final DataInputStream input) throws IOException {
+    if (input.readInt() != MAGIC) {
+      throw new IOException("Not a sectioned save game");
+    }
+    final int formatVersion = input.readInt();
+    if (formatVersion > FORMAT_VERSION) {
+      log.warn(
+          "Save game format {} is newer than {}, unknown sections are skipped",
+          formatVersion,
+          FORMAT_VERSION);
+    }
+    return formatVersion;
+  }
+
+  /**
+   * Reads the table of sections following the format version, the section bytes follow it in the
+   * order of the returned map.
+   */
+  static Map<String, Integer> readTable(final DataInputStream input) throws IOException {
+    final int sectionCount = input.readInt();
+    final Map<String, Integer> lengths = new LinkedHashMap<>();
+    for (int i = 0; i < sectionCount; i++) {
+      lengths.put(input.readUTF(), input.readInt());
+    }
+    return lengths;
+  }
+
+  private static Optional<History> readHistory(
+      final byte[] section, final GameData data, final boolean withNameTable) {
+    try (ObjectInputStream in =
+        new HistoryInputStream(
+            data,
+            new GZIPInputStream(new ByteArrayInputStream(section)),
+            withNameTable ? new NameTable() : null)) {
+      return Optional.of((History) in.readObject());
+    } catch (final IOException | ClassNotFoundException | RuntimeException e) {
+      log.error("Failed to read the history of the save game, it will be empty", e);
+      return Optional.empty();
+    }
+  }
+
+  /** Reads the history section on demand, the section is kept to write it again unchanged. */
+  @AllArgsConstructor
+  private static final class HistoryLoader implements Supplier<History> {
+    private final byte[] section;
+    private final int formatVersion;
+    private final GameData data;
+    private final History emptyHistory;
+
+    @Override
+    public History get() {
+      final boolean withNameTable = formatVersion >= FIRST_FORMAT_VERSION_WITH_NAME_TABLE;
+      return readHistory(section, data, withNameTable).orElse(emptyHistory);
+    }
+
+    boolean isCurrentFormatOf(final GameData gameData) {
+      return formatVersion == FORMAT_VERSION && data == gameData;
+    }
+  }
+
+  /** Stands in for the game data of the state section within the history section. */
+  private enum GameDataReference {
+    INSTANCE
+  }
+
+  private static final class HistoryOutputStream extends GameObjectOutputStream {
+    HistoryOutputStream(final OutputStream output, final NameTable names) throws IOException {
+      super(output, names);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj) {
+      return obj instanceof GameData ? GameDataReference.INSTANCE : super.replaceObject(obj);
+    }
+  }
+
+  private static final class HistoryInputStream extends GameObjectInputStream
+      implements History.LoaderInput {
+    HistoryInputStream(
+        final GameData data, final InputStream input, final @Nullable NameTable names)
+        throws IOException {
+      super(new GameObjectStreamFactory(data), input, names);
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj) {
+      return obj == GameDataReference.INSTANCE ? getData() : super.resolveObject(obj);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package games.strategy.engine.framework;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static games.strategy.triplea.Constants.EDIT_MODE;
 
+import com.google.common.base.Suppliers;
 import games.strategy.engine.GameOverException;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.CompositeChange;
@@ -25,6 +26,7 @@ import games.strategy.engine.framework.startup.ui.InGameLobbyWatcherWrapper;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.Event;
 import games.strategy.engine.history.EventChild;
+import games.strategy.engine.history.History;
 import games.strategy.engine.history.HistoryNode;
 import games.strategy.engine.history.HistoryWriter;
 import games.strategy.engine.history.Step;
@@ -48,10 +50,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.Setter;
@@ -73,14 +79,21 @@ public class ServerGame extends AbstractGame {
           "games.strategy.engine.framework.ServerGame.SERVER_REMOTE", IServerRemote.class);
 
   private final RandomStats randomStats;
+  // the history of a loaded save game is read once the game writes to it
+  private final Supplier<HistoryWriter> historyWriter = Suppliers.memoize(this::loadHistoryWriter);
   private IRandomSource randomSource = new PlainRandomSource();
   private @Nullable IRandomSource delegateRandomSource;
-  private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  /** Timings of the steps, delegates and remote calls of this game. */
+  @Getter private final StepProfiler stepProfiler = new StepProfiler();
+
+  private final DelegateExecutionManager delegateExecutionManager =
+      new DelegateExecutionManager(stepProfiler);
   @Nullable @Getter private final InGameLobbyWatcherWrapper inGameLobbyWatcher;
   private boolean needToInitialize = true;
   private final LaunchAction launchAction;
   private final ClientNetworkBridge clientNetworkBridge;
   @Setter private boolean delegateAutosavesEnabled = true;
+  private final GameModificationRecorder gameModificationRecorder;
 
   /**
    * When the delegate execution is stopped, we countdown on this latch to prevent the
@@ -123,17 +136,19 @@ public class ServerGame extends AbstractGame {
     this.clientNetworkBridge = clientNetworkBridge;
     this.launchAction = launchAction;
     this.inGameLobbyWatcher = inGameLobbyWatcher;
-    // Keep a ref to the history writer. This not only makes the calls below more concise, but also
-    // prevents a need to grab the lock on gameData (as its history object can get reset temporarily
-    // during game cloning operations for the battle calculator, e.g. by AIs).
-    final HistoryWriter historyWriter = gameData.getHistory().getHistoryWriter();
+    gameModificationRecorder =
+        new GameModificationRecorder(
+            (IGameModifiedChannel)
+                messengers.getChannelBroadcaster(IGame.GAME_MODIFICATION_CHANNEL));
+    // the dice stats of a saved game are imported along with its history
+    randomStats = new RandomStats(messengers, historyWriter::get);
     gameModifiedChannel =
         new IGameModifiedChannel() {
           @Override
           public void gameDataChanged(final Change change) {
             assertCorrectCaller();
             gameData.performChange(change);
-            historyWriter.addChange(change);
+            historyWriter.get().addChange(change);
           }
 
           private void assertCorrectCaller() {
@@ -153,18 +168,18 @@ public class ServerGame extends AbstractGame {
           @Override
           public void startHistoryEvent(final String event) {
             assertCorrectCaller();
-            historyWriter.startEvent(event);
+            historyWriter.get().startEvent(event);
           }
 
           @Override
           public void addChildToEvent(final String text, final Object renderingData) {
             assertCorrectCaller();
-            historyWriter.addChildToEvent(new EventChild(text, renderingData));
+            historyWriter.get().addChildToEvent(new EventChild(text, renderingData));
           }
 
           void setRenderingData(final Object renderingData) {
             assertCorrectCaller();
-            historyWriter.setRenderingData(renderingData);
+            historyWriter.get().setRenderingData(renderingData);
           }
 
           @Override
@@ -179,7 +194,7 @@ public class ServerGame extends AbstractGame {
             if (loadedFromSavedGame) {
               return;
             }
-            historyWriter.startNextStep(stepName, delegateName, player, displayName);
+            historyWriter.get().startNextStep(stepName, delegateName, player, displayName);
           }
 
           // nothing to do, we call this
@@ -188,14 +203,26 @@ public class ServerGame extends AbstractGame {
         };
     messengers.registerChannelSubscriber(gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
     setupDelegateMessaging(data);
-    randomStats = new RandomStats(messengers);
-    // Import dice stats from history if there is any (e.g. loading a saved game).
-    importDiceStats((HistoryNode) gameData.getHistory().getRoot());
     final IServerRemote serverRemote =
         () -> GameDataWriter.writeToBytes(data, delegateExecutionManager);
     messengers.registerRemote(serverRemote, SERVER_REMOTE);
   }
 
+  /**
+   * Returns the writer of the game history, importing the dice stats of the rolls already in it.
+   * Only called once, the history and its writer are kept from then on. This not only makes the
+   * calls writing the history more concise, but also prevents a need to grab the lock on gameData
+   * (as its history object can get reset temporarily during game cloning operations for the battle
+   * calculator, e.g. by AIs).
+   */
+  private HistoryWriter loadHistoryWriter() {
+    try (GameData.Unlocker ignored = gameData.acquireReadLock()) {
+      final History history = gameData.getHistory();
+      importDiceStats((HistoryNode) history.getRoot());
+      return history.getHistoryWriter();
+    }
+  }
+
   private void importDiceStats(final HistoryNode node) {
     if (node instanceof EventChild childNode) {
       if (childNode.getRenderingData() instanceof DiceRoll diceRoll) {
@@ -218,7 +245,11 @@ public class ServerGame extends AbstractGame {
     }
   }
 
-  /** Adds a new observer (non-participant) node to this server game. */
+  /**
+   * Adds a new observer (non-participant) node to this server game. The game is paused only while
+   * the snapshot the observer starts from is taken, the modifications made while the observer loads
+   * it are sent afterwards.
+   */
   public void addObserver(
       final IObserverWaitingToJoin blockingObserver,
       final IObserverWaitingToJoin nonBlockingObserver,
@@ -233,41 +264,56 @@ public class ServerGame extends AbstractGame {
       nonBlockingObserver.cannotJoinGame(e.getMessage());
       return;
     }
+    final GameModificationRecorder.Recording recording;
     try {
-      final CountDownLatch waitOnObserver = new CountDownLatch(1);
-      final byte[] bytes = GameDataWriter.writeToBytes(gameData, delegateExecutionManager);
-      ThreadRunner.runInNewThread(
-          () -> {
-            try {
-              blockingObserver.joinGame(bytes, playerManager.getPlayerMapping());
-            } catch (final Exception e) {
-              if (e.getCause() instanceof ConnectionLostException) {
-                log.error("Connection lost to observer while joining: " + newNode.getName(), e);
-              } else {
-                log.error("Failed to join game", e);
-              }
-            } finally {
-              // Always release the awaiter so the host doesn't sit on the delegate
-              // write lock for serverObserverJoinWaitTime (default 180s) when a join
-              // aborts mid-flight.
-              waitOnObserver.countDown();
-            }
-          });
-      try {
-        if (!waitOnObserver.await(
-            ClientSetting.serverObserverJoinWaitTime.getValueOrThrow(), TimeUnit.SECONDS)) {
-          nonBlockingObserver.cannotJoinGame("Taking too long to join.");
-        }
-      } catch (final InterruptedException e) {
-        Thread.currentThread().interrupt();
-        nonBlockingObserver.cannotJoinGame(e.getMessage());
-      }
+      recording =
+          gameModificationRecorder.startRecording(
+              () -> GameDataWriter.writeToBytes(gameData, delegateExecutionManager));
     } catch (final Exception e) {
       log.error("Failed to join game", e);
       nonBlockingObserver.cannotJoinGame(e.getMessage());
+      return;
     } finally {
       delegateExecutionManager.resumeDelegateExecution();
     }
+    // the observer is told once, and the recording is stopped, when joining fails
+    final AtomicBoolean failed = new AtomicBoolean();
+    final Consumer<String> cannotJoinGame =
+        reason -> {
+          recording.stop();
+          if (failed.compareAndSet(false, true)) {
+            nonBlockingObserver.cannotJoinGame(reason);
+          }
+        };
+    final CountDownLatch waitOnObserver = new CountDownLatch(1);
+    ThreadRunner.runInNewThread(
+        () -> {
+          try {
+            blockingObserver.joinGame(recording.getSnapshot(), playerManager.getPlayerMapping());
+            // the observer subscribed to the game modifications before it returned, it drops those
+            // broadcast before the end of the recording
+            blockingObserver.catchUp(recording.finish(newNode));
+          } catch (final Exception e) {
+            if (e.getCause() instanceof ConnectionLostException) {
+              log.error("Connection lost to observer while joining: " + newNode.getName(), e);
+            } else {
+              log.error("Failed to join game", e);
+              cannotJoinGame.accept(e.getMessage());
+            }
+          } finally {
+            recording.stop();
+            waitOnObserver.countDown();
+          }
+        });
+    try {
+      if (!waitOnObserver.await(
+          ClientSetting.serverObserverJoinWaitTime.getValueOrThrow(), TimeUnit.SECONDS)) {
+        cannotJoinGame.accept("Taking too long to join.");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cannotJoinGame.accept(e.getMessage());
+    }
   }
 
   private void setupDelegateMessaging(final GameData data) {
@@ -409,6 +455,7 @@ public class ServerGame extends AbstractGame {
     } finally {
       delegateExecutionManager.resumeDelegateExecution();
     }
+    writeStepProfile();
     gameData.getGameLoader().shutDown();
     // if this is a bot, shut down the bot. We will rely on systemctl to restart the bot
     // instance. This restart will help us pick up any new maps and/or new bot versions.
@@ -440,7 +487,16 @@ public class ServerGame extends AbstractGame {
       }
     }
 
-    GameDataWriter.writeToFile(gameData, delegateExecutionManager, file);
+    final StepProfiler.Sample sample = stepProfiler.start();
+    try {
+      GameDataWriter.writeToFile(gameData, delegateExecutionManager, file);
+    } finally {
+      stepProfiler.record("save", sample);
+    }
+  }
+
+  private void writeStepProfile() {
+    stepProfiler.writeReport(launchAction.getAutoSaveFileUtils().getStepProfileFile());
   }
 
   private void runStep(final boolean stepIsRestoredFromSavedGame) {
@@ -452,6 +508,15 @@ public class ServerGame extends AbstractGame {
       return;
     }
     final GameStep currentStep = gameData.getSequence().getStep();
+    final StepProfiler.Sample sample = stepProfiler.start();
+    try {
+      runStep(currentStep, stepIsRestoredFromSavedGame);
+    } finally {
+      stepProfiler.record("step/" + currentStep.getName(), sample);
+    }
+  }
+
+  private void runStep(final GameStep currentStep, final boolean stepIsRestoredFromSavedGame) {
     final IDelegate currentDelegate = currentStep.getDelegate();
     if (!stepIsRestoredFromSavedGame && shouldAutoSaveBeforeStart(currentDelegate)) {
       autoSaveBefore(currentDelegate);
@@ -477,7 +542,12 @@ public class ServerGame extends AbstractGame {
       return;
     }
     if (gameData.getSequence().next()) {
-      gameData.getHistory().getHistoryWriter().startNextRound(gameData.getSequence().getRound());
+      final int round = gameData.getSequence().getRound();
+      gameData
+          .getRecordedStatistics()
+          .ifPresent(statistics -> statistics.recordRoundEnd(round - 1, gameData));
+      historyWriter.get().startNextRound(round);
+      writeStepProfile();
       saveGame(
           gameData.getSequence().getRound() % 2 == 0
               ? launchAction.getAutoSaveFileUtils().getEvenRoundAutoSaveFile()
@@ -488,7 +558,7 @@ public class ServerGame extends AbstractGame {
       GamePlayer newPlayer = gameData.getSequence().getStep().getPlayerId();
       if (newPlayer != null && newPlayer.isAi() && !newPlayer.equals(currentStep.getPlayerId())) {
         String text = "Turning off Edit Mode when switching to AI player";
-        gameData.getHistory().getHistoryWriter().startEvent(text);
+        historyWriter.get().startEvent(text);
         gameData.getProperties().set(EDIT_MODE, false);
       }
     }
@@ -528,11 +598,14 @@ public class ServerGame extends AbstractGame {
   }
 
   private void endStep() {
+    final IDelegate delegate = getCurrentStep().getDelegate();
+    final StepProfiler.Sample sample = stepProfiler.start();
     delegateExecutionManager.enterDelegateExecution();
     try {
-      getCurrentStep().getDelegate().end();
+      delegate.end();
     } finally {
       delegateExecutionManager.leaveDelegateExecution();
+      stepProfiler.record("delegate.end/" + delegate.getName(), sample);
     }
     getCurrentStep().incrementRunCount();
   }
@@ -552,7 +625,7 @@ public class ServerGame extends AbstractGame {
           new DefaultDelegateBridge(
               gameData,
               this,
-              new DelegateHistoryWriter(messengers, gameData),
+              new DelegateHistoryWriter(getGameModifiedBroadcaster(), gameData),
               randomStats,
               delegateExecutionManager,
               clientNetworkBridge,
@@ -579,7 +652,7 @@ public class ServerGame extends AbstractGame {
         new DefaultDelegateBridge(
             gameData,
             this,
-            new DelegateHistoryWriter(messengers, gameData),
+            new DelegateHistoryWriter(getGameModifiedBroadcaster(), gameData),
             randomStats,
             delegateExecutionManager,
             clientNetworkBridge,
@@ -592,13 +665,15 @@ public class ServerGame extends AbstractGame {
       addPlayerTypesToGameData(gamePlayers.values(), playerManager, bridge);
     }
     notifyGameStepChanged(stepIsRestoredFromSavedGame);
+    final IDelegate delegate = getCurrentStep().getDelegate();
+    final StepProfiler.Sample sample = stepProfiler.start();
     delegateExecutionManager.enterDelegateExecution();
     try {
-      final IDelegate delegate = getCurrentStep().getDelegate();
       delegate.setDelegateBridgeAndPlayer(bridge, clientNetworkBridge);
       delegate.start();
     } finally {
       delegateExecutionManager.leaveDelegateExecution();
+      stepProfiler.record("delegate.start/" + delegate.getName(), sample);
     }
   }
 
@@ -611,6 +686,16 @@ public class ServerGame extends AbstractGame {
     if (!getCurrentStep().getDelegate().delegateCurrentlyRequiresUserInput()) {
       return;
     }
+    final String stepName = getCurrentStep().getName();
+    final StepProfiler.Sample sample = stepProfiler.start();
+    try {
+      startPlayerStep(gamePlayer);
+    } finally {
+      stepProfiler.record("player/" + stepName, sample);
+    }
+  }
+
+  private void startPlayerStep(final GamePlayer gamePlayer) {
     final Player player = gamePlayers.get(gamePlayer);
     if (player != null) {
       // a local player
@@ -704,7 +789,7 @@ public class ServerGame extends AbstractGame {
   }
 
   private IGameModifiedChannel getGameModifiedBroadcaster() {
-    return (IGameModifiedChannel) messengers.getChannelBroadcaster(IGame.GAME_MODIFICATION_CHANNEL);
+    return gameModificationRecorder.getBroadcaster();
   }
 
   @Override
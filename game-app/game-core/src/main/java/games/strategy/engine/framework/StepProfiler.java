@@ -0,0 +1,163 @@
+package games.strategy.engine.framework;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.metrics.DurationTimer;
+import org.triplea.metrics.Histogram;
+import org.triplea.metrics.Metrics;
+
+/**
+ * Collects how long the game steps, delegates and remote calls of a server game take, both in wall
+ * clock time (which includes waiting on human and AI players) and in CPU time of the measuring
+ * thread. It is cheap enough to be always on: a sample costs two clock reads at its start and end
+ * and a few uncontended atomic additions, and no lock is taken.
+ *
+ * <p>The timings are kept per game for {@link #formatReport()}, the wall times are also recorded
+ * into the {@link Metrics} timers named {@code engine.} followed by the name of the sample.
+ */
+@ThreadSafe
+@Slf4j
+public class StepProfiler {
+  private static final ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+  private static final boolean cpuTimeSupported =
+      threadMxBean.isCurrentThreadCpuTimeSupported() && threadMxBean.isThreadCpuTimeEnabled();
+
+  private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+
+  /** The clock readings at the start of a sample. */
+  @AllArgsConstructor
+  public static final class Sample {
+    private final long wallNanos;
+    private final long cpuNanos;
+  }
+
+  /** A snapshot of the samples recorded under one name. */
+  @Value
+  public static class Entry {
+    String name;
+    Histogram.Snapshot wallNanos;
+    long totalCpuNanos;
+
+    public long getCount() {
+      return wallNanos.getCount();
+    }
+
+    public long getTotalWallNanos() {
+      return wallNanos.getSum();
+    }
+
+    public long getMaxWallNanos() {
+      return wallNanos.getMax();
+    }
+
+    /**
+     * Returns an upper bound of the wall time below which the given fraction of samples fall, e.g.
+     * {@code 0.9} for the 90th percentile.
+     */
+    public long getWallNanosPercentile(final double fraction) {
+      return wallNanos.getValueAtPercentile(fraction);
+    }
+  }
+
+  private static final class Timing {
+    private final Histogram wallNanos = new Histogram();
+    private final LongAdder cpuNanos = new LongAdder();
+    private final DurationTimer engineTimer;
+
+    Timing(final String name) {
+      engineTimer = Metrics.timer("engine." + name);
+    }
+
+    void add(final long wall, final long cpu) {
+      wallNanos.record(wall);
+      cpuNanos.add(cpu);
+      engineTimer.record(wall);
+    }
+
+    Entry toEntry(final String name) {
+      return new Entry(name, wallNanos.getSnapshot(), cpuNanos.sum());
+    }
+  }
+
+  /** Starts a sample on the current thread, to be passed to {@link #record(String, Sample)}. */
+  public Sample start() {
+    return new Sample(System.nanoTime(), currentThreadCpuNanos());
+  }
+
+  /** Records the time since the sample was started, must be called on the starting thread. */
+  public void record(final String name, final Sample sample) {
+    record(
+        name,
+        System.nanoTime() - sample.wallNanos,
+        Math.max(0, currentThreadCpuNanos() - sample.cpuNanos));
+  }
+
+  @VisibleForTesting
+  void record(final String name, final long wallNanos, final long cpuNanos) {
+    timings.computeIfAbsent(name, Timing::new).add(wallNanos, cpuNanos);
+  }
+
+  /** Returns a snapshot of all recorded names, the ones that took longest in total first. */
+  public List<Entry> getEntries() {
+    return timings.entrySet().stream()
+        .map(entry -> entry.getValue().toEntry(entry.getKey()))
+        .sorted(Comparator.comparingLong(Entry::getTotalWallNanos).reversed())
+        .collect(Collectors.toList());
+  }
+
+  /** Returns a table of the recorded timings in milliseconds. */
+  public String formatReport() {
+    final StringBuilder report =
+        new StringBuilder(
+            String.format(
+                "%-60s %8s %12s %12s %10s %10s %10s %10s%n",
+                "name", "count", "total", "cpu", "p50", "p90", "p99", "max"));
+    for (final Entry entry : getEntries()) {
+      report.append(
+          String.format(
+              "%-60s %8d %12.1f %12.1f %10.1f %10.1f %10.1f %10.1f%n",
+              entry.getName(),
+              entry.getCount(),
+              toMillis(entry.getTotalWallNanos()),
+              toMillis(entry.getTotalCpuNanos()),
+              toMillis(entry.getWallNanosPercentile(0.5)),
+              toMillis(entry.getWallNanosPercentile(0.9)),
+              toMillis(entry.getWallNanosPercentile(0.99)),
+              toMillis(entry.getMaxWallNanos())));
+    }
+    return report.toString();
+  }
+
+  /** Writes {@link #formatReport()} to the file, failures are logged and otherwise ignored. */
+  public void writeReport(final Path file) {
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      Files.writeString(file, formatReport(), StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      log.warn("Failed to write step profile to " + file.toAbsolutePath(), e);
+    }
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  private static long currentThreadCpuNanos() {
+    return cpuTimeSupported ? threadMxBean.getCurrentThreadCpuTime() : 0;
+  }
+}
@@ -2,6 +2,7 @@ package games.strategy.engine.framework.map.download;
 
 import com.google.common.annotations.VisibleForTesting;
 import games.strategy.engine.framework.map.file.system.loader.ZippedMapsExtractor;
+import games.strategy.triplea.settings.ClientSetting;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -82,16 +83,20 @@ final class DownloadFile {
 
           state = DownloadState.DONE;
 
-          // extract map, if successful and does not have a 'map.yml' file, generate one.
-          ZippedMapsExtractor.unzipMap(targetTempFileToDownloadTo)
-              .ifPresent(
-                  installedMap -> {
-                    if (moveUpSubfolderFilesHasErrors(installedMap)) return;
-                    // create a map description YAML file for the map if it does not contain one
-                    if (MapDescriptionYaml.fromMap(installedMap).isEmpty()) {
-                      MapDescriptionYaml.generateForMap(installedMap);
-                    }
-                  });
+          // keep the map zipped if so configured and possible, otherwise extract it
+          if (ClientSetting.extractMapZips.getValueOrThrow()
+              || ZippedMapsExtractor.installMapZip(targetTempFileToDownloadTo).isEmpty()) {
+            // extract map, if successful and does not have a 'map.yml' file, generate one.
+            ZippedMapsExtractor.unzipMap(targetTempFileToDownloadTo)
+                .ifPresent(
+                    installedMap -> {
+                      if (moveUpSubfolderFilesHasErrors(installedMap)) return;
+                      // create a map description YAML file for the map if it does not contain one
+                      if (MapDescriptionYaml.fromMap(installedMap).isEmpty()) {
+                        MapDescriptionYaml.generateForMap(installedMap);
+                      }
+                    });
+          }
 
           downloadListener.downloadComplete(download);
         });
@@ -1,6 +1,7 @@
 package games.strategy.engine.framework.map.download;
 
 import games.strategy.engine.framework.map.file.system.loader.InstalledMapsListing;
+import games.strategy.engine.framework.map.file.system.loader.ZippedMaps;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -42,7 +43,13 @@ class DownloadMapsWindowModel {
     }
 
     try {
-      FileUtils.deleteDirectory(installLocation);
+      // maps that are not extracted are installed as their zip
+      if (ZippedMaps.isMapZip(installLocation)) {
+        ZippedMaps.close(installLocation);
+        Files.delete(installLocation);
+      } else {
+        FileUtils.deleteDirectory(installLocation);
+      }
     } catch (final IOException e) {
       log.warn(
           "Unable to delete maps files.<br>Manual removal may be necessary: {}<br>{}",
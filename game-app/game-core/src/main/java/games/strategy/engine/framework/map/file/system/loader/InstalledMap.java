@@ -29,6 +29,9 @@ public class InstalledMap {
   @Nullable private Instant lastModifiedDate;
   @Nullable private Path contentRoot;
 
+  /** The zip the map is read from, null if the map is extracted. */
+  @Nullable private Path mapZip;
+
   public String getMapName() {
     return mapDescriptionYaml.getMapName();
   }
@@ -39,11 +42,11 @@ public class InstalledMap {
    * missing).
    */
   Optional<Path> findContentRoot() {
-    // contentRoot is cached to avoid searching on the file system
-    if (contentRoot == null) {
+    // contentRoot is cached to avoid searching on the file system, unless its zip was closed
+    if (contentRoot == null || !contentRoot.getFileSystem().isOpen()) {
       // relative to the 'map.yml' file location, search current and child directories for
       // a polygons file, the location of the polygons file is the map content root.
-      final Path mapYamlParentFolder = mapDescriptionYaml.getYamlFileLocation().getParent();
+      final Path mapYamlParentFolder = readableMapDescription().getYamlFileLocation().getParent();
       contentRoot =
           FileUtils.findClosestToRoot(mapYamlParentFolder, 3, MapData.POLYGON_FILE)
               .map(Path::getParent)
@@ -65,7 +68,25 @@ public class InstalledMap {
 
   /** Given a game name, returns the path to the XML file for that game. */
   public Optional<Path> getGameXmlFilePath(final String gameName) {
-    return mapDescriptionYaml.getGameXmlPathByGameName(gameName);
+    return readableMapDescription().getGameXmlPathByGameName(gameName);
+  }
+
+  /** Returns the zip the map is read from, empty if the map is extracted. */
+  Optional<Path> getMapZip() {
+    return Optional.ofNullable(mapZip);
+  }
+
+  /**
+   * Returns the description of the map with paths that can be read. The zip of a map that is not
+   * extracted was closed after its 'map.yml' file was listed, it is opened again for that.
+   */
+  private MapDescriptionYaml readableMapDescription() {
+    if (mapZip == null) {
+      return mapDescriptionYaml;
+    }
+    return ZippedMaps.openMapRoot(mapZip)
+        .flatMap(MapDescriptionYaml::fromMap)
+        .orElse(mapDescriptionYaml);
   }
 
   /**
@@ -100,7 +121,12 @@ public class InstalledMap {
     // 1. *primarily* test can inject a value
     // 2. avoid file system access
     if (lastModifiedDate == null) {
-      lastModifiedDate = findContentRoot().flatMap(FileUtils::getLastModified).orElse(null);
+      // a zip is not opened for this, it is modified when the map is
+      lastModifiedDate =
+          getMapZip()
+              .or(this::findContentRoot)
+              .flatMap(FileUtils::getLastModified)
+              .orElse(null);
       if (lastModifiedDate == null) {
         return false;
       }
@@ -111,7 +137,7 @@ public class InstalledMap {
   }
 
   public Optional<Path> findMapSkin(String skinName) {
-    Path mapPath = mapDescriptionYaml.getYamlFileLocation().getParent();
+    Path mapPath = readableMapDescription().getYamlFileLocation().getParent();
     Collection<Path> skinYamlFiles = FileUtils.find(mapPath, 7, "skin.yml");
 
     return skinYamlFiles.stream()
@@ -125,7 +151,7 @@ public class InstalledMap {
   }
 
   public Collection<String> getSkinNames() {
-    Path mapPath = mapDescriptionYaml.getYamlFileLocation().getParent();
+    Path mapPath = readableMapDescription().getYamlFileLocation().getParent();
     Collection<Path> skinYamlFiles = FileUtils.find(mapPath, 4, "skin.yml");
 
     return skinYamlFiles.stream()
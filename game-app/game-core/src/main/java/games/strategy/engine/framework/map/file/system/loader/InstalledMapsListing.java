@@ -49,16 +49,25 @@ public class InstalledMapsListing {
   }
 
   private static Collection<InstalledMap> readMapYamlsAndGenerateMissingMapYamls(Path folder) {
-    // loop over all maps, find and parse a 'map.yml' file, if not found attempt to generate it
+    // loop over all maps, find and parse a 'map.yml' file, if not found attempt to generate it.
+    // Maps that are not extracted are read from their zip, these need to have a 'map.yml' file.
     return FileUtils.listFiles(folder).stream()
-        .filter(Files::isDirectory)
-        .map(MapDescriptionYaml::fromMap)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .map(InstalledMap::new)
+        .map(InstalledMapsListing::readMap)
+        .flatMap(Optional::stream)
         .collect(Collectors.toList());
   }
 
+  private static Optional<InstalledMap> readMap(final Path path) {
+    if (ZippedMaps.isMapZip(path)) {
+      // the zip is only kept open once the map is used
+      return ZippedMaps.readMapDescription(path)
+          .map(yaml -> InstalledMap.builder().mapDescriptionYaml(yaml).mapZip(path).build());
+    }
+    return Files.isDirectory(path)
+        ? MapDescriptionYaml.fromMap(path).map(InstalledMap::new)
+        : Optional.empty();
+  }
+
   public void deleteInstalledMapByName(final String mapName) {
     installedMaps.removeIf(installedMap -> installedMap.getMapName().equals(mapName));
   }
@@ -124,15 +133,25 @@ public class InstalledMapsListing {
 
   /**
    * Finds the map folder storing a given map by name. The map folder is assumed to be the parent
-   * directory of the 'map.yml' file describing that map.
+   * directory of the 'map.yml' file describing that map. For a map that is not extracted, this is
+   * its zip.
    */
   public Optional<Path> findMapFolderByName(final String mapName) {
+    final String nameToFind = normalizeName(mapName);
+    final Optional<Path> mapZip =
+        installedMaps.stream()
+            .filter(d -> nameToFind.equals(normalizeName(d.getMapName())))
+            .findAny()
+            .flatMap(InstalledMap::getMapZip);
+    if (mapZip.isPresent()) {
+      return mapZip;
+    }
     return findContentRootForMapName(mapName)
         .map(
             p -> {
               Path parent = p.getParent();
               // Some maps have their content root be the map folder itself.
-              if (parent.equals(ClientFileSystemHelper.getUserMapsFolder())) {
+              if (parent == null || parent.equals(ClientFileSystemHelper.getUserMapsFolder())) {
                 return p;
               }
               return parent;
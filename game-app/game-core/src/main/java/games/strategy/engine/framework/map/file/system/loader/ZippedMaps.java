@@ -0,0 +1,165 @@
+package games.strategy.engine.framework.map.file.system.loader;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.io.FileUtils;
+import org.triplea.map.description.file.MapDescriptionYaml;
+
+/**
+ * Reads downloaded maps straight from their zip instead of extracting them. A zip is opened as a
+ * zip file system once a map is used and stays open while resource loaders read from it: its
+ * central directory is read into an index when it is opened, after that looking up an entry does
+ * not touch the disk and entries can be read concurrently. Listing the installed maps only reads
+ * their 'map.yml' file, each zip is closed again right after.
+ *
+ * <p>Paths within an opened zip work with {@link Files} like paths of an extracted map. A map zip
+ * usually holds a single folder with the map, that folder is used as the root of the map.
+ */
+@Slf4j
+@UtilityClass
+public class ZippedMaps {
+  private static final String ZIP_EXTENSION = ".zip";
+
+  private final Map<Path, FileSystem> openZips = new ConcurrentHashMap<>();
+
+  @GuardedBy("openZips")
+  private final Map<Path, Integer> retainCounts = new HashMap<>();
+
+  public static boolean isMapZip(final Path file) {
+    return Files.isRegularFile(file)
+        && file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(ZIP_EXTENSION);
+  }
+
+  /** Returns whether {@code path} is a path within an opened zip. */
+  public static boolean isZipped(final Path path) {
+    return path.getFileSystem() != FileSystems.getDefault();
+  }
+
+  /**
+   * Returns the root of the map in {@code mapZip}, opening the zip if it is not open yet. The zip
+   * stays open until it is closed or no longer retained, see {@link #retain}. Returns empty if the
+   * zip cannot be read.
+   */
+  public static Optional<Path> openMapRoot(final Path mapZip) {
+    final FileSystem zip;
+    try {
+      zip = open(mapZip.toAbsolutePath().normalize());
+    } catch (final IOException | RuntimeException e) {
+      log.warn("Failed to read map zip: {}", mapZip.toAbsolutePath(), e);
+      return Optional.empty();
+    }
+    return Optional.of(findMapRoot(zip));
+  }
+
+  private static Path findMapRoot(final FileSystem zip) {
+    final Path root = zip.getPath("/");
+    final Collection<Path> children = FileUtils.listFiles(root);
+    return children.size() == 1 && Files.isDirectory(children.iterator().next())
+        ? children.iterator().next()
+        : root;
+  }
+
+  /**
+   * Reads the 'map.yml' file of the map in {@code mapZip} without keeping the zip open. The paths
+   * of the returned description cannot be read, use {@link #openMapRoot} for that. Returns empty if
+   * the zip cannot be read or has no valid 'map.yml' file.
+   */
+  public static Optional<MapDescriptionYaml> readMapDescription(final Path mapZip) {
+    // opened by path, a file system opened that way is not shared with openMapRoot
+    try (FileSystem zip = FileSystems.newFileSystem(mapZip)) {
+      return MapDescriptionYaml.fromMap(findMapRoot(zip));
+    } catch (final IOException | RuntimeException e) {
+      log.warn("Failed to read map zip: {}", mapZip.toAbsolutePath(), e);
+      return Optional.empty();
+    }
+  }
+
+  private static FileSystem open(final Path mapZip) throws IOException {
+    final FileSystem open = openZips.get(mapZip);
+    if (open != null && open.isOpen()) {
+      return open;
+    }
+    synchronized (openZips) {
+      final FileSystem reopened = openZips.get(mapZip);
+      if (reopened != null && reopened.isOpen()) {
+        return reopened;
+      }
+      // opened by URI, so that URLs of paths within the zip can be turned back into paths
+      final FileSystem zip = FileSystems.newFileSystem(toJarUri(mapZip), Map.of());
+      openZips.put(mapZip, zip);
+      return zip;
+    }
+  }
+
+  private static URI toJarUri(final Path mapZip) {
+    return URI.create("jar:" + mapZip.toUri());
+  }
+
+  /** Returns the zip file {@code path} is in, empty if it is not within an opened zip. */
+  public static Optional<Path> findZipFile(final Path path) {
+    if (!isZipped(path)) {
+      return Optional.empty();
+    }
+    return openZips.entrySet().stream()
+        .filter(zip -> zip.getValue() == path.getFileSystem())
+        .map(Map.Entry::getKey)
+        .findAny();
+  }
+
+  /**
+   * Keeps the zip {@code path} is in open until it is released as often as it was retained, see
+   * {@link #release}. Does nothing if {@code path} is not within an opened zip.
+   */
+  public static void retain(final Path path) {
+    synchronized (openZips) {
+      findZipFile(path).ifPresent(mapZip -> retainCounts.merge(mapZip, 1, Integer::sum));
+    }
+  }
+
+  /** Releases the zip {@code path} is in, the zip is closed once it is no longer retained. */
+  public static void release(final Path path) {
+    synchronized (openZips) {
+      final Path mapZip = findZipFile(path).orElse(null);
+      if (mapZip == null) {
+        return;
+      }
+      final Integer count = retainCounts.computeIfPresent(mapZip, (zip, retained) -> retained - 1);
+      if (count != null && count == 0) {
+        close(mapZip);
+      }
+    }
+  }
+
+  /**
+   * Closes {@code mapZip} if it is open, e.g. before it is replaced or deleted. Paths within the
+   * zip cannot be read afterwards.
+   */
+  public static void close(final Path mapZip) {
+    final FileSystem zip;
+    synchronized (openZips) {
+      final Path key = mapZip.toAbsolutePath().normalize();
+      retainCounts.remove(key);
+      zip = openZips.remove(key);
+    }
+    if (zip != null) {
+      try {
+        zip.close();
+      } catch (final IOException e) {
+        log.warn("Failed to close map zip: {}", mapZip.toAbsolutePath(), e);
+      }
+    }
+  }
+}
@@ -159,6 +159,32 @@ public class ZippedMapsExtractor {
     }
   }
 
+  /**
+   * Moves a downloaded map zip into the downloaded maps folder without extracting it, the map is
+   * then read from the zip, see {@link ZippedMaps}. An extracted copy of the map is deleted. Maps
+   * without a 'map.yml' file are not installed this way, since one cannot be generated in the zip.
+   *
+   * @param mapZip The downloaded map zip, it is left in place if it is not installed.
+   * @return Returns the installed zip (if successful, otherwise empty)
+   */
+  public static Optional<Path> installMapZip(final Path mapZip) {
+    if (ZippedMaps.readMapDescription(mapZip).isEmpty()) {
+      return Optional.empty();
+    }
+    final Path mapsFolder = ClientFileSystemHelper.getUserMapsFolder();
+    final String mapFolderName = computeExtractionFolderName(mapZip.getFileName().toString());
+    final Path installedZip = mapsFolder.resolve(mapFolderName + ZIP_EXTENSION);
+    try {
+      FileUtils.deleteDirectory(mapsFolder.resolve(mapFolderName));
+      ZippedMaps.close(installedZip);
+      Files.move(mapZip, installedZip, StandardCopyOption.REPLACE_EXISTING);
+      return Optional.of(installedZip);
+    } catch (final IOException e) {
+      log.warn("Error installing map zip: {}, {}", mapZip.toAbsolutePath(), e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
   /**
    * Removes the '.zip' or '-master.zip' suffix from map names if present. <br>
    * EG: 'map-name-master.zip' -> 'map-name'
@@ -47,6 +47,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -95,16 +96,42 @@ public class ClientModel implements IMessengerErrorListener {
       new IObserverWaitingToJoin() {
         @Override
         public void joinGame(final byte[] gameData, final Map<String, INode> players) {
+          startGame(gameData, players, true);
+          if (game == null) {
+            throw new IllegalStateException("Failed to load the game");
+          }
+        }
+
+        @Override
+        public void catchUp(final List<byte[]> gameModifications) {
           messengers.unregisterRemote(
               ServerModel.getObserverWaitingToStartName(messenger.getLocalNode()));
-          startGame(gameData, players, true);
+          // game will be null if we loose the connection
+          if (game != null) {
+            game.catchUp(gameModifications);
+          }
         }
 
         @Override
         public void cannotJoinGame(final String reason) {
-          SwingUtilities.invokeLater(
+          messengers.unregisterRemote(
+              ServerModel.getObserverWaitingToStartName(messenger.getLocalNode()));
+          final ClientGame joinedGame = game;
+          if (joinedGame == null) {
+            SwingUtilities.invokeLater(
+                () -> {
+                  showSelectType.run();
+                  EventThreadJOptionPane.showMessageDialog(ui, "Could not join game: " + reason);
+                });
+            return;
+          }
+          // the game was started, but it misses the modifications made while it was loaded
+          ThreadRunner.runInNewThread(
               () -> {
-                showSelectType.run();
+                joinedGame.shutDown();
+                messenger.shutDown();
+                gameLoadingWindow.doneWait();
+                clientLeftGame.run();
                 EventThreadJOptionPane.showMessageDialog(ui, "Could not join game: " + reason);
               });
         }
@@ -346,7 +373,8 @@ Check:
             .filter(e -> e.getValue().equals(messenger.getLocalNode().getName()))
             .collect(Collectors.toMap(Map.Entry::getKey, e -> clientType));
     final Set<Player> playerSet = data.getGameLoader().newPlayers(playerMapping);
-    game = new ClientGame(data, playerSet, players, messengers, clientNetworkBridge);
+    // an observer joining a running game catches up with the modifications made since it was saved
+    game = new ClientGame(data, playerSet, players, messengers, clientNetworkBridge, gameRunning);
     ThreadRunner.runInNewThread(
         () -> {
           SwingUtilities.invokeLater(() -> JOptionPane.getFrameForComponent(ui).setVisible(false));
@@ -3,6 +3,7 @@ package games.strategy.engine.framework.startup.mc;
 import games.strategy.engine.message.IRemote;
 import games.strategy.engine.message.RemoteActionCode;
 import games.strategy.net.INode;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -20,4 +21,13 @@ public interface IObserverWaitingToJoin extends IRemote {
   /** You could not join the game, usually this is due to an error. */
   @RemoteActionCode(0)
   void cannotJoinGame(String reason);
+
+  /**
+   * Applies the game modifications made after the game data passed to {@link #joinGame} was
+   * written, up to {@link games.strategy.engine.framework.IGameModifiedChannel#catchUpEnded}. Each
+   * of them is a serialized {@link games.strategy.engine.message.RemoteMethodCall} on the game
+   * modification channel.
+   */
+  @RemoteActionCode(2)
+  void catchUp(List<byte[]> gameModifications);
 }
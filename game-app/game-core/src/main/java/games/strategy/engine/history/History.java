@@ -10,10 +10,8 @@ import games.strategy.ui.Util;
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
-import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
 
 /**
@@ -28,17 +26,24 @@ import javax.swing.tree.DefaultTreeModel;
  *   <dt>Event
  *   <dd>an event that happened in the game, e.gj Russia buys 8 inf
  * </dl>
+ *
+ * <p>Next to the tree, the rounds, steps and events are kept in a {@link HistoryIndex}, so that
+ * looking up the step or round of a change and truncating the history take logarithmic time in
+ * the number of events rather than a walk over the tree.
  */
 public class History extends DefaultTreeModel {
   @Serial private static final long serialVersionUID = -1769876896869L;
 
   private final HistoryWriter writer = new HistoryWriter(this);
   private final List<Change> changes = new ArrayList<>();
+  private final HistoryIndex index = new HistoryIndex();
   private final GameData gameData;
   private HistoryPanel panel;
   // Index at which point we are in history. Only valid if seekingEnabled is true.
   private int nextChangeIndex;
   private boolean seekingEnabled = false;
+  // Set while the history is rebuilt after deserialization, no other thread can see it then.
+  private boolean rebuilding = false;
 
   public History(final GameData data) {
     super(new RootHistoryNode("Game History"));
@@ -55,6 +60,37 @@ public class History extends DefaultTreeModel {
     return writer;
   }
 
+  /**
+   * Marks the object stream a save game loader reads a history with. The history is rebuilt without
+   * locking the game data, so the loader can read it while another thread holds the lock. This is
+   * only safe since no other thread can see the history until the loader hands it out.
+   */
+  public interface LoaderInput {}
+
+  /**
+   * Writes the nodes and changes of a serialized history into this new history, without locking
+   * the game data. Only used for a history read by a {@link LoaderInput}.
+   */
+  void rebuild(final List<SerializationWriter> writers) {
+    rebuilding = true;
+    try {
+      for (final SerializationWriter element : writers) {
+        element.write(writer);
+      }
+    } finally {
+      rebuilding = false;
+    }
+  }
+
+  boolean isRebuilding() {
+    return rebuilding;
+  }
+
+  /** Locks the game data while the tree is modified, unless the history is being rebuilt. */
+  GameData.Unlocker acquireWriteLock() {
+    return rebuilding ? () -> {} : gameData.acquireWriteLock();
+  }
+
   public HistoryNode enableSeeking(final HistoryPanel panel) {
     Preconditions.checkState(!seekingEnabled);
     this.panel = panel;
@@ -144,23 +180,8 @@ public class History extends DefaultTreeModel {
       if (changes.size() > nextChangeIndex) {
         changes.subList(nextChangeIndex, changes.size()).clear();
       }
-      final Enumeration<?> enumeration =
-          ((DefaultMutableTreeNode) this.getRoot()).preorderEnumeration();
-      enumeration.nextElement();
-      boolean startRemoving = false;
-      final List<HistoryNode> nodesToRemove = new ArrayList<>();
-      while (enumeration.hasMoreElements()) {
-        final HistoryNode node = (HistoryNode) enumeration.nextElement();
-        if (node instanceof IndexedHistoryNode indexedHistoryNode) {
-          if (indexedHistoryNode.getChangeStartIndex() >= nextChangeIndex) {
-            startRemoving = true;
-          }
-          if (startRemoving) {
-            nodesToRemove.add(node);
-          }
-        }
-      }
-      for (HistoryNode node : nodesToRemove) {
+      // the nodes starting at or after the next change are the last nodes in tree order
+      for (final HistoryNode node : index.truncate(nextChangeIndex)) {
         removeNodeFromParent(node);
       }
     }
@@ -171,23 +192,83 @@ public class History extends DefaultTreeModel {
    * in history, unlike data.getSequence().getStep().getPlayerId().
    */
   public Optional<GamePlayer> getCurrentPlayer() {
-    Optional<GamePlayer> optionalCurrentPlayer = Optional.empty();
-    final Enumeration<?> enumeration = ((DefaultMutableTreeNode) getRoot()).preorderEnumeration();
-    while (enumeration.hasMoreElements()) {
-      final HistoryNode node = (HistoryNode) enumeration.nextElement();
-      if (node instanceof Step step) {
-        optionalCurrentPlayer = step.getPlayerId();
+    // the step that makes the next change, steps that make no change are passed over
+    return index
+        .getStepOf(seekingEnabled ? nextChangeIndex : changes.size())
+        .flatMap(Step::getPlayerId);
+  }
+
+  /** Returns the rounds of the game so far, in order. */
+  public List<Round> getRounds() {
+    return index.getRounds();
+  }
+
+  /** Returns the node of round {@code roundNo}, empty if the game has not reached it. */
+  public Optional<Round> getRound(final int roundNo) {
+    return index.getRound(roundNo);
+  }
+
+  /**
+   * Returns the first event of a step after {@code node} in tree order, i.e. the next event shown
+   * when stepping through the history.
+   */
+  public Optional<Event> getNextEvent(final HistoryNode node) {
+    // the nodes after an event child in tree order are those after its event
+    for (int i = positionOf(node) + 1; i < index.size(); i++) {
+      if (isEventOfStep(index.get(i))) {
+        return Optional.of((Event) index.get(i));
       }
-      if (node.isLeaf()) {
-        // Don't do this logic on non-leaf nodes as getNextChange() will return
-        // the next change after this non-leaf, skipping all the child nodes.
-        int nodeChangeIndex = getNextChange(node);
-        if (seekingEnabled && nodeChangeIndex > nextChangeIndex) {
-          break;
-        }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the last event of a step before {@code node} in tree order, counting the events within
+   * {@code node} as before it, i.e. the previous event shown when stepping through the history.
+   */
+  public Optional<Event> getPreviousEvent(final HistoryNode node) {
+    final int position = positionOf(node);
+    final int lastWithin;
+    if (node instanceof IndexedHistoryNode) {
+      final HistoryNode lastLeaf = (HistoryNode) node.getLastLeaf();
+      lastWithin = lastLeaf == node ? position : positionOf(lastLeaf);
+    } else if (node == getRoot()) {
+      lastWithin = index.size() - 1;
+    } else {
+      // the event of an event child comes after it
+      lastWithin = position - 1;
+    }
+    for (int i = lastWithin; i >= 0; i--) {
+      if (i != position && isEventOfStep(index.get(i))) {
+        return Optional.of((Event) index.get(i));
       }
     }
-    return optionalCurrentPlayer;
+    return Optional.empty();
+  }
+
+  private static boolean isEventOfStep(final IndexedHistoryNode node) {
+    return node instanceof Event && node.getParent() instanceof Step;
+  }
+
+  /**
+   * Returns the position of {@code node} in the index, that of its event for event children and -1
+   * for the root.
+   */
+  private int positionOf(final HistoryNode node) {
+    if (node instanceof IndexedHistoryNode indexedHistoryNode) {
+      return index.positionOf(indexedHistoryNode);
+    }
+    return node.getParent() instanceof Event event ? index.positionOf(event) : -1;
+  }
+
+  void nodeAdded(final HistoryNode node) {
+    if (node instanceof IndexedHistoryNode indexedHistoryNode) {
+      index.add(indexedHistoryNode);
+    }
+  }
+
+  void lastNodeRemoved(final IndexedHistoryNode node) {
+    index.removeLast(node);
   }
 
   public Optional<HistoryNode> getNearestLeafAtOrBefore(HistoryNode node) {
@@ -0,0 +1,167 @@
+package games.strategy.engine.history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+/**
+ * The rounds, steps and events of a {@link History} in tree order, next to the index of the first
+ * change of each. Nodes are only added at the end of the history, when they are added their first
+ * change is the next change to be added, so these indexes never decrease in tree order and nodes
+ * are found by binary search instead of walking the tree.
+ *
+ * <p>Not thread safe, the history is only modified while the game data is locked.
+ */
+final class HistoryIndex {
+  private final Boundaries<IndexedHistoryNode> nodes = new Boundaries<>();
+  private final Boundaries<Step> steps = new Boundaries<>();
+  private final Boundaries<Round> rounds = new Boundaries<>();
+
+  void add(final IndexedHistoryNode node) {
+    nodes.add(node);
+    if (node instanceof Step step) {
+      steps.add(step);
+    } else if (node instanceof Round round) {
+      rounds.add(round);
+    }
+  }
+
+  /** Removes {@code node} if it is the last node, e.g. a step in which nothing happened. */
+  void removeLast(final IndexedHistoryNode node) {
+    if (nodes.isLast(node)) {
+      nodes.truncate(nodes.size() - 1);
+      if (steps.isLast(node)) {
+        steps.truncate(steps.size() - 1);
+      } else if (rounds.isLast(node)) {
+        rounds.truncate(rounds.size() - 1);
+      }
+    }
+  }
+
+  /**
+   * Removes the nodes starting at or after change {@code changeIndex}, these are the last nodes.
+   *
+   * @return The removed nodes in tree order.
+   */
+  List<IndexedHistoryNode> truncate(final int changeIndex) {
+    final int first = nodes.firstStartingAtOrAfter(changeIndex);
+    final List<IndexedHistoryNode> removed = new ArrayList<>(nodes.subList(first));
+    nodes.truncate(first);
+    steps.truncate(steps.firstStartingAtOrAfter(changeIndex));
+    rounds.truncate(rounds.firstStartingAtOrAfter(changeIndex));
+    return removed;
+  }
+
+  /** Returns the step in which change {@code changeIndex} was made, or the last step before it. */
+  Optional<Step> getStepOf(final int changeIndex) {
+    return steps.lastStartingAtOrBefore(changeIndex);
+  }
+
+  List<Round> getRounds() {
+    return rounds.subList(0);
+  }
+
+  /** Returns the round numbered {@code roundNo}, rounds are numbered in increasing order. */
+  Optional<Round> getRound(final int roundNo) {
+    final int position = rounds.binarySearch(roundNo, Round::getRoundNo);
+    return position < 0 ? Optional.empty() : Optional.of(rounds.get(position));
+  }
+
+  int size() {
+    return nodes.size();
+  }
+
+  IndexedHistoryNode get(final int position) {
+    return nodes.get(position);
+  }
+
+  /** Returns the position of {@code node} in tree order, -1 if it is not in the index. */
+  int positionOf(final IndexedHistoryNode node) {
+    for (int i = nodes.firstStartingAtOrAfter(node.getChangeStartIndex());
+        i < nodes.size() && nodes.startOf(i) == node.getChangeStartIndex();
+        i++) {
+      if (nodes.get(i) == node) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** Nodes in tree order and the index of their first change, in a sorted array. */
+  private static final class Boundaries<T extends IndexedHistoryNode> {
+    private final List<T> nodes = new ArrayList<>();
+    private int[] starts = new int[16];
+
+    void add(final T node) {
+      if (nodes.size() == starts.length) {
+        starts = Arrays.copyOf(starts, starts.length * 2);
+      }
+      starts[nodes.size()] = node.getChangeStartIndex();
+      nodes.add(node);
+    }
+
+    int size() {
+      return nodes.size();
+    }
+
+    T get(final int position) {
+      return nodes.get(position);
+    }
+
+    int startOf(final int position) {
+      return starts[position];
+    }
+
+    boolean isLast(final IndexedHistoryNode node) {
+      return !nodes.isEmpty() && nodes.get(nodes.size() - 1) == node;
+    }
+
+    List<T> subList(final int from) {
+      return Collections.unmodifiableList(nodes.subList(from, nodes.size()));
+    }
+
+    void truncate(final int size) {
+      nodes.subList(size, nodes.size()).clear();
+    }
+
+    int firstStartingAtOrAfter(final int changeIndex) {
+      int low = 0;
+      int high = nodes.size();
+      while (low < high) {
+        final int middle = (low + high) >>> 1;
+        if (starts[middle] < changeIndex) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+
+    Optional<T> lastStartingAtOrBefore(final int changeIndex) {
+      final int position = firstStartingAtOrAfter(changeIndex + 1) - 1;
+      return position < 0 ? Optional.empty() : Optional.of(nodes.get(position));
+    }
+
+    /** Returns the position of the node whose key is {@code key}, negative if there is none. */
+    int binarySearch(final int key, final ToIntFunction<T> keyOf) {
+      int low = 0;
+      int high = nodes.size() - 1;
+      while (low <= high) {
+        final int middle = (low + high) >>> 1;
+        final int middleKey = keyOf.applyAsInt(nodes.get(middle));
+        if (middleKey < key) {
+          low = middle + 1;
+        } else if (middleKey > key) {
+          high = middle - 1;
+        } else {
+          return middle;
+        }
+      }
+      return -1;
+    }
+  }
+}
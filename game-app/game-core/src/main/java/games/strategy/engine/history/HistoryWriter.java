@@ -21,6 +21,7 @@ public class HistoryWriter implements Serializable {
 
   private void assertCorrectThread() {
     if (history.getGameData().areChangesOnlyInSwingEventThread()
+        && !history.isRebuilding()
         && !SwingUtilities.isEventDispatchThread()) {
       throw new IllegalStateException("Wrong thread");
     }
@@ -79,7 +80,7 @@ public class HistoryWriter implements Serializable {
   private void closeCurrent() {
     assertCorrectThread();
     final HistoryNode old = current;
-    try (GameData.Unlocker ignored = history.getGameData().acquireWriteLock()) {
+    try (GameData.Unlocker ignored = history.acquireWriteLock()) {
       // remove steps where nothing happened
       if (isCurrentStep()) {
         final HistoryNode parent = (HistoryNode) current.getParent();
@@ -87,6 +88,7 @@ public class HistoryWriter implements Serializable {
           final int index = parent.getChildCount() - 1;
           parent.remove(current);
           history.nodesWereRemoved(parent, new int[] {index}, new Object[] {current});
+          history.lastNodeRemoved((Step) current);
         }
         ((Step) current).setChangeEndIndex(history.getChanges().size());
         current = parent;
@@ -103,8 +105,9 @@ public class HistoryWriter implements Serializable {
   }
 
   private void addToCurrent(final HistoryNode newNode) {
-    try (GameData.Unlocker ignored = history.getGameData().acquireWriteLock()) {
+    try (GameData.Unlocker ignored = history.acquireWriteLock()) {
       history.insertNodeInto(newNode, current, current.getChildCount());
+      history.nodeAdded(newNode);
     }
     history.goToEnd();
   }
@@ -170,7 +173,7 @@ public class HistoryWriter implements Serializable {
               + current);
       startEvent("Filler event for details: " + details);
     }
-    try (GameData.Unlocker ignored = history.getGameData().acquireWriteLock()) {
+    try (GameData.Unlocker ignored = history.acquireWriteLock()) {
       ((Event) current).setRenderingData(details);
     }
     history.goToEnd();
@@ -2,6 +2,8 @@ package games.strategy.engine.history;
 
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Enumeration;
@@ -17,6 +19,8 @@ class SerializedHistory implements Serializable {
 
   private final List<SerializationWriter> writers = new ArrayList<>();
   private final GameData gameData;
+  // set when read by a save game loader, no other thread can see the history it rebuilds
+  private transient boolean readByLoader;
 
   SerializedHistory(final History history, final GameData data, final List<Change> changes) {
     gameData = data;
@@ -43,11 +47,20 @@ class SerializedHistory implements Serializable {
     }
   }
 
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    readByLoader = in instanceof History.LoaderInput;
+  }
+
   public Object readResolve() {
     final History history = new History(gameData);
-    final HistoryWriter historyWriter = history.getHistoryWriter();
-    for (final SerializationWriter element : writers) {
-      element.write(historyWriter);
+    if (readByLoader) {
+      history.rebuild(writers);
+    } else {
+      final HistoryWriter historyWriter = history.getHistoryWriter();
+      for (final SerializationWriter element : writers) {
+        element.write(historyWriter);
+      }
     }
     return history;
   }
@@ -41,6 +41,9 @@ public class DamageUnitsHistoryChange implements HistoryChange {
     this.change.add(damageUnitsChange);
     bridge.addChange(this.change);
 
+    if (bridge.isSimulation()) {
+      return;
+    }
     bridge
         .getHistoryWriter()
         .addChildToEvent(
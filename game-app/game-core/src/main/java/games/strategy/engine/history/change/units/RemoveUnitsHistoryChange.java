@@ -119,6 +119,9 @@ public class RemoveUnitsHistoryChange implements HistoryChange {
     this.change.add(change);
     bridge.addChange(this.change);
 
+    if (bridge.isSimulation()) {
+      return;
+    }
     final String text =
         new StringSubstitutor(
                 Map.of(
@@ -86,6 +86,9 @@ public class TransformDamagedUnitsHistoryChange implements HistoryChange {
 
     bridge.addChange(this.change);
 
+    if (bridge.isSimulation()) {
+      return;
+    }
     // to reduce the amount of history text, group the transforming units by both the original and
     // new unit type
     final Map<UnitType, Map<UnitType, GroupedUnits>> groupedByOldAndNewUnitTypes = new HashMap<>();
@@ -31,8 +31,10 @@ public final class PlainRandomSource implements IRandomSource {
     checkArgument(count > 0, "count must be > 0 (%s)", annotation);
 
     final int[] numbers = new int[count];
-    for (int i = 0; i < count; i++) {
-      numbers[i] = getRandom(max, annotation);
+    synchronized (lock) {
+      for (int i = 0; i < count; i++) {
+        numbers[i] = random.nextInt(max);
+      }
     }
     return numbers;
   }
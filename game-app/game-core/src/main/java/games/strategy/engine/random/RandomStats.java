@@ -16,9 +16,20 @@ import org.triplea.java.collections.IntegerMap;
 public class RandomStats implements IRandomStats {
   private final IRemoteMessenger remoteMessenger;
   private final Map<GamePlayer, IntegerMap<Integer>> randomStats = new HashMap<>();
+  private final Runnable importEarlierRolls;
 
   public RandomStats(final IRemoteMessenger remoteMessenger) {
+    this(remoteMessenger, () -> {});
+  }
+
+  /**
+   * Creates the stats of a game that may have rolled dice before it was started, e.g. a saved game.
+   * {@code importEarlierRolls} is run before the stats are read, the first time it runs it adds
+   * these rolls with {@link #addRandom(int[], GamePlayer, DiceType)}.
+   */
+  public RandomStats(final IRemoteMessenger remoteMessenger, final Runnable importEarlierRolls) {
     this.remoteMessenger = remoteMessenger;
+    this.importEarlierRolls = importEarlierRolls;
     remoteMessenger.registerRemote(this, RANDOM_STATS_REMOTE_NAME);
   }
 
@@ -50,7 +61,11 @@ public class RandomStats implements IRandomStats {
   }
 
   @Override
-  public synchronized RandomStatsDetails getRandomStats(final int diceSides) {
-    return new RandomStatsDetails(randomStats, diceSides);
+  public RandomStatsDetails getRandomStats(final int diceSides) {
+    // not synchronized meanwhile, the earlier rolls may have to be read from the game history
+    importEarlierRolls.run();
+    synchronized (this) {
+      return new RandomStatsDetails(randomStats, diceSides);
+    }
   }
 }
@@ -0,0 +1,57 @@
+package games.strategy.engine.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.SplittableRandom;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A source of random numbers for simulations, e.g. the battle calculator. Unlike {@link
+ * PlainRandomSource} it does not lock, so each simulating thread must use its own instance. Further
+ * independent instances are created with {@link #split()}.
+ *
+ * <p>A source created with a seed, and all sources split from it, produce the same numbers in the
+ * same order every time, which makes simulation results reproducible.
+ */
+@NotThreadSafe
+public final class SimulationRandomSource implements IRandomSource {
+  private final SplittableRandom random;
+
+  public SimulationRandomSource() {
+    this(new SplittableRandom());
+  }
+
+  public SimulationRandomSource(final long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  private SimulationRandomSource(final SplittableRandom random) {
+    this.random = random;
+  }
+
+  /**
+   * Returns a new source that shares no state with this one, so it can be handed to another thread.
+   */
+  public SimulationRandomSource split() {
+    return new SimulationRandomSource(random.split());
+  }
+
+  @Override
+  public int[] getRandom(final int max, final int count, final String annotation) {
+    checkArgument(max > 0, "max must be > 0 (%s)", annotation);
+    checkArgument(count > 0, "count must be > 0 (%s)", annotation);
+
+    final int[] numbers = new int[count];
+    for (int i = 0; i < count; i++) {
+      numbers[i] = random.nextInt(max);
+    }
+    return numbers;
+  }
+
+  @Override
+  public int getRandom(final int max, final String annotation) {
+    checkArgument(max > 0, "max must be > 0 (%s)", annotation);
+
+    return random.nextInt(max);
+  }
+}
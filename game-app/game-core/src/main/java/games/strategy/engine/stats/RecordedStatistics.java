@@ -0,0 +1,31 @@
+package games.strategy.engine.stats;
+
+import games.strategy.engine.data.GameData;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The {@link RoundStatistics} of every completed round, recorded while the game is played and
+ * stored in the save game, so that the statistics view does not need to replay the game history.
+ */
+public class RecordedStatistics implements Serializable {
+  private static final long serialVersionUID = -3860624539174815707L;
+
+  private final Map<Integer, RoundStatistics> rounds = new HashMap<>();
+
+  /** Records the statistics of {@code round}, which must just have ended. */
+  public void recordRoundEnd(final int round, final GameData data) {
+    final RoundStatistics roundStatistics = RoundStatistics.capture(data);
+    synchronized (rounds) {
+      rounds.put(round, roundStatistics);
+    }
+  }
+
+  Optional<RoundStatistics> getRound(final int round) {
+    synchronized (rounds) {
+      return Optional.ofNullable(rounds.get(round));
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package games.strategy.engine.stats;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.util.TuvCostsCalculator;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.triplea.java.collections.IntegerMap;
+
+/**
+ * The values of the over time statistics of every player at one point of the game, usually the end
+ * of a round. Unit statistics are kept per unit type so that the unit types a map does not draw
+ * can still be filtered out when the statistics are displayed.
+ */
+public class RoundStatistics implements Serializable {
+  private static final long serialVersionUID = 2475930375166487265L;
+
+  // keyed by player name, then by unit type name
+  private final Map<String, IntegerMap<String>> unitCounts = new HashMap<>();
+  private final Map<String, IntegerMap<String>> unitValues = new HashMap<>();
+  // keyed by player name, then by resource name
+  private final Map<String, IntegerMap<String>> resources = new HashMap<>();
+  // keyed by player name
+  private final Map<String, Double> production = new HashMap<>();
+  private final Map<String, Double> victoryCities = new HashMap<>();
+
+  /** Captures the statistics of all players from the current state of {@code data}. */
+  public static RoundStatistics capture(final GameData data) {
+    final RoundStatistics statistics = new RoundStatistics();
+    try (GameData.Unlocker ignored = data.acquireReadLock()) {
+      for (final GamePlayer player : data.getPlayerList().getPlayers()) {
+        statistics.capturePlayer(player, data);
+      }
+    }
+    return statistics;
+  }
+
+  private void capturePlayer(final GamePlayer player, final GameData data) {
+    final IntegerMap<UnitType> costs = new TuvCostsCalculator().getCostsForTuv(player);
+    final Predicate<Unit> unitIsOwnedBy = Matches.unitIsOwnedBy(player);
+    final IntegerMap<String> playerUnitCounts = new IntegerMap<>();
+    final IntegerMap<String> playerUnitValues = new IntegerMap<>();
+    for (final Territory territory : data.getMap().getTerritories()) {
+      for (final Unit unit : territory.getUnitCollection().getMatches(unitIsOwnedBy)) {
+        playerUnitCounts.add(unit.getType().getName(), 1);
+        playerUnitValues.add(unit.getType().getName(), costs.getInt(unit.getType()));
+      }
+    }
+    final IntegerMap<String> playerResources = new IntegerMap<>();
+    for (final Resource resource : data.getResourceList().getResources()) {
+      playerResources.put(resource.getName(), player.getResources().getQuantity(resource));
+    }
+    unitCounts.put(player.getName(), playerUnitCounts);
+    unitValues.put(player.getName(), playerUnitValues);
+    resources.put(player.getName(), playerResources);
+    // neither statistic reads the map data
+    production.put(player.getName(), new ProductionStat().getValue(player, data, null));
+    victoryCities.put(player.getName(), new VictoryCityStat().getValue(player, data, null));
+  }
+
+  /** Returns the number of units the player has of the unit types matching the filter. */
+  double getUnits(final String player, final Predicate<String> unitTypeFilter) {
+    return sumMatching(unitCounts.get(player), unitTypeFilter);
+  }
+
+  /** Returns the total unit value of the player's units of unit types matching the filter. */
+  double getTuv(final String player, final Predicate<String> unitTypeFilter) {
+    return sumMatching(unitValues.get(player), unitTypeFilter);
+  }
+
+  double getResource(final String player, final Resource resource) {
+    final IntegerMap<String> playerResources = resources.get(player);
+    return playerResources == null ? 0 : playerResources.getInt(resource.getName());
+  }
+
+  double getProduction(final String player) {
+    return production.getOrDefault(player, 0.0);
+  }
+
+  double getVictoryCities(final String player) {
+    return victoryCities.getOrDefault(player, 0.0);
+  }
+
+  private static double sumMatching(
+      final IntegerMap<String> valuesByUnitType, final Predicate<String> unitTypeFilter) {
+    if (valuesByUnitType == null) {
+      return 0;
+    }
+    int sum = 0;
+    for (final Map.Entry<String, Integer> entry : valuesByUnitType.entrySet()) {
+      if (unitTypeFilter.test(entry.getKey())) {
+        sum += entry.getValue();
+      }
+    }
+    return sum;
+  }
+}
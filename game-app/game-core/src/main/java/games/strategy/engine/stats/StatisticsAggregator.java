@@ -5,46 +5,62 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Resource;
 import games.strategy.engine.framework.GameDataUtils;
-import games.strategy.engine.history.HistoryNode;
 import games.strategy.engine.history.Round;
 import games.strategy.triplea.ui.mapdata.MapData;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import javax.swing.tree.TreeNode;
+import java.util.Optional;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Analyzes a game's history and aggregates interesting statistics in a {@link Statistics} object.
+ * Aggregates interesting statistics of a game in a {@link Statistics} object.
+ *
+ * <p>Games record the statistics of each round while they are played (see {@link
+ * RecordedStatistics}). For games started from older save games the statistics are instead
+ * collected by replaying the game's history round by round.
  */
 @Slf4j
 public class StatisticsAggregator {
-  private static final Map<OverTimeStatisticType, IStat> defaultStatisticsMapping =
-      Map.of(
-          OverTimeStatisticType.PredefinedStatistics.TUV, new TuvStat(),
-          OverTimeStatisticType.PredefinedStatistics.PRODUCTION, new ProductionStat(),
-          OverTimeStatisticType.PredefinedStatistics.UNITS, new UnitsStat(),
-          OverTimeStatisticType.PredefinedStatistics.VC, new VictoryCityStat());
   private final Statistics underConstruction = new Statistics();
   private final GameData game;
   private final MapData mapData;
+  private final Predicate<String> unitTypeIsDrawn;
+
+  /** Reads the value of an over time statistic for one player from a round's statistics. */
+  @FunctionalInterface
+  private interface RoundValue {
+    double getValue(RoundStatistics roundStatistics, String player);
+  }
 
   public StatisticsAggregator(GameData gameData, MapData map) {
-    this.game = GameDataUtils.cloneGameDataWithHistory(gameData, true);
+    this.game = gameData;
     this.mapData = map;
+    this.unitTypeIsDrawn = mapData::shouldDrawUnit;
   }
 
-  private static Map<OverTimeStatisticType, IStat> createOverTimeStatisticsMapping(
+  private Map<OverTimeStatisticType, RoundValue> createOverTimeStatisticsMapping(
       final Collection<Resource> resources) {
-    final Map<OverTimeStatisticType, IStat> statisticsMapping =
-        new HashMap<>(defaultStatisticsMapping);
+    final Map<OverTimeStatisticType, RoundValue> statisticsMapping = new HashMap<>();
+    statisticsMapping.put(
+        OverTimeStatisticType.PredefinedStatistics.TUV,
+        (statistics, player) -> statistics.getTuv(player, unitTypeIsDrawn));
+    statisticsMapping.put(
+        OverTimeStatisticType.PredefinedStatistics.PRODUCTION, RoundStatistics::getProduction);
+    statisticsMapping.put(
+        OverTimeStatisticType.PredefinedStatistics.UNITS,
+        (statistics, player) -> statistics.getUnits(player, unitTypeIsDrawn));
+    statisticsMapping.put(
+        OverTimeStatisticType.PredefinedStatistics.VC, RoundStatistics::getVictoryCities);
     resources.forEach(
         resource ->
             statisticsMapping.put(
-                new OverTimeStatisticType.ResourceStatistic(resource), new ResourceStat(resource)));
+                new OverTimeStatisticType.ResourceStatistic(resource),
+                (statistics, player) -> statistics.getResource(player, resource)));
     return statisticsMapping;
   }
 
@@ -55,7 +71,7 @@ public class StatisticsAggregator {
   }
 
   private void collectOverTimeStatistics() {
-    final Map<OverTimeStatisticType, IStat> overTimeStatisticSources =
+    final Map<OverTimeStatisticType, RoundValue> overTimeStatisticSources =
         createOverTimeStatisticsMapping(game.getResourceList().getResources());
     {
       // initialize over time statistics
@@ -66,24 +82,71 @@ public class StatisticsAggregator {
 
     final List<GamePlayer> players = game.getPlayerList().getPlayers();
     final List<String> alliances = new ArrayList<>(game.getAllianceTracker().getAlliances());
-    for (final Round round : getRounds()) {
-      game.getHistory().gotoNode(round);
-      collectOverTimeStatisticsForRound(overTimeStatisticSources, players, alliances, round);
+    final Map<Round, RoundStatistics> statisticsByRound =
+        getRecordedRoundStatistics().orElseGet(this::replayRoundStatistics);
+    statisticsByRound.forEach(
+        (round, roundStatistics) ->
+            collectOverTimeStatisticsForRound(
+                overTimeStatisticSources, players, alliances, round, roundStatistics));
+  }
+
+  /**
+   * Returns the recorded statistics of all completed rounds plus the current state for the last
+   * round, or empty if statistics are missing for any completed round.
+   */
+  private Optional<Map<Round, RoundStatistics>> getRecordedRoundStatistics() {
+    final Optional<RecordedStatistics> recordedStatistics = game.getRecordedStatistics();
+    if (recordedStatistics.isEmpty()) {
+      return Optional.empty();
+    }
+    final List<Round> rounds;
+    try (GameData.Unlocker ignored = game.acquireReadLock()) {
+      rounds = getRounds(game);
+    }
+    final Map<Round, RoundStatistics> statisticsByRound = new LinkedHashMap<>();
+    for (int i = 0; i < rounds.size() - 1; i++) {
+      final Round round = rounds.get(i);
+      final Optional<RoundStatistics> roundStatistics =
+          recordedStatistics.get().getRound(round.getRoundNo());
+      if (roundStatistics.isEmpty()) {
+        log.info("No statistics recorded for round " + round.getRoundNo() + ", replaying history");
+        return Optional.empty();
+      }
+      statisticsByRound.put(round, roundStatistics.get());
     }
+    if (!rounds.isEmpty()) {
+      statisticsByRound.put(rounds.get(rounds.size() - 1), RoundStatistics.capture(game));
+    }
+    return Optional.of(statisticsByRound);
+  }
+
+  /** Captures the statistics at the end of every round by replaying a copy of the game. */
+  private Map<Round, RoundStatistics> replayRoundStatistics() {
+    final GameData clone = GameDataUtils.cloneGameDataWithHistory(game, true);
+    final Map<Round, RoundStatistics> statisticsByRound = new LinkedHashMap<>();
+    for (final Round round : getRounds(clone)) {
+      clone.getHistory().gotoNode(round);
+      statisticsByRound.put(round, RoundStatistics.capture(clone));
+    }
+    return statisticsByRound;
   }
 
   private void collectOverTimeStatisticsForRound(
-      final Map<OverTimeStatisticType, IStat> overTimeStatisticSources,
+      final Map<OverTimeStatisticType, RoundValue> overTimeStatisticSources,
       final List<GamePlayer> players,
       final List<String> alliances,
-      final Round round) {
+      final Round round,
+      final RoundStatistics roundStatistics) {
     for (final GamePlayer player : players) {
       overTimeStatisticSources.forEach(
           (type, source) ->
               underConstruction
                   .getOverTimeStatistics()
                   .get(type)
-                  .put(player.getName(), round, source.getValue(player, game, mapData)));
+                  .put(
+                      player.getName(),
+                      round,
+                      source.getValue(roundStatistics, player.getName())));
     }
     for (final String alliance : alliances) {
       overTimeStatisticSources.forEach(
@@ -91,20 +154,17 @@ public class StatisticsAggregator {
               underConstruction
                   .getOverTimeStatistics()
                   .get(type)
-                  .put(alliance, round, source.getValue(alliance, game, mapData)));
+                  .put(
+                      alliance,
+                      round,
+                      game.getAllianceTracker().getPlayersInAlliance(alliance).stream()
+                          .mapToDouble(player -> source.getValue(roundStatistics, player.getName()))
+                          .sum()));
     }
   }
 
-  private List<Round> getRounds() {
-    final List<Round> rounds = new ArrayList<>();
-    final HistoryNode root = (HistoryNode) game.getHistory().getRoot();
-    final Enumeration<TreeNode> rootChildren = root.children();
-    while (rootChildren.hasMoreElements()) {
-      final TreeNode child = rootChildren.nextElement();
-      if (child instanceof Round childRound) {
-        rounds.add(childRound);
-      }
-    }
-    return rounds;
+  private static List<Round> getRounds(final GameData data) {
+    return List.copyOf(data.getHistory().getRounds());
   }
+
 }
@@ -15,4 +15,19 @@ public interface IObjectStreamFactory {
   ObjectInputStream create(InputStream stream) throws IOException;
 
   ObjectOutputStream create(OutputStream stream) throws IOException;
+
+  /**
+   * Creates an input stream that reads names with {@code names}, which has to match the table the
+   * other side writes the stream with. Factories whose streams read no names ignore the table.
+   */
+  default ObjectInputStream create(final InputStream stream, final NameTable names)
+      throws IOException {
+    return create(stream);
+  }
+
+  /** Creates an output stream that writes names with {@code names}, see {@link NameTable}. */
+  default ObjectOutputStream create(final OutputStream stream, final NameTable names)
+      throws IOException {
+    return create(stream);
+  }
 }
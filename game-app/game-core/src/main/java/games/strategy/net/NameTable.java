@@ -0,0 +1,93 @@
+package games.strategy.net;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The names written to one connection or file, numbered in the order they were first written. The
+ * first time a name is written it is written in full, afterwards only its number is. The reading
+ * side keeps its own table for the same connection or file and numbers the names the same way.
+ *
+ * <p>A table belongs to one direction of one connection; the writes and reads of a table have to
+ * happen in the order the bytes are sent.
+ */
+@NotThreadSafe
+public final class NameTable {
+  // written instead of a number before a name is written in full
+  private static final int NEW_NAME = 0;
+
+  private final Map<String, Integer> numbers = new HashMap<>();
+  private final List<String> names = new ArrayList<>();
+
+  public void writeName(final DataOutput out, final String name) throws IOException {
+    final Integer number = numbers.get(name);
+    if (number != null) {
+      writeVarInt(out, number + 1);
+    } else {
+      writeVarInt(out, NEW_NAME);
+      out.writeUTF(name);
+      add(name);
+    }
+  }
+
+  /** Reads a name, names read before are returned as the same instance. */
+  public String readName(final DataInput in) throws IOException {
+    final int code = readVarInt(in);
+    if (code == NEW_NAME) {
+      final String name = in.readUTF();
+      add(name);
+      return name;
+    }
+    if (code > names.size()) {
+      throw new IOException("Unknown name number " + (code - 1) + " of " + names.size());
+    }
+    return names.get(code - 1);
+  }
+
+  private void add(final String name) {
+    numbers.put(name, names.size());
+    names.add(name);
+  }
+
+  /** Returns the number of names in the table, see {@link #truncate}. */
+  public int size() {
+    return names.size();
+  }
+
+  /**
+   * Forgets the names added after the table had {@code size} names, e.g. because the bytes that
+   * wrote them were never sent.
+   */
+  public void truncate(final int size) {
+    while (names.size() > size) {
+      numbers.remove(names.remove(names.size() - 1));
+    }
+  }
+
+  private static void writeVarInt(final DataOutput out, final int value) throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    out.writeByte(remaining);
+  }
+
+  private static int readVarInt(final DataInput in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      final int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed name number");
+  }
+}
@@ -3,17 +3,25 @@ package games.strategy.net.nio;
 import games.strategy.net.CouldNotLogInException;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
+import games.strategy.net.NameTable;
 import games.strategy.net.nio.QuarantineConversation.Action;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.io.IoUtils;
+import org.triplea.metrics.DurationTimer;
+import org.triplea.metrics.Histogram;
+import org.triplea.metrics.Metrics;
 
 /** A thread to Decode messages from a reader. */
 @Slf4j
 class Decoder {
+  private static final Histogram RECEIVED_BYTES = Metrics.histogram("net.received.bytes");
+  private static final DurationTimer RECEIVE_TIMER = Metrics.timer("net.receive");
+
   private final NioReader reader;
   private volatile boolean running = true;
   private final ErrorReporter errorReporter;
@@ -27,6 +35,9 @@ class Decoder {
   private final ConcurrentHashMap<SocketChannel, QuarantineConversation> quarantine =
       new ConcurrentHashMap<>();
 
+  /** The names read from each channel, matching the tables the channels were written with. */
+  private final Map<SocketChannel, NameTable> names = new ConcurrentHashMap<>();
+
   private final Thread thread;
 
   Decoder(
@@ -55,13 +66,18 @@ class Decoder {
           continue;
         }
 
-        try {
+        final byte[] bytes = data.getData();
+        RECEIVED_BYTES.record(bytes.length);
+        final NameTable channelNames =
+            names.computeIfAbsent(data.getChannel(), channel -> new NameTable());
+        try (DurationTimer.Sample ignored = RECEIVE_TIMER.start()) {
           final MessageHeader header =
               IoUtils.readFromMemory(
-                  data.getData(),
+                  bytes,
                   is -> {
                     try {
-                      return (MessageHeader) objectStreamFactory.create(is).readObject();
+                      return (MessageHeader)
+                          objectStreamFactory.create(is, channelNames).readObject();
                     } catch (final ClassNotFoundException e) {
                       throw new IOException(e);
                     }
@@ -69,6 +85,8 @@ class Decoder {
           // make sure we are still open
           final Socket s = data.getChannel().socket();
           if (!running || s == null || s.isInputShutdown()) {
+            // the channel may have been closed while the message was read
+            names.remove(data.getChannel());
             continue;
           }
           final QuarantineConversation conversation = quarantine.get(data.getChannel());
@@ -120,6 +138,7 @@ class Decoder {
   }
 
   void close(final SocketChannel channel) {
+    names.remove(channel);
     // remove if it exists
     final QuarantineConversation conversation = quarantine.remove(channel);
     if (conversation != null) {
@@ -4,36 +4,65 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
+import games.strategy.net.NameTable;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.nio.channels.SocketChannel;
-import lombok.AllArgsConstructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.io.IoUtils;
+import org.triplea.metrics.Histogram;
+import org.triplea.metrics.Metrics;
 
-/** Encodes data to be written by a writer. */
+/**
+ * Encodes data to be written by a writer. Each channel has its own {@link NameTable}, so names of
+ * game objects are sent once per connection instead of once per message.
+ */
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 class Encoder {
+  private static final Histogram SENT_BYTES = Metrics.histogram("net.sent.bytes");
+
   private final NioWriter writer;
   private final IObjectStreamFactory objectStreamFactory;
+  private final Map<SocketChannel, NameTable> names = new ConcurrentHashMap<>();
 
   void write(final SocketChannel to, final MessageHeader header) {
     checkNotNull(to);
     if (header.getFrom() == null) {
       throw new IllegalArgumentException("No from node");
     }
-    try {
-      final byte[] bytes =
-          IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os)));
-      final SocketWriteData data = new SocketWriteData(bytes);
-      writer.enque(data, to);
-    } catch (final IOException e) {
-      // we aren't doing any I/O, just writing in memory so something is very wrong
-      log.error("Error writing object: " + header, e);
+    final NameTable channelNames = names.computeIfAbsent(to, channel -> new NameTable());
+    // messages have to be queued in the order they added names to the table
+    synchronized (channelNames) {
+      final int namesBefore = channelNames.size();
+      boolean sent = false;
+      try {
+        final byte[] bytes =
+            IoUtils.writeToMemory(
+                os -> write(header, objectStreamFactory.create(os, channelNames)));
+        SENT_BYTES.record(bytes.length);
+        final SocketWriteData data = new SocketWriteData(bytes);
+        writer.enque(data, to);
+        sent = true;
+      } catch (final IOException e) {
+        // we aren't doing any I/O, just writing in memory so something is very wrong
+        log.error("Error writing object: " + header, e);
+      } finally {
+        if (!sent) {
+          // the names of a message that is not sent are unknown to the other side
+          channelNames.truncate(namesBefore);
+        }
+      }
     }
   }
 
+  void close(final SocketChannel channel) {
+    names.remove(channel);
+  }
+
   private void write(final MessageHeader header, final ObjectOutputStream out) throws IOException {
     checkNotNull(header.getFrom());
     out.writeObject(header);
@@ -95,6 +95,7 @@ public class NioSocket implements ErrorReporter {
       log.debug("error closing channel", e1);
     }
     decoder.close(channel);
+    encoder.close(channel);
     writer.close(channel);
     reader.close(channel);
   }
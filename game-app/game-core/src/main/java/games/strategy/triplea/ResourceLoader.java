@@ -1,6 +1,7 @@
 package games.strategy.triplea;
 
 import com.google.common.annotations.VisibleForTesting;
+import games.strategy.engine.framework.map.file.system.loader.ZippedMaps;
 import games.strategy.triplea.ui.OrderedProperties;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
@@ -13,7 +14,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
 import java.nio.file.FileSystem;
+import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -22,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
@@ -33,13 +38,41 @@ import org.triplea.java.UrlStreams;
 
 /**
  * Utility for managing where images and property files for maps and units should be loaded from.
- * Based on java Classloaders.
+ * Based on java Classloaders. Maps that are read from their zip, see {@link ZippedMaps}, are looked
+ * up in the opened zip instead, ahead of the other asset paths.
  */
 @Slf4j
 public class ResourceLoader implements Closeable {
   public static final String ASSETS_FOLDER = "assets";
 
+  /**
+   * Reads the resources of zipped maps from the zip file system the map was opened with. The
+   * default handler of jar: URLs would open the zip a second time as a {@link
+   * java.util.jar.JarFile} and keep it open in a cache, so the zip could not be deleted on Windows
+   * and a replaced zip would still be read from the old file.
+   */
+  private static final URLStreamHandler ZIPPED_RESOURCE_HANDLER =
+      new URLStreamHandler() {
+        @Override
+        protected URLConnection openConnection(final URL url) {
+          return new URLConnection(url) {
+            @Override
+            public void connect() {}
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+              try {
+                return Files.newInputStream(Path.of(url.toURI()));
+              } catch (final URISyntaxException | FileSystemNotFoundException e) {
+                throw new IOException("Failed to open zipped resource: " + url, e);
+              }
+            }
+          };
+        }
+      };
+
   private final URLClassLoader loader;
+  private final List<Path> zippedAssetPaths;
 
   @Getter private final List<Path> assetPaths;
 
@@ -69,7 +102,14 @@ public class ResourceLoader implements Closeable {
 
   public ResourceLoader(List<Path> assetPaths) {
     this.assetPaths = assetPaths;
-    List<URL> searchUrls = assetPaths.stream().map(PathUtils::toUrl).toList();
+    zippedAssetPaths = assetPaths.stream().filter(ZippedMaps::isZipped).toList();
+    List<URL> searchUrls =
+        assetPaths.stream()
+            .filter(Predicate.not(ZippedMaps::isZipped))
+            .map(PathUtils::toUrl)
+            .toList();
+    // the zips of zipped maps are kept open until this loader is closed
+    zippedAssetPaths.forEach(ZippedMaps::retain);
 
     // Note: URLClassLoader does not always respect the ordering of the search URLs
     // To solve this we will get all matching paths and then filter by what matched
@@ -82,6 +122,7 @@ public class ResourceLoader implements Closeable {
   ResourceLoader(final URLClassLoader loader) {
     this.loader = loader;
     this.assetPaths = List.of();
+    this.zippedAssetPaths = List.of();
   }
 
   /**
@@ -111,10 +152,11 @@ public class ResourceLoader implements Closeable {
     } catch (final IOException e) {
       log.error("Failed to close resource loader", e);
     }
+    zippedAssetPaths.forEach(ZippedMaps::release);
   }
 
   public boolean hasPathString(final String pathString) {
-    return loader.getResource(pathString) != null;
+    return findZippedResource(pathString).isPresent() || loader.getResource(pathString) != null;
   }
 
   /**
@@ -143,13 +185,27 @@ public class ResourceLoader implements Closeable {
 
   private Optional<URL> findResource(final String searchPathString) {
     // first attempt to find the resource as a per-map override
-    return loader
-        .resources(searchPathString)
-        .findFirst()
+    return findZippedResource(searchPathString)
+        .or(() -> loader.resources(searchPathString).findFirst())
         // otherwise, attempt to load the resource from the generic assets folder
+        .or(() -> findZippedResource(ASSETS_FOLDER + '/' + searchPathString))
         .or(() -> loader.resources(ASSETS_FOLDER + '/' + searchPathString).findFirst());
   }
 
+  private Optional<URL> findZippedResource(final String searchPathString) {
+    // the zip is indexed when it is opened, this does not read the zip file
+    return zippedAssetPaths.stream()
+        .map(zippedAssetPath -> zippedAssetPath.resolve(searchPathString))
+        .filter(Files::exists)
+        .findFirst()
+        .flatMap(ResourceLoader::asUrl);
+  }
+
+  private boolean isZippedResource(final URI uri) {
+    return zippedAssetPaths.stream()
+        .anyMatch(zippedAssetPath -> uri.toString().startsWith(zippedAssetPath.toUri().toString()));
+  }
+
   public Optional<Path> optionalResource(final String pathString) {
     return findResource(pathString)
         .map(
@@ -242,13 +298,14 @@ public class ResourceLoader implements Closeable {
     }
     try {
       final URI uri = dirUrl.toURI();
-      if ("jar".equals(uri.getScheme())) {
+      if ("jar".equals(uri.getScheme()) && !isZippedResource(uri)) {
         return listJarResources(uri);
       }
+      // a zipped map is already open, so its paths are listed like the paths of a folder
       final Path dir = Path.of(uri);
       if (Files.isDirectory(dir)) {
         try (var files = Files.list(dir)) {
-          return files.map(p -> asUrl(p.toUri())).flatMap(Optional::stream).toList();
+          return files.map(ResourceLoader::asUrl).flatMap(Optional::stream).toList();
         }
       }
       return List.of(dirUrl);
@@ -282,6 +339,19 @@ public class ResourceLoader implements Closeable {
     }
   }
 
+  private static Optional<URL> asUrl(final Path path) {
+    if (!ZippedMaps.isZipped(path)) {
+      return asUrl(path.toUri());
+    }
+    final URI uri = path.toUri();
+    try {
+      return Optional.of(URL.of(uri, ZIPPED_RESOURCE_HANDLER));
+    } catch (final MalformedURLException e) {
+      log.error("Failed to convert URI to URL: " + uri, e);
+      return Optional.empty();
+    }
+  }
+
   private static Optional<URL> asUrl(final URI uri) {
     try {
       return Optional.of(uri.toURL());
@@ -23,6 +23,7 @@ import games.strategy.triplea.ai.pro.util.ProBattleUtils;
 import games.strategy.triplea.ai.pro.util.ProMatches;
 import games.strategy.triplea.ai.pro.util.ProOddsCalculator;
 import games.strategy.triplea.ai.pro.util.ProPurchaseUtils;
+import games.strategy.triplea.ai.pro.util.ProTimeBudget;
 import games.strategy.triplea.ai.pro.util.ProTransportUtils;
 import games.strategy.triplea.attachments.PoliticalActionAttachment;
 import games.strategy.triplea.delegate.DiceRoll;
@@ -56,6 +57,7 @@ public abstract class AbstractProAi extends AbstractAi {
 
   @Getter private final ProOddsCalculator calc;
   @Getter private final ProData proData;
+  @Getter private final ProTimeBudget timeBudget = new ProTimeBudget();
 
   // Phases
   private final ProCombatMoveAi combatMoveAi;
@@ -79,7 +81,7 @@ public abstract class AbstractProAi extends AbstractAi {
       final String playerLabel) {
     super(name, playerLabel);
     this.proData = proData;
-    calc = new ProOddsCalculator(battleCalculator);
+    calc = new ProOddsCalculator(battleCalculator, timeBudget);
     combatMoveAi = new ProCombatMoveAi(this);
     nonCombatMoveAi = new ProNonCombatMoveAi(this);
     purchaseAi = new ProPurchaseAi(this);
@@ -119,6 +121,20 @@ public abstract class AbstractProAi extends AbstractAi {
       final IMoveDelegate moveDel,
       final GameData data,
       final GamePlayer player) {
+    timeBudget.startPhase(
+        nonCombat ? "non-combat move" : "combat move", data.getSequence().getRound(), player);
+    try {
+      moveWithinTimeBudget(nonCombat, moveDel, data, player);
+    } finally {
+      timeBudget.finishPhase();
+    }
+  }
+
+  private void moveWithinTimeBudget(
+      final boolean nonCombat,
+      final IMoveDelegate moveDel,
+      final GameData data,
+      final GamePlayer player) {
     final Instant start = Instant.now();
     ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
@@ -160,6 +176,21 @@ public abstract class AbstractProAi extends AbstractAi {
       final IPurchaseDelegate purchaseDelegate,
       final GameData data,
       final GamePlayer player) {
+    timeBudget.startPhase(
+        purchaseForBid ? "bid" : "purchase", data.getSequence().getRound(), player);
+    try {
+      purchaseWithinTimeBudget(purchaseForBid, pusToSpend, purchaseDelegate, data, player);
+    } finally {
+      timeBudget.finishPhase();
+    }
+  }
+
+  private void purchaseWithinTimeBudget(
+      final boolean purchaseForBid,
+      final int pusToSpend,
+      final IPurchaseDelegate purchaseDelegate,
+      final GameData data,
+      final GamePlayer player) {
     final long start = System.currentTimeMillis();
     ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
@@ -294,6 +325,16 @@ public abstract class AbstractProAi extends AbstractAi {
       final IAbstractPlaceDelegate placeDelegate,
       final GameState data,
       final GamePlayer player) {
+    timeBudget.startPhase("place", data.getSequence().getRound(), player);
+    try {
+      placeWithinTimeBudget(placeDelegate, data, player);
+    } finally {
+      timeBudget.finishPhase();
+    }
+  }
+
+  private void placeWithinTimeBudget(
+      final IAbstractPlaceDelegate placeDelegate, final GameState data, final GamePlayer player) {
     final long start = System.currentTimeMillis();
     ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
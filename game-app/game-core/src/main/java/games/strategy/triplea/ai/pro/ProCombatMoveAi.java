@@ -75,7 +75,7 @@ public class ProCombatMoveAi {
         !ProBattleUtils.territoryHasLocalLandSuperiority(
             proData, proData.getMyCapital(), ProBattleUtils.MEDIUM_RANGE, player);
     isBombing = false;
-    ProLogger.debug("Currently in defensive stance: " + isDefensive);
+    ProLogger.debug("Currently in defensive stance: {}", isDefensive);
 
     // Find the maximum number of units that can attack each territory and max enemy defenders
     territoryManager.populateAttackOptions();
@@ -260,13 +260,12 @@ public class ProCombatMoveAi {
           }
         }
         ProLogger.debug(
-            t.getName()
-                + " calculated nearby enemy value="
-                + nearbyEnemyValue
-                + " from "
-                + cantReachEnemyTerritories);
+            "{} calculated nearby enemy value={} from {}",
+            t.getName(),
+            nearbyEnemyValue,
+            cantReachEnemyTerritories);
         if (nearbyEnemyValue > 0) {
-          ProLogger.trace(t.getName() + " updating negative neutral attack value=" + attackValue);
+          ProLogger.trace("{} updating negative neutral attack value={}", t.getName(), attackValue);
           attackValue = nearbyEnemyValue * .001 / (1 - attackValue);
         } else {
 
@@ -274,9 +273,10 @@ public class ProCombatMoveAi {
           final double strengthDifference =
               ProBattleUtils.estimateStrengthDifference(
                   t, patd.getMaxUnits(), patd.getMaxEnemyDefenders(player));
-          ProLogger.debug(t.getName() + " calculated strengthDifference=" + strengthDifference);
+          ProLogger.debug("{} calculated strengthDifference={}", t.getName(), strengthDifference);
           if (strengthDifference > 500) {
-            ProLogger.trace(t.getName() + " updating negative neutral attack value=" + attackValue);
+            ProLogger.trace(
+                "{} updating negative neutral attack value={}", t.getName(), attackValue);
             attackValue = strengthDifference * .00001 / (1 - attackValue);
           }
         }
@@ -289,10 +289,9 @@ public class ProCombatMoveAi {
               && attackValue <= 8
               && data.getMap().getDistance(proData.getMyCapital(), t) <= 3)) {
         ProLogger.debug(
-            "Removing territory that has a negative attack value: "
-                + t.getName()
-                + ", AttackValue="
-                + patd.getValue());
+            "Removing territory that has a negative attack value: {}, AttackValue={}",
+            t.getName(),
+            patd.getValue());
         it.remove();
       }
     }
@@ -303,14 +302,11 @@ public class ProCombatMoveAi {
     // Log prioritized territories
     for (final ProTerritory patd : attackOptions) {
       ProLogger.debug(
-          "AttackValue="
-              + patd.getValue()
-              + ", TUVSwing="
-              + patd.getMaxBattleResult().getTuvSwing()
-              + ", isAmphib="
-              + patd.isNeedAmphibUnits()
-              + ", "
-              + patd.getTerritory().getName());
+          "AttackValue={}, TUVSwing={}, isAmphib={}, {}",
+          patd.getValue(),
+          patd.getMaxBattleResult().getTuvSwing(),
+          patd.isNeedAmphibUnits(),
+          patd.getTerritory().getName());
     }
   }
 
@@ -324,17 +320,15 @@ public class ProCombatMoveAi {
     while (true) {
       final List<ProTerritory> territoriesToTryToAttack =
           prioritizedTerritories.subList(0, numToAttack);
-      ProLogger.debug("Current number of territories: " + numToAttack);
+      ProLogger.debug("Current number of territories: {}", numToAttack);
       tryToAttackTerritories(territoriesToTryToAttack, List.of());
 
       // Determine if all attacks are successful
+      estimateMissingBattleResults(territoriesToTryToAttack);
       boolean areSuccessful = true;
       for (final ProTerritory patd : territoriesToTryToAttack) {
         final Territory t = patd.getTerritory();
-        if (patd.getBattleResult() == null) {
-          patd.estimateBattleResult(calc, player);
-        }
-        ProLogger.trace(patd.getResultString() + " with attackers: " + patd.getUnits());
+        ProLogger.trace("{} with attackers: {}", patd.getResultString(), patd.getUnits());
         final double estimate =
             ProBattleUtils.estimateStrengthDifference(
                 t, patd.getUnits(), patd.getMaxEnemyDefenders(player));
@@ -366,14 +360,22 @@ public class ProCombatMoveAi {
             if (prioritizedTerritories.get(i).isNeedAmphibUnits()) {
               amphibTerritoriesToRemove.add(prioritizedTerritories.get(i));
               ProLogger.debug(
-                  "Removing amphib territory since already used all transports: "
-                      + prioritizedTerritories.get(i).getTerritory().getName());
+                  "Removing amphib territory since already used all transports: {}",
+                  prioritizedTerritories.get(i).getTerritory().getName());
             }
           }
           prioritizedTerritories.removeAll(amphibTerritoriesToRemove);
           haveRemovedAllAmphibTerritories = true;
         }
 
+        // Out of time so settle for the territories found so far
+        if (ai.getTimeBudget().isExpired() && numToAttack < prioritizedTerritories.size()) {
+          ProLogger.debug(
+              "Out of time, not trying remaining territories: {}",
+              prioritizedTerritories.size() - numToAttack);
+          prioritizedTerritories.subList(numToAttack, prioritizedTerritories.size()).clear();
+        }
+
         // Can attack all territories in list so end
         numToAttack++;
         if (numToAttack > prioritizedTerritories.size()) {
@@ -381,15 +383,31 @@ public class ProCombatMoveAi {
         }
       } else {
         ProLogger.debug(
-            "Removing territory: "
-                + prioritizedTerritories.get(numToAttack - 1).getTerritory().getName());
+            "Removing territory: {}",
+            prioritizedTerritories.get(numToAttack - 1).getTerritory().getName());
         prioritizedTerritories.remove(numToAttack - 1);
         if (numToAttack > prioritizedTerritories.size()) {
           numToAttack--;
         }
       }
     }
-    ProLogger.debug("Final number of territories: " + (numToAttack - 1));
+    ProLogger.debug("Final number of territories: {}", numToAttack - 1);
+  }
+
+  /**
+   * Estimates the battle results of the territories that have none yet. Their battles are
+   * submitted to the battle calculator at once, so that they can be simulated concurrently.
+   */
+  private void estimateMissingBattleResults(final Collection<ProTerritory> territories) {
+    final List<ProTerritory> territoriesWithoutResult =
+        territories.stream().filter(patd -> patd.getBattleResult() == null).toList();
+    final List<ProBattleResult> results =
+        calc.estimateAttackBattleResults(
+            proData,
+            territoriesWithoutResult.stream().map(patd -> patd.getBattle(player)).toList());
+    for (int i = 0; i < territoriesWithoutResult.size(); i++) {
+      territoriesWithoutResult.get(i).setBattleResult(results.get(i));
+    }
   }
 
   private void determineTerritoriesThatCanBeHeld(
@@ -421,7 +439,7 @@ public class ProCombatMoveAi {
       // If strafing then can't hold
       if (patd.isStrafing()) {
         patd.setCanHold(false);
-        ProLogger.debug(t + ", strafing so CanHold=false");
+        ProLogger.debug("{}, strafing so CanHold=false", t);
         continue;
       }
 
@@ -452,11 +470,10 @@ public class ProCombatMoveAi {
       if (!t.isWater() && territoryValue < averageValue) {
         attackMap.get(t).setCanHold(false);
         ProLogger.debug(
-            t
-                + ", CanHold=false, value="
-                + territoryValueMap.get(t)
-                + ", averageAttackFromValue="
-                + averageValue);
+            "{}, CanHold=false, value={}, averageAttackFromValue={}",
+            t,
+            territoryValueMap.get(t),
+            averageValue);
         continue;
       }
       if (enemyAttackOptions.getMax(t) != null) {
@@ -475,15 +492,12 @@ public class ProCombatMoveAi {
             CollectionUtils.getMatches(
                 result.getAverageAttackersRemaining(), Matches.unitIsAir().negate());
         ProLogger.debug(
-            t
-                + ", value="
-                + territoryValueMap.get(t)
-                + ", averageAttackFromValue="
-                + averageValue
-                + ", MyAttackers="
-                + attackingUnits.size()
-                + ", RemainingUnits="
-                + remainingUnitsToDefendWith.size());
+            "{}, value={}, averageAttackFromValue={}, MyAttackers={}, RemainingUnits={}",
+            t,
+            territoryValueMap.get(t),
+            averageValue,
+            attackingUnits.size(),
+            remainingUnitsToDefendWith.size());
 
         // Determine counter-attack results to see if I can hold it
         final ProBattleResult result2 =
@@ -535,10 +549,9 @@ public class ProCombatMoveAi {
       final ProTerritory patd = it.next();
       final Territory t = patd.getTerritory();
       ProLogger.debug(
-          "Checking territory="
-              + patd.getTerritory().getName()
-              + " with isAmphib="
-              + patd.isNeedAmphibUnits());
+          "Checking territory={} with isAmphib={}",
+          patd.getTerritory().getName(),
+          patd.isNeedAmphibUnits());
 
       // Remove empty convoy zones that can't be held
       if (!patd.isCanHold()
@@ -546,10 +559,9 @@ public class ProCombatMoveAi {
           && t.isWater()
           && !t.anyUnitsMatch(Matches.enemyUnit(player))) {
         ProLogger.debug(
-            "Removing convoy zone that can't be held: "
-                + t.getName()
-                + ", enemyAttackers="
-                + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits()));
+            "Removing convoy zone that can't be held: {}, enemyAttackers={}",
+            t.getName(),
+            summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits()));
         it.remove();
         continue;
       }
@@ -675,7 +687,7 @@ public class ProCombatMoveAi {
         if (minUnit != null) {
           unitMoveMap.remove(minUnit);
           alreadyMovedUnits.add(minUnit);
-          ProLogger.debug(t + ", added one land unit: " + minUnit);
+          ProLogger.debug("{}, added one land unit: {}", t, minUnit);
         }
       }
     }
@@ -715,10 +727,9 @@ public class ProCombatMoveAi {
       final Territory t = attackEntry.getKey();
       final ProTerritory patd = attackEntry.getValue();
       ProLogger.debug(
-          "Checking territory="
-              + patd.getTerritory().getName()
-              + " with transport size="
-              + patd.getTransportTerritoryMap().size());
+          "Checking territory={} with transport size={}",
+          patd.getTerritory().getName(),
+          patd.getTransportTerritoryMap().size());
       if (!patd.getTerritory().isWater() && !patd.getTransportTerritoryMap().isEmpty()) {
 
         // Find all transports for each unload territory
@@ -746,8 +757,10 @@ public class ProCombatMoveAi {
           }
         }
 
-        // Determine counter-attack results for each transport territory
-        double enemyTuvSwing = 0.0;
+        // Determine counter-attack results for each transport territory, simulating the battles of
+        // all territories at once
+        final List<Territory> attackedUnloadTerritories = new ArrayList<>();
+        final List<ProOddsCalculator.Battle> counterAttacks = new ArrayList<>();
         for (final Territory unloadTerritory : territoryTransportAndBombardMap.keySet()) {
           if (enemyAttackOptions.getMax(unloadTerritory) != null) {
             final Set<Unit> defenders =
@@ -758,36 +771,45 @@ public class ProCombatMoveAi {
             }
             final Set<Unit> enemyAttackers =
                 enemyAttackOptions.getMax(unloadTerritory).getMaxUnits();
-            final ProBattleResult result =
-                calc.calculateBattleResults(
-                    proData, unloadTerritory, enemyAttackers, defenders, List.of());
-            final ProBattleResult minResult =
-                calc.calculateBattleResults(
-                    proData,
+            attackedUnloadTerritories.add(unloadTerritory);
+            counterAttacks.add(
+                new ProOddsCalculator.Battle(
+                    unloadTerritory, enemyAttackers, defenders, List.of()));
+            counterAttacks.add(
+                new ProOddsCalculator.Battle(
                     unloadTerritory,
-                    enemyAttackOptions.getMax(unloadTerritory).getMaxUnits(),
+                    enemyAttackers,
                     territoryTransportAndBombardMap.get(unloadTerritory),
-                    List.of());
-            final double minTuvSwing = Math.min(result.getTuvSwing(), minResult.getTuvSwing());
-            if (minTuvSwing > 0) {
-              enemyTuvSwing += minTuvSwing;
-            }
-            ProLogger.trace(
-                unloadTerritory
-                    + ", EnemyAttackers="
-                    + enemyAttackers.size()
-                    + ", MaxDefenders="
-                    + defenders.size()
-                    + ", MaxEnemyTUVSwing="
-                    + result.getTuvSwing()
-                    + ", MinDefenders="
-                    + territoryTransportAndBombardMap.get(unloadTerritory).size()
-                    + ", MinEnemyTUVSwing="
-                    + minResult.getTuvSwing());
+                    List.of()));
           } else {
-            ProLogger.trace("Territory=" + unloadTerritory.getName() + " has no enemy attackers");
+            ProLogger.trace("Territory={} has no enemy attackers", unloadTerritory.getName());
           }
         }
+        final List<ProBattleResult> counterAttackResults =
+            calc.calculateBattleResults(proData, counterAttacks);
+        double enemyTuvSwing = 0.0;
+        for (int i = 0; i < attackedUnloadTerritories.size(); i++) {
+          final Territory unloadTerritory = attackedUnloadTerritories.get(i);
+          final ProOddsCalculator.Battle maxDefendersBattle = counterAttacks.get(2 * i);
+          final ProBattleResult result = counterAttackResults.get(2 * i);
+          final ProBattleResult minResult = counterAttackResults.get(2 * i + 1);
+          final double minTuvSwing = Math.min(result.getTuvSwing(), minResult.getTuvSwing());
+          if (minTuvSwing > 0) {
+            enemyTuvSwing += minTuvSwing;
+          }
+          ProLogger.trace(
+              unloadTerritory
+                  + ", EnemyAttackers="
+                  + maxDefendersBattle.attackingUnits().size()
+                  + ", MaxDefenders="
+                  + maxDefendersBattle.defendingUnits().size()
+                  + ", MaxEnemyTUVSwing="
+                  + result.getTuvSwing()
+                  + ", MinDefenders="
+                  + territoryTransportAndBombardMap.get(unloadTerritory).size()
+                  + ", MinEnemyTUVSwing="
+                  + minResult.getTuvSwing());
+        }
 
         // Determine whether its worth attacking
         final ProBattleResult result =
@@ -804,23 +826,19 @@ public class ProCombatMoveAi {
                     * (1 + 3.0 * initialProductionAndIsCapital.isCapital);
         if (!patd.isStrafing() && (0.75 * enemyTuvSwing) > attackValue) {
           ProLogger.debug(
-              "Removing amphib territory: "
-                  + patd.getTerritory()
-                  + ", enemyTUVSwing="
-                  + enemyTuvSwing
-                  + ", attackValue="
-                  + attackValue);
+              "Removing amphib territory: {}, enemyTUVSwing={}, attackValue={}",
+              patd.getTerritory(),
+              enemyTuvSwing,
+              attackValue);
           patd.getUnits().clear();
           patd.getAmphibAttackMap().clear();
           patd.getBombardTerritoryMap().clear();
         } else {
           ProLogger.debug(
-              "Keeping amphib territory: "
-                  + patd.getTerritory()
-                  + ", enemyTUVSwing="
-                  + enemyTuvSwing
-                  + ", attackValue="
-                  + attackValue);
+              "Keeping amphib territory: {}, enemyTUVSwing={}, attackValue={}",
+              patd.getTerritory(),
+              enemyTuvSwing,
+              attackValue);
         }
       }
     }
@@ -934,14 +952,16 @@ public class ProCombatMoveAi {
           continue;
         }
         Territory minWinTerritory = null;
+        estimateMissingBattleResults(
+            sortedUnitAttackOptions.get(unit).stream()
+                .map(attackMap::get)
+                .filter(ProTerritory::isCanHold)
+                .toList());
         for (final Territory t : sortedUnitAttackOptions.get(unit)) {
           final ProTerritory patd = attackMap.get(t);
           if (patd.isCanHold()) {
 
             // Check if I already have enough attack units to win in 2 rounds
-            if (patd.getBattleResult() == null) {
-              patd.estimateBattleResult(calc, player);
-            }
             final ProBattleResult result = patd.getBattleResult();
             final List<Unit> attackingUnits = patd.getUnits();
             final List<Unit> defendingUnits = patd.getMaxEnemyDefenders(player);
@@ -974,21 +994,28 @@ public class ProCombatMoveAi {
         if (!isSeaUnit) {
           continue; // skip non-sea units
         }
-        for (final Territory t : sortedUnitAttackOptions.get(unit)) {
-          final ProTerritory patd = attackMap.get(t);
-          if (patd.getBattleResult() == null) {
-            patd.estimateBattleResult(calc, player);
-          }
+        final List<ProTerritory> options =
+            sortedUnitAttackOptions.get(unit).stream().map(attackMap::get).toList();
+        estimateMissingBattleResults(options);
+        final List<ProBattleResult> resultsWithUnit =
+            calc.estimateAttackBattleResults(
+                proData,
+                options.stream()
+                    .map(
+                        patd -> {
+                          final List<Unit> attackers = new ArrayList<>(patd.getUnits());
+                          attackers.add(unit);
+                          return new ProOddsCalculator.Battle(
+                              patd.getTerritory(),
+                              attackers,
+                              patd.getMaxEnemyDefenders(player),
+                              patd.getBombardTerritoryMap().keySet());
+                        })
+                    .toList());
+        for (int i = 0; i < options.size(); i++) {
+          final ProTerritory patd = options.get(i);
           final ProBattleResult result = patd.getBattleResult();
-          final List<Unit> attackers = new ArrayList<>(patd.getUnits());
-          attackers.add(unit);
-          final ProBattleResult result2 =
-              calc.estimateAttackBattleResults(
-                  proData,
-                  t,
-                  attackers,
-                  patd.getMaxEnemyDefenders(player),
-                  patd.getBombardTerritoryMap().keySet());
+          final ProBattleResult result2 = resultsWithUnit.get(i);
           final double unitValue = proData.getUnitValue(unit.getType());
           if ((result2.getTuvSwing() - unitValue / 3) > result.getTuvSwing()) {
             patd.setBattleResult(null);
@@ -1006,13 +1033,11 @@ public class ProCombatMoveAi {
         usedUnits.addAll(patd.getUnits());
       }
       ProTerritory territoryToRemove = null;
+      estimateMissingBattleResults(prioritizedTerritories);
       for (final ProTerritory patd : prioritizedTerritories) {
         final Territory t = patd.getTerritory();
 
         // Find battle result
-        if (patd.getBattleResult() == null) {
-          patd.estimateBattleResult(calc, player);
-        }
         final ProBattleResult result = patd.getBattleResult();
 
         // Determine enemy counter-attack results
@@ -1153,7 +1178,7 @@ public class ProCombatMoveAi {
       }
 
       prioritizedTerritories.remove(territoryToRemove);
-      ProLogger.debug("Removing " + territoryToRemove.getTerritory().getName());
+      ProLogger.debug("Removing {}", territoryToRemove.getTerritory().getName());
     }
   }
 
@@ -1239,7 +1264,7 @@ public class ProCombatMoveAi {
       final Territory t = maxBombingTerritory.get();
       attackMap.get(t).getBombers().add(bomber);
       sortedUnitAttackOptions.remove(bomber);
-      ProLogger.debug("Add bomber (" + bomber + ") to " + t);
+      ProLogger.debug("Add bomber ({}) to {}", bomber, t);
     }
   }
 
@@ -1359,12 +1384,14 @@ public class ProCombatMoveAi {
       }
       Territory minWinTerritory = null;
       double minWinPercentage = proData.getWinPercentage();
+      estimateMissingBattleResults(
+          sortedUnitAttackOptions.get(unit).stream()
+              .map(attackMap::get)
+              .filter(patd -> !patd.isCurrentlyWins() && patd.isCanHold())
+              .toList());
       for (final Territory t : sortedUnitAttackOptions.get(unit)) {
         final ProTerritory patd = attackMap.get(t);
         if (!patd.isCurrentlyWins() && patd.isCanHold()) {
-          if (patd.getBattleResult() == null) {
-            patd.estimateBattleResult(calc, player);
-          }
           final ProBattleResult result = patd.getBattleResult();
           if (result.getWinPercentage() < minWinPercentage
               || (!result.isHasLandUnitRemaining() && minWinTerritory == null)) {
@@ -1553,23 +1580,28 @@ public class ProCombatMoveAi {
       for (final Map.Entry<Unit, Set<Territory>> transportAttackOptionsEntry :
           transportAttackOptions.entrySet()) {
         final Unit transport = transportAttackOptionsEntry.getKey();
+        if (transport.isTransporting(proData.getUnitTerritory(transport))) {
+          continue;
+        }
         // Find current naval battle that needs transport if it isn't transporting units
+        estimateMissingBattleResults(
+            transportAttackOptionsEntry.getValue().stream()
+                .map(attackMap::get)
+                .filter(
+                    patd ->
+                        !patd.isCurrentlyWins() && !patd.getMaxEnemyDefenders(player).isEmpty())
+                .toList());
         for (final Territory t : transportAttackOptionsEntry.getValue()) {
           final ProTerritory patd = attackMap.get(t);
           final List<Unit> defendingUnits = patd.getMaxEnemyDefenders(player);
-          if (!patd.isCurrentlyWins()
-              && !transport.isTransporting(proData.getUnitTerritory(transport))
-              && !defendingUnits.isEmpty()) {
-            if (patd.getBattleResult() == null) {
-              patd.estimateBattleResult(calc, player);
-            }
+          if (!patd.isCurrentlyWins() && !defendingUnits.isEmpty()) {
             final ProBattleResult result = patd.getBattleResult();
             if (result.getWinPercentage() < proData.getWinPercentage()
                 || !result.isHasLandUnitRemaining()) {
               patd.addUnit(transport);
               patd.setBattleResult(null);
               alreadyAttackedWithTransports.add(transport);
-              ProLogger.trace("Adding attack transport to: " + t.getName());
+              ProLogger.trace("Adding attack transport to: {}", t.getName());
               break;
             }
           }
@@ -1607,12 +1639,14 @@ public class ProCombatMoveAi {
       double minWinPercentage = proData.getWinPercentage();
       List<Unit> minAmphibUnitsToAdd = null;
       Territory minUnloadFromTerritory = null;
+      estimateMissingBattleResults(
+          amphibAttackOptionsEntry.getValue().stream()
+              .map(attackMap::get)
+              .filter(patd -> !patd.isCurrentlyWins())
+              .toList());
       for (final Territory t : amphibAttackOptionsEntry.getValue()) {
         final ProTerritory patd = attackMap.get(t);
         if (!patd.isCurrentlyWins()) {
-          if (patd.getBattleResult() == null) {
-            patd.estimateBattleResult(calc, player);
-          }
           final ProBattleResult result = patd.getBattleResult();
           if (result.getWinPercentage() < minWinPercentage
               || (!result.isHasLandUnitRemaining() && minWinTerritory == null)) {
@@ -1688,12 +1722,10 @@ public class ProCombatMoveAi {
           sortedUnitAttackOptions.remove(unit);
         }
         ProLogger.trace(
-            "Adding amphibious attack to "
-                + minWinTerritory
-                + ", units="
-                + minAmphibUnitsToAdd.size()
-                + ", unloadFrom="
-                + minUnloadFromTerritory);
+            "Adding amphibious attack to {}, units={}, unloadFrom={}",
+            minWinTerritory,
+            minAmphibUnitsToAdd.size(),
+            minUnloadFromTerritory);
       }
     }
 
@@ -1738,11 +1770,10 @@ public class ProCombatMoveAi {
       Territory minWinTerritory = null;
       double minWinPercentage = Double.MAX_VALUE;
       Territory minBombardFromTerritory = null;
+      estimateMissingBattleResults(
+          bombardOptionsEntry.getValue().stream().map(attackMap::get).toList());
       for (final Territory t : bombardOptionsEntry.getValue()) {
         final ProTerritory patd = attackMap.get(t);
-        if (patd.getBattleResult() == null) {
-          patd.estimateBattleResult(calc, player);
-        }
         final ProBattleResult result = patd.getBattleResult();
         if (result.getWinPercentage() < minWinPercentage
             || (!result.isHasLandUnitRemaining() && minWinTerritory == null)) {
@@ -1766,12 +1797,10 @@ public class ProCombatMoveAi {
         attackMap.get(minWinTerritory).setBattleResult(null);
         sortedUnitAttackOptions.remove(unit);
         ProLogger.trace(
-            "Adding bombard to "
-                + minWinTerritory
-                + ", units="
-                + unit
-                + ", bombardFrom="
-                + minBombardFromTerritory);
+            "Adding bombard to {}, units={}, bombardFrom={}",
+            minWinTerritory,
+            unit,
+            minBombardFromTerritory);
       }
     }
     return sortedUnitAttackOptions;
@@ -1808,7 +1837,7 @@ public class ProCombatMoveAi {
       for (final ProTerritory t : prioritizedTerritories) {
         territoriesToAttack.add(t.getTerritory());
       }
-      ProLogger.trace("Remaining territories to attack=" + territoriesToAttack);
+      ProLogger.trace("Remaining territories to attack={}", territoriesToAttack);
       territoryManager.populateEnemyAttackOptions(territoriesToAttack, List.of(myCapital));
       final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
       if (enemyAttackOptions.getMax(myCapital) == null) {
@@ -1839,14 +1868,11 @@ public class ProCombatMoveAi {
               defenders,
               enemyAttackOptions.getMax(myCapital).getMaxBombardUnits());
       ProLogger.trace(
-          "Current capital result hasLandUnitRemaining="
-              + result.isHasLandUnitRemaining()
-              + ", TUVSwing="
-              + result.getTuvSwing()
-              + ", defenders="
-              + defenders.size()
-              + ", attackers="
-              + enemyAttackingUnits.size());
+          "Current capital result hasLandUnitRemaining={}, TUVSwing={}, defenders={}, attackers={}",
+          result.isHasLandUnitRemaining(),
+          result.getTuvSwing(),
+          defenders.size(),
+          enemyAttackingUnits.size());
 
       // Determine attack that uses the most units per value from capital and remove it
       if (result.isHasLandUnitRemaining()) {
@@ -1865,7 +1891,7 @@ public class ProCombatMoveAi {
           }
           final double unitsNearCapitalPerValue = unitsNearCapital / attackMap.get(t).getValue();
           ProLogger.trace(
-              t.getName() + " has unit near capital per value: " + unitsNearCapitalPerValue);
+              "{} has unit near capital per value: {}", t.getName(), unitsNearCapitalPerValue);
           if (unitsNearCapitalPerValue > maxUnitsNearCapitalPerValue) {
             maxUnitsNearCapitalPerValue = unitsNearCapitalPerValue;
             maxTerritory = t;
@@ -1877,12 +1903,12 @@ public class ProCombatMoveAi {
           patdMax.getUnits().clear();
           patdMax.getAmphibAttackMap().clear();
           patdMax.setBattleResult(null);
-          ProLogger.debug("Removing territory to try to hold capital: " + maxTerritory.getName());
+          ProLogger.debug("Removing territory to try to hold capital: {}", maxTerritory.getName());
         } else {
           break;
         }
       } else {
-        ProLogger.debug("Can hold capital: " + myCapital.getName());
+        ProLogger.debug("Can hold capital: {}", myCapital.getName());
         break;
       }
     }
@@ -1921,12 +1947,10 @@ public class ProCombatMoveAi {
     ProLogger.debug("Prioritized territories:");
     for (final ProTerritory attackTerritoryData : prioritizedTerritories) {
       ProLogger.trace(
-          "  "
-              + attackTerritoryData.getMaxBattleResult().getTuvSwing()
-              + "  "
-              + attackTerritoryData.getValue()
-              + "  "
-              + attackTerritoryData.getTerritory().getName());
+          "  {}  {}  {}",
+          attackTerritoryData.getMaxBattleResult().getTuvSwing(),
+          attackTerritoryData.getValue(),
+          attackTerritoryData.getTerritory().getName());
     }
 
     // Print enemy territories with enemy units vs my units
@@ -1935,7 +1959,7 @@ public class ProCombatMoveAi {
     for (final Map.Entry<Territory, ProTerritory> attackEntry : attackMap.entrySet()) {
       final Territory t = attackEntry.getKey();
       count++;
-      ProLogger.trace(count + ". ---" + t.getName());
+      ProLogger.trace("{}. ---{}", count, t.getName());
       final Set<Unit> combinedUnits = new HashSet<>(attackEntry.getValue().getMaxUnits());
       combinedUnits.addAll(attackEntry.getValue().getMaxAmphibUnits());
       ProLogger.trace("  --- My max units ---");
@@ -2008,7 +2032,7 @@ public class ProCombatMoveAi {
 
   private void writeProLog(final Map<String, Integer> printMap) {
     for (final Map.Entry<String, Integer> printEntry : printMap.entrySet()) {
-      ProLogger.trace("    " + printEntry.getValue() + " " + printEntry.getKey());
+      ProLogger.trace("    {} {}", printEntry.getValue(), printEntry.getKey());
     }
   }
 
@@ -286,7 +286,7 @@ class ProNonCombatMoveAi {
     // Log can't move units per territory
     for (final Territory t : moveMap.keySet()) {
       if (!moveMap.get(t).getCantMoveUnits().isEmpty()) {
-        ProLogger.trace(t + " has units that can't move: " + moveMap.get(t).getCantMoveUnits());
+        ProLogger.trace("{} has units that can't move: {}", t, moveMap.get(t).getCantMoveUnits());
       }
     }
   }
@@ -303,7 +303,7 @@ class ProNonCombatMoveAi {
       if (ProMatches.unitCanBeMovedAndIsOwned(player).test(u)
           && Matches.unitIsInfrastructure().test(u)) {
         infraUnitMoveMap.put(u, unitMoveMap.get(u));
-        ProLogger.trace(u + " is infra unit with move options: " + unitMoveMap.get(u));
+        ProLogger.trace("{} is infra unit with move options: {}", u, unitMoveMap.get(u));
         it.remove();
       }
     }
@@ -372,7 +372,7 @@ class ProNonCombatMoveAi {
             moveMap.get(t).addUnit(unit);
             unitMoveMap.remove(unit);
             territoriesToDefendWithOneUnit.remove(t);
-            ProLogger.debug(t + ", added one land unit: " + unit);
+            ProLogger.debug("{}, added one land unit: {}", t, unit);
             break;
           }
         }
@@ -399,7 +399,7 @@ class ProNonCombatMoveAi {
       // Check if no enemy attackers
       final ProTerritory enemyAttackMax = enemyAttackOptions.getMax(t);
       if (enemyAttackMax == null) {
-        ProLogger.debug("Territory=" + t.getName() + ", CanHold=true since has no enemy attackers");
+        ProLogger.debug("Territory={}, CanHold=true since has no enemy attackers", t.getName());
         continue;
       }
 
@@ -694,10 +694,9 @@ class ProNonCombatMoveAi {
     // Log prioritized territories
     for (final ProTerritory attackTerritoryData : prioritizedTerritories) {
       ProLogger.debug(
-          "Value="
-              + attackTerritoryData.getValue()
-              + ", "
-              + attackTerritoryData.getTerritory().getName());
+          "Value={}, {}",
+          attackTerritoryData.getValue(),
+          attackTerritoryData.getTerritory().getName());
     }
     return prioritizedTerritories;
   }
@@ -890,7 +889,7 @@ class ProNonCombatMoveAi {
                 proTerritory.addTempUnit(transport);
                 proTerritory.setBattleResult(null);
                 alreadyMovedTransports.add(transport);
-                ProLogger.trace("Adding defend transport to: " + t.getName());
+                ProLogger.trace("Adding defend transport to: {}", t.getName());
                 break;
               }
             }
@@ -998,12 +997,10 @@ class ProNonCombatMoveAi {
                     sortedUnitMoveOptions.remove(unit);
                   }
                   ProLogger.trace(
-                      "Adding amphibious defense to: "
-                          + t
-                          + ", units="
-                          + amphibUnitsToAdd
-                          + ", unloadTerritory="
-                          + minTerritory);
+                      "Adding amphibious defense to: {}, units={}, unloadTerritory={}",
+                      t,
+                      amphibUnitsToAdd,
+                      minTerritory);
                   addedAmphibUnits = true;
                   break;
                 }
@@ -1036,7 +1033,7 @@ class ProNonCombatMoveAi {
               territoryManager.getCantHoldTerritories(),
               List.of(),
               territoriesToCheck);
-      ProLogger.debug("Current number of territories: " + numToDefend);
+      ProLogger.debug("Current number of territories: {}", numToDefend);
       for (final ProTerritory patd : territoriesToTryToDefend) {
         final Territory t = patd.getTerritory();
 
@@ -1082,11 +1079,10 @@ class ProNonCombatMoveAi {
           if (territoryValueMap.get(t) < averageValue) {
             hasHigherStrategicValue = false;
             ProLogger.trace(
-                t
-                    + " has lower value then move from with value="
-                    + territoryValueMap.get(t)
-                    + ", averageMoveFromValue="
-                    + averageValue);
+                "{} has lower value then move from with value={}, averageMoveFromValue={}",
+                t,
+                territoryValueMap.get(t),
+                averageValue);
           }
         }
 
@@ -1125,8 +1121,8 @@ class ProNonCombatMoveAi {
                 moveMap.get(myCapital).getMaxDefenders())) {
           areSuccessful = false;
           ProLogger.debug(
-              "Capital isn't safe after defense moves with winPercentage="
-                  + moveMap.get(myCapital).getBattleResult().getWinPercentage());
+              "Capital isn't safe after defense moves with winPercentage={}",
+              moveMap.get(myCapital).getBattleResult().getWinPercentage());
         }
 
         // Check capital local superiority
@@ -1164,7 +1160,7 @@ class ProNonCombatMoveAi {
       } else {
 
         // Remove territory last territory in prioritized list since we can't hold them all
-        ProLogger.debug("Removing territory: " + currentTerritory);
+        ProLogger.debug("Removing territory: {}", currentTerritory);
         prioritizedTerritories.get(numToDefend - 1).setCanHold(false);
         prioritizedTerritories.remove(numToDefend - 1);
         if (numToDefend > prioritizedTerritories.size()) {
@@ -1200,7 +1196,7 @@ class ProNonCombatMoveAi {
       t.getTempUnits().clear();
       t.getTempAmphibAttackMap().clear();
     }
-    ProLogger.debug("Final number of territories: " + (numToDefend - 1));
+    ProLogger.debug("Final number of territories: {}", numToDefend - 1);
   }
 
   private void moveUnitsToBestTerritories(final boolean isCombatMove) {
@@ -1494,11 +1490,10 @@ class ProNonCombatMoveAi {
             final ProTerritory patd2 = moveMap.get(moveToTerritory);
             if (patd2 != null && patd2.isCanHold()) {
               ProLogger.trace(
-                  transport
-                      + " moved towards best loading territory "
-                      + patd.getTerritory()
-                      + " and moved to "
-                      + moveToTerritory);
+                  "{} moved towards best loading territory {} and moved to {}",
+                  transport,
+                  patd.getTerritory(),
+                  moveToTerritory);
               patd2.addTempUnit(transport);
               territoriesToDefend.add(moveToTerritory);
               it.remove();
@@ -1542,15 +1537,12 @@ class ProNonCombatMoveAi {
 
           // TODO: add logic to move towards closest factory
           ProLogger.trace(
-              transport
-                  + " at "
-                  + t
-                  + ", strengthDifference="
-                  + strengthDifference
-                  + ", attackers="
-                  + attackers
-                  + ", defenders="
-                  + defenders);
+              "{} at {}, strengthDifference={}, attackers={}, defenders={}",
+              transport,
+              t,
+              strengthDifference,
+              attackers,
+              defenders);
           if (strengthDifference < minStrengthDifference) {
             minStrengthDifference = strengthDifference;
             minTerritory = t;
@@ -1602,11 +1594,10 @@ class ProNonCombatMoveAi {
         } else {
           // If not transporting units
           ProLogger.trace(
-              transport
-                  + " moved to safest territory at "
-                  + minTerritory
-                  + ", strengthDifference="
-                  + minStrengthDifference);
+              "{} moved to safest territory at {}, strengthDifference={}",
+              transport,
+              minTerritory,
+              minStrengthDifference);
           moveMap.get(minTerritory).addTempUnit(transport);
         }
         it.remove();
@@ -1638,7 +1629,7 @@ class ProNonCombatMoveAi {
               && proTerritory.getAllDefenders().stream()
                   .anyMatch(ProMatches.unitIsOwnedTransport(player))
               && ProTransportUtils.checkTransportDefense(proData, calc, proTerritory)) {
-            ProLogger.trace(u + " added sea to defend transport at " + t);
+            ProLogger.trace("{} added sea to defend transport at {}", u, t);
             proTerritory.addTempUnit(u);
             proTerritory.setBattleResult(null);
             territoriesToDefend.add(t);
@@ -1664,7 +1655,7 @@ class ProNonCombatMoveAi {
               && ProTransportUtils.validateCarrierCapacity(
                   player, t, proTerritory.getAllDefendersForCarrierCalcs(data, player), u)
               && ProTransportUtils.checkTransportDefense(proData, calc, proTerritory)) {
-            ProLogger.trace(u + " added air to defend transport at " + t);
+            ProLogger.trace("{} added air to defend transport at {}", u, t);
             proTerritory.addTempUnit(u);
             proTerritory.setBattleResult(null);
             territoriesToDefend.add(t);
@@ -1704,7 +1695,7 @@ class ProNonCombatMoveAi {
         if (maxValueTerritory != null) {
           ProTerritory to = moveMap.get(maxValueTerritory);
           ProLogger.trace(
-              u + " added to best territory " + maxValueTerritory + ", value=" + maxValue);
+              "{} added to best territory {}, value={}", u, maxValueTerritory, maxValue);
           to.addTempUnit(u);
           to.setBattleResult(null);
           territoriesToDefend.add(maxValueTerritory);
@@ -1746,7 +1737,7 @@ class ProNonCombatMoveAi {
           } else {
             final Territory currentTerritory = unitTerritoryMap.get(u);
             ProLogger.trace(
-                u + " added to current territory since no better options at " + currentTerritory);
+                "{} added to current territory since no better options at {}", u, currentTerritory);
             moveMap.get(currentTerritory).addTempUnit(u);
             moveMap.get(currentTerritory).setBattleResult(null);
             it.remove();
@@ -1755,7 +1746,7 @@ class ProNonCombatMoveAi {
       }
 
       // Determine if all defenses are successful
-      ProLogger.debug("Checking if all sea moves are safe for " + territoriesToDefend);
+      ProLogger.debug("Checking if all sea moves are safe for {}", territoriesToDefend);
       boolean areSuccessful = true;
       for (final Territory t : territoriesToDefend) {
         final ProTerritory proTerritory = moveMap.get(t);
@@ -1934,9 +1925,9 @@ class ProNonCombatMoveAi {
       }
       if (minTerritory != null) {
         ProLogger.trace(
-            u.getType().getName()
-                + " moved towards closest factory adjacent to sea at "
-                + minTerritory.getName());
+            "{} moved towards closest factory adjacent to sea at {}",
+            u.getType().getName(),
+            minTerritory.getName());
         final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, u, moveMap);
         moveMap.get(minTerritory).addUnits(unitsToAdd);
         addedUnits.addAll(unitsToAdd);
@@ -1977,11 +1968,10 @@ class ProNonCombatMoveAi {
       }
       if (minTerritory != null) {
         ProLogger.debug(
-            u.getType().getName()
-                + " moved to safest territory at "
-                + minTerritory.getName()
-                + " with strengthDifference="
-                + minStrengthDifference);
+            "{} moved to safest territory at {} with strengthDifference={}",
+            u.getType().getName(),
+            minTerritory.getName(),
+            minStrengthDifference);
         final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, u, moveMap);
         moveMap.get(minTerritory).addUnits(unitsToAdd);
         addedUnits.addAll(unitsToAdd);
@@ -2014,7 +2004,7 @@ class ProNonCombatMoveAi {
         if (t.isWater()
             && !ProTransportUtils.validateCarrierCapacity(
                 player, t, proTerritory.getAllDefendersForCarrierCalcs(data, player), u)) {
-          ProLogger.trace(t + " already at MAX carrier capacity");
+          ProLogger.trace("{} already at MAX carrier capacity", t);
           continue;
         }
 
@@ -2108,11 +2098,10 @@ class ProNonCombatMoveAi {
       }
       if (maxTerritory != null) {
         ProLogger.debug(
-            u.getType().getName()
-                + " added to safe territory with most attack options "
-                + maxTerritory
-                + ", maxAirValue="
-                + maxAirValue);
+            "{} added to safe territory with most attack options {}, maxAirValue={}",
+            u.getType().getName(),
+            maxTerritory,
+            maxAirValue);
         moveMap.get(maxTerritory).addUnit(u);
         moveMap.get(maxTerritory).setBattleResult(null);
         it.remove();
@@ -2132,7 +2121,7 @@ class ProNonCombatMoveAi {
         if (t.isWater()
             && !ProTransportUtils.validateCarrierCapacity(
                 player, t, proTerritory.getAllDefendersForCarrierCalcs(data, player), u)) {
-          ProLogger.trace(t + " already at MAX carrier capacity");
+          ProLogger.trace("{} already at MAX carrier capacity", t);
           continue;
         }
         final List<Unit> attackers = proTerritory.getMaxEnemyUnits();
@@ -2140,8 +2129,7 @@ class ProNonCombatMoveAi {
         defenders.add(u);
         final double strengthDifference =
             ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
-        ProLogger.trace(
-            "Unsafe territory: " + t + " with strengthDifference=" + strengthDifference);
+        ProLogger.trace("Unsafe territory: {} with strengthDifference={}", t, strengthDifference);
         if (strengthDifference < minStrengthDifference) {
           minStrengthDifference = strengthDifference;
           minTerritory = t;
@@ -2232,7 +2220,7 @@ class ProNonCombatMoveAi {
           if (hasAa) {
             value *= 0.01;
           }
-          ProLogger.trace(t.getName() + " has value=" + value);
+          ProLogger.trace("{} has value={}", t.getName(), value);
           if (value > maxValue) {
             maxValue = value;
             maxValueTerritory = t;
@@ -2240,11 +2228,10 @@ class ProNonCombatMoveAi {
         }
         if (maxValueTerritory != null) {
           ProLogger.debug(
-              u.getType().getName()
-                  + " moved to "
-                  + maxValueTerritory.getName()
-                  + " with value="
-                  + maxValue);
+              "{} moved to {} with value={}",
+              u.getType().getName(),
+              maxValueTerritory.getName(),
+              maxValue);
           moveMap.get(maxValueTerritory).addUnit(u);
           it.remove();
         }
@@ -2453,10 +2440,7 @@ class ProNonCombatMoveAi {
     ProLogger.debug("Prioritized territories:");
     for (final ProTerritory attackTerritoryData : prioritizedTerritories) {
       ProLogger.trace(
-          "  "
-              + attackTerritoryData.getValue()
-              + "  "
-              + attackTerritoryData.getTerritory().getName());
+          "  {}  {}", attackTerritoryData.getValue(), attackTerritoryData.getTerritory().getName());
     }
 
     // Print enemy territories with enemy units vs my units
@@ -2465,7 +2449,7 @@ class ProNonCombatMoveAi {
     for (final Territory t : moveMap.keySet()) {
       final ProTerritory proTerritory = moveMap.get(t);
       count++;
-      ProLogger.trace(count + ". ---" + t.getName());
+      ProLogger.trace("{}. ---{}", count, t.getName());
       final Set<Unit> combinedUnits = new HashSet<>(proTerritory.getMaxUnits());
       combinedUnits.addAll(proTerritory.getMaxAmphibUnits());
       combinedUnits.addAll(proTerritory.getCantMoveUnits());
@@ -2479,7 +2463,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap.keySet()) {
-        ProLogger.trace("    " + printMap.get(key) + " " + key);
+        ProLogger.trace("    {} {}", printMap.get(key), key);
       }
       ProLogger.trace("  --- My max amphib units ---");
       final Map<String, Integer> printMap5 = new HashMap<>();
@@ -2491,7 +2475,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap5.keySet()) {
-        ProLogger.trace("    " + printMap5.get(key) + " " + key);
+        ProLogger.trace("    {} {}", printMap5.get(key), key);
       }
       final List<Unit> units3 = proTerritory.getUnits();
       ProLogger.trace("  --- My actual units ---");
@@ -2507,7 +2491,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap3.keySet()) {
-        ProLogger.trace("    " + printMap3.get(key) + " " + key);
+        ProLogger.trace("    {} {}", printMap3.get(key), key);
       }
       ProLogger.trace("  --- Enemy units ---");
       final Map<String, Integer> printMap2 = new HashMap<>();
@@ -2520,7 +2504,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap2.keySet()) {
-        ProLogger.trace("    " + printMap2.get(key) + " " + key);
+        ProLogger.trace("    {} {}", printMap2.get(key), key);
       }
       ProLogger.trace("  --- Enemy bombard units ---");
       final Map<String, Integer> printMap4 = new HashMap<>();
@@ -2533,7 +2517,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap4.keySet()) {
-        ProLogger.trace("    " + printMap4.get(key) + " " + key);
+        ProLogger.trace("    {} {}", printMap4.get(key), key);
       }
     }
   }
@@ -76,7 +76,7 @@ class ProPurchaseAi {
       final GameData data,
       final GamePlayer player) {
     int pusRemaining = initialPusRemaining;
-    ProLogger.info("Repairing factories with PUsRemaining=" + pusRemaining);
+    ProLogger.info("Repairing factories with PUsRemaining={}", pusRemaining);
 
     // Current data at the start of combat move
     this.data = data;
@@ -111,7 +111,7 @@ class ProPurchaseAi {
           unitsThatCanProduceNeedingRepair.put(optionalFactoryNeedingRepair.get(), fixTerr);
         }
       }
-      ProLogger.debug("Factories that need repaired: " + unitsThatCanProduceNeedingRepair);
+      ProLogger.debug("Factories that need repaired: {}", unitsThatCanProduceNeedingRepair);
       for (final var repairRule : player.getRepairFrontier().getRules()) {
         for (final Unit fixUnit : unitsThatCanProduceNeedingRepair.keySet()) {
           if (fixUnit == null || !fixUnit.getType().equals(repairRule.getAnyResultKey())) {
@@ -130,7 +130,7 @@ class ProPurchaseAi {
             repair.put(fixUnit, repairMap);
             pusRemaining -= diff;
             ProLogger.debug(
-                "Repairing factory=" + fixUnit + ", damage=" + diff + ", repairRule=" + repairRule);
+                "Repairing factory={}, damage={}, repairRule={}", fixUnit, diff, repairRule);
             purchaseDelegate.purchaseRepair(repair);
           }
         }
@@ -153,9 +153,9 @@ class ProPurchaseAi {
     isBid = true;
     final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
-    ProLogger.info("Starting bid phase with resources: " + resourceTracker);
+    ProLogger.info("Starting bid phase with resources: {}", resourceTracker);
     if (!player.getUnits().isEmpty()) {
-      ProLogger.info("Starting bid phase with unplaced units=" + player.getUnits());
+      ProLogger.info("Starting bid phase with unplaced units={}", player.getUnits());
     }
 
     // Find all purchase/place territories
@@ -195,7 +195,9 @@ class ProPurchaseAi {
         for (final ProPlaceTerritory ppt : t.getCanPlaceTerritories()) {
           ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
           ProLogger.debug(
-              ppt.getTerritory() + ", strategicValue=" + territoryValueMap.get(ppt.getTerritory()));
+              "{}, strategicValue={}",
+              ppt.getTerritory(),
+              territoryValueMap.get(ppt.getTerritory()));
         }
       }
 
@@ -249,7 +251,7 @@ class ProPurchaseAi {
     // Purchase units
     final String error = purchaseDelegate.purchase(purchaseMap);
     if (error != null) {
-      ProLogger.warn("Purchase error: " + error);
+      ProLogger.warn("Purchase error: {}", error);
     }
 
     territoryManager = null;
@@ -271,9 +273,9 @@ class ProPurchaseAi {
     isBid = false;
     final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
-    ProLogger.info("Starting purchase phase with resources: " + resourceTracker);
+    ProLogger.info("Starting purchase phase with resources: {}", resourceTracker);
     if (!player.getUnits().isEmpty()) {
-      ProLogger.info("Starting purchase phase with unplaced units=" + player.getUnits());
+      ProLogger.info("Starting purchase phase with unplaced units={}", player.getUnits());
     }
 
     // Find all purchase/place territories
@@ -319,7 +321,7 @@ class ProPurchaseAi {
       for (final ProPlaceTerritory ppt : purchaseTerritories.get(t).getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
         ProLogger.debug(
-            ppt.getTerritory() + ", strategicValue=" + territoryValueMap.get(ppt.getTerritory()));
+            "{}, strategicValue={}", ppt.getTerritory(), territoryValueMap.get(ppt.getTerritory()));
       }
     }
 
@@ -382,7 +384,7 @@ class ProPurchaseAi {
     // Purchase units
     final String error = purchaseDelegate.purchase(purchaseMap);
     if (error != null) {
-      ProLogger.warn("Purchase error: " + error);
+      ProLogger.warn("Purchase error: {}", error);
     }
 
     territoryManager = null;
@@ -474,7 +476,7 @@ class ProPurchaseAi {
 
   private void placeRemainingUnits(IAbstractPlaceDelegate placeDelegate) {
     // Current data at the start of place
-    ProLogger.debug("Remaining units to place: " + player.getUnits());
+    ProLogger.debug("Remaining units to place: {}", player.getUnits());
 
     // Find all place territories
     final Map<Territory, ProPurchaseTerritory> placeNonConstructionTerritories =
@@ -517,7 +519,7 @@ class ProPurchaseAi {
       for (final ProPlaceTerritory ppt : t.getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
         ProLogger.debug(
-            ppt.getTerritory() + ", strategicValue=" + territoryValueMap.get(ppt.getTerritory()));
+            "{}, strategicValue={}", ppt.getTerritory(), territoryValueMap.get(ppt.getTerritory()));
       }
     }
 
@@ -558,7 +560,7 @@ class ProPurchaseAi {
               data.getMap().getTerritoryOrNull(ppt.getTerritory().getName()),
               unitsToPlace,
               placeDelegate);
-          ProLogger.debug(ppt.getTerritory() + " placed units: " + unitsToPlace);
+          ProLogger.debug("{} placed units: {}", ppt.getTerritory(), unitsToPlace);
         }
       }
     }
@@ -572,7 +574,7 @@ class ProPurchaseAi {
         final Territory t = placeTerritory.getTerritory();
         final List<Unit> units = t.getMatches(Matches.isUnitAllied(player));
         placeTerritory.setDefendingUnits(units);
-        ProLogger.debug(t + " has numDefenders=" + units.size());
+        ProLogger.debug("{} has numDefenders={}", t, units.size());
       }
     }
   }
@@ -580,7 +582,7 @@ class ProPurchaseAi {
   private List<ProPlaceTerritory> prioritizeTerritoriesToDefend(
       final Map<Territory, ProPurchaseTerritory> purchaseTerritories, final boolean isLand) {
 
-    ProLogger.info("Prioritize territories to defend with isLand=" + isLand);
+    ProLogger.info("Prioritize territories to defend with isLand={}", isLand);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
@@ -620,19 +622,15 @@ class ProPurchaseAi {
           holdValue = unitValue / 8;
         }
         ProLogger.trace(
-            t.getName()
-                + " TUVSwing="
-                + result.getTuvSwing()
-                + ", win%="
-                + result.getWinPercentage()
-                + ", hasLandUnitRemaining="
-                + result.isHasLandUnitRemaining()
-                + ", holdValue="
-                + holdValue
-                + ", enemyAttackers="
-                + summarizeUnits(enemyAttackingUnits)
-                + ", defenders="
-                + summarizeUnits(placeTerritory.getDefendingUnits()));
+            "{} TUVSwing={}, win%={}, hasLandUnitRemaining={}, holdValue={}, enemyAttackers={}, "
+                + "defenders={}",
+            t.getName(),
+            result.getTuvSwing(),
+            result.getWinPercentage(),
+            result.isHasLandUnitRemaining(),
+            holdValue,
+            ProLogger.lazy(() -> summarizeUnits(enemyAttackingUnits)),
+            ProLogger.lazy(() -> summarizeUnits(placeTerritory.getDefendingUnits())));
 
         // If it can't currently be held then add to list
         final boolean isLandAndCanOnlyBeAttackedByAir =
@@ -692,8 +690,7 @@ class ProPurchaseAi {
     sortedTerritories.sort(
         Comparator.comparingDouble(ProPlaceTerritory::getDefenseValue).reversed());
     for (final ProPlaceTerritory placeTerritory : sortedTerritories) {
-      ProLogger.debug(
-          placeTerritory.toString() + " defenseValue=" + placeTerritory.getDefenseValue());
+      ProLogger.debug("{} defenseValue={}", placeTerritory, placeTerritory.getDefenseValue());
     }
     return sortedTerritories;
   }
@@ -708,7 +705,7 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty()) {
       return;
     }
-    ProLogger.info("Purchase defenders with resources: " + resourceTracker + ", isLand=" + isLand);
+    ProLogger.info("Purchase defenders with resources: {}, isLand={}", resourceTracker, isLand);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
@@ -716,14 +713,11 @@ class ProPurchaseAi {
     for (final ProPlaceTerritory placeTerritory : needToDefendTerritories) {
       final Territory t = placeTerritory.getTerritory();
       ProLogger.debug(
-          "Purchasing defenders for "
-              + t.getName()
-              + ", enemyAttackers="
-              + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
-              + ", amphibEnemyAttackers="
-              + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())
-              + ", defenders="
-              + summarizeUnits(placeTerritory.getDefendingUnits()));
+          "Purchasing defenders for {}, enemyAttackers={}, amphibEnemyAttackers={}, defenders={}",
+          t.getName(),
+          ProLogger.lazy(() -> summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())),
+          ProLogger.lazy(() -> summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())),
+          ProLogger.lazy(() -> summarizeUnits(placeTerritory.getDefendingUnits())));
 
       // Find local owned units
       final List<Unit> ownedLocalUnits = t.getMatches(Matches.unitIsOwnedBy(player));
@@ -732,11 +726,10 @@ class ProPurchaseAi {
       int unusedLocalCarrierCapacity =
           ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, new ArrayList<>());
       ProLogger.trace(
-          t
-              + ", unusedCarrierCapacity="
-              + unusedCarrierCapacity
-              + ", unusedLocalCarrierCapacity="
-              + unusedLocalCarrierCapacity);
+          "{}, unusedCarrierCapacity={}, unusedLocalCarrierCapacity={}",
+          t,
+          unusedCarrierCapacity,
+          unusedLocalCarrierCapacity);
 
       // Determine if destroyer is needed
       boolean needDestroyer =
@@ -755,11 +748,10 @@ class ProPurchaseAi {
         int remainingConstructions =
             ProPurchaseUtils.getMaxConstructions(zeroMoveDefensePurchaseOptions);
         ProLogger.debug(
-            purchaseTerritory.getTerritory()
-                + ", remainingUnitProduction="
-                + remainingUnitProduction
-                + ", remainingConstructions="
-                + remainingConstructions);
+            "{}, remainingUnitProduction={}, remainingConstructions={}",
+            purchaseTerritory.getTerritory(),
+            remainingUnitProduction,
+            remainingConstructions);
         if (remainingUnitProduction <= 0 && remainingConstructions <= 0) {
           continue;
         }
@@ -834,12 +826,10 @@ class ProPurchaseAi {
                 ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
           }
           ProLogger.trace(
-              "Selected unit="
-                  + selectedOption.getUnitType().getName()
-                  + ", unusedCarrierCapacity="
-                  + unusedCarrierCapacity
-                  + ", unusedLocalCarrierCapacity="
-                  + unusedLocalCarrierCapacity);
+              "Selected unit={}, unusedCarrierCapacity={}, unusedLocalCarrierCapacity={}",
+              selectedOption.getUnitType().getName(),
+              unusedCarrierCapacity,
+              unusedLocalCarrierCapacity);
 
           // Find current battle result
           final Set<Unit> enemyAttackingUnits =
@@ -878,27 +868,22 @@ class ProPurchaseAi {
           || (!t.isWater() && hasLocalSuperiority)) {
         resourceTracker.confirmTempPurchases();
         ProLogger.trace(
-            t
-                + ", placedUnits="
-                + unitsToPlace
-                + ", TUVSwing="
-                + finalResult.getTuvSwing()
-                + ", hasLandUnitRemaining="
-                + finalResult.isHasLandUnitRemaining()
-                + ", hasLocalSuperiority="
-                + hasLocalSuperiority);
+            "{}, placedUnits={}, TUVSwing={}, hasLandUnitRemaining={}, hasLocalSuperiority={}",
+            t,
+            unitsToPlace,
+            finalResult.getTuvSwing(),
+            finalResult.isHasLandUnitRemaining(),
+            hasLocalSuperiority);
         addUnitsToPlaceTerritory(placeTerritory, unitsToPlace, purchaseTerritories);
       } else {
         resourceTracker.clearTempPurchases();
         setCantHoldPlaceTerritory(placeTerritory, purchaseTerritories);
         ProLogger.trace(
-            t
-                + ", unable to defend with placedUnits="
-                + unitsToPlace
-                + ", TUVSwing="
-                + finalResult.getTuvSwing()
-                + ", minTUVSwing="
-                + placeTerritory.getMinBattleResult().getTuvSwing());
+            "{}, unable to defend with placedUnits={}, TUVSwing={}, minTUVSwing={}",
+            t,
+            unitsToPlace,
+            finalResult.getTuvSwing(),
+            placeTerritory.getMinBattleResult().getTuvSwing());
       }
     }
   }
@@ -937,8 +922,7 @@ class ProPurchaseAi {
     prioritizedLandTerritories.sort(
         Comparator.comparingDouble(ProPlaceTerritory::getStrategicValue).reversed());
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
-      ProLogger.debug(
-          placeTerritory.toString() + " strategicValue=" + placeTerritory.getStrategicValue());
+      ProLogger.debug("{} strategicValue={}", placeTerritory, placeTerritory.getStrategicValue());
     }
     return prioritizedLandTerritories;
   }
@@ -951,14 +935,14 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty()) {
       return;
     }
-    ProLogger.info("Purchase AA units with resources: " + resourceTracker);
+    ProLogger.info("Purchase AA units with resources: {}", resourceTracker);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
     // Loop through prioritized territories and purchase AA units
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking AA place for " + t);
+      ProLogger.debug("Checking AA place for {}", t);
 
       // Check if any enemy attackers
       if (enemyAttackOptions.getMax(t) == null) {
@@ -967,7 +951,7 @@ class ProPurchaseAi {
 
       // Check remaining production
       final int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
-      ProLogger.debug(t + ", remainingUnitProduction=" + remainingUnitProduction);
+      ProLogger.debug("{}, remainingUnitProduction={}", t, remainingUnitProduction);
       if (remainingUnitProduction <= 0) {
         continue;
       }
@@ -980,13 +964,11 @@ class ProPurchaseAi {
           t.anyUnitsMatch(Matches.unitCanProduceUnitsAndCanBeDamaged());
       final boolean hasAaBombingDefense = t.anyUnitsMatch(Matches.unitIsAaForBombingThisUnitOnly());
       ProLogger.debug(
-          t
-              + ", enemyCanBomb="
-              + enemyCanBomb
-              + ", territoryCanBeBombed="
-              + territoryCanBeBombed
-              + ", hasAABombingDefense="
-              + hasAaBombingDefense);
+          "{}, enemyCanBomb={}, territoryCanBeBombed={}, hasAABombingDefense={}",
+          t,
+          enemyCanBomb,
+          territoryCanBeBombed,
+          hasAaBombingDefense);
       if (!enemyCanBomb || !territoryCanBeBombed || hasAaBombingDefense) {
         continue;
       }
@@ -1028,7 +1010,7 @@ class ProPurchaseAi {
       if (bestAaOption == null) {
         continue;
       }
-      ProLogger.trace("Best AA unit: " + bestAaOption.getUnitType().getName());
+      ProLogger.trace("Best AA unit: {}", bestAaOption.getUnitType().getName());
 
       // Create new temp units
       resourceTracker.purchase(bestAaOption);
@@ -1045,9 +1027,9 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty() && unplacedUnits.isEmpty()) {
       return;
     }
-    ProLogger.info("Purchase land units with resources: " + resourceTracker);
+    ProLogger.info("Purchase land units with resources: {}", resourceTracker);
     if (!unplacedUnits.isEmpty()) {
-      ProLogger.info("Purchase land units with unplaced units=" + unplacedUnits);
+      ProLogger.info("Purchase land units with unplaced units={}", unplacedUnits);
     }
 
     // Loop through prioritized territories and purchase land units
@@ -1066,11 +1048,11 @@ class ProPurchaseAi {
             proData, player, List.of(), List.of(), territoriesToCheck);
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking land place for " + t.getName());
+      ProLogger.debug("Checking land place for {}", t.getName());
 
       // Check remaining production
       int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
-      ProLogger.debug(t + ", remainingUnitProduction=" + remainingUnitProduction);
+      ProLogger.debug("{}, remainingUnitProduction={}", t, remainingUnitProduction);
       if (remainingUnitProduction <= 0) {
         continue;
       }
@@ -1094,7 +1076,7 @@ class ProPurchaseAi {
         enemyDistance = 10;
       }
       final int fodderPercent = 80 - enemyDistance * 5;
-      ProLogger.debug(t + ", enemyDistance=" + enemyDistance + ", fodderPercent=" + fodderPercent);
+      ProLogger.debug("{}, enemyDistance={}, fodderPercent={}", t, enemyDistance, fodderPercent);
       final Set<Territory> neighbors =
           data.getMap().getNeighbors(t, 2, ProMatches.territoryCanMoveLandUnits(player, false));
       neighbors.add(t);
@@ -1113,7 +1095,7 @@ class ProPurchaseAi {
             proData, unitsToPlace, player, t, t, isBid)) {
           remainingUnitProduction--;
           it.remove();
-          ProLogger.trace("Selected unplaced unit=" + u);
+          ProLogger.trace("Selected unplaced unit={}", u);
         } else {
           unitsToPlace.removeLast();
         }
@@ -1200,7 +1182,7 @@ class ProPurchaseAi {
         unitsToPlace.addAll(selectedOption.createTempUnits());
         attackAndDefenseDifference += (selectedOption.getAttack() - selectedOption.getDefense());
         selectFodderUnit = ((double) addedFodderUnits / unitsToPlace.size() * 100) <= fodderPercent;
-        ProLogger.trace("Selected unit=" + selectedOption.getUnitType().getName());
+        ProLogger.trace("Selected unit={}", selectedOption.getUnitType().getName());
       }
 
       // Add units to place territory
@@ -1219,7 +1201,7 @@ class ProPurchaseAi {
       return;
     }
     ProLogger.info(
-        "Purchase factory with resources: " + resourceTracker + ", hasExtraPUs=" + hasExtraPUs);
+        "Purchase factory with resources: {}, hasExtraPUs={}", resourceTracker, hasExtraPUs);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
@@ -1228,7 +1210,7 @@ class ProPurchaseAi {
       for (final Territory t : purchaseTerritories.keySet()) {
         if (placeTerritory.getTerritory().equals(t)
             && purchaseTerritories.get(t).getRemainingUnitProduction() > 0) {
-          ProLogger.debug("Not purchasing a factory since remaining land production in " + t);
+          ProLogger.debug("Not purchasing a factory since remaining land production in {}", t);
           return;
         }
       }
@@ -1255,7 +1237,7 @@ class ProPurchaseAi {
       // Check if no enemy attackers and that it wasn't conquered this turn
       if (enemyAttackOptions.getMax(t) == null) {
         purchaseFactoryTerritories.add(t);
-        ProLogger.trace("Possible factory since no enemy attackers: " + t.getName());
+        ProLogger.trace("Possible factory since no enemy attackers: {}", t.getName());
       } else {
 
         // Find current battle result
@@ -1275,33 +1257,27 @@ class ProPurchaseAi {
         if (result.isHasLandUnitRemaining() || result.getTuvSwing() > 0) {
           territoriesThatCantBeHeld.add(t);
           ProLogger.trace(
-              "Can't hold territory: "
-                  + t.getName()
-                  + ", hasLandUnitRemaining="
-                  + result.isHasLandUnitRemaining()
-                  + ", TUVSwing="
-                  + result.getTuvSwing()
-                  + ", enemyAttackers="
-                  + enemyAttackingUnits.size()
-                  + ", myDefenders="
-                  + defenders.size());
+              "Can't hold territory: {}, hasLandUnitRemaining={}, TUVSwing={}, enemyAttackers={}, "
+                  + "myDefenders={}",
+              t.getName(),
+              result.isHasLandUnitRemaining(),
+              result.getTuvSwing(),
+              enemyAttackingUnits.size(),
+              defenders.size());
         } else {
           purchaseFactoryTerritories.add(t);
           ProLogger.trace(
-              "Possible factory: "
-                  + t.getName()
-                  + ", hasLandUnitRemaining="
-                  + result.isHasLandUnitRemaining()
-                  + ", TUVSwing="
-                  + result.getTuvSwing()
-                  + ", enemyAttackers="
-                  + enemyAttackingUnits.size()
-                  + ", myDefenders="
-                  + defenders.size());
+              "Possible factory: {}, hasLandUnitRemaining={}, TUVSwing={}, enemyAttackers={}, "
+                  + "myDefenders={}",
+              t.getName(),
+              result.isHasLandUnitRemaining(),
+              result.getTuvSwing(),
+              enemyAttackingUnits.size(),
+              defenders.size());
         }
       }
     }
-    ProLogger.debug("Possible factory territories: " + purchaseFactoryTerritories);
+    ProLogger.debug("Possible factory territories: {}", purchaseFactoryTerritories);
 
     // Remove any territories that don't have local land superiority
     if (!hasExtraPUs) {
@@ -1310,7 +1286,8 @@ class ProPurchaseAi {
               !ProBattleUtils.territoryHasLocalLandSuperiority(
                   proData, t, ProBattleUtils.MEDIUM_RANGE, player, purchaseTerritories));
       ProLogger.debug(
-          "Possible factory territories that have land superiority: " + purchaseFactoryTerritories);
+          "Possible factory territories that have land superiority: {}",
+          purchaseFactoryTerritories);
     }
 
     // Find strategic value for each territory
@@ -1330,13 +1307,11 @@ class ProPurchaseAi {
       final int numNearbyEnemyTerritories =
           CollectionUtils.countMatches(nearbyLandTerritories, Matches.isTerritoryEnemy(player));
       ProLogger.trace(
-          t
-              + ", strategic value="
-              + territoryValueMap.get(t)
-              + ", value="
-              + value
-              + ", numNearbyEnemyTerritories="
-              + numNearbyEnemyTerritories);
+          "{}, strategic value={}, value={}, numNearbyEnemyTerritories={}",
+          t,
+          territoryValueMap.get(t),
+          value,
+          numNearbyEnemyTerritories);
       if (value > maxValue
           && ((numNearbyEnemyTerritories >= 4 && territoryValueMap.get(t) >= 1)
               || (isAdjacentToSea && hasExtraPUs))) {
@@ -1344,7 +1319,7 @@ class ProPurchaseAi {
         maxTerritory = t;
       }
     }
-    ProLogger.debug("Try to purchase factory for territory: " + maxTerritory);
+    ProLogger.debug("Try to purchase factory for territory: {}", maxTerritory);
 
     // Determine whether to purchase factory
     if (maxTerritory != null) {
@@ -1397,7 +1372,7 @@ class ProPurchaseAi {
 
       // Check if there are enough PUs to buy a factory
       if (bestFactoryOption != null) {
-        ProLogger.debug("Best factory unit: " + bestFactoryOption.getUnitType().getName());
+        ProLogger.debug("Best factory unit: {}", bestFactoryOption.getUnitType().getName());
         final ProPurchaseTerritory factoryPurchaseTerritory =
             new ProPurchaseTerritory(maxTerritory, data, player, 0);
         factoryPurchaseTerritories.put(maxTerritory, factoryPurchaseTerritory);
@@ -1407,7 +1382,7 @@ class ProPurchaseAi {
             addUnitsToPlace(ppt, factory);
             if (resourceTracker.hasEnough(bestFactoryOption)) {
               resourceTracker.purchase(bestFactoryOption);
-              ProLogger.debug(maxTerritory + ", placedFactory=" + factory);
+              ProLogger.debug("{}, placedFactory={}", maxTerritory, factory);
             } else {
               resourceTracker.purchase(bestFactoryOption);
               resourceTracker.removePurchase(maxPlacedOption);
@@ -1415,7 +1390,7 @@ class ProPurchaseAi {
                 maxPlacedTerritory.getPlaceUnits().remove(maxPlacedUnit);
               }
               ProLogger.debug(
-                  maxTerritory + ", placedFactory=" + factory + ", removedUnit=" + maxPlacedUnit);
+                  "{}, placedFactory={}, removedUnit={}", maxTerritory, factory, maxPlacedUnit);
             }
           }
         }
@@ -1478,17 +1453,14 @@ class ProPurchaseAi {
               * (1 + numMyTransports + 0.1 * numSeaDefenders)
               / (1 + 3.0 * needDefenders);
       ProLogger.debug(
-          t
-              + ", value="
-              + territoryValue
-              + ", strategicValue="
-              + placeTerritory.getStrategicValue()
-              + ", numMyTransports="
-              + numMyTransports
-              + ", numSeaDefenders="
-              + numSeaDefenders
-              + ", needDefenders="
-              + needDefenders);
+          "{}, value={}, strategicValue={}, numMyTransports={}, numSeaDefenders={}, "
+              + "needDefenders={}",
+          t,
+          territoryValue,
+          placeTerritory.getStrategicValue(),
+          numMyTransports,
+          numSeaDefenders,
+          needDefenders);
       placeTerritory.setStrategicValue(territoryValue);
     }
 
@@ -1498,7 +1470,7 @@ class ProPurchaseAi {
         Comparator.comparingDouble(ProPlaceTerritory::getStrategicValue).reversed());
     ProLogger.debug("Sorted sea territories:");
     for (final ProPlaceTerritory placeTerritory : sortedTerritories) {
-      ProLogger.debug(placeTerritory.toString() + " value=" + placeTerritory.getStrategicValue());
+      ProLogger.debug("{} value={}", placeTerritory, placeTerritory.getStrategicValue());
     }
     return sortedTerritories;
   }
@@ -1511,7 +1483,7 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty()) {
       return false;
     }
-    ProLogger.info("Purchase sea and amphib units with resources: " + resourceTracker);
+    ProLogger.info("Purchase sea and amphib units with resources: {}", resourceTracker);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
     boolean boughtUnits = false;
@@ -1521,7 +1493,7 @@ class ProPurchaseAi {
     // Loop through prioritized territories and purchase sea units
     for (final ProPlaceTerritory placeTerritory : prioritizedSeaTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking sea place for " + t.getName());
+      ProLogger.debug("Checking sea place for {}", t.getName());
 
       // Find all purchase territories for place territory
       final List<ProPurchaseTerritory> selectedPurchaseTerritories =
@@ -1539,9 +1511,10 @@ class ProPurchaseAi {
       int unusedLocalCarrierCapacity =
           ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, List.of());
       ProLogger.trace(
-          String.format(
-              "%s, unusedCarrierCapacity=%s, unusedLocalCarrierCapacity=%s",
-              t, unusedCarrierCapacity, unusedLocalCarrierCapacity));
+          "{}, unusedCarrierCapacity={}, unusedLocalCarrierCapacity={}",
+          t,
+          unusedCarrierCapacity,
+          unusedLocalCarrierCapacity);
 
       // If any enemy attackers then purchase sea defenders until it can be held
       boolean needDestroyer = false;
@@ -1555,9 +1528,10 @@ class ProPurchaseAi {
           needDestroyer = true;
         }
         ProLogger.trace(
-            String.format(
-                "%s, needDestroyer=%s, checking defense since has enemy attackers: %s",
-                t, needDestroyer, attackers));
+            "{}, needDestroyer={}, checking defense since has enemy attackers: {}",
+            t,
+            needDestroyer,
+            attackers);
         List<Unit> defendingUnits = new ArrayList<>(placeTerritory.getDefendingUnits());
         defendingUnits.addAll(ProPurchaseUtils.getPlaceUnits(t, purchaseTerritories));
         ProBattleResult result =
@@ -1572,9 +1546,10 @@ class ProPurchaseAi {
           // Check remaining production
           int remainingUnitProduction = purchaseTerritory.getRemainingUnitProduction();
           ProLogger.trace(
-              String.format(
-                  "%s, purchaseTerritory=%s, remainingUnitProduction=%s",
-                  t, purchaseTerritory.getTerritory(), remainingUnitProduction));
+              "{}, purchaseTerritory={}, remainingUnitProduction={}",
+              t,
+              purchaseTerritory.getTerritory(),
+              remainingUnitProduction);
           if (remainingUnitProduction <= 0) {
             continue;
           }
@@ -1649,17 +1624,14 @@ class ProPurchaseAi {
                   ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
             }
             ProLogger.trace(
-                t
-                    + ", added sea defender for defense: "
-                    + selectedOption.getUnitType().getName()
-                    + ", TUVSwing="
-                    + result.getTuvSwing()
-                    + ", win%="
-                    + result.getWinPercentage()
-                    + ", unusedCarrierCapacity="
-                    + unusedCarrierCapacity
-                    + ", unusedLocalCarrierCapacity="
-                    + unusedLocalCarrierCapacity);
+                "{}, added sea defender for defense: {}, TUVSwing={}, win%={}, "
+                    + "unusedCarrierCapacity={}, unusedLocalCarrierCapacity={}",
+                t,
+                selectedOption.getUnitType().getName(),
+                result.getTuvSwing(),
+                result.getWinPercentage(),
+                unusedCarrierCapacity,
+                unusedLocalCarrierCapacity);
 
             // Find current battle result
             defendingUnits = new ArrayList<>(placeTerritory.getDefendingUnits());
@@ -1680,24 +1652,26 @@ class ProPurchaseAi {
             || result.getWinPercentage() < (100.0 - proData.getWinPercentage())) {
           resourceTracker.confirmTempPurchases();
           ProLogger.trace(
-              String.format(
-                  "%s, placedUnits=%s, TUVSwing=%s, win%%=%s",
-                  t, unitsToPlace, result.getTuvSwing(), result.getWinPercentage()));
+              "{}, placedUnits={}, TUVSwing={}, win%={}",
+              t,
+              unitsToPlace,
+              result.getTuvSwing(),
+              result.getWinPercentage());
           addUnitsToPlaceTerritory(placeTerritory, unitsToPlace, purchaseTerritories);
           boughtUnits = true;
         } else {
           resourceTracker.clearTempPurchases();
           setCantHoldPlaceTerritory(placeTerritory, purchaseTerritories);
+          final List<Unit> finalDefendingUnits = defendingUnits;
           ProLogger.trace(
-              String.format(
-                  "%s, can't defend TUVSwing=%s, win%%=%s, tried to placeDefenders=%s, "
-                      + "enemyAttackers=%s, defendingUnits=%s",
-                  t,
-                  result.getTuvSwing(),
-                  result.getWinPercentage(),
-                  summarizeUnits(unitsToPlace),
-                  summarizeUnits(attackers),
-                  summarizeUnits(defendingUnits)));
+              "{}, can't defend TUVSwing={}, win%={}, tried to placeDefenders={}, "
+                  + "enemyAttackers={}, defendingUnits={}",
+              t,
+              result.getTuvSwing(),
+              result.getWinPercentage(),
+              ProLogger.lazy(() -> summarizeUnits(unitsToPlace)),
+              ProLogger.lazy(() -> summarizeUnits(attackers)),
+              ProLogger.lazy(() -> summarizeUnits(finalDefendingUnits)));
           wantedToBuyUnitsButCouldNotDefendThem = true;
           continue;
         }
@@ -1768,19 +1742,15 @@ class ProPurchaseAi {
         needDestroyer = true;
       }
       ProLogger.trace(
-          t
-              + ", enemyDistance="
-              + enemyDistance
-              + ", alliedDistance="
-              + alliedDistance
-              + ", enemyAirUnits="
-              + summarizeUnits(enemyUnitsInLandTerritories)
-              + ", enemySeaUnits="
-              + summarizeUnits(enemyUnitsInSeaTerritories)
-              + ", mySeaUnits="
-              + summarizeUnits(myUnitsInSeaTerritories)
-              + ", needDestroyer="
-              + needDestroyer);
+          "{}, enemyDistance={}, alliedDistance={}, enemyAirUnits={}, enemySeaUnits={}, "
+              + "mySeaUnits={}, needDestroyer={}",
+          t,
+          enemyDistance,
+          alliedDistance,
+          ProLogger.lazy(() -> summarizeUnits(enemyUnitsInLandTerritories)),
+          ProLogger.lazy(() -> summarizeUnits(enemyUnitsInSeaTerritories)),
+          ProLogger.lazy(() -> summarizeUnits(myUnitsInSeaTerritories)),
+          needDestroyer);
 
       // Purchase naval defenders until I have local naval superiority
       final List<Unit> unitsToPlace = new ArrayList<>();
@@ -1789,11 +1759,10 @@ class ProPurchaseAi {
         // Check remaining production
         int remainingUnitProduction = purchaseTerritory.getRemainingUnitProduction();
         ProLogger.trace(
-            t
-                + ", purchaseTerritory="
-                + purchaseTerritory.getTerritory()
-                + ", remainingUnitProduction="
-                + remainingUnitProduction);
+            "{}, purchaseTerritory={}, remainingUnitProduction={}",
+            t,
+            purchaseTerritory.getTerritory(),
+            remainingUnitProduction);
         if (remainingUnitProduction <= 0) {
           continue;
         }
@@ -1861,13 +1830,12 @@ class ProPurchaseAi {
                 ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
           }
           ProLogger.trace(
-              String.format(
-                  "%s, added sea defender for naval superiority: %s, "
-                      + "unusedCarrierCapacity=%s, unusedLocalCarrierCapacity=%s",
-                  t,
-                  selectedOption.getUnitType().getName(),
-                  unusedCarrierCapacity,
-                  unusedLocalCarrierCapacity));
+              "{}, added sea defender for naval superiority: {}, "
+                  + "unusedCarrierCapacity={}, unusedLocalCarrierCapacity={}",
+              t,
+              selectedOption.getUnitType().getName(),
+              unusedCarrierCapacity,
+              unusedLocalCarrierCapacity);
         }
       }
 
@@ -1895,16 +1863,17 @@ class ProPurchaseAi {
       final Map<Territory, Double> territoryValueMap =
           ProTerritoryValueUtils.findTerritoryValues(
               proData, player, List.of(), List.of(), territoriesToCheck);
-      ProLogger.trace(t + ", transportMovement=" + distance);
+      ProLogger.trace("{}, transportMovement={}", t, distance);
       for (final ProPurchaseTerritory purchaseTerritory : selectedPurchaseTerritories) {
         final Territory landTerritory = purchaseTerritory.getTerritory();
 
         // Check if territory can produce units and has remaining production
         int remainingUnitProduction = purchaseTerritory.getRemainingUnitProduction();
         ProLogger.trace(
-            String.format(
-                "%s, purchaseTerritory=%s, remainingUnitProduction=%s",
-                t, landTerritory, remainingUnitProduction));
+            "{}, purchaseTerritory={}, remainingUnitProduction={}",
+            t,
+            landTerritory,
+            remainingUnitProduction);
         if (remainingUnitProduction <= 0) {
           continue;
         }
@@ -1962,9 +1931,10 @@ class ProPurchaseAi {
           }
         }
         ProLogger.trace(
-            String.format(
-                "%s, potentialUnitsToLoad=%s,  transportsThatNeedUnits=%s",
-                t, summarizeUnits(potentialUnitsToLoad), summarizeUnits(transportsThatNeedUnits)));
+            "{}, potentialUnitsToLoad={},  transportsThatNeedUnits={}",
+            t,
+            ProLogger.lazy(() -> summarizeUnits(potentialUnitsToLoad)),
+            ProLogger.lazy(() -> summarizeUnits(transportsThatNeedUnits)));
 
         // Purchase transports and amphib units
         final List<Unit> amphibUnitsToPlace = new ArrayList<>();
@@ -2018,7 +1988,7 @@ class ProPurchaseAi {
               resourceTracker.purchase(ppo);
               remainingUnitProduction -= ppo.getQuantity();
               transportCapacity -= ppo.getTransportCost();
-              ProLogger.trace("Selected unit=" + ppo.getUnitType().getName());
+              ProLogger.trace("Selected unit={}", ppo.getUnitType().getName());
             }
             transportsThatNeedUnits.remove(transport);
           } else {
@@ -2052,12 +2022,10 @@ class ProPurchaseAi {
             remainingUnitProduction -= ppo.getQuantity();
             transportsThatNeedUnits.addAll(transports);
             ProLogger.trace(
-                "Selected unit="
-                    + ppo.getUnitType().getName()
-                    + ", potentialUnitsToLoad="
-                    + potentialUnitsToLoad
-                    + ", transportsThatNeedUnits="
-                    + transportsThatNeedUnits);
+                "Selected unit={}, potentialUnitsToLoad={}, transportsThatNeedUnits={}",
+                ppo.getUnitType().getName(),
+                potentialUnitsToLoad,
+                transportsThatNeedUnits);
           }
         }
 
@@ -2073,9 +2041,11 @@ class ProPurchaseAi {
           boughtUnits = true;
         }
         ProLogger.trace(
-            String.format(
-                "%s, purchaseTerritory=%s, transportUnitsToPlace=%s, amphibUnitsToPlace=%s",
-                t, landTerritory, transportUnitsToPlace, amphibUnitsToPlace));
+            "{}, purchaseTerritory={}, transportUnitsToPlace={}, amphibUnitsToPlace={}",
+            t,
+            landTerritory,
+            transportUnitsToPlace,
+            amphibUnitsToPlace);
       }
     }
 
@@ -2095,8 +2065,8 @@ class ProPurchaseAi {
       return;
     }
     ProLogger.info(
-        "Purchase units in territories with remaining production with resources: "
-            + resourceTracker);
+        "Purchase units in territories with remaining production with resources: {}",
+        resourceTracker);
 
     // Get all safe/unsafe land place territories with remaining production
     final List<ProPlaceTerritory> prioritizedLandTerritories = new ArrayList<>();
@@ -2118,12 +2088,12 @@ class ProPurchaseAi {
     prioritizedLandTerritories.sort(
         Comparator.comparingDouble(ProPlaceTerritory::getStrategicValue).reversed());
     ProLogger.debug(
-        "Sorted land territories with remaining production: " + prioritizedLandTerritories);
+        "Sorted land territories with remaining production: {}", prioritizedLandTerritories);
 
     // Loop through territories and purchase long range attack units
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking territory: " + t);
+      ProLogger.debug("Checking territory: {}", t);
 
       // Determine units that can be produced in this territory
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(airPurchaseOptions);
@@ -2180,13 +2150,13 @@ class ProPurchaseAi {
     prioritizedCantHoldLandTerritories.sort(
         Comparator.comparingDouble(ProPlaceTerritory::getDefenseValue).reversed());
     ProLogger.debug(
-        "Sorted can't hold land territories with remaining production: "
-            + prioritizedCantHoldLandTerritories);
+        "Sorted can't hold land territories with remaining production: {}",
+        prioritizedCantHoldLandTerritories);
 
     // Loop through territories and purchase defense units
     for (final ProPlaceTerritory placeTerritory : prioritizedCantHoldLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking territory: " + t);
+      ProLogger.debug("Checking territory: {}", t);
 
       // Find local owned units
       final List<Unit> ownedLocalUnits = t.getMatches(Matches.unitIsOwnedBy(player));
@@ -2243,7 +2213,7 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty()) {
       return;
     }
-    ProLogger.info("Upgrade units with resources: " + resourceTracker);
+    ProLogger.info("Upgrade units with resources: {}", resourceTracker);
 
     // Get all safe land place territories
     final List<ProPlaceTerritory> prioritizedLandTerritories = new ArrayList<>();
@@ -2259,12 +2229,12 @@ class ProPurchaseAi {
     // Sort territories by ascending value (try upgrading units in far away territories first)
     prioritizedLandTerritories.sort(
         Comparator.comparingDouble(ProPlaceTerritory::getStrategicValue));
-    ProLogger.debug("Sorted land territories: " + prioritizedLandTerritories);
+    ProLogger.debug("Sorted land territories: {}", prioritizedLandTerritories);
 
     // Loop through territories and upgrade units to long range attack units
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking territory: " + t);
+      ProLogger.debug("Checking territory: {}", t);
 
       // Determine units that can be produced in this territory
       final List<ProPurchaseOption> airAndLandPurchaseOptions =
@@ -2367,7 +2337,7 @@ class ProPurchaseAi {
         resourceTracker.removePurchase(minPurchaseOption);
         remainingUpgradeUnits -= minPurchaseOption.getQuantity();
         placeTerritory.getPlaceUnits().removeAll(unitsToRemove);
-        ProLogger.trace(t + ", removedUnits=" + unitsToRemove);
+        ProLogger.trace("{}, removedUnits={}", t, unitsToRemove);
         for (int i = 0; i < unitsToRemove.size(); i++) {
           if (resourceTracker.hasEnough(bestUpgradeOption)) {
             resourceTracker.purchase(bestUpgradeOption);
@@ -2411,7 +2381,7 @@ class ProPurchaseAi {
       if (numUnits > 0) {
         final int numProductionRule = numUnits / ppo.getQuantity();
         purchaseMap.put(ppo.getProductionRule(), numProductionRule);
-        ProLogger.info(numProductionRule + " " + ppo.getProductionRule());
+        ProLogger.info("{} {}", numProductionRule, ppo.getProductionRule());
       }
     }
     return purchaseMap;
@@ -2421,7 +2391,7 @@ class ProPurchaseAi {
       final Map<Territory, ProPurchaseTerritory> placeNonConstructionTerritories,
       final List<ProPlaceTerritory> needToDefendTerritories,
       final IAbstractPlaceDelegate placeDelegate) {
-    ProLogger.info("Place defenders with units=" + player.getUnits());
+    ProLogger.info("Place defenders with units={}", player.getUnits());
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
@@ -2429,20 +2399,17 @@ class ProPurchaseAi {
     for (final ProPlaceTerritory placeTerritory : needToDefendTerritories) {
       final Territory t = placeTerritory.getTerritory();
       ProLogger.debug(
-          "Placing defenders for "
-              + t.getName()
-              + ", enemyAttackers="
-              + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
-              + ", amphibEnemyAttackers="
-              + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())
-              + ", defenders="
-              + summarizeUnits(placeTerritory.getDefendingUnits()));
+          "Placing defenders for {}, enemyAttackers={}, amphibEnemyAttackers={}, defenders={}",
+          t.getName(),
+          ProLogger.lazy(() -> summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())),
+          ProLogger.lazy(() -> summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())),
+          ProLogger.lazy(() -> summarizeUnits(placeTerritory.getDefendingUnits())));
 
       // Check if any units can be placed
       final PlaceableUnits placeableUnits =
           placeDelegate.getPlaceableUnits(player.getMatches(Matches.unitIsNotConstruction()), t);
       if (placeableUnits.isError()) {
-        ProLogger.trace(t + " can't place units with error: " + placeableUnits.getErrorMessage());
+        ProLogger.trace("{} can't place units with error: {}", t, placeableUnits.getErrorMessage());
         continue;
       }
 
@@ -2451,7 +2418,7 @@ class ProPurchaseAi {
       if (remainingUnitProduction == -1) {
         remainingUnitProduction = Integer.MAX_VALUE;
       }
-      ProLogger.trace(t + ", remainingUnitProduction=" + remainingUnitProduction);
+      ProLogger.trace("{}, remainingUnitProduction={}", t, remainingUnitProduction);
 
       // Place defenders and check battle results
       final List<Unit> unitsThatCanBePlaced = new ArrayList<>(placeableUnits.getUnits());
@@ -2492,18 +2459,16 @@ class ProPurchaseAi {
           || finalResult.getTuvSwing() < placeTerritory.getMinBattleResult().getTuvSwing()
           || t.equals(proData.getMyCapital())) {
         ProLogger.trace(
-            t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + finalResult.getTuvSwing());
+            "{}, placedUnits={}, TUVSwing={}", t, unitsToPlace, finalResult.getTuvSwing());
         doPlace(t, unitsToPlace, placeDelegate);
       } else {
         setCantHoldPlaceTerritory(placeTerritory, placeNonConstructionTerritories);
         ProLogger.trace(
-            t
-                + ", unable to defend with placedUnits="
-                + unitsToPlace
-                + ", TUVSwing="
-                + finalResult.getTuvSwing()
-                + ", minTUVSwing="
-                + placeTerritory.getMinBattleResult().getTuvSwing());
+            "{}, unable to defend with placedUnits={}, TUVSwing={}, minTUVSwing={}",
+            t,
+            unitsToPlace,
+            finalResult.getTuvSwing(),
+            placeTerritory.getMinBattleResult().getTuvSwing());
       }
     }
   }
@@ -2512,18 +2477,18 @@ class ProPurchaseAi {
       final List<ProPlaceTerritory> prioritizedTerritories,
       final IAbstractPlaceDelegate placeDelegate,
       final Predicate<Unit> unitMatch) {
-    ProLogger.info("Place units=" + player.getUnits());
+    ProLogger.info("Place units={}", player.getUnits());
 
     // Loop through prioritized territories and place units
     for (final ProPlaceTerritory placeTerritory : prioritizedTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking place for " + t.getName());
+      ProLogger.debug("Checking place for {}", t.getName());
 
       // Check if any units can be placed
       final PlaceableUnits placeableUnits =
           placeDelegate.getPlaceableUnits(player.getMatches(unitMatch), t);
       if (placeableUnits.isError()) {
-        ProLogger.trace(t + " can't place units with error: " + placeableUnits.getErrorMessage());
+        ProLogger.trace("{} can't place units with error: {}", t, placeableUnits.getErrorMessage());
         continue;
       }
 
@@ -2532,13 +2497,13 @@ class ProPurchaseAi {
       if (remainingUnitProduction == -1) {
         remainingUnitProduction = Integer.MAX_VALUE;
       }
-      ProLogger.trace(t + ", remainingUnitProduction=" + remainingUnitProduction);
+      ProLogger.trace("{}, remainingUnitProduction={}", t, remainingUnitProduction);
 
       // Place as many units as possible
       final List<Unit> unitsThatCanBePlaced = new ArrayList<>(placeableUnits.getUnits());
       final int placeCount = Math.min(remainingUnitProduction, unitsThatCanBePlaced.size());
       final List<Unit> unitsToPlace = unitsThatCanBePlaced.subList(0, placeCount);
-      ProLogger.trace(t + ", placedUnits=" + unitsToPlace);
+      ProLogger.trace("{}, placedUnits={}", t, unitsToPlace);
       doPlace(t, unitsToPlace, placeDelegate);
     }
   }
@@ -2580,14 +2545,14 @@ class ProPurchaseAi {
       return;
     }
     ppt.getPlaceUnits().addAll(unitsToPlace);
-    ProLogger.trace(ppt.getTerritory() + ", placedUnits=" + unitsToPlace);
+    ProLogger.trace("{}, placedUnits={}", ppt.getTerritory(), unitsToPlace);
     // TODO: If consumed units can come from a different territory, this will need to change.
     Collection<Unit> candidateUnitsToConsume =
         CollectionUtils.difference(ppt.getTerritory().getUnits(), proData.getUnitsToBeConsumed());
     Collection<Unit> toConsume =
         ProPurchaseUtils.getUnitsToConsume(player, candidateUnitsToConsume, unitsToPlace);
     if (!toConsume.isEmpty()) {
-      ProLogger.trace(" toConsume=" + toConsume);
+      ProLogger.trace(" toConsume={}", toConsume);
       proData.getUnitsToBeConsumed().addAll(toConsume);
     }
   }
@@ -2625,7 +2590,7 @@ class ProPurchaseAi {
           .ifPresent(
               message -> {
                 ProLogger.warn(message);
-                ProLogger.warn("Attempt was at: " + t + " with: " + unit);
+                ProLogger.warn("Attempt was at: {} with: {}", t, unit);
               });
     }
     AbstractAi.movePause();
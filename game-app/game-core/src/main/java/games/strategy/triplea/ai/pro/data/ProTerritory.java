@@ -252,6 +252,12 @@ public class ProTerritory {
             getBombardTerritoryMap().keySet()));
   }
 
+  /** Returns the battle that {@link #estimateBattleResult} estimates. */
+  public ProOddsCalculator.Battle getBattle(final GamePlayer player) {
+    return new ProOddsCalculator.Battle(
+        territory, getUnits(), getMaxEnemyDefenders(player), getBombardTerritoryMap().keySet());
+  }
+
   public void setBattleResult(final ProBattleResult battleResult) {
     this.battleResult = battleResult;
     if (battleResult == null) {
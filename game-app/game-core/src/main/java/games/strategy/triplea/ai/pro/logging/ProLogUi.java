@@ -5,6 +5,7 @@ import games.strategy.triplea.ui.menubar.debug.AiPlayerDebugAction;
 import games.strategy.triplea.ui.menubar.debug.AiPlayerDebugOption;
 import games.strategy.ui.Util;
 import java.awt.Frame;
+import java.util.ArrayList;
 import java.util.List;
 import javax.swing.SwingUtilities;
 import lombok.experimental.UtilityClass;
@@ -13,7 +14,7 @@ import org.triplea.swing.key.binding.KeyCode;
 /** Class to manage log window display. */
 @UtilityClass
 public final class ProLogUi {
-  private static ProLogWindow settingsWindow = null;
+  private static volatile ProLogWindow settingsWindow = null;
   private static String currentName = "";
   private static int currentRound = 0;
 
@@ -24,12 +25,21 @@ public final class ProLogUi {
       GameShutdownRegistry.registerShutdownAction(ProLogUi::clearCachedInstances);
     }
     ProLogger.info("Initialized Hard AI");
-    return List.of(
+    final List<AiPlayerDebugOption> options = new ArrayList<>();
+    options.add(
         AiPlayerDebugOption.builder()
             .title("Show Logs")
             .actionListener(ProLogUi::showSettingsWindow)
             .mnemonic(KeyCode.X.getInputEventCode())
             .build());
+    if (ProTraceBuffer.isEnabled()) {
+      options.add(
+          AiPlayerDebugOption.builder()
+              .title("Show Trace")
+              .actionListener(ProLogUi::showTrace)
+              .build());
+    }
+    return options;
   }
 
   public static void clearCachedInstances() {
@@ -47,6 +57,19 @@ public final class ProLogUi {
     settingsWindow.setVisible(true);
   }
 
+  /** Appends the events of the {@link ProTraceBuffer} to the log window and shows it. */
+  public static void showTrace(AiPlayerDebugAction aiPlayerDebugAction) {
+    if (settingsWindow == null) {
+      return;
+    }
+    ProTraceBuffer.dump().forEach(settingsWindow::addMessage);
+    settingsWindow.setVisible(true);
+  }
+
+  static boolean hasLogWindow() {
+    return settingsWindow != null;
+  }
+
   static void notifyAiLogMessage(final String message) {
     SwingUtilities.invokeLater(
         () -> {
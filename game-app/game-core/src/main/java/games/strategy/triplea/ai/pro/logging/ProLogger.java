@@ -1,6 +1,7 @@
 package games.strategy.triplea.ai.pro.logging;
 
 import games.strategy.triplea.ai.pro.AbstractProAi;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import javax.annotation.Nullable;
 
@@ -24,10 +25,52 @@ public final class ProLogger {
     log(Level.FINEST, message);
   }
 
+  /**
+   * Logs a message built from {@code format}, whose {@code {}} placeholders are replaced by {@code
+   * args}. The message is only built if it is actually displayed, so prefer this over string
+   * concatenation for messages logged in loops.
+   */
+  public static void warn(final String format, final Object... args) {
+    logFormatted(Level.WARNING, format, args);
+  }
+
+  public static void info(final String format, final Object... args) {
+    logFormatted(Level.FINE, format, args);
+  }
+
+  public static void debug(final String format, final Object... args) {
+    logFormatted(Level.FINER, format, args);
+  }
+
+  public static void trace(final String format, final Object... args) {
+    logFormatted(Level.FINEST, format, args);
+  }
+
+  /**
+   * Wraps an argument of the formatting methods that is expensive to compute, e.g. a summary of
+   * units, so that it is only computed if the message is built.
+   */
+  public static Object lazy(final Supplier<?> value) {
+    return new Object() {
+      @Override
+      public String toString() {
+        return String.valueOf(value.get());
+      }
+    };
+  }
+
   private static void log(final Level level, final String message) {
     log(level, message, null);
   }
 
+  private static void logFormatted(
+      final Level level, final String format, final Object... args) {
+    ProTraceBuffer.record(level, format, args);
+    if (isLoggable(level)) {
+      ProLogUi.notifyAiLogMessage(formatMessage(ProTraceBuffer.format(format, args), null, level));
+    }
+  }
+
   /**
    * Some notes on using the Pro AI logger: First, to make the logs easily readable even when there
    * are hundreds of lines, I want every considerable step down in the call stack to mean more log
@@ -44,18 +87,25 @@ public final class ProLogger {
    * in mind while adding new logging code.
    */
   public static void log(final Level level, final String message, final @Nullable Throwable t) {
+    ProTraceBuffer.record(level, message);
+    if (isLoggable(level)) {
+      ProLogUi.notifyAiLogMessage(formatMessage(message, t, level));
+    }
+  }
+
+  private static boolean isLoggable(final Level level) {
+    if (!ProLogUi.hasLogWindow()) {
+      return false; // Nowhere to display the message, e.g. in headless games
+    }
     final ProLogSettings settings = ProLogSettings.loadSettings();
     if (!settings.isLogEnabled()) {
-      return; // Skip displaying to settings window if settings window option is turned off
+      return false; // Skip displaying to settings window if settings window option is turned off
     }
     final Level logDepth = settings.getLogLevel();
     if (logDepth.equals(Level.FINE) && (level.equals(Level.FINER) || level.equals(Level.FINEST))) {
-      return; // If the settings window log depth is a higher level than this messages, skip
-    }
-    if (logDepth.equals(Level.FINER) && level.equals(Level.FINEST)) {
-      return;
+      return false; // If the settings window log depth is a higher level than this messages, skip
     }
-    ProLogUi.notifyAiLogMessage(formatMessage(message, t, level));
+    return !(logDepth.equals(Level.FINER) && level.equals(Level.FINEST));
   }
 
   /**
@@ -0,0 +1,139 @@
+package games.strategy.triplea.ai.pro.logging;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Keeps the most recent Pro AI log events of each thread in a preallocated ring buffer, regardless
+ * of the log window settings, so that slow AI turns can be diagnosed after the fact. Events are
+ * formatted when they are recorded, so mutable arguments (e.g. unit collections) are printed as
+ * they were at that time and the buffer does not keep them reachable.
+ *
+ * <p>The buffer is disabled unless the system property {@value #BUFFER_SIZE_PROPERTY} is set to
+ * the number of events to keep per thread. While disabled, recording an event does nothing.
+ */
+@UtilityClass
+@ThreadSafe
+public class ProTraceBuffer {
+  public static final String BUFFER_SIZE_PROPERTY = "triplea.ai.pro.traceBufferSize";
+
+  private static final int BUFFER_SIZE = Math.max(0, Integer.getInteger(BUFFER_SIZE_PROPERTY, 0));
+  private static final List<Ring> RINGS = new CopyOnWriteArrayList<>();
+  private static final ThreadLocal<Ring> THREAD_RING =
+      ThreadLocal.withInitial(
+          () -> {
+            // forget the events of threads that have ended, so rings do not pile up
+            RINGS.removeIf(ring -> !ring.isThreadAlive());
+            final Ring ring = new Ring(Thread.currentThread(), BUFFER_SIZE);
+            RINGS.add(ring);
+            return ring;
+          });
+
+  public static boolean isEnabled() {
+    return BUFFER_SIZE > 0;
+  }
+
+  /** Records an event, {@code {}} placeholders in {@code format} are replaced by {@code args}. */
+  static void record(final Level level, final String format, final Object... args) {
+    if (isEnabled()) {
+      THREAD_RING.get().add(level, format(format, args));
+    }
+  }
+
+  /** Returns the buffered events of all threads, formatted and oldest first per thread. */
+  public static List<String> dump() {
+    final List<String> lines = new ArrayList<>();
+    for (final Ring ring : RINGS) {
+      ring.dumpTo(lines);
+    }
+    return lines;
+  }
+
+  /** Writes the buffered events of all threads to the given file. */
+  public static void dumpToFile(final Path file) throws IOException {
+    Files.write(file, dump(), StandardCharsets.UTF_8);
+  }
+
+  /** Replaces the {@code {}} placeholders in {@code format} by the given arguments, in order. */
+  static String format(final String format, final Object... args) {
+    if (args.length == 0) {
+      return format;
+    }
+    final StringBuilder builder = new StringBuilder(format.length() + 16 * args.length);
+    int start = 0;
+    for (final Object arg : args) {
+      final int placeholder = format.indexOf("{}", start);
+      if (placeholder < 0) {
+        break;
+      }
+      builder.append(format, start, placeholder).append(arg);
+      start = placeholder + 2;
+    }
+    return builder.append(format, start, format.length()).toString();
+  }
+
+  @VisibleForTesting
+  static final class Ring {
+    private final WeakReference<Thread> thread;
+    private final String threadName;
+    private final long[] timestamps;
+    private final Level[] levels;
+    private final String[] messages;
+
+    @GuardedBy("this")
+    private int next = 0;
+
+    @GuardedBy("this")
+    private boolean wrapped = false;
+
+    Ring(final Thread thread, final int size) {
+      this.thread = new WeakReference<>(thread);
+      threadName = thread.getName();
+      timestamps = new long[size];
+      levels = new Level[size];
+      messages = new String[size];
+    }
+
+    boolean isThreadAlive() {
+      final Thread owner = thread.get();
+      return owner != null && owner.isAlive();
+    }
+
+    synchronized void add(final Level level, final String message) {
+      timestamps[next] = System.currentTimeMillis();
+      levels[next] = level;
+      messages[next] = message;
+      next++;
+      if (next == messages.length) {
+        next = 0;
+        wrapped = true;
+      }
+    }
+
+    synchronized void dumpTo(final List<String> lines) {
+      lines.add("--- " + threadName + " ---");
+      final int count = wrapped ? messages.length : next;
+      for (int i = 0; i < count; i++) {
+        final int index = wrapped ? (next + i) % messages.length : i;
+        lines.add(
+            Instant.ofEpochMilli(timestamps[index])
+                + " "
+                + levels[index]
+                + " "
+                + messages[index]);
+      }
+    }
+  }
+}
@@ -1,7 +1,6 @@
 package games.strategy.triplea.ai.pro.simulate;
 
 import games.strategy.engine.data.Change;
-import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.delegate.IDelegateBridge;
@@ -10,7 +9,7 @@ import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.player.Player;
 import games.strategy.engine.random.IRandomStats.DiceType;
-import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.engine.random.SimulationRandomSource;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.ai.pro.AbstractProAi;
 import games.strategy.triplea.ui.display.HeadlessDisplay;
@@ -24,14 +23,13 @@ import org.triplea.sound.ISound;
  * changes generated during the simulation.
  */
 public class ProDummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource randomSource = new PlainRandomSource();
+  private final SimulationRandomSource randomSource = new SimulationRandomSource();
   private final IDisplay display = new HeadlessDisplay();
   private final ISound soundChannel = new HeadlessSoundChannel();
   private final GamePlayer player;
   private final AbstractProAi proAi;
   private final DelegateHistoryWriter writer = DelegateHistoryWriter.createNoOpImplementation();
   private final GameData gameData;
-  private final CompositeChange allChanges = new CompositeChange();
 
   public ProDummyDelegateBridge(
       final AbstractProAi proAi, final GamePlayer player, final GameData data) {
@@ -53,6 +51,11 @@ public class ProDummyDelegateBridge implements IDelegateBridge {
     return Optional.empty();
   }
 
+  @Override
+  public boolean isSimulation() {
+    return true;
+  }
+
   @Override
   public void leaveDelegateExecution() {}
 
@@ -107,7 +110,6 @@ public class ProDummyDelegateBridge implements IDelegateBridge {
 
   @Override
   public void addChange(final Change change) {
-    allChanges.add(change);
     gameData.performChange(change);
   }
 
@@ -12,22 +12,59 @@ import games.strategy.triplea.ai.pro.data.ProTerritory;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.AnalyticBattleCalculator;
+import games.strategy.triplea.odds.calculator.BattleSetup;
 import games.strategy.triplea.odds.calculator.IBattleCalculator;
 import games.strategy.triplea.util.TuvUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import javax.annotation.Nullable;
 import org.triplea.java.collections.CollectionUtils;
+import org.triplea.metrics.Counter;
+import org.triplea.metrics.DurationTimer;
+import org.triplea.metrics.Metrics;
 
 /** Pro AI odds calculator. */
 public class ProOddsCalculator {
 
+  /**
+   * Battles that the analytic estimate gives the attacker a win percentage of at most this
+   * fraction, or at least 1 minus this fraction, are not simulated. 0, the default, always
+   * simulates. AnalyticBattleCalculatorCalibration in the tests reports the estimate's error to
+   * choose this by.
+   */
+  public static final String PREFILTER_MARGIN_PROPERTY = "triplea.ai.pro.prefilterMargin";
+
+  // battle simulations never use fewer runs than this, even when running out of time
+  private static final int MIN_RUN_COUNT = 16;
+
+  private static final double PREFILTER_MARGIN =
+      Double.parseDouble(System.getProperty(PREFILTER_MARGIN_PROPERTY, "0"));
+
+  private static final DurationTimer BATTLE_CALC_TIMER = Metrics.timer("ai.pro.battleCalc");
+  private static final DurationTimer BATTLE_CALC_BATCH_TIMER =
+      Metrics.timer("ai.pro.battleCalcBatch");
+  private static final Counter PREFILTERED_BATTLES = Metrics.counter("ai.pro.battlesPrefiltered");
+
   private final IBattleCalculator calc;
+  private final IBattleCalculator estimator = new AnalyticBattleCalculator();
+  private final ProTimeBudget timeBudget;
   private boolean stopped = false;
 
-  public ProOddsCalculator(final IBattleCalculator calc) {
+  public ProOddsCalculator(final IBattleCalculator calc, final ProTimeBudget timeBudget) {
     this.calc = calc;
+    this.timeBudget = timeBudget;
   }
 
+  /** A battle to simulate with {@link #calculateBattleResults(ProData, List)}. */
+  public record Battle(
+      Territory territory,
+      Collection<Unit> attackingUnits,
+      Collection<Unit> defendingUnits,
+      Collection<Unit> bombardingUnits) {}
+
   public void stop() {
     stopped = true;
   }
@@ -45,6 +82,23 @@ public class ProOddsCalculator {
       final Collection<Unit> defendingUnits,
       final Collection<Unit> bombardingUnits) {
 
+    final ProBattleResult result =
+        estimateAttackWithoutSimulation(proData, t, attackingUnits, defendingUnits);
+    if (result != null) {
+      return result;
+    }
+    return callBattleCalc(proData, t, attackingUnits, defendingUnits, bombardingUnits);
+  }
+
+  /**
+   * Returns the result of the attack if it is clear without a simulation, because one side has no
+   * units or the attackers have no chance.
+   */
+  private static @Nullable ProBattleResult estimateAttackWithoutSimulation(
+      final ProData proData,
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits) {
     final ProBattleResult result =
         checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits, true);
     if (result != null) {
@@ -57,7 +111,7 @@ public class ProOddsCalculator {
     if (strengthDifference < 45) {
       return new ProBattleResult(0, -999, false, List.of(), defendingUnits, 1);
     }
-    return callBattleCalc(proData, t, attackingUnits, defendingUnits, bombardingUnits);
+    return null;
   }
 
   /**
@@ -235,27 +289,177 @@ public class ProOddsCalculator {
       final Collection<Unit> bombardingUnits,
       final boolean checkSubmerge,
       final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = t.getData();
-
     if (stopped || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
     }
 
-    final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
-    final int runCount = Math.max(16, 100 - minArmySize);
-    final GamePlayer attacker = CollectionUtils.getAny(attackingUnits).getOwner();
-    final GamePlayer defender = CollectionUtils.getAny(defendingUnits).getOwner();
+    final BattleSetup battle =
+        createBattleSetup(
+            t, attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft);
+    final AggregateResults estimate = estimateIfOneSided(battle);
+    if (estimate != null) {
+      return createBattleResult(proData, battle, checkSubmerge, estimate);
+    }
     final AggregateResults results =
-        calc.calculate(
-            attacker,
-            defender,
-            t,
-            attackingUnits,
-            defendingUnits,
-            bombardingUnits,
-            TerritoryEffectHelper.getEffects(t),
-            retreatWhenOnlyAirLeft,
-            runCount);
+        BATTLE_CALC_TIMER.time(
+            () ->
+                getCalcWithinTimeBudget()
+                    .calculate(
+                        battle.getAttacker(),
+                        battle.getDefender(),
+                        t,
+                        attackingUnits,
+                        defendingUnits,
+                        bombardingUnits,
+                        battle.getTerritoryEffects(),
+                        retreatWhenOnlyAirLeft,
+                        battle.getRunCount()));
+    return createBattleResult(proData, battle, checkSubmerge, results);
+  }
+
+  /**
+   * Simulates the specified battles like {@link #calculateBattleResults(ProData, Territory,
+   * Collection, Collection, Collection)}, but submits all battles that need to be simulated to the
+   * battle calculator at once, so that they can be simulated concurrently.
+   *
+   * @return The results of the battles, in the same order as {@code battles}.
+   */
+  public List<ProBattleResult> calculateBattleResults(
+      final ProData proData, final List<Battle> battles) {
+    final ProBattleResult[] results = new ProBattleResult[battles.size()];
+    final List<Integer> simulatedIndexes = new ArrayList<>();
+    final List<BattleSetup> simulatedBattles = new ArrayList<>();
+    for (int i = 0; i < battles.size(); i++) {
+      final Battle battle = battles.get(i);
+      final ProBattleResult result =
+          checkIfNoAttackersOrDefenders(
+              proData,
+              battle.territory(),
+              battle.attackingUnits(),
+              battle.defendingUnits(),
+              true);
+      if (result != null) {
+        results[i] = result;
+      } else if (stopped || battle.defendingUnits().isEmpty()) {
+        results[i] = new ProBattleResult();
+      } else {
+        final BattleSetup battleSetup =
+            createBattleSetup(
+                battle.territory(),
+                battle.attackingUnits(),
+                battle.defendingUnits(),
+                battle.bombardingUnits(),
+                false);
+        final AggregateResults estimate = estimateIfOneSided(battleSetup);
+        if (estimate != null) {
+          results[i] = createBattleResult(proData, battleSetup, true, estimate);
+        } else {
+          simulatedIndexes.add(i);
+          simulatedBattles.add(battleSetup);
+        }
+      }
+    }
+    if (!simulatedBattles.isEmpty()) {
+      final List<AggregateResults> aggregateResults =
+          BATTLE_CALC_BATCH_TIMER.time(
+              () -> getCalcWithinTimeBudget().calculate(simulatedBattles));
+      for (int i = 0; i < simulatedBattles.size(); i++) {
+        results[simulatedIndexes.get(i)] =
+            createBattleResult(proData, simulatedBattles.get(i), true, aggregateResults.get(i));
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Estimates the specified battles like {@link #estimateAttackBattleResults(ProData, Territory,
+   * Collection, Collection, Collection)}, but submits all battles that need to be simulated to the
+   * battle calculator at once, see {@link #calculateBattleResults(ProData, List)}.
+   *
+   * @return The results of the battles, in the same order as {@code battles}.
+   */
+  public List<ProBattleResult> estimateAttackBattleResults(
+      final ProData proData, final List<Battle> battles) {
+    final ProBattleResult[] results = new ProBattleResult[battles.size()];
+    final List<Integer> calculatedIndexes = new ArrayList<>();
+    final List<Battle> calculatedBattles = new ArrayList<>();
+    for (int i = 0; i < battles.size(); i++) {
+      final Battle battle = battles.get(i);
+      final ProBattleResult result =
+          estimateAttackWithoutSimulation(
+              proData, battle.territory(), battle.attackingUnits(), battle.defendingUnits());
+      if (result != null) {
+        results[i] = result;
+      } else {
+        calculatedIndexes.add(i);
+        calculatedBattles.add(battle);
+      }
+    }
+    final List<ProBattleResult> calculatedResults =
+        calculateBattleResults(proData, calculatedBattles);
+    for (int i = 0; i < calculatedBattles.size(); i++) {
+      results[calculatedIndexes.get(i)] = calculatedResults.get(i);
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Returns the battle calculator to use, which is an analytic estimate instead of a simulation
+   * once the AI has run out of time.
+   */
+  private IBattleCalculator getCalcWithinTimeBudget() {
+    return timeBudget.isExpired() ? estimator : calc;
+  }
+
+  /**
+   * Returns the analytic estimate of the battle if it is so one-sided that simulating the battle
+   * is not worth it, see {@link #PREFILTER_MARGIN_PROPERTY}.
+   */
+  private @Nullable AggregateResults estimateIfOneSided(final BattleSetup battle) {
+    if (PREFILTER_MARGIN <= 0) {
+      return null;
+    }
+    final AggregateResults estimate = estimator.calculate(List.of(battle)).get(0);
+    final double winPercentage = estimate.getAttackerWinPercent();
+    if (winPercentage > PREFILTER_MARGIN && winPercentage < 1 - PREFILTER_MARGIN) {
+      return null;
+    }
+    PREFILTERED_BATTLES.increment();
+    return estimate;
+  }
+
+  private BattleSetup createBattleSetup(
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits,
+      final boolean retreatWhenOnlyAirLeft) {
+    final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
+    final int runCount = Math.max(MIN_RUN_COUNT, 100 - minArmySize);
+    return BattleSetup.builder()
+        .attacker(CollectionUtils.getAny(attackingUnits).getOwner())
+        .defender(CollectionUtils.getAny(defendingUnits).getOwner())
+        .location(t)
+        .attacking(attackingUnits)
+        .defending(defendingUnits)
+        .bombarding(bombardingUnits)
+        .territoryEffects(TerritoryEffectHelper.getEffects(t))
+        .retreatWhenOnlyAirLeft(retreatWhenOnlyAirLeft)
+        .runCount(timeBudget.scaleRunCount(runCount, MIN_RUN_COUNT))
+        .build();
+  }
+
+  private static ProBattleResult createBattleResult(
+      final ProData proData,
+      final BattleSetup battle,
+      final boolean checkSubmerge,
+      final AggregateResults results) {
+    final Territory t = battle.getLocation();
+    final GameData data = t.getData();
+    final GamePlayer attacker = battle.getAttacker();
+    final GamePlayer defender = battle.getDefender();
+    final Collection<Unit> attackingUnits = battle.getAttacking();
+    final Collection<Unit> defendingUnits = battle.getDefending();
 
     // Find battle result statistics
     final double winPercentage = results.getAttackerWinPercent() * 100;
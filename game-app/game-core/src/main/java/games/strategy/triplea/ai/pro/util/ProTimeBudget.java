@@ -0,0 +1,149 @@
+package games.strategy.triplea.ai.pro.util;
+
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.triplea.ai.pro.logging.ProLogger;
+import games.strategy.triplea.ai.pro.logging.ProTraceBuffer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks how much of its time a Pro AI turn and the phase currently being played have used up. The
+ * AI checks the budget cooperatively: battle simulations use fewer runs as the deadline nears and
+ * are replaced by estimates once it has passed, and iterative planning stops with the best plan
+ * found so far.
+ *
+ * <p>The limits are read from the system properties {@value #TURN_TIME_LIMIT_PROPERTY} and {@value
+ * #PHASE_TIME_LIMIT_PROPERTY} (in seconds). Both are unlimited unless set, a limit of 0 disables
+ * it as well, so the AI plays the same on any machine unless a limit is asked for.
+ */
+@Slf4j
+public class ProTimeBudget {
+  public static final String TURN_TIME_LIMIT_PROPERTY = "triplea.ai.pro.turnTimeLimit";
+  public static final String PHASE_TIME_LIMIT_PROPERTY = "triplea.ai.pro.phaseTimeLimit";
+
+  // below this fraction of remaining time battle simulations start using fewer runs
+  private static final double RUN_COUNT_SCALING_THRESHOLD = 0.5;
+
+  private final long turnLimitNanos;
+  private final long phaseLimitNanos;
+  private final LongSupplier nanoClock;
+
+  private @Nullable GamePlayer turnPlayer;
+  private int turnRound;
+  private long turnStart;
+  private @Nullable String phase;
+  private long phaseStart;
+
+  public ProTimeBudget() {
+    this(
+        Duration.ofSeconds(Long.getLong(TURN_TIME_LIMIT_PROPERTY, 0)),
+        Duration.ofSeconds(Long.getLong(PHASE_TIME_LIMIT_PROPERTY, 0)),
+        System::nanoTime);
+  }
+
+  ProTimeBudget(final Duration turnLimit, final Duration phaseLimit, final LongSupplier nanoClock) {
+    this.turnLimitNanos = turnLimit.toNanos();
+    this.phaseLimitNanos = phaseLimit.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Starts timing a phase. The turn time is reset if the phase belongs to a different round or
+   * player than the previous one.
+   */
+  public void startPhase(final String phase, final int round, final GamePlayer player) {
+    final long now = nanoClock.getAsLong();
+    if (round != turnRound || !Objects.equals(player, turnPlayer)) {
+      turnPlayer = player;
+      turnRound = round;
+      turnStart = now;
+    }
+    this.phase = phase;
+    phaseStart = now;
+  }
+
+  /** Stops timing the current phase and logs if it overran the phase or turn limit. */
+  public void finishPhase() {
+    if (phase == null) {
+      return;
+    }
+    final long now = nanoClock.getAsLong();
+    if (isOverLimit(now - phaseStart, phaseLimitNanos)
+        || isOverLimit(now - turnStart, turnLimitNanos)) {
+      final String message =
+          String.format(
+              "%s %s phase overran the AI time limit: phase took %d ms, turn took %d ms so far",
+              turnPlayer == null ? "" : turnPlayer.getName(),
+              phase,
+              Duration.ofNanos(now - phaseStart).toMillis(),
+              Duration.ofNanos(now - turnStart).toMillis());
+      log.warn(message);
+      ProLogger.warn(message);
+      dumpTrace();
+    }
+    phase = null;
+  }
+
+  /** Writes the AI trace to a file, so that the cause of the overrun can be looked into. */
+  private void dumpTrace() {
+    if (!ProTraceBuffer.isEnabled()) {
+      return;
+    }
+    final Path file =
+        ClientFileSystemHelper.getUserRootFolder()
+            .resolve("ai-trace-" + System.currentTimeMillis() + ".log");
+    try {
+      ProTraceBuffer.dumpToFile(file);
+      log.warn("Wrote AI trace to " + file);
+    } catch (final IOException e) {
+      log.error("Failed to write AI trace to " + file, e);
+    }
+  }
+
+  /**
+   * Returns the fraction of the phase or turn time that is left, whichever is less. Returns 1 if
+   * no phase is being timed.
+   */
+  public double getRemainingFraction() {
+    if (phase == null) {
+      return 1;
+    }
+    final long now = nanoClock.getAsLong();
+    return Math.max(
+        0,
+        Math.min(
+            remainingFraction(now - phaseStart, phaseLimitNanos),
+            remainingFraction(now - turnStart, turnLimitNanos)));
+  }
+
+  public boolean isExpired() {
+    return getRemainingFraction() <= 0;
+  }
+
+  /**
+   * Scales down the run count of a battle simulation once less than half of the time is left, down
+   * to {@code minRunCount} when the time is up.
+   */
+  public int scaleRunCount(final int runCount, final int minRunCount) {
+    final double remainingFraction = getRemainingFraction();
+    if (remainingFraction >= RUN_COUNT_SCALING_THRESHOLD) {
+      return runCount;
+    }
+    return Math.max(
+        minRunCount, (int) (runCount * remainingFraction / RUN_COUNT_SCALING_THRESHOLD));
+  }
+
+  private static boolean isOverLimit(final long elapsedNanos, final long limitNanos) {
+    return limitNanos > 0 && elapsedNanos > limitNanos;
+  }
+
+  private static double remainingFraction(final long elapsedNanos, final long limitNanos) {
+    return limitNanos > 0 ? 1 - (double) elapsedNanos / limitNanos : 1;
+  }
+}
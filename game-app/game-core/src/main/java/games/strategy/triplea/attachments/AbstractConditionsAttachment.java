@@ -211,12 +211,30 @@ public abstract class AbstractConditionsAttachment extends DefaultAttachment imp
       if (!allConditionsTestedSoFar.containsKey(c)) {
         testAllConditionsRecursive(
             new HashSet<>(c.getConditions()), allConditionsTestedSoFar, delegateBridge);
-        allConditionsTestedSoFar.put(c, c.isSatisfied(allConditionsTestedSoFar, delegateBridge));
+        allConditionsTestedSoFar.put(c, testCondition(c, allConditionsTestedSoFar, delegateBridge));
       }
     }
     return allConditionsTestedSoFar;
   }
 
+  /**
+   * Tests a single condition whose nested conditions have already been tested. Results for rules
+   * attachments are reused from the game's {@link ConditionEvaluationCache} while nothing they read
+   * has changed.
+   */
+  private static boolean testCondition(
+      final ICondition condition,
+      final Map<ICondition, Boolean> testedConditions,
+      final IDelegateBridge delegateBridge) {
+    if (condition instanceof RulesAttachment rulesAttachment) {
+      return rulesAttachment
+          .getData()
+          .getConditionEvaluationCache()
+          .isSatisfied(rulesAttachment, testedConditions, delegateBridge);
+    }
+    return condition.isSatisfied(testedConditions, delegateBridge);
+  }
+
   /**
    * Accounts for all listed rules, according to the conditionType. Takes the mapped conditions
    * generated by testAllConditions and uses it to know which conditions are true and which are
@@ -0,0 +1,54 @@
+package games.strategy.triplea.attachments;
+
+import games.strategy.engine.data.Territory;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Describes the game state that testing a {@link RulesAttachment} reads. Only territories are
+ * tracked individually; everything else a condition may read (relationships, techs, battle
+ * records, attachment properties) only changes through game data changes that the {@link
+ * ConditionEvaluationCache} treats as affecting every condition.
+ */
+@Getter(AccessLevel.PACKAGE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class ConditionDependencies {
+  /** A condition that reads no territories, e.g. one that only checks techs or relationships. */
+  static final ConditionDependencies NONE = new ConditionDependencies(true, false, Set.of());
+
+  /**
+   * A condition whose result can change without any game data change, e.g. because it rolls dice
+   * or checks whether a player is controlled by the AI.
+   */
+  static final ConditionDependencies UNCACHEABLE = new ConditionDependencies(false, true, Set.of());
+
+  private final boolean cacheable;
+  private final boolean readsAllTerritories;
+  private final Set<Territory> territories;
+
+  static ConditionDependencies of(final Set<Territory> territories) {
+    return new ConditionDependencies(true, false, Set.copyOf(territories));
+  }
+
+  static ConditionDependencies allTerritories() {
+    return new ConditionDependencies(true, true, Set.of());
+  }
+
+  ConditionDependencies union(final ConditionDependencies other) {
+    if (!cacheable || !other.cacheable) {
+      return UNCACHEABLE;
+    }
+    if (readsAllTerritories || other.readsAllTerritories) {
+      return allTerritories();
+    }
+    if (other.territories.isEmpty()) {
+      return this;
+    }
+    final Set<Territory> allTerritories = new HashSet<>(territories);
+    allTerritories.addAll(other.territories);
+    return of(allTerritories);
+  }
+}
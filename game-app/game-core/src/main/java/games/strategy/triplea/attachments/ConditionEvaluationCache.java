@@ -0,0 +1,196 @@
+package games.strategy.triplea.attachments;
+
+import games.strategy.engine.data.BombingUnitDamageChange;
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.UnitHitsChange;
+import games.strategy.engine.data.changefactory.AddUnits;
+import games.strategy.engine.data.changefactory.ObjectPropertyChange;
+import games.strategy.engine.data.changefactory.OwnerChange;
+import games.strategy.engine.data.changefactory.PlayerOwnerChange;
+import games.strategy.engine.data.changefactory.RemoveUnits;
+import games.strategy.engine.data.changefactory.units.UnitDamageReceivedChange;
+import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.engine.data.events.TerritoryListener;
+import games.strategy.engine.delegate.IDelegateBridge;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+
+/**
+ * Remembers the results of testing {@link RulesAttachment}s so that delegate steps, objectives and
+ * user actions do not re-test conditions whose inputs have not changed.
+ *
+ * <p>Each result records the round it was computed in and the territories its condition reads
+ * (see {@link RulesAttachment#getDependencies()}). A result is reused until units or ownership
+ * change in one of those territories, the round changes, or any other kind of game data change is
+ * performed. Reused results are therefore identical to testing the condition again.
+ */
+public class ConditionEvaluationCache implements TerritoryListener, GameDataChangeListener {
+  private final Map<RulesAttachment, ConditionDependencies> dependencies = new HashMap<>();
+  private final Map<RulesAttachment, Result> results = new HashMap<>();
+  private final Map<Territory, Long> territoryChangedAt = new HashMap<>();
+  // logical clock, incremented for every change and every evaluation
+  private long clock = 0;
+  private long anyTerritoryChangedAt = -1;
+  private long globalChangeAt = -1;
+
+  @AllArgsConstructor
+  private static class Result {
+    final boolean satisfied;
+    final long evaluatedAt;
+    final int round;
+  }
+
+  public ConditionEvaluationCache(final GameData data) {
+    data.addTerritoryListener(this);
+    data.addDataChangeListener(this);
+  }
+
+  /**
+   * Tests a single condition, reusing the previous result if nothing it reads has changed since.
+   * Nested conditions must already be present in {@code testedConditions}.
+   */
+  boolean isSatisfied(
+      final RulesAttachment condition,
+      final Map<ICondition, Boolean> testedConditions,
+      final IDelegateBridge delegateBridge) {
+    final ConditionDependencies conditionDependencies = getDependencies(condition);
+    if (!conditionDependencies.isCacheable()) {
+      return condition.isSatisfied(testedConditions, delegateBridge);
+    }
+    final int round = condition.getData().getSequence().getRound();
+    final long evaluationStartedAt;
+    synchronized (this) {
+      final Result result = results.get(condition);
+      if (result != null
+          && result.round == round
+          && isUnchangedSince(conditionDependencies, result.evaluatedAt)) {
+        return result.satisfied;
+      }
+      evaluationStartedAt = ++clock;
+    }
+    // evaluate without holding the lock; a change performed meanwhile is stamped later than
+    // evaluationStartedAt and so invalidates the stored result
+    final boolean satisfied = condition.isSatisfied(testedConditions, delegateBridge);
+    synchronized (this) {
+      results.put(condition, new Result(satisfied, evaluationStartedAt, round));
+    }
+    return satisfied;
+  }
+
+  private boolean isUnchangedSince(
+      final ConditionDependencies conditionDependencies, final long evaluatedAt) {
+    if (globalChangeAt > evaluatedAt) {
+      return false;
+    }
+    if (conditionDependencies.isReadsAllTerritories()) {
+      return anyTerritoryChangedAt < evaluatedAt;
+    }
+    if (anyTerritoryChangedAt < evaluatedAt) {
+      return true;
+    }
+    for (final Territory territory : conditionDependencies.getTerritories()) {
+      if (territoryChangedAt.getOrDefault(territory, -1L) > evaluatedAt) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ConditionDependencies getDependencies(final RulesAttachment condition) {
+    synchronized (this) {
+      final ConditionDependencies known = dependencies.get(condition);
+      if (known != null) {
+        return known;
+      }
+    }
+    final ConditionDependencies computed = collectDependencies(condition, new HashSet<>());
+    synchronized (this) {
+      dependencies.put(condition, computed);
+    }
+    return computed;
+  }
+
+  /** Returns the dependencies of the condition and of all conditions nested in it. */
+  private static ConditionDependencies collectDependencies(
+      final RulesAttachment condition, final Set<RulesAttachment> visited) {
+    ConditionDependencies collected = condition.getDependencies();
+    visited.add(condition);
+    for (final RulesAttachment nested : condition.getConditions()) {
+      if (!visited.contains(nested)) {
+        collected = collected.union(collectDependencies(nested, visited));
+      }
+    }
+    return collected;
+  }
+
+  /** Discards all results, e.g. after game data was modified without performing a change. */
+  public synchronized void clear() {
+    globalChangeAt = ++clock;
+    dependencies.clear();
+    results.clear();
+    territoryChangedAt.clear();
+  }
+
+  @Override
+  public void unitsChanged(final Territory territory) {
+    territoryChanged(territory);
+  }
+
+  @Override
+  public void ownerChanged(final Territory territory) {
+    territoryChanged(territory);
+  }
+
+  @Override
+  public void attachmentChanged(final Territory territory) {
+    territoryChanged(territory);
+  }
+
+  private synchronized void territoryChanged(final Territory territory) {
+    final long now = ++clock;
+    territoryChangedAt.put(territory, now);
+    anyTerritoryChangedAt = now;
+  }
+
+  @Override
+  public void gameDataChanged(final Change change) {
+    if (isTerritoryScoped(change)) {
+      // the affected territories have already been reported through the territory listener
+      return;
+    }
+    synchronized (this) {
+      globalChangeAt = ++clock;
+      // attachment properties may have changed, so the dependencies must be recomputed too
+      dependencies.clear();
+      results.clear();
+      territoryChangedAt.clear();
+    }
+  }
+
+  /**
+   * Returns true if the change only adds, removes, damages or transfers units, changes territory
+   * ownership or changes unit properties. The first kinds notify the affected territories, and unit
+   * properties such as movement or hits are never read by conditions.
+   */
+  private static boolean isTerritoryScoped(final Change change) {
+    if (change instanceof CompositeChange compositeChange) {
+      return compositeChange.getChanges().stream()
+          .allMatch(ConditionEvaluationCache::isTerritoryScoped);
+    }
+    return change instanceof AddUnits
+        || change instanceof RemoveUnits
+        || change instanceof OwnerChange
+        || change instanceof PlayerOwnerChange
+        || change instanceof ObjectPropertyChange
+        || change instanceof UnitHitsChange
+        || change instanceof BombingUnitDamageChange
+        || change instanceof games.strategy.engine.data.changefactory.units.BombingUnitDamageChange
+        || change instanceof UnitDamageReceivedChange;
+  }
+}
@@ -3,6 +3,7 @@ package games.strategy.triplea.attachments;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import com.google.common.primitives.Ints;
 import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.BattleRecordsList;
 import games.strategy.engine.data.GameData;
@@ -608,6 +609,49 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
     techs = null;
   }
 
+  /**
+   * Returns the game state read by the rules of this condition, not including nested conditions.
+   * Used by {@link ConditionEvaluationCache} to decide when a previous test result can be reused.
+   */
+  ConditionDependencies getDependencies() {
+    // chance rolls dice, and the AI flag and game properties can change without a game data change
+    if (getChanceToHit() != getChanceDiceSides()
+        || getChanceIncrementOnFailure() != 0
+        || getChanceDecrementOnSuccess() != 0
+        || gameProperty != null
+        || isAI != null) {
+      return ConditionDependencies.UNCACHEABLE;
+    }
+    final Set<Territory> territories = new HashSet<>();
+    for (final String[] territoryStrings :
+        Arrays.asList(
+            directPresenceTerritories,
+            alliedPresenceTerritories,
+            enemyPresenceTerritories,
+            directExclusionTerritories,
+            alliedExclusionTerritories,
+            enemyExclusionTerritories,
+            enemySurfaceExclusionTerritories,
+            alliedOwnershipTerritories,
+            directOwnershipTerritories)) {
+      if (territoryStrings == null) {
+        continue;
+      }
+      for (final String territoryString : territoryStrings) {
+        if (territoryString.equals("each") || Ints.tryParse(territoryString) != null) {
+          continue;
+        }
+        final Territory territory = getData().getMap().getTerritoryOrNull(territoryString);
+        if (territory == null) {
+          // a group such as "controlled" or "original" that may include any territory
+          return ConditionDependencies.allTerritories();
+        }
+        territories.add(territory);
+      }
+    }
+    return territories.isEmpty() ? ConditionDependencies.NONE : ConditionDependencies.of(territories);
+  }
+
   @Override
   public boolean isSatisfied(final Map<ICondition, Boolean> testedConditions) {
     checkNotNull(testedConditions);
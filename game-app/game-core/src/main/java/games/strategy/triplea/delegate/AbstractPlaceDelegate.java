@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
@@ -65,15 +66,24 @@ public abstract class AbstractPlaceDelegate extends BaseTripleADelegate
   protected Map<Territory, Collection<Unit>> produced = new HashMap<>();
   // a list of CompositeChanges
   protected List<UndoablePlacement> placements = new ArrayList<>();
+  // found again when first asked for, see getUnitsAtStartOfStep()
+  private @Nullable UnitsAtStartOfStep unitsAtStartOfStep;
 
   public void initialize(final String name) {
     initialize(name, name);
   }
 
+  @Override
+  public void start() {
+    super.start();
+    forgetUnitsAtStartOfStep();
+  }
+
   @Override
   public void end() {
     super.end();
     doAfterEnd();
+    forgetUnitsAtStartOfStep();
   }
 
   private void doAfterEnd() {
@@ -131,6 +141,7 @@ public abstract class AbstractPlaceDelegate extends BaseTripleADelegate
     super.loadState(s.superState);
     produced = s.produced;
     placements = s.placements;
+    forgetUnitsAtStartOfStep();
   }
 
   /**
@@ -154,6 +165,7 @@ public abstract class AbstractPlaceDelegate extends BaseTripleADelegate
 
   void setProduced(final Map<Territory, Collection<Unit>> produced) {
     this.produced = produced;
+    forgetUnitsAtStartOfStep();
   }
 
   /** Returns the actual produced variable, allowing direct editing of the variable. */
@@ -359,6 +371,7 @@ public abstract class AbstractPlaceDelegate extends BaseTripleADelegate
     final Collection<Unit> newProducedUnits = getAlreadyProduced(producer);
     newProducedUnits.addAll(additionallyProducedUnits);
     produced.put(producer, newProducedUnits);
+    producedChanged(producer);
   }
 
   private void removeFromProducedMap(
@@ -370,6 +383,13 @@ public abstract class AbstractPlaceDelegate extends BaseTripleADelegate
     } else {
       produced.put(producer, newProducedUnits);
     }
+    producedChanged(producer);
+  }
+
+  private void producedChanged(final Territory producer) {
+    if (unitsAtStartOfStep != null) {
+      unitsAtStartOfStep.invalidate(producer);
+    }
   }
 
   /**
@@ -1516,6 +1536,17 @@ public abstract class AbstractPlaceDelegate extends BaseTripleADelegate
 
   private Comparator<Territory> getBestProducerComparator(
       final Territory to, final Collection<Unit> units, final GamePlayer player) {
+    // each producer is compared several times while sorting, its capacity does not change meanwhile
+    final Map<Territory, Integer> maxUnitsToBePlacedByProducer = new HashMap<>();
+    final Function<Territory, Integer> maxUnitsToBePlaced =
+        producer -> {
+          Integer max = maxUnitsToBePlacedByProducer.get(producer);
+          if (max == null) {
+            max = getMaxUnitsToBePlacedFrom(producer, units, to, player);
+            maxUnitsToBePlacedByProducer.put(producer, max);
+          }
+          return max;
+        };
     return (t1, t2) -> {
       if (Objects.equals(t1, t2)) {
         return 0;
@@ -1526,8 +1557,8 @@ public abstract class AbstractPlaceDelegate extends BaseTripleADelegate
       } else if (Objects.equals(to, t2)) {
         return 1;
       }
-      final int left1 = getMaxUnitsToBePlacedFrom(t1, units, to, player);
-      final int left2 = getMaxUnitsToBePlacedFrom(t2, units, to, player);
+      final int left1 = maxUnitsToBePlaced.apply(t1);
+      final int left2 = maxUnitsToBePlaced.apply(t2);
       if (left1 == left2) {
         return 0;
       }
@@ -1601,6 +1632,25 @@ public abstract class AbstractPlaceDelegate extends BaseTripleADelegate
     if (to == null) {
       return new ArrayList<>();
     }
+    return getUnitsAtStartOfStep(to.getData()).get(to, this::findUnitsAtStartOfStepInTerritory);
+  }
+
+  private UnitsAtStartOfStep getUnitsAtStartOfStep(final GameData data) {
+    if (unitsAtStartOfStep == null || !unitsAtStartOfStep.isFor(data, player)) {
+      forgetUnitsAtStartOfStep();
+      unitsAtStartOfStep = new UnitsAtStartOfStep(data, player);
+    }
+    return unitsAtStartOfStep;
+  }
+
+  private void forgetUnitsAtStartOfStep() {
+    if (unitsAtStartOfStep != null) {
+      unitsAtStartOfStep.dispose();
+      unitsAtStartOfStep = null;
+    }
+  }
+
+  private Collection<Unit> findUnitsAtStartOfStepInTerritory(final Territory to) {
     final Collection<Unit> unitsPlacedAlready = getAlreadyProduced(to);
     if (to.isWater()) {
       for (final Territory current : getAllProducers(to, player, null, true)) {
@@ -0,0 +1,84 @@
+package games.strategy.triplea.delegate;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.events.TerritoryListener;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The units that were in each territory at the start of a placement step, for one player. Placement
+ * validation asks for these over and over, for the territory placed in and for each territory that
+ * could produce for it, and finding them means finding the producers of a sea zone first.
+ *
+ * <p>The units of a territory are found when first asked for. They are dropped again when the units
+ * or the owner of the territory or of one of its neighbours change, and when units are placed
+ * there, since the units in a sea zone at the start of the step depend on what its neighbours
+ * produced.
+ */
+@ThreadSafe
+final class UnitsAtStartOfStep implements TerritoryListener {
+  private final GameData data;
+  private final @Nullable GamePlayer player;
+
+  @GuardedBy("this")
+  private final Map<Territory, List<Unit>> units = new HashMap<>();
+
+  UnitsAtStartOfStep(final GameData data, final @Nullable GamePlayer player) {
+    this.data = data;
+    this.player = player;
+    data.addTerritoryListener(this);
+  }
+
+  boolean isFor(final GameData data, final @Nullable GamePlayer player) {
+    return this.data == data && Objects.equals(this.player, player);
+  }
+
+  /** Stops following the changes of the game, the units found so far are no longer used. */
+  void dispose() {
+    data.removeTerritoryListener(this);
+  }
+
+  /**
+   * Returns a copy of the units in {@code territory} at the start of the step, finding them with
+   * {@code finder} if they are not known.
+   */
+  synchronized Collection<Unit> get(
+      final Territory territory, final Function<Territory, Collection<Unit>> finder) {
+    List<Unit> unitsInTerritory = units.get(territory);
+    if (unitsInTerritory == null) {
+      unitsInTerritory = List.copyOf(finder.apply(territory));
+      units.put(territory, unitsInTerritory);
+    }
+    return new ArrayList<>(unitsInTerritory);
+  }
+
+  /** Drops the units of {@code territory} and of its neighbours. */
+  synchronized void invalidate(final Territory territory) {
+    units.remove(territory);
+    data.getMap().getNeighbors(territory).forEach(units::remove);
+  }
+
+  @Override
+  public void unitsChanged(final Territory territory) {
+    invalidate(territory);
+  }
+
+  @Override
+  public void ownerChanged(final Territory territory) {
+    invalidate(territory);
+  }
+
+  @Override
+  public void attachmentChanged(final Territory territory) {}
+}
@@ -438,7 +438,8 @@ public class BattleDelegate extends BaseTripleADelegate implements IBattleDelega
     final Predicate<Territory> enemyUnitsOrEnemyTerritory =
         anyTerritoryWithOwnAndEnemy.or(enemyTerritoryAndOwnUnits);
     final List<Territory> battleTerritories =
-        CollectionUtils.getMatches(data.getMap().getTerritories(), enemyUnitsOrEnemyTerritory);
+        CollectionUtils.getMatches(
+            battleTracker.getContestedTerritories(data), enemyUnitsOrEnemyTerritory);
     for (final Territory territory : battleTerritories) {
       final List<Unit> attackingUnits =
           territory.getUnitCollection().getMatches(Matches.unitIsOwnedBy(player));
@@ -628,14 +629,14 @@ public class BattleDelegate extends BaseTripleADelegate implements IBattleDelega
    */
   private static void setupTerritoriesAbandonedToTheEnemy(
       final BattleTracker battleTracker, final IDelegateBridge bridge) {
-    final GameState data = bridge.getData();
+    final GameData data = bridge.getData();
     if (!Properties.getAbandonedTerritoriesMayBeTakenOverImmediately(data.getProperties())) {
       return;
     }
     final GamePlayer player = bridge.getGamePlayer();
     final List<Territory> battleTerritories =
         CollectionUtils.getMatches(
-            data.getMap().getTerritories(),
+            battleTracker.getContestedTerritories(data),
             Matches.territoryIsNotUnownedWater()
                 .and(Matches.territoryHasEnemyUnitsThatCanCaptureItAndIsOwnedByTheirEnemy(player)));
     // all territories that contain enemy units, where the territory is owned by an enemy of these
@@ -1496,11 +1497,6 @@ public class BattleDelegate extends BaseTripleADelegate implements IBattleDelega
     final boolean areNeutralsPassableByAir =
         (Properties.getNeutralFlyoverAllowed(data.getProperties())
             && !Properties.getNeutralsImpassable(data.getProperties()));
-    final Set<Territory> canNotLand = new HashSet<>();
-    canNotLand.addAll(battleTracker.getPendingBattleSitesWithoutBombing());
-    canNotLand.addAll(
-        CollectionUtils.getMatches(
-            data.getMap().getTerritories(), Matches.territoryHasEnemyUnits(alliedPlayer)));
     final Collection<Territory> possibleTerrs =
         data.getMap()
             .getNeighborsByMovementCost(
@@ -1527,12 +1523,15 @@ public class BattleDelegate extends BaseTripleADelegate implements IBattleDelega
       }
     }
     possibleTerrs.add(currentTerr);
+    // only the territories in range can be landed in, so only those are checked for enemy units
     final Set<Territory> availableLand =
         new HashSet<>(
             CollectionUtils.getMatches(
                 possibleTerrs,
-                Matches.isTerritoryAllied(alliedPlayer).and(Matches.territoryIsLand())));
-    availableLand.removeAll(canNotLand);
+                Matches.isTerritoryAllied(alliedPlayer)
+                    .and(Matches.territoryIsLand())
+                    .and(Matches.territoryHasEnemyUnits(alliedPlayer).negate())));
+    availableLand.removeAll(battleTracker.getPendingBattleSitesWithoutBombing());
     final Set<Territory> whereCanLand = new HashSet<>(availableLand);
     // now for carrier-air-landing validation
     if (Matches.unitCanLandOnCarrier().test(strandedAir)) {
@@ -99,6 +99,20 @@ public class BattleTracker implements Serializable {
   private final Collection<
           Tuple<Tuple<GamePlayer, GamePlayer>, Tuple<RelationshipType, RelationshipType>>>
       relationshipChangesThisTurn = new ArrayList<>();
+  // not saved, found again the first time it is asked for after loading
+  private transient @Nullable ContestedTerritories contestedTerritories;
+
+  /**
+   * Returns the territories in which units of different players meet, or units meet a territory
+   * owned by a different player, in the order of the map. These are the only territories where the
+   * battle setup has to look for battles that were not started by a move.
+   */
+  List<Territory> getContestedTerritories(final GameData data) {
+    if (contestedTerritories == null || !contestedTerritories.isFor(data)) {
+      contestedTerritories = new ContestedTerritories(data);
+    }
+    return contestedTerritories.get();
+  }
 
   void addToConquered(final Territory territory) {
     conquered.add(territory);
@@ -0,0 +1,104 @@
+package games.strategy.triplea.delegate.battle;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.events.TerritoryListener;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The territories of a game where a battle could have to be set up: those with units of more than
+ * one player, and those with units of a player that does not own the territory (unowned water
+ * aside). Whether these players are at war is left to the caller, so this set is the same for all
+ * players and does not change when relationships do.
+ *
+ * <p>The set is found by scanning the map once, then only the territories whose units or owner
+ * changed since it was last asked for are checked again. This spares the battle setup from looking
+ * at every territory of the map each time it runs.
+ */
+@ThreadSafe
+final class ContestedTerritories implements TerritoryListener {
+  private final GameData data;
+
+  @GuardedBy("this")
+  private final Set<Territory> changed = new HashSet<>();
+
+  // in the order of the map, battles are set up in that order
+  @GuardedBy("this")
+  private final Set<Territory> contested;
+
+  ContestedTerritories(final GameData data) {
+    this.data = data;
+    final List<Territory> territories = data.getMap().getTerritories();
+    final Map<Territory, Integer> positions = new HashMap<>();
+    for (int i = 0; i < territories.size(); i++) {
+      positions.put(territories.get(i), i);
+    }
+    contested = new TreeSet<>(Comparator.comparing(positions::get));
+    data.addTerritoryListener(this);
+    synchronized (this) {
+      for (final Territory territory : territories) {
+        if (isContested(territory)) {
+          contested.add(territory);
+        }
+      }
+    }
+  }
+
+  boolean isFor(final GameData data) {
+    return this.data == data;
+  }
+
+  static boolean isContested(final Territory territory) {
+    final GamePlayer territoryOwner = territory.getOwner();
+    final boolean isUnownedWater = territory.isWater() && territoryOwner.isNull();
+    GamePlayer unitOwner = null;
+    for (final Unit unit : territory.getUnitCollection()) {
+      if (unitOwner == null) {
+        unitOwner = unit.getOwner();
+        if (!isUnownedWater && !unitOwner.equals(territoryOwner)) {
+          return true;
+        }
+      } else if (!unit.getOwner().equals(unitOwner)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the contested territories in the order of the map. */
+  synchronized List<Territory> get() {
+    for (final Territory territory : changed) {
+      if (isContested(territory)) {
+        contested.add(territory);
+      } else {
+        contested.remove(territory);
+      }
+    }
+    changed.clear();
+    return new ArrayList<>(contested);
+  }
+
+  @Override
+  public synchronized void unitsChanged(final Territory territory) {
+    changed.add(territory);
+  }
+
+  @Override
+  public synchronized void ownerChanged(final Territory territory) {
+    changed.add(territory);
+  }
+
+  @Override
+  public void attachmentChanged(final Territory territory) {}
+}
@@ -628,30 +628,13 @@ public class MustFightBattle extends DependentBattle
     removeUnitsThatNoLongerExist();
     removeDisabledUnits();
     if (stack.isExecuting()) {
-      final IDisplay display = bridge.getDisplayChannelBroadcaster();
-      display.showBattle(
-          battleId,
-          battleSite,
-          getBattleTitle(),
-          removeNonCombatants(attackingUnits, defendingUnits, true, false),
-          removeNonCombatants(defendingUnits, attackingUnits, false, false),
-          killed,
-          attackingWaitingToDie,
-          defendingWaitingToDie,
-          TransportTracker.transportingInTerritory(
-              Stream.concat(attackingUnits.stream(), defendingUnits.stream())
-                  .collect(Collectors.toList()),
-              battleSite),
-          attacker,
-          defender,
-          false,
-          getBattleType(),
-          List.of());
-      display.listBattleSteps(battleId, stepStrings);
+      showBattle(bridge);
       stack.execute(bridge);
       return;
     }
-    bridge.getHistoryWriter().startEvent("Battle in " + battleSite, battleSite);
+    if (!bridge.isSimulation()) {
+      bridge.getHistoryWriter().startEvent("Battle in " + battleSite, battleSite);
+    }
     removeAirNoLongerInTerritory();
     markAttackingTransports(bridge);
     writeUnitsToHistory(bridge);
@@ -664,6 +647,22 @@ public class MustFightBattle extends DependentBattle
       return;
     }
     determineStepStrings();
+    showBattle(bridge);
+    if (!headless) {
+      // take the casualties with the least movement first
+      CasualtySortingUtil.sortPreBattle(attackingUnits);
+      CasualtySortingUtil.sortPreBattle(defendingUnits);
+      SoundUtils.playBattleType(attacker, attackingUnits, defendingUnits, bridge);
+    }
+    // push on stack in opposite order of execution
+    pushFightLoopOnStack();
+    stack.execute(bridge);
+  }
+
+  private void showBattle(final IDelegateBridge bridge) {
+    if (bridge.isSimulation()) {
+      return;
+    }
     final IDisplay display = bridge.getDisplayChannelBroadcaster();
     display.showBattle(
         battleId,
@@ -684,15 +683,6 @@ public class MustFightBattle extends DependentBattle
         getBattleType(),
         List.of());
     display.listBattleSteps(battleId, stepStrings);
-    if (!headless) {
-      // take the casualties with the least movement first
-      CasualtySortingUtil.sortPreBattle(attackingUnits);
-      CasualtySortingUtil.sortPreBattle(defendingUnits);
-      SoundUtils.playBattleType(attacker, attackingUnits, defendingUnits, bridge);
-    }
-    // push on stack in opposite order of execution
-    pushFightLoopOnStack();
-    stack.execute(bridge);
   }
 
   private String getBattleTitle() {
@@ -1382,8 +1372,9 @@ Round 10,000 reached in a battle. Something must be wrong. Please report this to
                             .collect(Collectors.joining(",")));
               }
               determineStepStrings();
-              final IDisplay display = bridge.getDisplayChannelBroadcaster();
-              display.listBattleSteps(battleId, stepStrings);
+              if (!bridge.isSimulation()) {
+                bridge.getDisplayChannelBroadcaster().listBattleSteps(battleId, stepStrings);
+              }
               // continue fighting the recursive steps
               // this should always be the base of the stack
               // when we execute the loop, it will populate the stack with the battle steps
@@ -1399,7 +1390,9 @@ Round 10,000 reached in a battle. Something must be wrong. Please report this to
   private void defenderWins(final IDelegateBridge bridge) {
     endBattle(bridge);
     whoWon = WhoWon.DEFENDER;
-    bridge.getDisplayChannelBroadcaster().battleEnd(battleId, defender.getName() + " win");
+    if (!bridge.isSimulation()) {
+      bridge.getDisplayChannelBroadcaster().battleEnd(battleId, defender.getName() + " win");
+    }
     if (Properties.getAbandonedTerritoriesMayBeTakenOverImmediately(gameData.getProperties())) {
       if (defendingUnits.stream().noneMatch(Matches.unitIsNotInfrastructure())) {
         final List<Unit> allyOfAttackerUnits =
@@ -1425,9 +1418,11 @@ Round 10,000 reached in a battle. Something must be wrong. Please report this to
         battleTracker.takeOver(battleSite, defender, bridge, null, defendingUnits);
       }
     }
-    bridge
-        .getHistoryWriter()
-        .addChildToEvent(defender.getName() + " win", new ArrayList<>(defendingUnits));
+    if (!bridge.isSimulation()) {
+      bridge
+          .getHistoryWriter()
+          .addChildToEvent(defender.getName() + " win", new ArrayList<>(defendingUnits));
+    }
     battleResultDescription = BattleRecord.BattleResultDescription.LOST;
     showCasualties(bridge);
     if (!headless) {
@@ -1452,10 +1447,13 @@ Round 10,000 reached in a battle. Something must be wrong. Please report this to
   private void nobodyWins(final IDelegateBridge bridge) {
     endBattle(bridge);
     whoWon = WhoWon.DRAW;
-    bridge.getDisplayChannelBroadcaster().battleEnd(battleId, "Stalemate");
-    bridge
-        .getHistoryWriter()
-        .addChildToEvent(defender.getName() + " and " + attacker.getName() + " reach a stalemate");
+    if (!bridge.isSimulation()) {
+      bridge.getDisplayChannelBroadcaster().battleEnd(battleId, "Stalemate");
+      bridge
+          .getHistoryWriter()
+          .addChildToEvent(
+              defender.getName() + " and " + attacker.getName() + " reach a stalemate");
+    }
     battleResultDescription = BattleRecord.BattleResultDescription.STALEMATE;
     showCasualties(bridge);
     if (!headless) {
@@ -1479,7 +1477,9 @@ Round 10,000 reached in a battle. Something must be wrong. Please report this to
   private void attackerWins(final IDelegateBridge bridge) {
     endBattle(bridge);
     whoWon = WhoWon.ATTACKER;
-    bridge.getDisplayChannelBroadcaster().battleEnd(battleId, attacker.getName() + " win");
+    if (!bridge.isSimulation()) {
+      bridge.getDisplayChannelBroadcaster().battleEnd(battleId, attacker.getName() + " win");
+    }
     if (headless) {
       return;
     }
@@ -1573,11 +1573,13 @@ Round 10,000 reached in a battle. Something must be wrong. Please report this to
     costs = bridge.getCostsForTuv(defender);
     final int tuvLostDefender = TuvUtils.getTuv(killed, defender, costs, gameData);
     final int tuvChange = tuvLostDefender - tuvLostAttacker;
-    bridge
-        .getHistoryWriter()
-        .addChildToEvent(
-            "Battle casualty summary: Battle score (TUV change) for attacker is " + tuvChange,
-            new ArrayList<>(killed));
+    if (!bridge.isSimulation()) {
+      bridge
+          .getHistoryWriter()
+          .addChildToEvent(
+              "Battle casualty summary: Battle score (TUV change) for attacker is " + tuvChange,
+              new ArrayList<>(killed));
+    }
     attackerLostTuv += tuvLostAttacker;
     defenderLostTuv += tuvLostDefender;
   }
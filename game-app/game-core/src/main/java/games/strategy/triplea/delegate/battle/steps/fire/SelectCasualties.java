@@ -57,6 +57,16 @@ public class SelectCasualties implements BattleStep {
 
   @Override
   public void execute(final ExecutionStack stack, final IDelegateBridge bridge) {
+    if (!bridge.isSimulation()) {
+      notifyDice(bridge);
+    }
+
+    final CasualtyDetails details = selectCasualties.apply(bridge, this);
+    fireRoundState.setCasualties(details);
+    BattleDelegate.markDamaged(details.getDamaged(), bridge, battleState.getBattleSite());
+  }
+
+  private void notifyDice(final IDelegateBridge bridge) {
     final DiceRoll diceRoll = fireRoundState.getDice();
     final String stepName =
         MarkCasualties.getPossibleOldNameForNotifyingBattleDisplay(
@@ -67,9 +77,5 @@ public class SelectCasualties implements BattleStep {
     } else {
       bridge.getDisplayChannelBroadcaster().notifyDice(diceRoll, stepName);
     }
-
-    final CasualtyDetails details = selectCasualties.apply(bridge, this);
-    fireRoundState.setCasualties(details);
-    BattleDelegate.markDamaged(details.getDamaged(), bridge, battleState.getBattleSite());
   }
 }
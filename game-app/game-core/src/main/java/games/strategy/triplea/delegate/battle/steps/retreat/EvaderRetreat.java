@@ -42,15 +42,17 @@ public class EvaderRetreat {
     final GamePlayer retreatingPlayer = parameters.battleState.getPlayer(parameters.side);
     final String text = retreatingPlayer.getName() + " retreat subs?";
 
-    if (ClientSetting.useWebsocketNetwork.getValue().orElse(false)) {
-      parameters.bridge.sendMessage(
-          new IDisplay.GoToBattleStepMessage(
-              parameters.battleState.getBattleId().toString(), step));
-    } else {
-      parameters
-          .bridge
-          .getDisplayChannelBroadcaster()
-          .gotoBattleStep(parameters.battleState.getBattleId(), step);
+    if (!parameters.bridge.isSimulation()) {
+      if (ClientSetting.useWebsocketNetwork.getValue().orElse(false)) {
+        parameters.bridge.sendMessage(
+            new IDisplay.GoToBattleStepMessage(
+                parameters.battleState.getBattleId().toString(), step));
+      } else {
+        parameters
+            .bridge
+            .getDisplayChannelBroadcaster()
+            .gotoBattleStep(parameters.battleState.getBattleId(), step);
+      }
     }
 
     final boolean isAttemptingSubmerge =
@@ -91,6 +93,9 @@ public class EvaderRetreat {
       longMessage = retreatingPlayer.getName() + " retreats subs to " + retreatTo.getName();
     }
 
+    if (parameters.bridge.isSimulation()) {
+      return;
+    }
     if (ClientSetting.useWebsocketNetwork.getValue().orElse(false)) {
       parameters.bridge.sendMessage(
           IDisplay.NotifyRetreatMessage.builder()
@@ -126,6 +131,9 @@ public class EvaderRetreat {
 
   private static void addHistoryRetreat(
       final IDelegateBridge bridge, final Collection<Unit> units, final String suffix) {
+    if (bridge.isSimulation()) {
+      return;
+    }
     final String transcriptText = MyFormatter.unitsToText(units) + suffix;
     bridge.getHistoryWriter().addChildToEvent(transcriptText, new ArrayList<>(units));
   }
@@ -138,7 +146,7 @@ public class EvaderRetreat {
       final IDelegateBridge bridge) {
     if (battleState.filterUnits(ALIVE, side).isEmpty()) {
       battleActions.endBattle(side.getOpposite().getWhoWon(), bridge);
-    } else {
+    } else if (!bridge.isSimulation()) {
       if (ClientSetting.useWebsocketNetwork.getValue().orElse(false)) {
         bridge.sendMessage(
             new IDisplay.NotifyUnitsRetreatingMessage(battleState.getBattleId(), retreating));
@@ -114,7 +114,10 @@ public class OffensiveGeneralRetreat implements BattleStep {
       // Only send the gotoBattleStep message if the step exists in the UI. It will not exist in the
       // case where normally retreat is not possible but only becomes possible when there are only
       // planes left.
-      if (Optional.ofNullable(battleState.getStepStrings()).orElse(List.of()).contains(stepName)) {
+      if (!bridge.isSimulation()
+          && Optional.ofNullable(battleState.getStepStrings())
+              .orElse(List.of())
+              .contains(stepName)) {
         final var battleId = battleState.getBattleId();
         if (ClientSetting.useWebsocketNetwork.getValue().orElse(false)) {
           bridge.sendMessage(new IDisplay.GoToBattleStepMessage(battleId.toString(), stepName));
@@ -49,9 +49,7 @@ public class RollDiceFactory {
             ? LowLuckDice.calculate(unitPowerAndRollsMap, player, bridge::getRandom, annotation)
             : RolledDice.calculate(unitPowerAndRollsMap, player, bridge::getRandom, annotation);
 
-    bridge
-        .getHistoryWriter()
-        .addChildToEvent(annotation + " : " + MyFormatter.asDice(diceRoll), diceRoll);
+    writeDiceToHistory(bridge, annotation, diceRoll);
     return diceRoll;
   }
 
@@ -71,10 +69,19 @@ public class RollDiceFactory {
             ? LowLuckDice.calculate(unitPowerAndRollsMap, player, bridge::getRandom, annotation)
             : RolledDice.calculate(unitPowerAndRollsMap, player, bridge::getRandom, annotation);
 
+    writeDiceToHistory(bridge, annotation, diceRoll);
+    return diceRoll;
+  }
+
+  private static void writeDiceToHistory(
+      final IDelegateBridge bridge, final String annotation, final DiceRoll diceRoll) {
+    // the formatted dice would be discarded by a simulation
+    if (bridge.isSimulation()) {
+      return;
+    }
     bridge
         .getHistoryWriter()
         .addChildToEvent(annotation + " : " + MyFormatter.asDice(diceRoll), diceRoll);
-    return diceRoll;
   }
 
   /**
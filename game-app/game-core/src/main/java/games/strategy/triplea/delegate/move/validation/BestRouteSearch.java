@@ -0,0 +1,210 @@
+package games.strategy.triplea.delegate.move.validation;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.delegate.AbstractMoveDelegate;
+import games.strategy.triplea.delegate.GameStepPropertiesHelper;
+import games.strategy.triplea.delegate.Matches;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.triplea.java.PredicateBuilder;
+import org.triplea.java.collections.CollectionUtils;
+
+/**
+ * Chooses the route a group of units is moved along when the player only picks the end of the
+ * move, see {@link MoveValidator#getBestRoute}. The conditions routes are searched with depend on
+ * the units and the player only, they are built once and are the same instances for every start
+ * and end, so that searches with them can be reused, see {@link ReachabilityField}.
+ */
+final class BestRouteSearch {
+  @FunctionalInterface
+  interface RouteLookup {
+    /**
+     * Returns the cheapest route between two territories or empty if there is none.
+     *
+     * @param condition condition that covered territories except the start and end must match
+     * @param forUnits whether the route is searched for the units, i.e. by movement cost and
+     *     validating canals, instead of by distance
+     */
+    Optional<Route> find(
+        Territory start, Territory end, Predicate<Territory> condition, boolean forUnits);
+  }
+
+  private final boolean forceLandOrSeaRoute;
+  private final boolean hasLandToMove;
+  private final boolean hasSeaToMove;
+  private final int maxLandMoves;
+  private final boolean combatMove;
+
+  private final Predicate<Territory> noImpassableOrRestrictedOrNeutral;
+  private final Predicate<Territory> impassable;
+  private final Predicate<Territory> land;
+  private final Predicate<Territory> water;
+  private final Predicate<Territory> any = it -> true;
+  private final List<Predicate<Territory>> preferences = new ArrayList<>();
+  private final List<Predicate<Territory>> landPreferences = new ArrayList<>();
+  private final List<Predicate<Territory>> waterPreferences = new ArrayList<>();
+
+  BestRouteSearch(
+      final GameData data,
+      final GamePlayer player,
+      final Collection<Unit> units,
+      final boolean forceLandOrSeaRoute) {
+    this.forceLandOrSeaRoute = forceLandOrSeaRoute;
+    final boolean hasLand = units.stream().anyMatch(Matches.unitIsLand());
+    final boolean hasSub = units.stream().anyMatch(Matches.unitCanMoveThroughEnemies());
+    final boolean hasAir = units.stream().anyMatch(Matches.unitIsAir());
+    final boolean isNeutralsImpassable =
+        Properties.getNeutralsImpassable(data.getProperties())
+            || (hasAir && !Properties.getNeutralFlyoverAllowed(data.getProperties()));
+    final Predicate<Territory> noNeutral = Matches.territoryIsNeutralButNotWater().negate();
+    final Predicate<Territory> noEnemyDestroyer =
+        Matches.territoryHasUnitsThatMatch(
+                Matches.unitIsDestroyer().and(Matches.unitIsEnemyOf(player)))
+            .negate();
+    noImpassableOrRestrictedOrNeutral =
+        PredicateBuilder.of(Matches.territoryIsPassableAndNotRestricted(player))
+            .and(Matches.territoryEffectsAllowUnits(units))
+            .andIf(hasAir, Matches.territoryAllowsCanMoveAirUnitsOverOwnedLand(player))
+            .andIf(hasLand, Matches.territoryAllowsCanMoveLandUnitsOverOwnedLand(player))
+            .andIf(isNeutralsImpassable, noNeutral)
+            .andIf(hasSub, noEnemyDestroyer)
+            .build();
+    impassable =
+        isNeutralsImpassable
+            ? noNeutral.and(Matches.territoryIsImpassable())
+            : Matches.territoryIsImpassable();
+    land = Matches.territoryIsLand().and(noImpassableOrRestrictedOrNeutral);
+    water = Matches.territoryIsWater().and(noImpassableOrRestrictedOrNeutral);
+
+    // Avoid looking at the dependents
+    final Collection<Unit> unitsWhichAreNotBeingTransportedOrDependent =
+        CollectionUtils.getMatches(
+            units,
+            Matches.unitIsBeingTransportedByOrIsDependentOfSomeUnitInThisList(units, player, true)
+                .negate());
+    hasLandToMove =
+        unitsWhichAreNotBeingTransportedOrDependent.stream().anyMatch(Matches.unitIsLand());
+    hasSeaToMove =
+        unitsWhichAreNotBeingTransportedOrDependent.stream().anyMatch(Matches.unitIsSea());
+    for (final Predicate<Territory> movePreference :
+        getPrioritizedMovePreferences(data, player, unitsWhichAreNotBeingTransportedOrDependent)) {
+      preferences.add(movePreference.and(noImpassableOrRestrictedOrNeutral));
+      landPreferences.add(
+          movePreference.and(Matches.territoryIsLand()).and(noImpassableOrRestrictedOrNeutral));
+      waterPreferences.add(
+          movePreference.and(Matches.territoryIsWater()).and(noImpassableOrRestrictedOrNeutral));
+    }
+
+    // Determine max distance route is willing to accept
+    final List<Unit> landUnits =
+        CollectionUtils.getMatches(
+            unitsWhichAreNotBeingTransportedOrDependent, Matches.unitIsLand());
+    maxLandMoves = landUnits.isEmpty() ? 0 : MoveValidator.getMaxMovement(landUnits).intValue();
+    combatMove = GameStepPropertiesHelper.isCombatMove(data, true);
+  }
+
+  private static List<Predicate<Territory>> getPrioritizedMovePreferences(
+      final GameData data,
+      final GamePlayer player,
+      final Collection<Unit> unitsWhichAreNotBeingTransportedOrDependent) {
+    // These are the conditions we would like the route to satisfy, starting with the most important
+    final Predicate<Territory> hasRequiredUnitsToMove =
+        Matches.territoryHasRequiredUnitsToMove(unitsWhichAreNotBeingTransportedOrDependent);
+    final Predicate<Territory> notEnemyOwned =
+        Matches.isTerritoryEnemy(player)
+            .negate()
+            .and(
+                Matches.territoryWasFoughtOver(AbstractMoveDelegate.getBattleTracker(data))
+                    .negate());
+    final Predicate<Territory> noEnemyUnits = Matches.territoryHasNoEnemyUnits(player);
+    final Predicate<Territory> noAa = Matches.territoryHasEnemyAaForFlyOver(player).negate();
+    return List.of(
+        hasRequiredUnitsToMove.and(notEnemyOwned).and(noEnemyUnits),
+        hasRequiredUnitsToMove.and(noEnemyUnits),
+        hasRequiredUnitsToMove.and(noAa),
+        notEnemyOwned.and(noEnemyUnits),
+        noEnemyUnits,
+        noAa);
+  }
+
+  /**
+   * Returns the conditions routes from {@code start} are searched with for units, for most ends.
+   */
+  List<Predicate<Territory>> getUsualConditionsForUnits(final Territory start) {
+    final List<Predicate<Territory>> conditions = new ArrayList<>();
+    conditions.add(noImpassableOrRestrictedOrNeutral);
+    conditions.add(start.isWater() ? water : land);
+    conditions.addAll(start.isWater() ? waterPreferences : landPreferences);
+    conditions.addAll(preferences);
+    return conditions;
+  }
+
+  /** Returns the best route from {@code start} to {@code end}, searched with {@code routes}. */
+  Optional<Route> find(final Territory start, final Territory end, final RouteLookup routes) {
+    Optional<Route> optionalDefaultRoute =
+        routes.find(start, end, noImpassableOrRestrictedOrNeutral, true);
+    if (optionalDefaultRoute.isEmpty()) {
+      // Try for a route without impassable territories, but allowing restricted territories, since
+      // there is a chance politics may change in the future
+      optionalDefaultRoute = routes.find(start, end, impassable, false);
+      // There really is nothing, so just return any route, without conditions
+      if (optionalDefaultRoute.isEmpty()) {
+        return routes.find(start, end, any, false);
+      }
+      return optionalDefaultRoute;
+    }
+    Route defaultRoute = optionalDefaultRoute.get();
+
+    // If start and end are land, try a land route. Don't force a land route, since planes may be
+    // moving
+    boolean mustGoLand = false;
+    if (!start.isWater() && !end.isWater()) {
+      final Optional<Route> optionalLandRoute = routes.find(start, end, land, true);
+      if ((optionalLandRoute.isPresent())
+          && ((optionalLandRoute.get().numberOfSteps() <= defaultRoute.numberOfSteps())
+              || (forceLandOrSeaRoute && hasLandToMove))) {
+        defaultRoute = optionalLandRoute.get();
+        mustGoLand = true;
+      }
+    }
+
+    // If the start and end are water, try and get a water route don't force a water route, since
+    // planes may be moving
+    boolean mustGoSea = false;
+    if (start.isWater() && end.isWater()) {
+      final Optional<Route> optionalWaterRoute = routes.find(start, end, water, true);
+      if ((optionalWaterRoute.isPresent())
+          && ((optionalWaterRoute.get().numberOfSteps() <= defaultRoute.numberOfSteps())
+              || (forceLandOrSeaRoute && hasSeaToMove))) {
+        defaultRoute = optionalWaterRoute.get();
+        mustGoSea = true;
+      }
+    }
+
+    final int maxRouteSteps =
+        combatMove
+            ? defaultRoute.numberOfSteps()
+            : Math.max(defaultRoute.numberOfSteps(), maxLandMoves);
+
+    // Try to find preferred route
+    final List<Predicate<Territory>> moveConditions =
+        mustGoLand ? landPreferences : mustGoSea ? waterPreferences : preferences;
+    for (final Predicate<Territory> moveCondition : moveConditions) {
+      final Optional<Route> optionalPreferredRoute = routes.find(start, end, moveCondition, true);
+      if (optionalPreferredRoute.isPresent()
+          && optionalPreferredRoute.get().numberOfSteps() <= maxRouteSteps) {
+        return optionalPreferredRoute;
+      }
+    }
+
+    return Optional.of(defaultRoute);
+  }
+}
@@ -52,7 +52,6 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
-import org.triplea.java.PredicateBuilder;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
 import org.triplea.util.Triple;
@@ -1676,7 +1675,10 @@ public class MoveValidator {
     return canCarry;
   }
 
-  /** Get the route ignoring forced territories. */
+  /**
+   * Get the route ignoring forced territories. To get the routes of the same units from one start
+   * to many ends, use a {@link ReachabilityField} instead.
+   */
   public static Optional<Route> getBestRoute(
       @Nonnull final Territory start,
       @Nonnull final Territory end,
@@ -1684,159 +1686,14 @@ public class MoveValidator {
       final GamePlayer player,
       final Collection<Unit> units,
       final boolean forceLandOrSeaRoute) {
-    final boolean hasLand = units.stream().anyMatch(Matches.unitIsLand());
-    final boolean hasSub = units.stream().anyMatch(Matches.unitCanMoveThroughEnemies());
-    final boolean hasAir = units.stream().anyMatch(Matches.unitIsAir());
-    final boolean isNeutralsImpassable =
-        Properties.getNeutralsImpassable(data.getProperties())
-            || (hasAir && !Properties.getNeutralFlyoverAllowed(data.getProperties()));
-    final Predicate<Territory> noNeutral = Matches.territoryIsNeutralButNotWater().negate();
-    final Predicate<Territory> noEnemyDestroyer =
-        Matches.territoryHasUnitsThatMatch(
-                Matches.unitIsDestroyer().and(Matches.unitIsEnemyOf(player)))
-            .negate();
-    final Predicate<Territory> noImpassableOrRestrictedOrNeutral =
-        PredicateBuilder.of(Matches.territoryIsPassableAndNotRestricted(player))
-            .and(Matches.territoryEffectsAllowUnits(units))
-            .andIf(hasAir, Matches.territoryAllowsCanMoveAirUnitsOverOwnedLand(player))
-            .andIf(hasLand, Matches.territoryAllowsCanMoveLandUnitsOverOwnedLand(player))
-            .andIf(isNeutralsImpassable, noNeutral)
-            .andIf(hasSub, noEnemyDestroyer)
-            .build();
-
-    Optional<Route> optionalDefaultRoute =
-        data.getMap()
-            .getRouteForUnits(start, end, noImpassableOrRestrictedOrNeutral, units, player);
-    if (optionalDefaultRoute.isEmpty()) {
-      // Try for a route without impassable territories, but allowing restricted territories, since
-      // there is a chance politics may change in the future
-      optionalDefaultRoute =
-          data.getMap()
-              .getRoute(
-                  start,
-                  end,
-                  (isNeutralsImpassable
-                      ? noNeutral.and(Matches.territoryIsImpassable())
-                      : Matches.territoryIsImpassable()));
-      // There really is nothing, so just return any route, without conditions
-      if (optionalDefaultRoute.isEmpty()) {
-        return data.getMap().getRoute(start, end, it -> true);
-      }
-      return optionalDefaultRoute;
-    }
-    Route defaultRoute = optionalDefaultRoute.get();
-    // Avoid looking at the dependents
-    final Collection<Unit> unitsWhichAreNotBeingTransportedOrDependent =
-        CollectionUtils.getMatches(
-            units,
-            Matches.unitIsBeingTransportedByOrIsDependentOfSomeUnitInThisList(units, player, true)
-                .negate());
-
-    // If start and end are land, try a land route. Don't force a land route, since planes may be
-    // moving
-    boolean mustGoLand = false;
-    if (!start.isWater() && !end.isWater()) {
-      final Optional<Route> optionalLandRoute =
-          data.getMap()
-              .getRouteForUnits(
-                  start,
-                  end,
-                  Matches.territoryIsLand().and(noImpassableOrRestrictedOrNeutral),
-                  units,
-                  player);
-      if ((optionalLandRoute.isPresent())
-          && ((optionalLandRoute.get().numberOfSteps() <= defaultRoute.numberOfSteps())
-              || (forceLandOrSeaRoute
-                  && unitsWhichAreNotBeingTransportedOrDependent.stream()
-                      .anyMatch(Matches.unitIsLand())))) {
-        defaultRoute = optionalLandRoute.get();
-        mustGoLand = true;
-      }
-    }
-
-    // If the start and end are water, try and get a water route don't force a water route, since
-    // planes may be moving
-    boolean mustGoSea = false;
-    if (start.isWater() && end.isWater()) {
-      final Optional<Route> optionalWaterRoute =
-          data.getMap()
-              .getRouteForUnits(
-                  start,
-                  end,
-                  Matches.territoryIsWater().and(noImpassableOrRestrictedOrNeutral),
-                  units,
-                  player);
-      if ((optionalWaterRoute.isPresent())
-          && ((optionalWaterRoute.get().numberOfSteps() <= defaultRoute.numberOfSteps())
-              || (forceLandOrSeaRoute
-                  && unitsWhichAreNotBeingTransportedOrDependent.stream()
-                      .anyMatch(Matches.unitIsSea())))) {
-        defaultRoute = optionalWaterRoute.get();
-        mustGoSea = true;
-      }
-    }
-
-    final List<Predicate<Territory>> prioritizedMovePreferences =
-        getPrioritizedMovePreferences(data, player, unitsWhichAreNotBeingTransportedOrDependent);
-
-    // Determine max distance route is willing to accept
-    final List<Unit> landUnits =
-        CollectionUtils.getMatches(
-            unitsWhichAreNotBeingTransportedOrDependent, Matches.unitIsLand());
-    final int maxLandMoves = landUnits.isEmpty() ? 0 : getMaxMovement(landUnits).intValue();
-    final int maxSteps =
-        GameStepPropertiesHelper.isCombatMove(data, true)
-            ? defaultRoute.numberOfSteps()
-            : Math.max(defaultRoute.numberOfSteps(), maxLandMoves);
-
-    // Try to find preferred route
-    for (final Predicate<Territory> movePreference : prioritizedMovePreferences) {
-      final Predicate<Territory> moveCondition;
-      if (mustGoLand) {
-        moveCondition =
-            movePreference.and(Matches.territoryIsLand()).and(noImpassableOrRestrictedOrNeutral);
-      } else if (mustGoSea) {
-        moveCondition =
-            movePreference.and(Matches.territoryIsWater()).and(noImpassableOrRestrictedOrNeutral);
-      } else {
-        moveCondition = movePreference.and(noImpassableOrRestrictedOrNeutral);
-      }
-      final Optional<Route> optionalPreferredRoute =
-          data.getMap().getRouteForUnits(start, end, moveCondition, units, player);
-      if (optionalPreferredRoute.isPresent()
-          && optionalPreferredRoute.get().numberOfSteps() <= maxSteps) {
-        return optionalPreferredRoute;
-      }
-    }
-
-    return Optional.of(defaultRoute);
-  }
-
-  private static @Nonnull List<Predicate<Territory>> getPrioritizedMovePreferences(
-      GameData data,
-      GamePlayer player,
-      Collection<Unit> unitsWhichAreNotBeingTransportedOrDependent) {
-    // These are the conditions we would like the route to satisfy, starting with the most important
-    final Predicate<Territory> hasRequiredUnitsToMove =
-        Matches.territoryHasRequiredUnitsToMove(unitsWhichAreNotBeingTransportedOrDependent);
-    final Predicate<Territory> notEnemyOwned =
-        Matches.isTerritoryEnemy(player)
-            .negate()
-            .and(
-                Matches.territoryWasFoughtOver(AbstractMoveDelegate.getBattleTracker(data))
-                    .negate());
-    final Predicate<Territory> noEnemyUnits = Matches.territoryHasNoEnemyUnits(player);
-    final Predicate<Territory> noAa = Matches.territoryHasEnemyAaForFlyOver(player).negate();
-    final List<Predicate<Territory>> prioritizedMovePreferences =
-        new ArrayList<>(
-            List.of(
-                hasRequiredUnitsToMove.and(notEnemyOwned).and(noEnemyUnits),
-                hasRequiredUnitsToMove.and(noEnemyUnits),
-                hasRequiredUnitsToMove.and(noAa),
-                notEnemyOwned.and(noEnemyUnits),
-                noEnemyUnits,
-                noAa));
-    return prioritizedMovePreferences;
+    return new BestRouteSearch(data, player, units, forceLandOrSeaRoute)
+        .find(
+            start,
+            end,
+            (routeStart, routeEnd, condition, forUnits) ->
+                forUnits
+                    ? data.getMap().getRouteForUnits(routeStart, routeEnd, condition, units, player)
+                    : data.getMap().getRoute(routeStart, routeEnd, condition));
   }
 
   private static boolean isNotNeutralsBlitzable(final GameProperties properties) {
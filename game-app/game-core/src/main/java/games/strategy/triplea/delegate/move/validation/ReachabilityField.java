@@ -0,0 +1,83 @@
+package games.strategy.triplea.delegate.move.validation;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.RouteTree;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The routes {@link MoveValidator#getBestRoute} chooses for a group of units from one start to
+ * every territory. Each condition getBestRoute searches with is searched once from the start for
+ * all ends, after that the best route to any end is traced instead of searched again. This keeps
+ * the route under the mouse cheap while the player moves it over the map.
+ *
+ * <p>The routes reflect the game data at the time they are first asked for, a field must not be
+ * used after the game data changed. Callers hold the read lock of the game data.
+ */
+@ThreadSafe
+public class ReachabilityField {
+  private final Territory start;
+  private final GameData data;
+  private final GamePlayer player;
+  private final Collection<Unit> units;
+  private final BestRouteSearch bestRouteSearch;
+  private final Map<Predicate<Territory>, RouteTree> routesForUnits = new ConcurrentHashMap<>();
+  private final Map<Predicate<Territory>, RouteTree> routes = new ConcurrentHashMap<>();
+
+  public ReachabilityField(
+      final Territory start,
+      final GameData data,
+      final GamePlayer player,
+      final Collection<Unit> units,
+      final boolean forceLandOrSeaRoute) {
+    this.start = checkNotNull(start);
+    this.data = data;
+    this.player = player;
+    this.units = List.copyOf(units);
+    bestRouteSearch = new BestRouteSearch(data, player, this.units, forceLandOrSeaRoute);
+  }
+
+  public Territory getStart() {
+    return start;
+  }
+
+  /** Returns the same route as {@link MoveValidator#getBestRoute} from the start to {@code end}. */
+  public Optional<Route> getBestRoute(final Territory end) {
+    return bestRouteSearch.find(
+        start,
+        end,
+        (routeStart, routeEnd, condition, forUnits) ->
+            getRoutes(condition, forUnits).getRoute(routeEnd));
+  }
+
+  private RouteTree getRoutes(final Predicate<Territory> condition, final boolean forUnits) {
+    // a search that is in progress in another thread is waited for rather than repeated
+    return forUnits
+        ? routesForUnits.computeIfAbsent(
+            condition, c -> data.getMap().getRoutesForUnits(start, c, units, player))
+        : routes.computeIfAbsent(condition, c -> data.getMap().getRoutes(start, c));
+  }
+
+  /**
+   * Searches the routes needed for most ends up front, so that the first routes asked for are
+   * cheap as well. Meant to be run in a background thread, takes the read lock of the game data.
+   */
+  public void searchAhead() {
+    try (GameData.Unlocker ignored = data.acquireReadLock()) {
+      bestRouteSearch
+          .getUsualConditionsForUnits(start)
+          .forEach(condition -> getRoutes(condition, true));
+    }
+  }
+}
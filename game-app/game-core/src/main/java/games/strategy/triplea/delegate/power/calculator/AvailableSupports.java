@@ -2,6 +2,7 @@ package games.strategy.triplea.delegate.power.calculator;
 
 import games.strategy.engine.data.Unit;
 import games.strategy.triplea.attachments.UnitSupportAttachment;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,7 +13,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
-import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
 
 /**
@@ -33,21 +33,57 @@ class AvailableSupports {
 
   final Map<UnitSupportAttachment.BonusType, List<UnitSupportAttachment>> supportRules;
 
-  // Wrapper over IntegerMap<Unit> that keeps track of the total, instead of recomputing it
-  // repeatedly which can be very slow with lots of support units.
+  /**
+   * The supporters of a single rule and the support each of them has left, compiled into arrays so
+   * that the copies made for every roll and strength calculation, i.e. every battle round and
+   * simulation run, are cheap. Exhausted supporters are removed while keeping the order of the
+   * remaining ones. The total is tracked instead of recomputing it repeatedly which can be very
+   * slow with lots of support units.
+   */
   static class SupportDetails {
-    IntegerMap<Unit> supportUnits;
+    private final Unit[] supporters;
+    private final int[] supportLeft;
+    private int supporterCount;
     int totalSupport;
 
-    public SupportDetails(IntegerMap<Unit> supportUnits) {
-      this.supportUnits = supportUnits;
+    public SupportDetails(final IntegerMap<Unit> supportUnits) {
+      supporters = new Unit[supportUnits.size()];
+      supportLeft = new int[supportUnits.size()];
+      for (final Map.Entry<Unit, Integer> entry : supportUnits.entrySet()) {
+        supporters[supporterCount] = entry.getKey();
+        supportLeft[supporterCount] = entry.getValue();
+        supporterCount++;
+      }
       this.totalSupport = supportUnits.totalValues();
     }
 
-    public SupportDetails(SupportDetails other) {
-      this.supportUnits = new IntegerMap<>(other.supportUnits);
+    public SupportDetails(final SupportDetails other) {
+      this.supporters = Arrays.copyOf(other.supporters, other.supporterCount);
+      this.supportLeft = Arrays.copyOf(other.supportLeft, other.supporterCount);
+      this.supporterCount = other.supporterCount;
       this.totalSupport = other.totalSupport;
     }
+
+    int getSupporterCount() {
+      return supporterCount;
+    }
+
+    /**
+     * Consumes one support point of the supporter at the given 0-based index. A negative remaining
+     * value (number = -1, i.e. infinite) is left in place.
+     */
+    Unit consumeSupportOf(final int index) {
+      final Unit supporter = supporters[index];
+      supportLeft[index]--;
+      totalSupport--;
+      if (supportLeft[index] == 0) {
+        supporterCount--;
+        System.arraycopy(supporters, index + 1, supporters, index, supporterCount - index);
+        System.arraycopy(supportLeft, index + 1, supportLeft, index, supporterCount - index);
+        supporters[supporterCount] = null;
+      }
+      return supporter;
+    }
   }
 
   final Map<UnitSupportAttachment, SupportDetails> supportUnits;
@@ -97,17 +133,25 @@ class AvailableSupports {
         new HashMap<>();
     for (final Map.Entry<UnitSupportAttachment.BonusType, List<UnitSupportAttachment>> entry :
         this.supportRules.entrySet()) {
+      final List<UnitSupportAttachment> rules = entry.getValue();
+      if (rules.stream().allMatch(ruleFilter)) {
+        // the rule lists are never modified once sorted, so they can be shared
+        supportRules.put(entry.getKey(), rules);
+        continue;
+      }
       final List<UnitSupportAttachment> filteredSupportRules =
-          entry.getValue().stream().filter(ruleFilter).collect(Collectors.toList());
+          rules.stream().filter(ruleFilter).collect(Collectors.toList());
       if (!filteredSupportRules.isEmpty()) {
         supportRules.put(entry.getKey(), filteredSupportRules);
       }
     }
 
-    final Map<UnitSupportAttachment, SupportDetails> supportUnits = new HashMap<>();
-    for (final UnitSupportAttachment usa : this.supportUnits.keySet()) {
-      if (ruleFilter.test(usa)) {
-        supportUnits.put(usa, new SupportDetails(this.supportUnits.get(usa)));
+    final Map<UnitSupportAttachment, SupportDetails> supportUnits =
+        new HashMap<>(this.supportUnits.size() * 2);
+    for (final Map.Entry<UnitSupportAttachment, SupportDetails> entry :
+        this.supportUnits.entrySet()) {
+      if (ruleFilter.test(entry.getKey())) {
+        supportUnits.put(entry.getKey(), new SupportDetails(entry.getValue()));
       }
     }
 
@@ -131,12 +175,13 @@ class AvailableSupports {
           continue;
         }
 
-        final int numSupportersAvailable = getSupportersAvailable(rule);
+        final SupportDetails details = supportUnits.get(rule);
+        final int numSupportersAvailable = getSupportersAvailable(rule, details);
         for (int i = 1; i <= numSupportersAvailable; i++) {
-          // Re-query: each pick may have removed an exhausted supporter from the map, so the
-          // requested position must be clamped to the current count.
-          final int position = Math.min(i, getSupportersAvailable(rule));
-          final Unit supporter = getNextAvailableSupporter(rule, position);
+          // Re-query: each pick may have removed an exhausted supporter, so the requested
+          // position must be clamped to the current count.
+          final int position = Math.min(i, getSupportersAvailable(rule, details));
+          final Unit supporter = details.consumeSupportOf(position - 1);
           amountOfSupportGiven += rule.getBonus();
           unitsGivingSupport
               .computeIfAbsent(supporter, (newSupport) -> new IntegerMap<>())
@@ -157,12 +202,12 @@ class AvailableSupports {
    * can give support to one target. A single supporter contributes at most one support per target;
    * stacking on the same target requires multiple distinct supporters.
    */
-  private int getSupportersAvailable(final UnitSupportAttachment support) {
-    final SupportDetails details = supportUnits.get(support);
+  private static int getSupportersAvailable(
+      final UnitSupportAttachment support, final SupportDetails details) {
     if (details == null) {
       return 0;
     }
-    return Math.max(0, Math.min(support.getBonusType().getCount(), details.supportUnits.size()));
+    return Math.max(0, Math.min(support.getBonusType().getCount(), details.getSupporterCount()));
   }
 
   int getSupportLeft(final UnitSupportAttachment support) {
@@ -170,20 +215,4 @@ class AvailableSupports {
     return details != null ? details.totalSupport : 0;
   }
 
-  /**
-   * Picks the supporter at the given 1-based position from the rule's supporter map and consumes
-   * one of its support points. A negative remaining value (number = -1, i.e. infinite) is left in
-   * place.
-   */
-  private Unit getNextAvailableSupporter(final UnitSupportAttachment support, final int position) {
-    final SupportDetails details = supportUnits.get(support);
-    final IntegerMap<Unit> intMap = details.supportUnits;
-    final Unit u = CollectionUtils.getAt(intMap.keySet(), position);
-    intMap.add(u, -1);
-    details.totalSupport -= 1;
-    if (intMap.getInt(u) == 0) {
-      intMap.removeKey(u);
-    }
-    return u;
-  }
 }
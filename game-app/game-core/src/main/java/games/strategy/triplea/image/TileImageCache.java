@@ -0,0 +1,204 @@
+package games.strategy.triplea.image;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.imageio.ImageIO;
+import org.triplea.metrics.Counter;
+import org.triplea.metrics.DurationTimer;
+import org.triplea.metrics.Metrics;
+
+/**
+ * Keeps map tile images in memory in two tiers, each with a fixed memory budget: decoded images
+ * that are ready to be drawn and, below them, the compressed bytes of the image files. Both tiers
+ * drop their least recently used entries first once they are over budget. A tile that dropped out
+ * of the decoded tier but is still in the compressed tier only needs to be decoded again, not
+ * read.
+ *
+ * <p>Hits and misses of the tiers are counted in {@code ui.map.tileCache.*}, the time spent
+ * decoding is recorded in {@code ui.map.tileDecode}, see {@link Metrics}.
+ */
+@ThreadSafe
+public final class TileImageCache {
+  private static final Counter DECODED_HITS = Metrics.counter("ui.map.tileCache.decodedHits");
+  private static final Counter COMPRESSED_HITS =
+      Metrics.counter("ui.map.tileCache.compressedHits");
+  private static final Counter MISSES = Metrics.counter("ui.map.tileCache.misses");
+  private static final DurationTimer DECODE_TIMER = Metrics.timer("ui.map.tileDecode");
+
+  private final Tier<Image> decoded;
+  private final Tier<byte[]> compressed;
+
+  // incremented by every clear, images created before a clear and stored after it are dropped
+  @GuardedBy("this")
+  private long generation;
+
+  /**
+   * Creates a new cache.
+   *
+   * @param decodedBudget The number of bytes the decoded images may take up.
+   * @param compressedBudget The number of bytes the compressed image files may take up.
+   */
+  public TileImageCache(final long decodedBudget, final long compressedBudget) {
+    decoded = new Tier<>(decodedBudget, TileImageCache::estimateSize);
+    compressed = new Tier<>(compressedBudget, bytes -> bytes.length);
+  }
+
+  /** Creates a cache with budgets that are a fixed share of the maximum heap size. */
+  public static TileImageCache withDefaultBudgets() {
+    final long maxMemory = Runtime.getRuntime().maxMemory();
+    return new TileImageCache(maxMemory / 8, maxMemory / 32);
+  }
+
+  @VisibleForTesting
+  static long estimateSize(final Image image) {
+    if (image instanceof BufferedImage bufferedImage) {
+      final DataBuffer dataBuffer = bufferedImage.getRaster().getDataBuffer();
+      return (long) dataBuffer.getSize()
+          * dataBuffer.getNumBanks()
+          * DataBuffer.getDataTypeSize(dataBuffer.getDataType())
+          / Byte.SIZE;
+    }
+    return (long) image.getWidth(null) * image.getHeight(null) * Integer.BYTES;
+  }
+
+  /**
+   * Returns the decoded image stored under {@code key}, creating it with {@code imageCreator} if it
+   * is not in the cache. Images that cannot be created ({@code null}) are not cached. An image that
+   * is asked for by two threads at once might be created twice. An image whose creation overlapped
+   * a {@link #clear} is returned but not cached, it might come from what the cache was cleared of.
+   */
+  public @Nullable Image getImage(final String key, final Supplier<Image> imageCreator) {
+    final long startGeneration = getGeneration();
+    final Image cached = decoded.get(key);
+    if (cached != null) {
+      DECODED_HITS.increment();
+      return cached;
+    }
+    final Image image = imageCreator.get();
+    if (image != null) {
+      putIfNotCleared(decoded, key, image, startGeneration);
+    }
+    return image;
+  }
+
+  public boolean containsImage(final String key) {
+    return decoded.contains(key);
+  }
+
+  /**
+   * Reads and decodes the image file at {@code url}, the file is read from the compressed tier if
+   * it is in there.
+   *
+   * @return The decoded image, {@code null} if the format of the file is not supported, see {@link
+   *     ImageIO#read(InputStream)}.
+   */
+  public @Nullable BufferedImage readImage(final URL url) throws IOException {
+    final long startGeneration = getGeneration();
+    final String key = url.toString();
+    byte[] bytes = compressed.get(key);
+    if (bytes != null) {
+      COMPRESSED_HITS.increment();
+    } else {
+      MISSES.increment();
+      try (InputStream inputStream = url.openStream()) {
+        bytes = inputStream.readAllBytes();
+      }
+      putIfNotCleared(compressed, key, bytes, startGeneration);
+    }
+    try (DurationTimer.Sample ignored = DECODE_TIMER.start()) {
+      ImageIO.setUseCache(false); // refers whether to "use a disk based cache"
+      return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+  }
+
+  /** Removes all images, e.g. because they are loaded from a different map from now on. */
+  public synchronized void clear() {
+    generation++;
+    decoded.clear();
+    compressed.clear();
+  }
+
+  private synchronized long getGeneration() {
+    return generation;
+  }
+
+  private synchronized <V> void putIfNotCleared(
+      final Tier<V> tier, final String key, final V value, final long startGeneration) {
+    if (generation == startGeneration) {
+      tier.put(key, value);
+    }
+  }
+
+  @VisibleForTesting
+  long getDecodedSize() {
+    return decoded.getSize();
+  }
+
+  @VisibleForTesting
+  long getCompressedSize() {
+    return compressed.getSize();
+  }
+
+  @ThreadSafe
+  private static final class Tier<V> {
+    private final long budget;
+    private final ToLongFunction<V> sizeOf;
+
+    // in access order, the least recently used entry comes first
+    @GuardedBy("this")
+    private final Map<String, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    @GuardedBy("this")
+    private long size;
+
+    Tier(final long budget, final ToLongFunction<V> sizeOf) {
+      this.budget = budget;
+      this.sizeOf = sizeOf;
+    }
+
+    synchronized @Nullable V get(final String key) {
+      return entries.get(key);
+    }
+
+    synchronized boolean contains(final String key) {
+      return entries.containsKey(key);
+    }
+
+    synchronized void put(final String key, final V value) {
+      final V replaced = entries.put(key, value);
+      if (replaced != null) {
+        size -= sizeOf.applyAsLong(replaced);
+      }
+      size += sizeOf.applyAsLong(value);
+      // evict down to the budget, but keep the entry just added even if it alone is over budget
+      final Iterator<V> leastRecentlyUsed = entries.values().iterator();
+      while (size > budget && entries.size() > 1) {
+        size -= sizeOf.applyAsLong(leastRecentlyUsed.next());
+        leastRecentlyUsed.remove();
+      }
+    }
+
+    synchronized void clear() {
+      entries.clear();
+      size = 0;
+    }
+
+    synchronized long getSize() {
+      return size;
+    }
+  }
+}
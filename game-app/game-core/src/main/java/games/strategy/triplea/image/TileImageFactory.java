@@ -1,5 +1,6 @@
 package games.strategy.triplea.image;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.image.BlendComposite.BlendingMode;
 import games.strategy.ui.Util;
@@ -8,18 +9,26 @@ import java.awt.Graphics2D;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsEnvironment;
 import java.awt.Image;
+import java.awt.Point;
 import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Collection;
 import java.util.Locale;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
 
-/** A factory for creating the base tile images used to render a map. */
+/**
+ * A factory for creating the base tile images used to render a map. Tile images are kept in a
+ * {@link TileImageCache}, tiles that are about to be shown can be decoded ahead on a background
+ * thread, see {@link #decodeAhead}.
+ */
 @Slf4j
 public final class TileImageFactory {
   private static final String SHOW_RELIEF_IMAGES_PREFERENCE = "ShowRelief2";
@@ -30,11 +39,21 @@ public final class TileImageFactory {
   private static String showMapBlendMode;
   private static final String SHOW_MAP_BLEND_ALPHA = "BlendAlpha";
   private static float showMapBlendAlpha;
+  private static final int DECODE_AHEAD_THREADS = 2;
   private static final GraphicsConfiguration configuration =
       GraphicsEnvironment.getLocalGraphicsEnvironment()
           .getDefaultScreenDevice()
           .getDefaultConfiguration();
-  private ResourceLoader resourceLoader;
+  private volatile ResourceLoader resourceLoader;
+  private final TileImageCache cache = TileImageCache.withDefaultBudgets();
+  private final ThreadPoolExecutor decodeAheadExecutor =
+      new ThreadPoolExecutor(
+          DECODE_AHEAD_THREADS,
+          DECODE_AHEAD_THREADS,
+          2L,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          new ThreadFactoryBuilder().setNameFormat("tile-decode-ahead-%d").setDaemon(true).build());
 
   static {
     final Preferences prefs = Preferences.userNodeForPackage(TileImageFactory.class);
@@ -104,8 +123,36 @@ public final class TileImageFactory {
     }
   }
 
+  public TileImageFactory() {
+    decodeAheadExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Loads the tiles with {@code loader} from now on. The tiles of the previous loader are removed
+   * from the cache, tiles of it that are still being decoded are not put in the cache.
+   */
   public void setResourceLoader(final ResourceLoader loader) {
     resourceLoader = loader;
+    decodeAheadExecutor.getQueue().clear();
+    cache.clear();
+  }
+
+  /**
+   * Decodes the base and relief tiles at the given tile coordinates in the background, so that
+   * they are in the cache by the time they are drawn. Replaces the tiles of the previous call that
+   * have not been decoded yet.
+   */
+  public void decodeAhead(final Collection<Point> tiles) {
+    decodeAheadExecutor.getQueue().clear();
+    for (final Point tile : tiles) {
+      decodeAheadExecutor.execute(
+          () -> {
+            getBaseTile(tile.x, tile.y);
+            if (showReliefImages) {
+              getReliefTile(tile.x, tile.y);
+            }
+          });
+    }
   }
 
   public @Nullable Image getBaseTile(final int x, final int y) {
@@ -122,14 +169,21 @@ public final class TileImageFactory {
   }
 
   private @Nullable Image getImage(final String fileName, final boolean transparent) {
-    final URL url = resourceLoader.getResource(fileName);
-
-    if ((!showMapBlends || !showReliefImages || !transparent) && url == null) {
-      return null;
-    }
-    return (showMapBlends && showReliefImages && transparent)
-        ? loadBlendedImage(fileName)
-        : loadUnblendedImage(url, transparent);
+    final boolean blended = showMapBlends && showReliefImages && transparent;
+    // blended tiles are cached per blend setting, tiles of an old setting are evicted eventually
+    final String key =
+        blended
+            ? fileName + "?blend=" + showMapBlendMode + "&alpha=" + showMapBlendAlpha
+            : fileName;
+    return cache.getImage(
+        key,
+        () -> {
+          final URL url = resourceLoader.getResource(fileName);
+          if (!blended && url == null) {
+            return null;
+          }
+          return blended ? loadBlendedImage(fileName) : loadUnblendedImage(url, transparent);
+        });
   }
 
   public Image getReliefTile(final int a, final int b) {
@@ -211,7 +265,7 @@ public final class TileImageFactory {
 
   private Image loadUnblendedImage(final URL imageLocation, final boolean transparent) {
     try {
-      final BufferedImage fromFile = ImageIO.read(imageLocation);
+      final BufferedImage fromFile = cache.readImage(imageLocation);
       // if we don't copy, drawing the tile to the screen takes significantly longer
       // has something to do with the color model and type of the images
       // some images can be copied quickly to the screen
@@ -229,8 +283,8 @@ public final class TileImageFactory {
     }
   }
 
-  private static BufferedImage loadCompatibleImage(final URL resource) throws IOException {
-    final BufferedImage image = ImageIO.read(resource);
+  private BufferedImage loadCompatibleImage(final URL resource) throws IOException {
+    final BufferedImage image = cache.readImage(resource);
     return toCompatibleImage(image);
   }
 
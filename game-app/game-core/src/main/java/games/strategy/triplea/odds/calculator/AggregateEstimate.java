@@ -1,23 +1,26 @@
-package games.strategy.triplea.ai.fast;
+package games.strategy.triplea.odds.calculator;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
-import games.strategy.triplea.odds.calculator.AggregateResults;
 import games.strategy.triplea.util.TuvCostsCalculator;
 import games.strategy.triplea.util.TuvUtils;
 import java.util.Collection;
 import org.triplea.java.collections.IntegerMap;
 import org.triplea.util.Tuple;
 
-class AggregateEstimate extends AggregateResults {
+/**
+ * The result of a battle estimate, as opposed to the results of simulation runs. The estimate
+ * consists of a win percentage and the units that are expected to be left over.
+ */
+public class AggregateEstimate extends AggregateResults {
   private final int battleRoundsFought;
   private final double winPercentage;
   private final Collection<Unit> remainingAttackingUnits;
   private final Collection<Unit> remainingDefendingUnits;
 
-  AggregateEstimate(
+  public AggregateEstimate(
       final int battleRoundsFought,
       final double winPercentage,
       final Collection<Unit> remainingAttackingUnits,
@@ -72,6 +75,16 @@ class AggregateEstimate extends AggregateResults {
     return winPercentage;
   }
 
+  @Override
+  public double getDefenderWinPercent() {
+    return 1 - winPercentage;
+  }
+
+  @Override
+  public double getDrawPercent() {
+    return 0;
+  }
+
   @Override
   public double getAverageBattleRoundsFought() {
     return battleRoundsFought;
@@ -0,0 +1,356 @@
+package games.strategy.triplea.odds.calculator;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.delegate.battle.BattleState;
+import games.strategy.triplea.delegate.power.calculator.AaPowerStrengthAndRolls;
+import games.strategy.triplea.delegate.power.calculator.CombatValueBuilder;
+import games.strategy.triplea.delegate.power.calculator.PowerStrengthAndRolls;
+import games.strategy.triplea.delegate.power.calculator.TotalPowerAndTotalRolls;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.triplea.java.collections.CollectionUtils;
+
+/**
+ * Estimates battle results analytically, which is much cheaper than simulating the battle many
+ * times like {@link BattleCalculator} does.
+ *
+ * <p>In the spirit of Lanchester's laws, both sides inflict their expected number of hits each
+ * round. The hits are taken in the order casualties are usually chosen: first the extra hit points
+ * of units with several hit points, then the units with the least power. A partially hit unit
+ * fires with the part of its power that is left. The win percentage is derived from the expected
+ * hit points left over and the variance of the dice rolls with a normal approximation.
+ *
+ * <p>Supports and territory effects (as of the start of the battle), first strike and destroyers
+ * cancelling it, AA fire and bombardment in the first round and units with several hit points are
+ * taken into account. Retreats other than with only air units left, units that can't hit certain
+ * targets and casualty restrictions like transports being taken last are not.
+ */
+public class AnalyticBattleCalculator implements IBattleCalculator {
+  // battles that are not decided after this many rounds are won by the defender
+  private static final int MAX_ROUNDS = 100;
+  // a side with fewer expected hit points left than this is considered destroyed
+  private static final double DESTROYED_THRESHOLD = 0.5;
+  private static final NormalDistribution STANDARD_NORMAL = new NormalDistribution(0, 1);
+
+  @Override
+  public AggregateResults calculate(
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final Collection<Unit> attacking,
+      final Collection<Unit> defending,
+      final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects,
+      final boolean retreatWhenOnlyAirLeft,
+      final int runCount) {
+    final GameData data = location.getData();
+    final boolean isLandBattle = !location.isWater();
+    final List<Unit> attackingUnits =
+        CollectionUtils.getMatches(
+            attacking, Matches.unitCanBeInBattle(true, isLandBattle, 1, true));
+    final List<Unit> defendingUnits =
+        CollectionUtils.getMatches(
+            defending, Matches.unitCanBeInBattle(false, isLandBattle, 1, true));
+    if (attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
+      return new AggregateEstimate(
+          0, defendingUnits.isEmpty() ? 1 : 0, attackingUnits, defendingUnits);
+    }
+
+    // the variance of the number of hits, summed up over all rolls
+    double hitVariance = 0;
+    hitVariance += fireAa(data, defendingUnits, attackingUnits, attacker, true, territoryEffects);
+    hitVariance += fireAa(data, attackingUnits, defendingUnits, defender, false, territoryEffects);
+
+    final Army attackers =
+        new Army(
+            data,
+            attackingUnits,
+            defendingUnits,
+            BattleState.Side.OFFENSE,
+            territoryEffects,
+            defendingUnits.stream().anyMatch(Matches.unitIsDestroyer())
+                ? unit -> false
+                : Matches.unitIsFirstStrike());
+    final Army defenders =
+        new Army(
+            data,
+            defendingUnits,
+            attackingUnits,
+            BattleState.Side.DEFENSE,
+            territoryEffects,
+            attackingUnits.stream().anyMatch(Matches.unitIsDestroyer())
+                ? unit -> false
+                : Matches.unitIsFirstStrikeOnDefense(data.getProperties()));
+    final TotalPowerAndTotalRolls bombardment =
+        isLandBattle && !bombarding.isEmpty()
+            ? PowerStrengthAndRolls.build(
+                bombarding,
+                CombatValueBuilder.navalBombardmentCombatValue()
+                    .enemyUnits(defendingUnits)
+                    .friendlyUnits(attackingUnits)
+                    .supportAttachments(data.getUnitTypeList().getSupportRules())
+                    .lhtrHeavyBombers(Properties.getLhtrHeavyBombers(data.getProperties()))
+                    .gameDiceSides(data.getDiceSides())
+                    .territoryEffects(territoryEffects)
+                    .build())
+            : null;
+
+    int round = 0;
+    // the attacker can't win if it retreats or neither side can inflict any hits
+    boolean attackerCanWin = true;
+    while (round < MAX_ROUNDS && !attackers.isDestroyed() && !defenders.isDestroyed()) {
+      round++;
+
+      // first strike units fire first, their casualties are removed before the others fire
+      final double attackerFirstStrikeHits = attackers.getExpectedHits(true);
+      final double defenderFirstStrikeHits = defenders.getExpectedHits(true);
+      hitVariance += attackers.getHitVariance(true) + defenders.getHitVariance(true);
+      defenders.takeHits(attackerFirstStrikeHits);
+      attackers.takeHits(defenderFirstStrikeHits);
+
+      double attackerHits = attackers.getExpectedHits(false);
+      final double defenderHits = defenders.getExpectedHits(false);
+      hitVariance += attackers.getHitVariance(false) + defenders.getHitVariance(false);
+      if (round == 1 && bombardment != null) {
+        for (final Unit unit : bombarding) {
+          attackerHits += (double) bombardment.getPower(unit) / bombardment.getDiceSides();
+          hitVariance += getRollVariance(bombardment, unit);
+        }
+      }
+      if (attackerFirstStrikeHits + defenderFirstStrikeHits + attackerHits + defenderHits == 0) {
+        attackerCanWin = false;
+        break;
+      }
+      defenders.takeHits(attackerHits);
+      attackers.takeHits(defenderHits);
+
+      if (retreatWhenOnlyAirLeft
+          && isLandBattle
+          && !attackers.isDestroyed()
+          && !defenders.isDestroyed()
+          && attackers.getRemainingUnits().stream().allMatch(Matches.unitIsAir())) {
+        attackerCanWin = false;
+        break;
+      }
+    }
+
+    final double winPercentage =
+        attackerCanWin && (attackers.isDestroyed() || defenders.isDestroyed())
+            ? getWinPercentage(
+                attackers.getHitPointsLeft() - defenders.getHitPointsLeft(), hitVariance)
+            : 0;
+    return new AggregateEstimate(
+        round, winPercentage, attackers.getRemainingUnits(), defenders.getRemainingUnits());
+  }
+
+  /**
+   * Returns the probability that the attacker ends the battle with more hit points left than the
+   * defender, assuming the difference is normally distributed.
+   */
+  private static double getWinPercentage(final double expectedMargin, final double variance) {
+    if (variance <= 0) {
+      return expectedMargin > 0 ? 1 : 0;
+    }
+    return STANDARD_NORMAL.cumulativeProbability(expectedMargin / Math.sqrt(variance));
+  }
+
+  /**
+   * Removes the units that the AA of the other side is expected to shoot down before the battle.
+   * Like the other casualties, the targets with the least power are shot down first.
+   *
+   * @return The variance of the number of AA hits.
+   */
+  private static double fireAa(
+      final GameData data,
+      final List<Unit> aaSideUnits,
+      final List<Unit> enemyUnits,
+      final GamePlayer enemy,
+      final boolean defending,
+      final Collection<TerritoryEffect> territoryEffects) {
+    final List<Unit> aaUnits =
+        CollectionUtils.getMatches(
+            aaSideUnits,
+            Matches.unitIsAaThatCanFire(
+                enemyUnits, Map.of(), enemy, Matches.unitIsAaForCombatOnly(), 1, defending));
+    if (aaUnits.isEmpty()) {
+      return 0;
+    }
+    final Set<UnitType> targetTypes = new HashSet<>();
+    for (final Unit aaUnit : aaUnits) {
+      targetTypes.addAll(aaUnit.getUnitAttachment().getTargetsAa(data.getUnitTypeList()));
+    }
+    final List<Unit> targets =
+        enemyUnits.stream()
+            .filter(unit -> targetTypes.contains(unit.getType()))
+            .collect(Collectors.toList());
+    if (targets.isEmpty()) {
+      return 0;
+    }
+    final AaPowerStrengthAndRolls aaPower =
+        AaPowerStrengthAndRolls.build(
+            aaUnits,
+            targets.size(),
+            CombatValueBuilder.aaCombatValue()
+                .enemyUnits(enemyUnits)
+                .friendlyUnits(aaSideUnits)
+                .side(defending ? BattleState.Side.DEFENSE : BattleState.Side.OFFENSE)
+                .supportAttachments(data.getUnitTypeList().getSupportRules())
+                .build());
+    final int rolls = aaPower.calculateTotalRolls();
+    if (rolls == 0) {
+      return 0;
+    }
+    final double hitProbability =
+        Math.min(1.0, (double) aaPower.calculateTotalPower() / (rolls * aaPower.getDiceSides()));
+    final long expectedHits = Math.min(targets.size(), Math.round(rolls * hitProbability));
+    final TotalPowerAndTotalRolls targetPower =
+        buildPower(
+            data,
+            enemyUnits,
+            aaSideUnits,
+            defending ? BattleState.Side.OFFENSE : BattleState.Side.DEFENSE,
+            territoryEffects);
+    targets.sort(Comparator.comparingInt(targetPower::getPower));
+    enemyUnits.removeAll(targets.subList(0, (int) expectedHits));
+    return rolls * hitProbability * (1 - hitProbability);
+  }
+
+  private static TotalPowerAndTotalRolls buildPower(
+      final GameData data,
+      final List<Unit> units,
+      final List<Unit> enemyUnits,
+      final BattleState.Side side,
+      final Collection<TerritoryEffect> territoryEffects) {
+    return PowerStrengthAndRolls.build(
+        units,
+        CombatValueBuilder.mainCombatValue()
+            .enemyUnits(enemyUnits)
+            .friendlyUnits(units)
+            .side(side)
+            .gameSequence(data.getSequence())
+            .supportAttachments(data.getUnitTypeList().getSupportRules())
+            .lhtrHeavyBombers(Properties.getLhtrHeavyBombers(data.getProperties()))
+            .gameDiceSides(data.getDiceSides())
+            .territoryEffects(territoryEffects)
+            .build());
+  }
+
+  private static double getRollVariance(final TotalPowerAndTotalRolls power, final Unit unit) {
+    final int rolls = power.getRolls(unit);
+    if (rolls == 0) {
+      return 0;
+    }
+    final double hitProbability =
+        Math.min(1.0, (double) power.getStrength(unit) / power.getDiceSides());
+    return rolls * hitProbability * (1 - hitProbability);
+  }
+
+  /** The units of one side, in the order in which they are expected to be taken as casualties. */
+  private static final class Army {
+    private final List<Unit> units;
+    private final double[] expectedHits;
+    private final double[] hitVariance;
+    private final boolean[] firstStrike;
+    // number of hits the side takes before the unit at the same index is destroyed
+    private final int[] hitsToDestroy;
+    private final int totalHitPoints;
+    private double hitsTaken = 0;
+
+    Army(
+        final GameData data,
+        final List<Unit> units,
+        final List<Unit> enemyUnits,
+        final BattleState.Side side,
+        final Collection<TerritoryEffect> territoryEffects,
+        final Predicate<Unit> isFirstStrike) {
+      final TotalPowerAndTotalRolls power =
+          buildPower(data, units, enemyUnits, side, territoryEffects);
+      this.units = new ArrayList<>(units);
+      this.units.sort(Comparator.comparingInt(power::getPower));
+
+      final int size = this.units.size();
+      expectedHits = new double[size];
+      hitVariance = new double[size];
+      firstStrike = new boolean[size];
+      hitsToDestroy = new int[size];
+      int extraHitPoints = 0;
+      for (int i = 0; i < size; i++) {
+        final Unit unit = this.units.get(i);
+        expectedHits[i] = (double) power.getPower(unit) / power.getDiceSides();
+        hitVariance[i] = getRollVariance(power, unit);
+        firstStrike[i] = isFirstStrike.test(unit);
+        extraHitPoints += getHitPointsLeft(unit) - 1;
+      }
+      for (int i = 0; i < size; i++) {
+        hitsToDestroy[i] = extraHitPoints + i + 1;
+      }
+      totalHitPoints = extraHitPoints + size;
+    }
+
+    private static int getHitPointsLeft(final Unit unit) {
+      return Math.max(1, unit.getUnitAttachment().getHitPoints() - unit.getHits());
+    }
+
+    /** Returns the part of the unit at the index that has not been destroyed yet. */
+    private double getFractionLeft(final int index) {
+      return Math.max(0, Math.min(1, hitsToDestroy[index] - hitsTaken));
+    }
+
+    double getExpectedHits(final boolean ofFirstStrikeUnits) {
+      double hits = 0;
+      for (int i = 0; i < expectedHits.length; i++) {
+        if (firstStrike[i] == ofFirstStrikeUnits) {
+          hits += expectedHits[i] * getFractionLeft(i);
+        }
+      }
+      return hits;
+    }
+
+    double getHitVariance(final boolean ofFirstStrikeUnits) {
+      double variance = 0;
+      for (int i = 0; i < hitVariance.length; i++) {
+        if (firstStrike[i] == ofFirstStrikeUnits) {
+          variance += hitVariance[i] * getFractionLeft(i);
+        }
+      }
+      return variance;
+    }
+
+    void takeHits(final double hits) {
+      hitsTaken = Math.min(totalHitPoints, hitsTaken + hits);
+    }
+
+    double getHitPointsLeft() {
+      return totalHitPoints - hitsTaken;
+    }
+
+    boolean isDestroyed() {
+      return getHitPointsLeft() < DESTROYED_THRESHOLD;
+    }
+
+    List<Unit> getRemainingUnits() {
+      final List<Unit> remainingUnits = new ArrayList<>();
+      for (int i = 0; i < units.size(); i++) {
+        if (getFractionLeft(i) >= DESTROYED_THRESHOLD) {
+          remainingUnits.add(units.get(i));
+        }
+      }
+      return remainingUnits;
+    }
+  }
+}
@@ -3,15 +3,16 @@ package games.strategy.triplea.odds.calculator;
 import static games.strategy.triplea.Constants.EDIT_MODE;
 
 import com.google.common.base.Preconditions;
-import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.SimulationJournal;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.random.SimulationRandomSource;
 import games.strategy.triplea.delegate.battle.BattleResults;
 import games.strategy.triplea.delegate.battle.BattleTracker;
 import games.strategy.triplea.delegate.battle.MustFightBattle;
@@ -29,6 +30,8 @@ class BattleCalculator implements IBattleCalculator {
   @Nonnull private final GameData gameData;
   // Use a single TuvCostsCalculator so its computations are cached.
   private final TuvCostsCalculator tuvCalculator = new TuvCostsCalculator();
+  // Only used by the thread running calculate(), so it does not need to be thread safe.
+  @Setter private SimulationRandomSource randomSource = new SimulationRandomSource();
   @Setter private boolean keepOneAttackingLandUnit = false;
   @Setter private boolean amphibious = false;
   @Setter private int retreatAfterRound = -1;
@@ -92,20 +95,21 @@ class BattleCalculator implements IBattleCalculator {
       final List<Unit> defenderOrderOfLosses =
           OrderOfLossesInputPanel.getUnitListByOrderOfLoss(
               this.defenderOrderOfLosses, defendingUnits, gameData);
+      final SimulationJournal journal = new SimulationJournal(gameData);
       for (int i = 0; i < runCount && !cancelled; i++) {
-        final CompositeChange allChanges = new CompositeChange();
         final DummyDelegateBridge bridge =
             new DummyDelegateBridge(
                 attacker2,
                 gameData,
-                allChanges,
+                journal,
                 attackerOrderOfLosses,
                 defenderOrderOfLosses,
                 keepOneAttackingLandUnit,
                 retreatAfterRound,
                 retreatAfterXUnitsLeft,
                 retreatWhenOnlyAirLeft,
-                tuvCalculator);
+                tuvCalculator,
+                randomSource);
         final MustFightBattle battle =
             new MustFightBattle(location2, attacker2, gameData, battleTracker);
         battle.setHeadless(true);
@@ -118,7 +122,7 @@ class BattleCalculator implements IBattleCalculator {
         battle.fight(bridge);
         aggregateResults.addResult(new BattleResults(battle, gameData));
         // restore the game to its original state
-        gameData.performChange(allChanges.invert());
+        journal.rollback();
         battleTracker.clear();
         battleTracker.clearBattleRecords();
       }
@@ -0,0 +1,29 @@
+package games.strategy.triplea.odds.calculator;
+
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import java.util.Collection;
+import java.util.List;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * The parameters of a single battle to simulate, used to submit several independent battles to
+ * {@link IBattleCalculator#calculate(List)} at once.
+ */
+@Value
+@Builder(toBuilder = true)
+public class BattleSetup {
+  @NonNull GamePlayer attacker;
+  @NonNull GamePlayer defender;
+  @NonNull Territory location;
+  @NonNull Collection<Unit> attacking;
+  @NonNull Collection<Unit> defending;
+  @Builder.Default Collection<Unit> bombarding = List.of();
+  @Builder.Default Collection<TerritoryEffect> territoryEffects = List.of();
+  boolean retreatWhenOnlyAirLeft;
+  int runCount;
+}
@@ -7,16 +7,20 @@ import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.random.SimulationRandomSource;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -27,6 +31,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ConcurrentBattleCalculator implements IBattleCalculator {
   private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+  // the runs of a seeded calculation are split into this many parts whatever the number of
+  // workers, so that its results do not depend on the number of workers
+  private static final int SEEDED_PARTITIONS = 16;
 
   private final List<BattleCalculator> workers = new CopyOnWriteArrayList<>();
   // do not let calc be set up til data is set
@@ -42,6 +49,8 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   private final Object mutexSetGameData = new Object();
   // do not let multiple calculations or setting calc data happen at same time
   private final Object mutexCalcIsRunning = new Object();
+  // set by setRandomSeed, kept for the workers of later game data
+  private volatile @Nullable Long randomSeed;
 
   private final Function<byte[], BattleCalculator> battleCalculatorFactory;
 
@@ -193,26 +202,52 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
         // causing it to abort with null data
         return new AggregateResults(0);
       }
+      final Long seed = randomSeed;
+      if (seed != null) {
+        final AggregateResults results =
+            calculateSeeded(
+                seed,
+                runCount,
+                (worker, partitionRunCount) ->
+                    worker.calculate(
+                        attacker,
+                        defender,
+                        location,
+                        attacking,
+                        defending,
+                        bombarding,
+                        territoryEffects,
+                        retreatWhenOnlyAirLeft,
+                        partitionRunCount));
+        results.setTime(System.currentTimeMillis() - start);
+        return results;
+      }
+      // assign the run counts up front so that each worker always gets the same share
       final var runCountDistributor = new RunCountDistributor(runCount, workers.size());
+      final int[] runCounts =
+          IntStream.range(0, workers.size()).map(i -> runCountDistributor.nextRunCount()).toArray();
       final AggregateResults results =
           new AggregateResults(
-              workers.parallelStream()
-                  .map(
-                      worker ->
+              IntStream.range(0, workers.size())
+                  .parallel()
+                  .mapToObj(
+                      i ->
                           // Note: Although we're running in parallel, the data passed in does not
                           // get modified, so no copies are necessary. Also, the outer calculate()
                           // call is synchronous, so there's no problem if the caller later modifies
                           // the collections that were provided.
-                          worker.calculate(
-                              attacker,
-                              defender,
-                              location,
-                              attacking,
-                              defending,
-                              bombarding,
-                              territoryEffects,
-                              retreatWhenOnlyAirLeft,
-                              runCountDistributor.nextRunCount()))
+                          workers
+                              .get(i)
+                              .calculate(
+                                  attacker,
+                                  defender,
+                                  location,
+                                  attacking,
+                                  defending,
+                                  bombarding,
+                                  territoryEffects,
+                                  retreatWhenOnlyAirLeft,
+                                  runCounts[i]))
                   .map(AggregateResults::getResults)
                   .flatMap(Collection::parallelStream)
                   .collect(Collectors.toList()));
@@ -221,6 +256,110 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
     }
   }
 
+  /**
+   * Calculates several independent battles. Unlike {@link #calculate(GamePlayer, GamePlayer,
+   * Territory, Collection, Collection, Collection, Collection, boolean, int)}, which splits the run
+   * count of one battle across all workers, each battle is simulated entirely by one worker and the
+   * workers take the next pending battle as soon as they are done. This avoids the overhead of
+   * splitting up and merging small battles when many candidates are evaluated at once.
+   *
+   * <p>If there are fewer battles than workers, or a random seed is set, the battles are
+   * calculated one after another, each split across all workers.
+   *
+   * @return The results of the battles, in the same order as {@code battles}.
+   */
+  @Override
+  public List<AggregateResults> calculate(final List<BattleSetup> battles) {
+    final Long seed = randomSeed;
+    if (seed == null && battles.size() < workers.size()) {
+      return IBattleCalculator.super.calculate(battles);
+    }
+    waitForGameDataReady();
+    synchronized (mutexCalcIsRunning) {
+      if (!isDataSet || workers.isEmpty()) {
+        return battles.stream().map(battle -> new AggregateResults(0)).toList();
+      }
+      if (seed != null) {
+        // each battle gets its own seeds, the first battle the same as a single calculation
+        return IntStream.range(0, battles.size())
+            .mapToObj(
+                i ->
+                    calculateSeeded(
+                        seed + (long) i * SEEDED_PARTITIONS,
+                        battles.get(i).getRunCount(),
+                        (worker, runCount) -> calculate(worker, battles.get(i), runCount)))
+            .toList();
+      }
+      final AggregateResults[] results = new AggregateResults[battles.size()];
+      final AtomicInteger nextBattle = new AtomicInteger();
+      IntStream.range(0, workers.size())
+          .parallel()
+          .forEach(
+              i -> {
+                final BattleCalculator worker = workers.get(i);
+                for (int battleIndex = nextBattle.getAndIncrement();
+                    battleIndex < results.length;
+                    battleIndex = nextBattle.getAndIncrement()) {
+                  final BattleSetup battle = battles.get(battleIndex);
+                  results[battleIndex] = calculate(worker, battle, battle.getRunCount());
+                }
+              });
+      return Arrays.asList(results);
+    }
+  }
+
+  private static AggregateResults calculate(
+      final BattleCalculator worker, final BattleSetup battle, final int runCount) {
+    return worker.calculate(
+        battle.getAttacker(),
+        battle.getDefender(),
+        battle.getLocation(),
+        battle.getAttacking(),
+        battle.getDefending(),
+        battle.getBombarding(),
+        battle.getTerritoryEffects(),
+        battle.isRetreatWhenOnlyAirLeft(),
+        runCount);
+  }
+
+  /**
+   * Splits {@code runCount} into a fixed number of partitions and simulates each with a random
+   * source seeded by {@code seed} plus the index of the partition. The workers take the next
+   * pending partition as soon as they are done, the results are combined in partition order, so
+   * they are the same whichever worker simulated which partition and however many workers there
+   * are.
+   */
+  @GuardedBy("mutexCalcIsRunning")
+  private AggregateResults calculateSeeded(
+      final long seed,
+      final int runCount,
+      final BiFunction<BattleCalculator, Integer, AggregateResults> calculation) {
+    final var runCountDistributor = new RunCountDistributor(runCount, SEEDED_PARTITIONS);
+    final int[] runCounts =
+        IntStream.range(0, SEEDED_PARTITIONS)
+            .map(i -> runCountDistributor.nextRunCount())
+            .toArray();
+    final AggregateResults[] results = new AggregateResults[SEEDED_PARTITIONS];
+    final AtomicInteger nextPartition = new AtomicInteger();
+    IntStream.range(0, workers.size())
+        .parallel()
+        .forEach(
+            i -> {
+              final BattleCalculator worker = workers.get(i);
+              for (int partition = nextPartition.getAndIncrement();
+                  partition < results.length;
+                  partition = nextPartition.getAndIncrement()) {
+                worker.setRandomSource(new SimulationRandomSource(seed + partition));
+                results[partition] = calculation.apply(worker, runCounts[partition]);
+              }
+            });
+    return new AggregateResults(
+        Arrays.stream(results)
+            .map(AggregateResults::getResults)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList()));
+  }
+
   public void setKeepOneAttackingLandUnit(final boolean bool) {
     waitForGameDataReady();
     synchronized (mutexCalcIsRunning) {
@@ -275,6 +414,15 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
     }
   }
 
+  /**
+   * Seeds the random numbers of all later calculations, also those on game data set afterwards, so
+   * that repeating a calculation on the same game data returns the same results. The results do not
+   * depend on the number of workers either.
+   */
+  public void setRandomSeed(final long seed) {
+    randomSeed = seed;
+  }
+
   // not on purpose, we need to be able to cancel at any time
   public void cancel() {
     for (final BattleCalculator worker : workers) {
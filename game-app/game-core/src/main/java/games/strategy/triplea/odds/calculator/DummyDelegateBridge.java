@@ -4,6 +4,7 @@ import games.strategy.engine.data.Change;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.SimulationJournal;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
 import games.strategy.engine.data.changefactory.units.UnitDamageReceivedChange;
@@ -12,8 +13,8 @@ import games.strategy.engine.display.IDisplay;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.player.Player;
+import games.strategy.engine.random.IRandomSource;
 import games.strategy.engine.random.IRandomStats;
-import games.strategy.engine.random.PlainRandomSource;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.delegate.battle.MustFightBattle;
 import games.strategy.triplea.ui.display.HeadlessDisplay;
@@ -28,14 +29,14 @@ import org.triplea.sound.ISound;
 
 /** Delegate bridge implementation with minimum valid behavior. */
 public class DummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource randomSource = new PlainRandomSource();
+  private final IRandomSource randomSource;
   private final IDisplay display = new HeadlessDisplay();
   private final ISound soundChannel = new HeadlessSoundChannel();
   private final DummyPlayer attackingPlayer;
   private final DummyPlayer defendingPlayer;
   private final GamePlayer attacker;
   private final DelegateHistoryWriter writer = DelegateHistoryWriter.createNoOpImplementation();
-  private final CompositeChange allChanges;
+  private final SimulationJournal journal;
   private final GameData gameData;
   @Getter private MustFightBattle battle = null;
   private final TuvCostsCalculator tuvCalculator;
@@ -43,14 +44,15 @@ public class DummyDelegateBridge implements IDelegateBridge {
   public DummyDelegateBridge(
       final GamePlayer attacker,
       final GameData data,
-      final CompositeChange allChanges,
+      final SimulationJournal journal,
       final List<Unit> attackerOrderOfLosses,
       final List<Unit> defenderOrderOfLosses,
       final boolean attackerKeepOneLandUnit,
       final int retreatAfterRound,
       final int retreatAfterXUnitsLeft,
       final boolean retreatWhenOnlyAirLeft,
-      final TuvCostsCalculator tuvCalculator) {
+      final TuvCostsCalculator tuvCalculator,
+      final IRandomSource randomSource) {
     attackingPlayer =
         new DummyPlayer(
             this,
@@ -73,8 +75,9 @@ public class DummyDelegateBridge implements IDelegateBridge {
             false);
     gameData = data;
     this.attacker = attacker;
-    this.allChanges = allChanges;
+    this.journal = journal;
     this.tuvCalculator = tuvCalculator;
+    this.randomSource = randomSource;
   }
 
   @Override
@@ -91,6 +94,11 @@ public class DummyDelegateBridge implements IDelegateBridge {
         "DummyDelegateBridge#getResourceLoader() should never be called");
   }
 
+  @Override
+  public boolean isSimulation() {
+    return true;
+  }
+
   @Override
   public void leaveDelegateExecution() {}
 
@@ -150,8 +158,7 @@ public class DummyDelegateBridge implements IDelegateBridge {
   @Override
   public void addChange(final Change change) {
     if (change instanceof UnitDamageReceivedChange) {
-      allChanges.add(change);
-      gameData.performChange(change);
+      journal.perform(change);
     } else if (change instanceof CompositeChange compositeChange) {
       compositeChange.getChanges().forEach(this::addChange);
     }
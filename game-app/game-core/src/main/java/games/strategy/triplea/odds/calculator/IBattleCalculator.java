@@ -5,6 +5,7 @@ import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Interface to ensure different implementations of the odds calculator all have the same public
@@ -21,4 +22,27 @@ public interface IBattleCalculator {
       Collection<TerritoryEffect> territoryEffects,
       boolean retreatWhenOnlyAirLeft,
       int runCount);
+
+  /**
+   * Calculates several independent battles. Implementations may simulate the battles concurrently,
+   * the default implementation calculates them one after another.
+   *
+   * @return The results of the battles, in the same order as {@code battles}.
+   */
+  default List<AggregateResults> calculate(final List<BattleSetup> battles) {
+    return battles.stream()
+        .map(
+            battle ->
+                calculate(
+                    battle.getAttacker(),
+                    battle.getDefender(),
+                    battle.getLocation(),
+                    battle.getAttacking(),
+                    battle.getDefending(),
+                    battle.getBombarding(),
+                    battle.getTerritoryEffects(),
+                    battle.isRetreatWhenOnlyAirLeft(),
+                    battle.getRunCount()))
+        .toList();
+  }
 }
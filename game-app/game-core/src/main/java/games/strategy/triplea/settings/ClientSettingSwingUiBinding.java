@@ -277,6 +277,17 @@ All players in the same game must have it set to the same value. Restart to full
     }
   },
 
+  EXTRACT_MAP_ZIPS(
+      "Extract Downloaded Maps",
+      SettingType.TESTING,
+      "Toggles whether downloaded maps are extracted. Maps that are not extracted are read from "
+          + "their zip file, these maps need to come with a map.yml file.") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return booleanRadioButtons(ClientSetting.extractMapZips);
+    }
+  },
+
   DO_NOT_REDRAW_MAP(
       "Do Not Redraw Map",
       SettingType.TESTING,
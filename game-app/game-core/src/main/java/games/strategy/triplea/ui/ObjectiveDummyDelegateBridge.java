@@ -58,6 +58,11 @@ public class ObjectiveDummyDelegateBridge implements IDelegateBridge {
         "ObjectiveDummyDelegateBridge#getResourceLoader() should never be called");
   }
 
+  @Override
+  public boolean isSimulation() {
+    return true;
+  }
+
   @Override
   public void leaveDelegateExecution() {}
 
@@ -190,21 +190,7 @@ public class HistoryPanel extends JPanel {
       tree.setSelectionInterval(0, 0);
       return;
     }
-    final TreeNode selected = getCurrentNode();
-    final Enumeration<TreeNode> nodeEnum =
-        ((DefaultMutableTreeNode) tree.getModel().getRoot()).depthFirstEnumeration();
-    TreeNode previous = null;
-    while (nodeEnum.hasMoreElements()) {
-      final TreeNode current = nodeEnum.nextElement();
-      if (current == selected) {
-        break;
-      } else if (current.getParent() instanceof Step) {
-        previous = current;
-      }
-    }
-    if (previous != null) {
-      navigateTo(previous);
-    }
+    data.getHistory().getPreviousEvent(getCurrentNode()).ifPresent(this::navigateTo);
   }
 
   private void navigateTo(final TreeNode target) {
@@ -231,23 +217,7 @@ public class HistoryPanel extends JPanel {
       tree.setSelectionInterval(0, 0);
       return;
     }
-    final TreeNode selected = getCurrentNode();
-    final Enumeration<TreeNode> nodeEnum =
-        ((DefaultMutableTreeNode) tree.getModel().getRoot()).preorderEnumeration();
-    TreeNode next = null;
-    boolean foundSelected = false;
-    while (nodeEnum.hasMoreElements()) {
-      final TreeNode current = nodeEnum.nextElement();
-      if (current == selected) {
-        foundSelected = true;
-      } else if (foundSelected && current.getParent() instanceof Step) {
-        next = current;
-        break;
-      }
-    }
-    if (next != null) {
-      navigateTo(next);
-    }
+    data.getHistory().getNextEvent(getCurrentNode()).ifPresent(this::navigateTo);
   }
 
   private void treeSelectionChanged(final TreeSelectionEvent e) {
@@ -5,6 +5,7 @@ import games.strategy.engine.data.GameState;
 import games.strategy.engine.data.Territory;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.image.UnitImageFactory;
+import games.strategy.ui.GridIndex;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Image;
@@ -128,11 +129,16 @@ public class MapData {
   @NonNls private static final String TERRITORY_NAME_PLACE_FILE = "name_place.txt";
   @NonNls private static final String KAMIKAZE_FILE = "kamikaze_place.txt";
   @NonNls private static final String DECORATIONS_FILE = "decorations.txt";
+  // about the size of a small territory, so that few polygons share a cell of the polygon index
+  private static final int POLYGON_INDEX_CELL_SIZE = 64;
 
   private final PlayerColors playerColors;
   private Set<String> ignoreTransformingUnits;
   private final Map<String, Tuple<List<Point>, Boolean>> place = new HashMap<>();
   private final Map<String, List<Polygon>> polys = new HashMap<>();
+  // all polygons of all territories, built once from polys
+  private final GridIndex<TerritoryPolygon> polygonIndex =
+      new GridIndex<>(POLYGON_INDEX_CELL_SIZE);
   private final Map<String, Point> centers = new HashMap<>();
   private final Map<String, Point> vcPlace = new HashMap<>();
   private final Map<String, Point> blockadePlace = new HashMap<>();
@@ -187,6 +193,12 @@ public class MapData {
       }
 
       contains.putAll(IslandTerritoryFinder.findIslands(polys));
+      polys.forEach(
+          (name, polygons) ->
+              polygons.forEach(
+                  polygon ->
+                      polygonIndex.add(
+                          polygon.getBounds(), new TerritoryPolygon(name, polygon))));
     } catch (final IOException ex) {
       log.warn("Failed to initialize map data: {}", ex.getMessage(), ex);
     }
@@ -636,22 +648,21 @@ public class MapData {
     // sea zones often surround a land territory
     int smallestArea = Integer.MAX_VALUE;
     @Nullable String closestMatch = null;
-    for (final String name : polys.keySet()) {
-      final Collection<Polygon> polygons = polys.get(name);
-      for (final Polygon poly : polygons) {
-        if (poly.contains(x, y)) {
-          Dimension size = poly.getBounds().getSize();
-          int area = size.width * size.height;
-          if (area < smallestArea) {
-            closestMatch = name;
-            smallestArea = area;
-          }
-        }
+    for (final TerritoryPolygon candidate : polygonIndex.get(x, y)) {
+      if (candidate.boundsArea() < smallestArea && candidate.polygon().contains(x, y)) {
+        closestMatch = candidate.territory();
+        smallestArea = candidate.boundsArea();
       }
     }
     return closestMatch;
   }
 
+  private record TerritoryPolygon(String territory, Polygon polygon, int boundsArea) {
+    TerritoryPolygon(final String territory, final Polygon polygon) {
+      this(territory, polygon, polygon.getBounds().width * polygon.getBounds().height);
+    }
+  }
+
   public Dimension getMapDimensions() {
     final String widthProperty = mapProperties.getProperty(PROPERTY_MAP_WIDTH);
     final String heightProperty = mapProperties.getProperty(PROPERTY_MAP_HEIGHT);
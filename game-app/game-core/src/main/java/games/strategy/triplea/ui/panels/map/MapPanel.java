@@ -26,6 +26,7 @@ import games.strategy.triplea.ui.mapdata.MapData;
 import games.strategy.triplea.ui.screen.SmallMapImageManager;
 import games.strategy.triplea.ui.screen.Tile;
 import games.strategy.triplea.ui.screen.TileManager;
+import games.strategy.triplea.ui.screen.TileRenderScheduler;
 import games.strategy.triplea.ui.screen.UnitsDrawer;
 import games.strategy.triplea.util.UnitCategory;
 import games.strategy.triplea.util.UnitSeparator;
@@ -52,6 +53,7 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.math.BigDecimal;
@@ -81,12 +83,17 @@ import org.triplea.java.ObjectUtils;
 import org.triplea.java.ThreadRunner;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.concurrency.AsyncRunner;
+import org.triplea.metrics.DurationTimer;
+import org.triplea.metrics.Metrics;
 import org.triplea.util.Tuple;
 
 /** Responsible for drawing the large map and keeping it updated. */
 @Slf4j
 public class MapPanel extends ImageScrollerLargeView {
   private static final long serialVersionUID = -3571551538356292556L;
+  private static final DurationTimer PAINT_TIMER = Metrics.timer("ui.map.paint");
+  // how many tiles ahead of the viewport map tiles are decoded when the map is scrolled
+  private static final int DECODE_AHEAD_TILES = 2;
   private final List<MapSelectionListener> mapSelectionListeners = new ArrayList<>();
   private final List<UnitSelectionListener> unitSelectionListeners = new ArrayList<>();
   private final List<MouseOverUnitListener> mouseOverUnitsListeners = new ArrayList<>();
@@ -109,10 +116,15 @@ public class MapPanel extends ImageScrollerLargeView {
   @Getter private final UiContext uiContext;
   private final ExecutorService executor =
       Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  private final TileRenderScheduler tileRenderScheduler =
+      new TileRenderScheduler(Runtime.getRuntime().availableProcessors());
   @Getter private Collection<Collection<Unit>> highlightedUnits = List.of();
   private @Nullable Cursor hiddenCursor = null;
   private final MapRouteDrawer routeDrawer;
   private Set<Territory> countriesToUpdate = new HashSet<>();
+  // the scroll position of the previous paint, tells the direction the map is scrolled in
+  private int previousPaintX;
+  private int previousPaintY;
   private final Object countriesToUpdateLock = new Object();
 
   private final TerritoryListener territoryListener =
@@ -309,7 +321,7 @@ public class MapPanel extends ImageScrollerLargeView {
     uiContext.addShutdownHook(
         () -> {
           deactivate();
-          clearPendingDrawOperations();
+          tileRenderScheduler.shutdown();
           executor.shutdown();
           // Desperate attempt to fix a memory leak
           KeyboardFocusManager.getCurrentKeyboardFocusManager().focusNextComponent();
@@ -687,6 +699,12 @@ public class MapPanel extends ImageScrollerLargeView {
 
   @Override
   public void paint(final Graphics g) {
+    try (DurationTimer.Sample ignored = PAINT_TIMER.start()) {
+      paintMap(g);
+    }
+  }
+
+  private void paintMap(final Graphics g) {
     // make sure we use the same data for the entire paint
     final GameData gameData = this.gameData;
     final MapData mapData = uiContext.getMapData();
@@ -756,7 +774,7 @@ public class MapPanel extends ImageScrollerLargeView {
       List<UnitCategory> unitCategories =
           UnitSeparator.getSortedUnitCategories(value, gameData, mapData);
       for (final UnitCategory category : unitCategories) {
-        final @Nullable Rectangle r = tileManager.getUnitRect(category.getUnits(), gameData);
+        final @Nullable Rectangle r = tileManager.getUnitRect(category.getUnits());
         if (r == null) {
           continue;
         }
@@ -775,16 +793,56 @@ public class MapPanel extends ImageScrollerLargeView {
     updateUndrawnTiles(undrawnTiles, 257);
     updateUndrawnTiles(undrawnTiles, 513);
     updateUndrawnTiles(undrawnTiles, 767);
-    clearPendingDrawOperations();
-    for (final Tile tile : undrawnTiles) {
-      executor.execute(
-          () -> {
-            try (GameData.Unlocker ignored = gameData.acquireReadLock()) {
-              tile.drawImage(gameData, mapData);
-            }
-            SwingUtilities.invokeLater(MapPanel.this::repaint);
-          });
+    final Point2D viewportCenter =
+        new Point2D.Double(
+            model.getX() + getScaledWidth() / 2, model.getY() + getScaledHeight() / 2);
+    tileRenderScheduler.schedule(
+        undrawnTiles,
+        viewportCenter,
+        gameData,
+        mapData,
+        () -> SwingUtilities.invokeLater(MapPanel.this::repaint));
+    decodeTilesAhead();
+  }
+
+  /** Decodes the map tiles in the direction the map is scrolled in, before they are shown. */
+  private void decodeTilesAhead() {
+    final int directionX = Integer.signum(model.getX() - previousPaintX);
+    final int directionY = Integer.signum(model.getY() - previousPaintY);
+    previousPaintX = model.getX();
+    previousPaintY = model.getY();
+    if (directionX == 0 && directionY == 0) {
+      return;
+    }
+    final int distance = DECODE_AHEAD_TILES * TileManager.TILE_SIZE;
+    final double aheadX = model.getX() + (double) directionX * distance;
+    final double aheadY = model.getY() + (double) directionY * distance;
+    final int firstTileX = Math.max(0, (int) (aheadX / TileManager.TILE_SIZE));
+    final int firstTileY = Math.max(0, (int) (aheadY / TileManager.TILE_SIZE));
+    final int lastTileX =
+        Math.min(
+            (model.getMaxWidth() - 1) / TileManager.TILE_SIZE,
+            (int) ((aheadX + getScaledWidth()) / TileManager.TILE_SIZE));
+    final int lastTileY =
+        Math.min(
+            (model.getMaxHeight() - 1) / TileManager.TILE_SIZE,
+            (int) ((aheadY + getScaledHeight()) / TileManager.TILE_SIZE));
+    // the tiles in view are left to the tile renderers
+    final Rectangle2D viewport =
+        new Rectangle2D.Double(model.getX(), model.getY(), getScaledWidth(), getScaledHeight());
+    final Collection<Point> tiles = new ArrayList<>();
+    for (int tileX = firstTileX; tileX <= lastTileX; tileX++) {
+      for (int tileY = firstTileY; tileY <= lastTileY; tileY++) {
+        if (!viewport.intersects(
+            tileX * TileManager.TILE_SIZE,
+            tileY * TileManager.TILE_SIZE,
+            TileManager.TILE_SIZE,
+            TileManager.TILE_SIZE)) {
+          tiles.add(new Point(tileX, tileY));
+        }
+      }
     }
+    uiContext.getTileImageFactory().decodeAhead(tiles);
   }
 
   @Override
@@ -798,7 +856,7 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 
   private void clearPendingDrawOperations() {
-    ((ThreadPoolExecutor) executor).getQueue().clear();
+    tileRenderScheduler.cancel();
   }
 
   private boolean mapWidthFitsOnScreen() {
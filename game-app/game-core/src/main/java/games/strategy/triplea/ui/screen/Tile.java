@@ -17,6 +17,7 @@ import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import lombok.Getter;
 
 /** Responsible for rendering a single map tile. */
@@ -33,6 +34,9 @@ public class Tile {
   @Getter private final Rectangle bounds;
   private final Object mutex = new Object();
   private final Queue<IDrawable> contents = new PriorityQueue<>();
+  // incremented whenever the contents change
+  @GuardedBy("mutex")
+  private long contentsVersion = 0;
 
   Tile(final Rectangle bounds) {
     this.bounds = bounds;
@@ -66,15 +70,28 @@ public class Tile {
     // clear
     g.setColor(Color.BLACK);
     g.fill(new Rectangle(0, 0, bounds.width, bounds.height));
+    // draw a snapshot of the contents so that drawables can be added while the tile is drawn
+    final Queue<IDrawable> queue;
+    final long drawnVersion;
     synchronized (mutex) {
-      final Queue<IDrawable> queue = new PriorityQueue<>(contents);
-      while (!queue.isEmpty()) {
-        queue.remove().draw(bounds, data, g, mapData);
-        // Make sure we don't mess up other draws
-        g.setTransform(original);
-      }
-      isDirty = false;
+      queue = new PriorityQueue<>(contents);
+      drawnVersion = contentsVersion;
     }
+    while (!queue.isEmpty()) {
+      queue.remove().draw(bounds, data, g, mapData);
+      // Make sure we don't mess up other draws
+      g.setTransform(original);
+    }
+    synchronized (mutex) {
+      // stay dirty if the contents changed in the meantime
+      isDirty = contentsVersion != drawnVersion;
+    }
+  }
+
+  @GuardedBy("mutex")
+  private void contentsChanged() {
+    contentsVersion++;
+    isDirty = true;
   }
 
   void addDrawables(final Collection<IDrawable> drawables) {
@@ -84,21 +101,21 @@ public class Tile {
   void addDrawable(final IDrawable d) {
     synchronized (mutex) {
       contents.add(d);
-      isDirty = true;
+      contentsChanged();
     }
   }
 
   void removeDrawables(final Collection<IDrawable> c) {
     synchronized (mutex) {
       contents.removeAll(c);
-      isDirty = true;
+      contentsChanged();
     }
   }
 
   void clear() {
     synchronized (mutex) {
       contents.clear();
-      isDirty = true;
+      contentsChanged();
     }
   }
 
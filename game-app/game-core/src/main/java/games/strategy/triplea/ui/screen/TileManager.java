@@ -29,6 +29,7 @@ import games.strategy.triplea.ui.screen.drawable.TerritoryNameDrawable;
 import games.strategy.triplea.ui.screen.drawable.VcDrawable;
 import games.strategy.triplea.util.UnitCategory;
 import games.strategy.triplea.util.UnitSeparator;
+import games.strategy.ui.GridIndex;
 import games.strategy.ui.Util;
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -45,6 +46,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -61,11 +63,14 @@ public class TileManager {
   public static final int TILE_SIZE = 256;
 
   private List<Tile> tiles = new ArrayList<>();
+  private GridIndex<Tile> tileIndex = new GridIndex<>(TILE_SIZE);
   private final Object mutex = new Object();
   private final Map<String, IDrawable> territoryOverlays = new HashMap<>();
   private final Map<String, Set<IDrawable>> territoryDrawables = new HashMap<>();
   private final Map<String, Set<Tile>> territoryTiles = new HashMap<>();
   private final Collection<UnitsDrawer> allUnitDrawables = new ArrayList<>();
+  // the units of each units drawer when it was created, read without the game data lock
+  private final Map<UnitsDrawer, List<Unit>> drawnUnits = new LinkedHashMap<>();
   private final UiContext uiContext;
 
   public TileManager(final UiContext uiContext) {
@@ -92,33 +97,9 @@ public class TileManager {
     Optional<Rectangle2D> boundsShiftX = getBoundsShiftX(bounds, testShiftX, mapDimensions);
     Optional<Rectangle2D> boundsShiftY = getBoundsShiftY(bounds, testShiftY, mapDimensions);
     synchronized (mutex) {
-      final List<Tile> tilesInBounds =
-          new ArrayList<>(
-              tiles.stream()
-                  .filter(
-                      tile -> {
-                        final Rectangle tileBounds = tile.getBounds();
-                        return tileBounds.intersects(bounds);
-                      })
-                  .toList());
-      boundsShiftX.ifPresent(
-          rectangle2D ->
-              tiles.forEach(
-                  tile -> {
-                    final Rectangle tileBounds = tile.getBounds();
-                    if (rectangle2D.contains(tileBounds) || tileBounds.intersects(rectangle2D)) {
-                      tilesInBounds.add(tile);
-                    }
-                  }));
-      boundsShiftY.ifPresent(
-          rectangle2D ->
-              tiles.forEach(
-                  tile -> {
-                    final Rectangle tileBounds = tile.getBounds();
-                    if (rectangle2D.contains(tileBounds) || tileBounds.intersects(rectangle2D)) {
-                      tilesInBounds.add(tile);
-                    }
-                  }));
+      final List<Tile> tilesInBounds = new ArrayList<>(tileIndex.get(bounds));
+      boundsShiftX.ifPresent(rectangle2D -> tilesInBounds.addAll(tileIndex.get(rectangle2D)));
+      boundsShiftY.ifPresent(rectangle2D -> tilesInBounds.addAll(tileIndex.get(rectangle2D)));
       return tilesInBounds;
     }
   }
@@ -178,9 +159,13 @@ public class TileManager {
     synchronized (mutex) {
       // create our tiles
       tiles = new ArrayList<>();
+      tileIndex = new GridIndex<>(TILE_SIZE);
       for (int x = 0; x * TILE_SIZE < bounds.width; x++) {
         for (int y = 0; y * TILE_SIZE < bounds.height; y++) {
-          tiles.add(new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE)));
+          final Tile tile =
+              new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE));
+          tiles.add(tile);
+          tileIndex.add(tile.getBounds(), tile);
         }
       }
     }
@@ -252,6 +237,7 @@ public class TileManager {
       tile.removeDrawables(drawables);
     }
     allUnitDrawables.removeAll(drawables);
+    drawnUnits.keySet().removeAll(drawables);
   }
 
   private void drawTerritory(
@@ -356,6 +342,7 @@ public class TileManager {
           new UnitsDrawer(category, territory, lastPlace, overflow, uiContext);
       drawing.add(drawable);
       allUnitDrawables.add(drawable);
+      drawnUnits.put(drawable, drawable.getUnits());
       for (final Tile tile : getTiles(drawable.getPlacementRectangle())) {
         tile.addDrawable(drawable);
         drawnOn.add(tile);
@@ -500,22 +487,22 @@ public class TileManager {
   /**
    * Returns the rectangle within which all the specified units will be drawn stacked or {@code
    * null} if no such rectangle exists. Because the units are assumed to be drawn stacked, the
-   * returned rectangle will always have a size equal to the standard unit image size.
+   * returned rectangle will always have a size equal to the standard unit image size. The units are
+   * matched against the units drawn, so this does not lock the game data and can be called while
+   * painting.
    */
-  public @Nullable Rectangle getUnitRect(final List<Unit> units, final GameData data) {
+  public @Nullable Rectangle getUnitRect(final List<Unit> units) {
     if (units.isEmpty()) {
       return null;
     }
-    try (GameData.Unlocker ignored = data.acquireReadLock()) {
-      synchronized (mutex) {
-        for (final UnitsDrawer drawer : allUnitDrawables) {
-          final List<Unit> drawerUnits = drawer.getUnits();
-          if (!drawerUnits.isEmpty() && units.containsAll(drawerUnits)) {
-            return drawer.getPlacementRectangle();
-          }
+    synchronized (mutex) {
+      for (final Entry<UnitsDrawer, List<Unit>> drawn : drawnUnits.entrySet()) {
+        final List<Unit> drawerUnits = drawn.getValue();
+        if (!drawerUnits.isEmpty() && units.containsAll(drawerUnits)) {
+          return drawn.getKey().getPlacementRectangle();
         }
-        return null;
       }
+      return null;
     }
   }
 
@@ -0,0 +1,130 @@
+package games.strategy.triplea.ui.screen;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.ui.mapdata.MapData;
+import java.awt.Rectangle;
+import java.awt.geom.Point2D;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.triplea.metrics.DurationTimer;
+import org.triplea.metrics.Metrics;
+
+/**
+ * Renders dirty map tiles on background threads. Tiles nearest to the center of the viewport are
+ * rendered first. Every call to {@link #schedule} replaces the previously scheduled tiles, so tiles
+ * that were scrolled out of view before their turn came are not rendered at all.
+ */
+public class TileRenderScheduler {
+  private static final DurationTimer RENDER_TIMER = Metrics.timer("ui.map.tileRender");
+
+  private final ThreadPoolExecutor executor;
+  // incremented by every schedule call, render tasks of older generations are skipped
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Creates a new scheduler.
+   *
+   * @param threads The number of threads rendering tiles.
+   */
+  public TileRenderScheduler(final int threads) {
+    executor =
+        new ThreadPoolExecutor(
+            threads, threads, 2L, TimeUnit.SECONDS, new PriorityBlockingQueue<>());
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Cancels all pending tile renders and schedules the given tiles instead.
+   *
+   * @param tiles The tiles to render, tiles that do not need to be redrawn are ignored.
+   * @param viewportCenter The center of the visible part of the map, in map coordinates.
+   * @param onTileRendered Called on the rendering thread after each rendered tile.
+   */
+  public void schedule(
+      final Collection<Tile> tiles,
+      final Point2D viewportCenter,
+      final GameData data,
+      final MapData mapData,
+      final Runnable onTileRendered) {
+    final long currentGeneration = generation.incrementAndGet();
+    executor.getQueue().clear();
+    final Set<Tile> scheduled = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (final Tile tile : tiles) {
+      if (tile.needsRedraw() && scheduled.add(tile)) {
+        executor.execute(
+            new RenderTask(
+                tile,
+                distanceSquared(tile.getBounds(), viewportCenter),
+                currentGeneration,
+                data,
+                mapData,
+                onTileRendered));
+      }
+    }
+  }
+
+  /** Cancels all pending tile renders. */
+  public void cancel() {
+    generation.incrementAndGet();
+    executor.getQueue().clear();
+  }
+
+  public void shutdown() {
+    cancel();
+    executor.shutdown();
+  }
+
+  private static double distanceSquared(final Rectangle bounds, final Point2D point) {
+    final double dx = bounds.getCenterX() - point.getX();
+    final double dy = bounds.getCenterY() - point.getY();
+    return dx * dx + dy * dy;
+  }
+
+  private final class RenderTask implements Runnable, Comparable<RenderTask> {
+    private final Tile tile;
+    private final double distanceSquared;
+    private final long generation;
+    private final GameData data;
+    private final MapData mapData;
+    private final Runnable onTileRendered;
+
+    private RenderTask(
+        final Tile tile,
+        final double distanceSquared,
+        final long generation,
+        final GameData data,
+        final MapData mapData,
+        final Runnable onTileRendered) {
+      this.tile = tile;
+      this.distanceSquared = distanceSquared;
+      this.generation = generation;
+      this.data = data;
+      this.mapData = mapData;
+      this.onTileRendered = onTileRendered;
+    }
+
+    @Override
+    public void run() {
+      // the tile might have been scrolled away since this task was queued
+      if (generation != TileRenderScheduler.this.generation.get() || !tile.needsRedraw()) {
+        return;
+      }
+      try (DurationTimer.Sample ignored = RENDER_TIMER.start();
+          GameData.Unlocker ignored2 = data.acquireReadLock()) {
+        tile.drawImage(data, mapData);
+      }
+      onTileRendered.run();
+    }
+
+    @Override
+    public int compareTo(final RenderTask other) {
+      return Double.compare(distanceSquared, other.distanceSquared);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package games.strategy.ui;
+
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A spatial index that finds values by their bounding rectangle. Space is divided into square cells
+ * of a fixed size and each value is registered with all cells its bounds overlap, so a query only
+ * looks at the values registered with the cells the queried point or area falls into.
+ *
+ * <p>Queries return values in the order they were added. Once all values are added the index may be
+ * read from multiple threads.
+ */
+@NotThreadSafe
+public class GridIndex<T> {
+  private final int cellSize;
+  private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+  private int size = 0;
+
+  private record Entry<T>(T value, Rectangle bounds, int order) {}
+
+  public GridIndex(final int cellSize) {
+    if (cellSize <= 0) {
+      throw new IllegalArgumentException("cellSize must be > 0 (" + cellSize + ")");
+    }
+    this.cellSize = cellSize;
+  }
+
+  /** Adds a value occupying the given bounds. */
+  public void add(final Rectangle bounds, final T value) {
+    final Entry<T> entry = new Entry<>(value, new Rectangle(bounds), size++);
+    final int maxX = bounds.x + Math.max(bounds.width, 1) - 1;
+    final int maxY = bounds.y + Math.max(bounds.height, 1) - 1;
+    for (int cellX = cell(bounds.x); cellX <= cell(maxX); cellX++) {
+      for (int cellY = cell(bounds.y); cellY <= cell(maxY); cellY++) {
+        cells.computeIfAbsent(key(cellX, cellY), k -> new ArrayList<>()).add(entry);
+      }
+    }
+  }
+
+  /** Returns the values whose bounds contain the given point. */
+  public List<T> get(final double x, final double y) {
+    final List<Entry<T>> cell = cells.get(key(cell(x), cell(y)));
+    if (cell == null) {
+      return List.of();
+    }
+    final List<T> values = new ArrayList<>();
+    for (final Entry<T> entry : cell) {
+      if (entry.bounds().contains(x, y)) {
+        values.add(entry.value());
+      }
+    }
+    return values;
+  }
+
+  /** Returns the values whose bounds intersect the given area. */
+  public List<T> get(final Rectangle2D area) {
+    // a value overlapping several cells is found once per cell
+    final Map<Entry<T>, Boolean> found = new IdentityHashMap<>();
+    for (int cellX = cell(area.getMinX()); cellX <= cell(area.getMaxX()); cellX++) {
+      for (int cellY = cell(area.getMinY()); cellY <= cell(area.getMaxY()); cellY++) {
+        final List<Entry<T>> cell = cells.get(key(cellX, cellY));
+        if (cell != null) {
+          for (final Entry<T> entry : cell) {
+            if (entry.bounds().intersects(area)) {
+              found.put(entry, Boolean.TRUE);
+            }
+          }
+        }
+      }
+    }
+    return found.keySet().stream()
+        .sorted(Comparator.comparingInt(Entry::order))
+        .map(Entry::value)
+        .toList();
+  }
+
+  private int cell(final double coordinate) {
+    return (int) Math.floor(coordinate / cellSize);
+  }
+
+  private static long key(final int cellX, final int cellY) {
+    return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+  }
+}
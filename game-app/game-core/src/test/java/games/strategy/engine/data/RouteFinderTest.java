@@ -14,9 +14,12 @@ import games.strategy.triplea.Constants;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +30,7 @@ class RouteFinderTest {
 
   private final GamePlayer player = mock(GamePlayer.class);
   private final GameMap map = mock(GameMap.class);
+  private final Map<Territory, Set<Territory>> neighbors = new HashMap<>();
   private List<Territory> territories;
 
   /**
@@ -84,6 +88,7 @@ class RouteFinderTest {
 
   private void configureNeighbors(final Territory territory, final Territory... neighbors) {
     Preconditions.checkNotNull(map);
+    this.neighbors.put(territory, Set.of(neighbors));
     when(map.getNeighbors(eq(territory), any())).thenReturn(Set.of(neighbors));
   }
 
@@ -190,4 +195,58 @@ class RouteFinderTest {
         routeFinder.findRouteByCost(territories.get(0), territories.get(territories.size() - 1));
     assertFalse(optRoute.isPresent());
   }
+
+  @Test
+  void testFindRoutesByDistance() {
+    final RouteFinder routeFinder = new RouteFinder(map, t -> true, List.of(), player);
+    final RouteTree routes = routeFinder.findRoutesByDistance(territories.get(0));
+    assertEquals(
+        Stream.of(0, 3, 6, 8).map(territories::get).collect(Collectors.toList()),
+        routes.getRoute(territories.get(8)).orElseThrow().getAllTerritories());
+    assertEquals(
+        List.of(territories.get(0)),
+        routes.getRoute(territories.get(0)).orElseThrow().getAllTerritories());
+  }
+
+  @Test
+  void testFindRoutesByCost() {
+    final RouteTree routes =
+        createRouteFinder(List.of(territories.get(6))).findRoutesByCost(territories.get(0));
+    assertEquals(
+        Stream.of(0, 3, 4, 5, 7, 8).map(territories::get).collect(Collectors.toList()),
+        routes.getRoute(territories.get(8)).orElseThrow().getAllTerritories());
+  }
+
+  @Test
+  void testFindRoutesEndDoesNotHaveToMatchTheCondition() {
+    neighbors.forEach(
+        (territory, territoryNeighbors) ->
+            when(map.getNeighbors(eq(territory), any()))
+                .thenAnswer(
+                    invocation ->
+                        territoryNeighbors.stream()
+                            .filter(invocation.<Predicate<Territory>>getArgument(1))
+                            .collect(Collectors.toSet())));
+    final Territory end = territories.get(6);
+    final RouteFinder routeFinder = new RouteFinder(map, t -> !t.equals(end), List.of(), null);
+    final RouteTree routes = routeFinder.findRoutesByDistance(territories.get(0));
+    assertEquals(
+        Stream.of(0, 3, 6).map(territories::get).collect(Collectors.toList()),
+        routes.getRoute(end).orElseThrow().getAllTerritories());
+    // other routes do not pass the territory
+    assertEquals(
+        Stream.of(0, 3, 4, 5, 7, 8).map(territories::get).collect(Collectors.toList()),
+        routes.getRoute(territories.get(8)).orElseThrow().getAllTerritories());
+  }
+
+  @Test
+  void testNoRoutesOnInvalidGraph() {
+    final GameMap map = mock(GameMap.class);
+    when(map.getNeighbors(eq(territories.get(0)), any())).thenReturn(Set.of(territories.get(1)));
+
+    final RouteFinder routeFinder = new RouteFinder(map, t -> true, List.of(), player);
+    final RouteTree routes = routeFinder.findRoutesByDistance(territories.get(0));
+    assertTrue(routes.getRoute(territories.get(1)).isPresent());
+    assertFalse(routes.getRoute(territories.get(8)).isPresent());
+  }
 }
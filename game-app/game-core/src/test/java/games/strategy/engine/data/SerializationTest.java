@@ -2,10 +2,12 @@ package games.strategy.engine.data;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 
 import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.net.NameTable;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.xml.TestMapGameData;
 import java.io.IOException;
@@ -70,4 +72,40 @@ class SerializationTest {
     final Object local = gameDataSink.getProductionRuleList().getProductionRule("infForSilver");
     assertThat(local, is(not(sameInstance(read))));
   }
+
+  @Test
+  void testWriteNamesOncePerNameTable() throws Exception {
+    final NameTable writerNames = new NameTable();
+    final NameTable readerNames = new NameTable();
+    final Object orig = gameDataSource.getMap().getTerritoryOrNull("canada");
+
+    final byte[] first = serialize(orig, writerNames);
+    final byte[] second = serialize(orig, writerNames);
+
+    assertThat(second.length, is(lessThan(first.length)));
+    assertThat(deserialize(first, readerNames), is(sameInstance(orig)));
+    assertThat(deserialize(second, readerNames), is(sameInstance(orig)));
+  }
+
+  private static byte[] serialize(final Object anObject, final NameTable names) throws Exception {
+    return IoUtils.writeToMemory(
+        os -> {
+          try (ObjectOutputStream output = new GameObjectOutputStream(os, names)) {
+            output.writeObject(anObject);
+          }
+        });
+  }
+
+  private Object deserialize(final byte[] bytes, final NameTable names) throws Exception {
+    return IoUtils.readFromMemory(
+        bytes,
+        is -> {
+          try (ObjectInputStream input =
+              new GameObjectInputStream(new GameObjectStreamFactory(gameDataSource), is, names)) {
+            return input.readObject();
+          } catch (final ClassNotFoundException e) {
+            throw new IOException(e);
+          }
+        });
+  }
 }
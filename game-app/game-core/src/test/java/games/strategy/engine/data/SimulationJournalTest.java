@@ -0,0 +1,40 @@
+package games.strategy.engine.data;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.triplea.java.collections.IntegerMap;
+
+class SimulationJournalTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final SimulationJournal journal = new SimulationJournal(gameData);
+
+  @Test
+  void rollbackRestoresHitsAndOtherChangesInReverseOrder() {
+    final Territory germany = gameData.getMap().getTerritoryOrNull("Germany");
+    final Unit unit = germany.getUnits().iterator().next();
+    final IntegerMap<Unit> firstHit = new IntegerMap<>();
+    firstHit.put(unit, 1);
+    final IntegerMap<Unit> secondHit = new IntegerMap<>();
+    secondHit.put(unit, 2);
+
+    journal.perform(ChangeFactory.unitsHit(firstHit, List.of(germany)));
+    journal.perform(ChangeFactory.changeOwner(germany, russians(gameData)));
+    journal.perform(ChangeFactory.unitsHit(secondHit, List.of(germany)));
+    assertThat(unit.getHits(), is(2));
+    assertThat(germany.getOwner(), is(russians(gameData)));
+
+    journal.rollback();
+
+    assertThat(unit.getHits(), is(0));
+    assertThat(germany.getOwner(), is(germans(gameData)));
+    assertTrue(journal.isEmpty());
+  }
+}
@@ -1,11 +1,14 @@
 package games.strategy.engine.framework;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import games.strategy.engine.data.GameData;
+import games.strategy.triplea.xml.TestMapGameData;
 import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.triplea.io.IoUtils;
@@ -21,6 +24,59 @@ final class GameDataManagerTest {
           IoUtils.readFromMemory(bytes, GameDataManager::loadGame).orElseThrow();
       assertEquals(loaded.getGameName(), data.getGameName());
     }
+
+    @Test
+    void shouldPreserveHistory() throws Exception {
+      final GameData data = new GameData();
+      data.getHistory().getHistoryWriter().startNextRound(1);
+      data.getHistory().getHistoryWriter().startEvent("Russians buy 8 infantry");
+
+      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data));
+      final GameData loaded =
+          IoUtils.readFromMemory(bytes, GameDataManager::loadGame).orElseThrow();
+
+      assertEquals("Russians buy 8 infantry", loaded.getHistory().getLastNode().getTitle());
+    }
+
+    @Test
+    void shouldNotReadTheHistoryToCloneOrSaveALoadedGame() throws Exception {
+      final GameData data = TestMapGameData.REVISED.getGameData();
+      data.getHistory().getHistoryWriter().startNextRound(1);
+      data.getHistory().getHistoryWriter().startEvent("Russians buy 8 infantry");
+      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data));
+      final GameData loaded =
+          IoUtils.readFromMemory(bytes, GameDataManager::loadGame).orElseThrow();
+
+      GameDataUtils.cloneGameData(loaded, GameDataManager.Options.forBattleCalculator())
+          .orElseThrow();
+      final byte[] savedAgain = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, loaded));
+
+      assertFalse(loaded.isHistoryLoaded());
+      final GameData loadedAgain =
+          IoUtils.readFromMemory(savedAgain, GameDataManager::loadGame).orElseThrow();
+      assertEquals("Russians buy 8 infantry", loadedAgain.getHistory().getLastNode().getTitle());
+    }
+
+    @Test
+    void shouldLoadSaveGamesWrittenAsSingleStream() throws Exception {
+      final GameData data = new GameData();
+      data.getHistory().getHistoryWriter().startNextRound(1);
+      data.getHistory().getHistoryWriter().startEvent("Russians buy 8 infantry");
+
+      final byte[] bytes =
+          IoUtils.writeToMemory(
+              os -> {
+                try (OutputStream zipped = new GZIPOutputStream(os)) {
+                  GameDataManager.saveGameUncompressed(
+                      zipped, data, GameDataManager.Options.forSaveGame());
+                }
+              });
+      final GameData loaded =
+          IoUtils.readFromMemory(bytes, GameDataManager::loadGame).orElseThrow();
+
+      assertEquals(loaded.getGameName(), data.getGameName());
+      assertEquals("Russians buy 8 infantry", loaded.getHistory().getLastNode().getTitle());
+    }
   }
 
   @Nested
@@ -0,0 +1,112 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.message.RemoteMethodCall;
+import games.strategy.net.INode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+final class GameModificationRecorderTest {
+  private static final byte[] SNAPSHOT = {1, 2, 3};
+
+  @Mock private IGameModifiedChannel channel;
+  @Mock private INode observer;
+
+  private static List<RemoteMethodCall> read(final List<byte[]> modifications) throws IOException {
+    final GameData data = new GameData();
+    final List<RemoteMethodCall> calls = new ArrayList<>();
+    for (final byte[] modification : modifications) {
+      calls.add(GameModificationRecorder.readModification(modification, data));
+    }
+    return calls;
+  }
+
+  @Test
+  void shouldForwardBroadcasts() {
+    final GameModificationRecorder recorder = new GameModificationRecorder(channel);
+
+    recorder.getBroadcaster().startHistoryEvent("event");
+
+    verify(channel).startHistoryEvent("event");
+  }
+
+  @Test
+  void shouldRecordBroadcastsAfterTheSnapshot() throws Exception {
+    final GameModificationRecorder recorder = new GameModificationRecorder(channel);
+    recorder.getBroadcaster().startHistoryEvent("before");
+
+    final GameModificationRecorder.Recording recording = recorder.startRecording(() -> SNAPSHOT);
+    recorder.getBroadcaster().startHistoryEvent("after");
+    recorder.getBroadcaster().addChildToEvent("child", null);
+
+    assertThat(recording.getSnapshot(), is(SNAPSHOT));
+    assertThat(
+        read(recording.finish(observer)).stream().map(RemoteMethodCall::getMethodName).toList(),
+        contains("startHistoryEvent", "addChildToEvent"));
+  }
+
+  @Test
+  void shouldRecordTheArgumentsAsTheyWereWhenBroadcast() throws Exception {
+    final GameModificationRecorder recorder = new GameModificationRecorder(channel);
+    final GameModificationRecorder.Recording recording = recorder.startRecording(() -> SNAPSHOT);
+    final List<String> renderingData = new ArrayList<>(List.of("first"));
+
+    recorder.getBroadcaster().startHistoryEvent("event", renderingData);
+    renderingData.add("second");
+
+    final List<RemoteMethodCall> recorded = read(recording.finish(observer));
+    assertThat(recorded.get(0).getArgs(), is(new Object[] {"event", List.of("first")}));
+  }
+
+  @Test
+  void shouldMarkTheEndOfTheRecordingWhenFinished() throws Exception {
+    final GameModificationRecorder recorder = new GameModificationRecorder(channel);
+    final GameModificationRecorder.Recording recording = recorder.startRecording(() -> SNAPSHOT);
+    recorder.getBroadcaster().startHistoryEvent("first");
+
+    final List<byte[]> recorded = recording.finish(observer);
+    recorder.getBroadcaster().startHistoryEvent("second");
+
+    assertThat(recorded.size(), is(1));
+    assertThat(read(recorded).get(0).getArgs(), is(new Object[] {"first"}));
+    final InOrder inOrder = inOrder(channel);
+    inOrder.verify(channel).startHistoryEvent("first");
+    inOrder.verify(channel).catchUpEnded(observer);
+    inOrder.verify(channel).startHistoryEvent("second");
+  }
+
+  @Test
+  void shouldNotFinishAfterStop() {
+    final GameModificationRecorder recorder = new GameModificationRecorder(channel);
+    final GameModificationRecorder.Recording recording = recorder.startRecording(() -> SNAPSHOT);
+
+    recording.stop();
+    recorder.getBroadcaster().startHistoryEvent("event");
+
+    assertThrows(IllegalStateException.class, () -> recording.finish(observer));
+    verify(channel).startHistoryEvent("event");
+  }
+
+  @Test
+  void shouldReturnNothingWithoutBroadcasts() throws Exception {
+    final GameModificationRecorder recorder = new GameModificationRecorder(channel);
+    final GameModificationRecorder.Recording recording = recorder.startRecording(() -> SNAPSHOT);
+
+    assertThat(read(recording.finish(observer)), is(empty()));
+  }
+}
@@ -0,0 +1,49 @@
+package games.strategy.engine.framework;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import games.strategy.engine.data.GameData;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SaveGameMetadataTest {
+  @TempDir Path tempDir;
+
+  @Test
+  void shouldReadMetadataOfSaveGame() throws Exception {
+    final GameData data = new GameData();
+    data.setGameName("World War II v3");
+    final Path file = tempDir.resolve("game.tsvg");
+    try (OutputStream os = Files.newOutputStream(file)) {
+      GameDataManager.saveGame(os, data);
+    }
+
+    final SaveGameMetadata metadata = SaveGameMetadata.read(file).orElseThrow();
+
+    assertEquals("World War II v3", metadata.getGameName());
+    assertEquals("", metadata.getStepName());
+  }
+
+  @Test
+  void shouldReturnEmptyForSaveGamesWrittenAsSingleStream() throws Exception {
+    final Path file = tempDir.resolve("game.tsvg");
+    try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(file))) {
+      GameDataManager.saveGameUncompressed(
+          os, new GameData(), GameDataManager.Options.forSaveGame());
+    }
+
+    assertEquals(Optional.empty(), SaveGameMetadata.read(file));
+  }
+
+  @Test
+  void shouldReturnEmptyForFilesThatAreNotSaveGames() throws Exception {
+    final Path file = Files.writeString(tempDir.resolve("notes.txt"), "not a save game");
+
+    assertEquals(Optional.empty(), SaveGameMetadata.read(file));
+  }
+}
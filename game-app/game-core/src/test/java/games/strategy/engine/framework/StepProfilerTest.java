@@ -0,0 +1,65 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class StepProfilerTest {
+  private final StepProfiler stepProfiler = new StepProfiler();
+
+  @Test
+  void shouldSumSamplesOfTheSameName() {
+    stepProfiler.record("step/move", 1_000, 400);
+    stepProfiler.record("step/move", 3_000, 600);
+
+    final List<StepProfiler.Entry> entries = stepProfiler.getEntries();
+
+    assertThat(entries.size(), is(1));
+    final StepProfiler.Entry entry = entries.get(0);
+    assertThat(entry.getName(), is("step/move"));
+    assertThat(entry.getCount(), is(2L));
+    assertThat(entry.getTotalWallNanos(), is(4_000L));
+    assertThat(entry.getTotalCpuNanos(), is(1_000L));
+    assertThat(entry.getMaxWallNanos(), is(3_000L));
+  }
+
+  @Test
+  void shouldListTheLongestTotalFirst() {
+    stepProfiler.record("step/purchase", 1_000, 0);
+    stepProfiler.record("step/battle", 5_000, 0);
+    stepProfiler.record("step/move", 3_000, 0);
+
+    assertThat(
+        stepProfiler.getEntries().stream().map(StepProfiler.Entry::getName).toList(),
+        contains("step/battle", "step/move", "step/purchase"));
+  }
+
+  @Test
+  void percentilesShouldBeUpperBoundsOfTheSamples() {
+    for (int i = 0; i < 99; i++) {
+      stepProfiler.record("step/move", 1_000, 0);
+    }
+    stepProfiler.record("step/move", 1_000_000, 0);
+
+    final StepProfiler.Entry entry = stepProfiler.getEntries().get(0);
+
+    assertThat(entry.getWallNanosPercentile(0.5), is(1_023L));
+    assertThat(entry.getWallNanosPercentile(0.99), is(1_023L));
+    assertThat(entry.getWallNanosPercentile(1), is(1_000_000L));
+  }
+
+  @Test
+  void reportShouldContainEveryName() {
+    stepProfiler.record("step/move", 1_000, 0);
+    stepProfiler.record("inbound/IMoveDelegate.performMove", 1_000, 0);
+
+    final String report = stepProfiler.formatReport();
+
+    assertThat(report, containsString("step/move"));
+    assertThat(report, containsString("inbound/IMoveDelegate.performMove"));
+  }
+}
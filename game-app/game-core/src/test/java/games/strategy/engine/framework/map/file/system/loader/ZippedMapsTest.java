@@ -0,0 +1,115 @@
+package games.strategy.engine.framework.map.file.system.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.triplea.map.description.file.MapDescriptionYaml;
+
+class ZippedMapsTest {
+
+  private static Path buildZip(final Path dest, final String... entryNames) throws IOException {
+    try (var zip = new ZipOutputStream(Files.newOutputStream(dest))) {
+      for (final String name : entryNames) {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.closeEntry();
+      }
+    }
+    return dest;
+  }
+
+  @Test
+  void theSingleFolderOfAZipIsTheMapRoot(@TempDir final Path tempDir) throws Exception {
+    final Path mapZip =
+        buildZip(tempDir.resolve("map-master.zip"), "map-master/", "map-master/map.yml");
+    try {
+      final Path mapRoot = ZippedMaps.openMapRoot(mapZip).orElseThrow();
+
+      assertThat(mapRoot.getFileName().toString(), is("map-master"));
+      assertThat(Files.isRegularFile(mapRoot.resolve("map.yml")), is(true));
+      assertThat(ZippedMaps.isZipped(mapRoot), is(true));
+      assertThat(ZippedMaps.findZipFile(mapRoot), is(Optional.of(mapZip.toAbsolutePath())));
+    } finally {
+      ZippedMaps.close(mapZip);
+    }
+  }
+
+  @Test
+  void theRootOfAZipWithoutSingleFolderIsTheMapRoot(@TempDir final Path tempDir)
+      throws Exception {
+    final Path mapZip = buildZip(tempDir.resolve("map.zip"), "map.yml", "games/");
+    try {
+      final Path mapRoot = ZippedMaps.openMapRoot(mapZip).orElseThrow();
+
+      assertThat(Files.isRegularFile(mapRoot.resolve("map.yml")), is(true));
+    } finally {
+      ZippedMaps.close(mapZip);
+    }
+  }
+
+  @Test
+  void aClosedZipCanBeDeleted(@TempDir final Path tempDir) throws Exception {
+    final Path mapZip = buildZip(tempDir.resolve("map.zip"), "map.yml");
+    ZippedMaps.openMapRoot(mapZip).orElseThrow();
+
+    ZippedMaps.close(mapZip);
+    Files.delete(mapZip);
+
+    assertThat(ZippedMaps.openMapRoot(mapZip), is(Optional.empty()));
+  }
+
+  @Test
+  void readingTheMapDescriptionDoesNotKeepTheZipOpen(@TempDir final Path tempDir)
+      throws Exception {
+    final Path mapZip = tempDir.resolve("map.zip");
+    try (var zip = new ZipOutputStream(Files.newOutputStream(mapZip))) {
+      zip.putNextEntry(new ZipEntry("map/map.yml"));
+      zip.write(
+          String.join(
+                  "\n",
+                  "map_name: MapName",
+                  "games:",
+                  "  - game_name: GameName",
+                  "    file_name: game.xml")
+              .getBytes(StandardCharsets.UTF_8));
+      zip.closeEntry();
+    }
+
+    final MapDescriptionYaml mapDescription =
+        ZippedMaps.readMapDescription(mapZip).orElseThrow();
+
+    assertThat(mapDescription.getMapName(), is("MapName"));
+    assertThat(mapDescription.getYamlFileLocation().getFileSystem().isOpen(), is(false));
+  }
+
+  @Test
+  void aZipIsClosedWhenItIsNoLongerRetained(@TempDir final Path tempDir) throws Exception {
+    final Path mapZip = buildZip(tempDir.resolve("map.zip"), "map.yml");
+    final Path mapRoot = ZippedMaps.openMapRoot(mapZip).orElseThrow();
+    ZippedMaps.retain(mapRoot);
+    ZippedMaps.retain(mapRoot);
+
+    ZippedMaps.release(mapRoot);
+    assertThat(mapRoot.getFileSystem().isOpen(), is(true));
+    ZippedMaps.release(mapRoot);
+    assertThat(mapRoot.getFileSystem().isOpen(), is(false));
+  }
+
+  @Test
+  void pathsOnDiskAreNotZipped(@TempDir final Path tempDir) throws Exception {
+    final Path mapZip = buildZip(tempDir.resolve("map.zip"), "map.yml");
+
+    assertThat(ZippedMaps.isZipped(tempDir), is(false));
+    assertThat(ZippedMaps.isMapZip(mapZip), is(true));
+    assertThat(ZippedMaps.isMapZip(tempDir), is(false));
+    assertThat(ZippedMaps.findZipFile(tempDir), is(Optional.empty()));
+  }
+}
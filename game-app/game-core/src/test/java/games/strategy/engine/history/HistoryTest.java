@@ -0,0 +1,153 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import java.util.Optional;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+final class HistoryTest {
+  private final GameData gameData = new GameData();
+  private final History history = new History(gameData);
+  private final HistoryWriter writer = history.getHistoryWriter();
+  private final GamePlayer russians = new GamePlayer("Russians", gameData);
+  private final GamePlayer germans = new GamePlayer("Germans", gameData);
+
+  private Step startStep(final GamePlayer player) {
+    writer.startNextStep(player.getName() + "Move", "move", player, player.getName() + " Move");
+    return (Step) history.getLastNode();
+  }
+
+  private Event addEvent(final String name, final int changes) {
+    writer.startEvent(name);
+    for (int i = 0; i < changes; i++) {
+      writer.addChange(new CompositeChange());
+    }
+    return (Event) history.getLastNode();
+  }
+
+  @Nested
+  final class CurrentPlayer {
+    @Test
+    void isThePlayerOfTheLastStepAtTheEnd() {
+      writer.startNextRound(1);
+      startStep(russians);
+      addEvent("Russians move", 2);
+      startStep(germans);
+      addEvent("Germans move", 1);
+
+      assertThat(history.getCurrentPlayer(), is(Optional.of(germans)));
+    }
+
+    @Test
+    void isThePlayerOfTheStepMakingTheNextChange() {
+      writer.startNextRound(1);
+      startStep(russians);
+      final Event russianEvent = addEvent("Russians move", 2);
+      startStep(germans);
+      addEvent("Germans move", 1);
+      history.enableSeeking(null);
+
+      history.gotoNode((HistoryNode) history.getRoot());
+      assertThat(history.getCurrentPlayer(), is(Optional.of(russians)));
+
+      history.gotoNode(russianEvent);
+      assertThat(history.getCurrentPlayer(), is(Optional.of(germans)));
+    }
+
+    @Test
+    void ignoresStepsInWhichNothingHappened() {
+      writer.startNextRound(1);
+      startStep(russians);
+      addEvent("Russians move", 1);
+      startStep(germans);
+      writer.startNextRound(2);
+
+      assertThat(history.getCurrentPlayer(), is(Optional.of(russians)));
+    }
+  }
+
+  @Test
+  void removeAllHistoryAfterNodeRemovesTheLaterNodesAndChanges() {
+    writer.startNextRound(1);
+    startStep(russians);
+    final Event russianEvent = addEvent("Russians move", 2);
+    startStep(germans);
+    addEvent("Germans move", 1);
+    writer.startNextRound(2);
+    startStep(russians);
+    addEvent("Russians move again", 1);
+
+    history.removeAllHistoryAfterNode(russianEvent);
+
+    assertThat(history.getChanges().size(), is(2));
+    assertThat(history.getLastNode(), is(russianEvent));
+    assertThat(history.getRounds().size(), is(1));
+    assertThat(history.getRound(2), is(Optional.empty()));
+    assertThat(history.getNextEvent(russianEvent), is(Optional.empty()));
+  }
+
+  @Test
+  void roundsAreFoundByNumber() {
+    writer.startNextRound(1);
+    final Step firstStep = startStep(russians);
+    writer.startNextRound(2);
+    startStep(russians);
+    writer.startNextRound(3);
+
+    assertThat(history.getRound(2).map(Round::getRoundNo), is(Optional.of(2)));
+    assertThat(history.getRound(4), is(Optional.empty()));
+    assertThat(
+        history.getRounds(),
+        contains(firstStep.getParent(), history.getRound(2).get(), history.getRound(3).get()));
+  }
+
+  @Nested
+  final class EventNavigation {
+    private Event first;
+    private Event second;
+    private Step germanStep;
+    private Event third;
+
+    private void writeHistory() {
+      writer.startNextRound(1);
+      startStep(russians);
+      first = addEvent("first", 1);
+      writer.addChildToEvent(new EventChild("child of first", null));
+      second = addEvent("second", 0);
+      germanStep = startStep(germans);
+      third = addEvent("third", 1);
+    }
+
+    @Test
+    void nextEventIsTheFollowingEventInTreeOrder() {
+      writeHistory();
+
+      assertThat(history.getNextEvent((HistoryNode) history.getRoot()), is(Optional.of(first)));
+      assertThat(history.getNextEvent(first), is(Optional.of(second)));
+      assertThat(
+          history.getNextEvent((HistoryNode) first.getFirstChild()), is(Optional.of(second)));
+      assertThat(history.getNextEvent(second), is(Optional.of(third)));
+      assertThat(history.getNextEvent(germanStep), is(Optional.of(third)));
+      assertThat(history.getNextEvent(third), is(Optional.empty()));
+    }
+
+    @Test
+    void previousEventIncludesTheEventsWithinTheNode() {
+      writeHistory();
+
+      assertThat(history.getPreviousEvent((HistoryNode) history.getRoot()), is(Optional.of(third)));
+      assertThat(history.getPreviousEvent(third), is(Optional.of(second)));
+      assertThat(history.getPreviousEvent(germanStep), is(Optional.of(third)));
+      assertThat(
+          history.getPreviousEvent((HistoryNode) first.getFirstChild()), is(Optional.empty()));
+      assertThat(history.getPreviousEvent(second), is(Optional.of(first)));
+      assertThat(history.getPreviousEvent(first), is(Optional.empty()));
+    }
+  }
+}
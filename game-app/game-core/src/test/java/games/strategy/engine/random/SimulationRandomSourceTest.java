@@ -0,0 +1,46 @@
+package games.strategy.engine.random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+final class SimulationRandomSourceTest {
+  private static final String ANNOTATION = "annotation";
+  private static final int MAX = 6;
+
+  @Test
+  void getRandomMany_ShouldReturnValuesBetweenZeroInclusiveAndMaxExclusive() {
+    final int[] values = new SimulationRandomSource().getRandom(MAX, 5000, ANNOTATION);
+
+    assertThat(values.length, is(5000));
+    Arrays.stream(values)
+        .forEach(value -> assertThat(value, allOf(greaterThanOrEqualTo(0), lessThan(MAX))));
+  }
+
+  @Test
+  void sourcesWithTheSameSeedShouldReturnTheSameValues() {
+    final SimulationRandomSource first = new SimulationRandomSource(42);
+    final SimulationRandomSource second = new SimulationRandomSource(42);
+
+    assertThat(first.getRandom(MAX, ANNOTATION), is(second.getRandom(MAX, ANNOTATION)));
+    assertThat(first.getRandom(MAX, 100, ANNOTATION), is(second.getRandom(MAX, 100, ANNOTATION)));
+    assertThat(
+        first.split().getRandom(MAX, 100, ANNOTATION),
+        is(second.split().getRandom(MAX, 100, ANNOTATION)));
+  }
+
+  @Test
+  void splitSourcesShouldReturnDifferentValues() {
+    final SimulationRandomSource source = new SimulationRandomSource(42);
+
+    assertThat(
+        source.split().getRandom(MAX, 100, ANNOTATION),
+        is(not(source.split().getRandom(MAX, 100, ANNOTATION))));
+  }
+}
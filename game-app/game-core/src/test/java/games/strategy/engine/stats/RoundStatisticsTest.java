@@ -0,0 +1,54 @@
+package games.strategy.engine.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Resource;
+import games.strategy.triplea.ui.mapdata.MapData;
+import games.strategy.triplea.xml.TestMapGameData;
+import org.junit.jupiter.api.Test;
+
+class RoundStatisticsTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final MapData mapData = mock(MapData.class);
+
+  @Test
+  void capturedValuesMatchTheStatistics() {
+    when(mapData.shouldDrawUnit(any())).thenReturn(true);
+    final RoundStatistics roundStatistics = RoundStatistics.capture(gameData);
+
+    for (final GamePlayer player : gameData.getPlayerList().getPlayers()) {
+      final String name = player.getName();
+      assertThat(
+          roundStatistics.getTuv(name, unitType -> true),
+          is(new TuvStat().getValue(player, gameData, mapData)));
+      assertThat(
+          roundStatistics.getUnits(name, unitType -> true),
+          is(new UnitsStat().getValue(player, gameData, mapData)));
+      assertThat(
+          roundStatistics.getProduction(name),
+          is(new ProductionStat().getValue(player, gameData, mapData)));
+      assertThat(
+          roundStatistics.getVictoryCities(name),
+          is(new VictoryCityStat().getValue(player, gameData, mapData)));
+      for (final Resource resource : gameData.getResourceList().getResources()) {
+        assertThat(
+            roundStatistics.getResource(name, resource),
+            is(new ResourceStat(resource).getValue(player, gameData, mapData)));
+      }
+    }
+  }
+
+  @Test
+  void unitTypeFilterIsApplied() {
+    final RoundStatistics roundStatistics = RoundStatistics.capture(gameData);
+
+    assertThat(roundStatistics.getUnits("Germans", unitType -> false), is(0.0));
+    assertThat(roundStatistics.getTuv("Germans", unitType -> false), is(0.0));
+  }
+}
@@ -0,0 +1,80 @@
+package games.strategy.net;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.triplea.io.IoUtils;
+
+final class NameTableTest {
+  private final NameTable writerNames = new NameTable();
+  private final NameTable readerNames = new NameTable();
+
+  private byte[] write(final String... names) throws IOException {
+    return IoUtils.writeToMemory(
+        os -> {
+          final DataOutputStream out = new DataOutputStream(os);
+          for (final String name : names) {
+            writerNames.writeName(out, name);
+          }
+        });
+  }
+
+  private String read(final DataInputStream in) throws IOException {
+    return readerNames.readName(in);
+  }
+
+  private static DataInputStream input(final byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+
+  @Test
+  void shouldWriteNamesInFullOnlyTheFirstTime() throws IOException {
+    final byte[] first = write("Western United States");
+    final byte[] second = write("Western United States");
+
+    assertThat(second.length, is(lessThan(first.length)));
+    final String read = read(input(first));
+    assertThat(read, is("Western United States"));
+    assertThat(read(input(second)), is(sameInstance(read)));
+  }
+
+  @Test
+  void shouldNumberNamesInTheOrderTheyAreWritten() throws IOException {
+    final DataInputStream in = input(write("a", "b", "a", "c", "b"));
+
+    assertThat(read(in), is("a"));
+    assertThat(read(in), is("b"));
+    assertThat(read(in), is("a"));
+    assertThat(read(in), is("c"));
+    assertThat(read(in), is("b"));
+  }
+
+  @Test
+  void shouldWriteNamesAgainAfterTruncate() throws IOException {
+    read(input(write("a")));
+    final int size = writerNames.size();
+    write("b");
+
+    writerNames.truncate(size);
+
+    final DataInputStream in = input(write("b", "a"));
+    assertThat(read(in), is("b"));
+    assertThat(read(in), is("a"));
+  }
+
+  @Test
+  void shouldRejectUnknownNumbers() throws IOException {
+    write("a");
+    final byte[] second = write("a");
+
+    assertThrows(IOException.class, () -> read(input(second)));
+  }
+}
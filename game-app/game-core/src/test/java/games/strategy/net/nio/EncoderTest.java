@@ -0,0 +1,109 @@
+package games.strategy.net.nio;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import games.strategy.net.IObjectStreamFactory;
+import games.strategy.net.MessageHeader;
+import games.strategy.net.NameTable;
+import games.strategy.net.Node;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+final class EncoderTest {
+  @Mock private NioWriter writer;
+  @Mock private SocketChannel channel;
+  private final NameWritingStreamFactory streamFactory = new NameWritingStreamFactory();
+
+  private static MessageHeader message(final Serializable... parts) {
+    return new MessageHeader(
+        null,
+        new Node("sender", InetAddress.getLoopbackAddress(), 3300),
+        new ArrayList<>(List.of(parts)));
+  }
+
+  @Test
+  void shouldKeepTheNamesOfASentMessage() {
+    final Encoder encoder = new Encoder(writer, streamFactory);
+
+    encoder.write(channel, message(new Name("Germany")));
+
+    verify(writer).enque(any(), eq(channel));
+    assertThat(streamFactory.names.size(), is(1));
+  }
+
+  @Test
+  void shouldForgetTheNamesOfAMessageThatFailsToSerialize() {
+    final Encoder encoder = new Encoder(writer, streamFactory);
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> encoder.write(channel, message(new Name("Germany"), new FailingPayload())));
+
+    verify(writer, never()).enque(any(), any());
+    assertThat(streamFactory.names.size(), is(0));
+  }
+
+  /** A name of a game object, written with the name table of the stream. */
+  private record Name(String value) implements Serializable {}
+
+  private static final class FailingPayload implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private void writeObject(final ObjectOutputStream out) {
+      throw new IllegalStateException("Collection modified while it was written");
+    }
+  }
+
+  private static final class NameWritingStreamFactory implements IObjectStreamFactory {
+    private NameTable names;
+
+    @Override
+    public ObjectInputStream create(final InputStream stream) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ObjectOutputStream create(final OutputStream stream) throws IOException {
+      return new ObjectOutputStream(stream);
+    }
+
+    @Override
+    public ObjectOutputStream create(final OutputStream stream, final NameTable names)
+        throws IOException {
+      this.names = names;
+      return new ObjectOutputStream(stream) {
+        {
+          enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) throws IOException {
+          if (obj instanceof Name name) {
+            names.writeName(this, name.value());
+            return null;
+          }
+          return obj;
+        }
+      };
+    }
+  }
+}
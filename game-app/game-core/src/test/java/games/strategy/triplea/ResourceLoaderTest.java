@@ -11,8 +11,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import games.strategy.engine.framework.map.file.system.loader.ZippedMaps;
+import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -21,6 +24,8 @@ import java.util.Properties;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -191,6 +196,30 @@ final class ResourceLoaderTest {
       }
     }
 
+    @Test
+    @DisplayName("Returns all files in a directory of a map read from its zip")
+    void returnsFilesInZippedMapDirectory(@TempDir final Path tempDir) throws Exception {
+      var mapZip =
+          buildJar(
+              tempDir.resolve("map.zip"),
+              "map/",
+              "map/sounds/game_start/sound1.mp3",
+              "map/sounds/game_start/sound2.mp3");
+      var mapRoot = ZippedMaps.openMapRoot(mapZip).orElseThrow();
+      try (var loader = new ResourceLoader(mapRoot)) {
+
+        var result = loader.listResources("sounds/game_start");
+
+        assertThat("zipped directory should yield both contained files", result, hasSize(2));
+        assertThat(
+            "the files should be found in the opened zip",
+            loader.optionalResource("sounds/game_start/sound1.mp3"),
+            is(Optional.of(mapRoot.resolve("sounds/game_start/sound1.mp3"))));
+      } finally {
+        ZippedMaps.close(mapZip);
+      }
+    }
+
     /** Creates a JAR at {@code dest} containing entries with the given names. */
     private static Path buildJar(final Path dest, final String... entryNames) throws Exception {
       try (var jos = new JarOutputStream(Files.newOutputStream(dest))) {
@@ -202,4 +231,38 @@ final class ResourceLoaderTest {
       return dest;
     }
   }
+
+  @Nested
+  class ZippedMapTest {
+    @Test
+    @DisplayName("A map zip can be replaced after its resources were read")
+    void replacedMapZipIsReadFromTheNewZip(@TempDir final Path tempDir) throws Exception {
+      final Path mapZip = tempDir.resolve("map.zip");
+      buildZip(mapZip, "old");
+      assertThat(readNotes(mapZip), is("old"));
+
+      Files.delete(mapZip);
+      buildZip(mapZip, "new");
+
+      assertThat(readNotes(mapZip), is("new"));
+    }
+
+    private String readNotes(final Path mapZip) throws Exception {
+      final Path mapRoot = ZippedMaps.openMapRoot(mapZip).orElseThrow();
+      try (var loader = new ResourceLoader(mapRoot);
+          InputStream inputStream = loader.getResource("notes.txt").openStream()) {
+        return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+      } finally {
+        ZippedMaps.close(mapZip);
+      }
+    }
+
+    private void buildZip(final Path dest, final String notes) throws Exception {
+      try (var zos = new ZipOutputStream(Files.newOutputStream(dest))) {
+        zos.putNextEntry(new ZipEntry("map/notes.txt"));
+        zos.write(notes.getBytes(StandardCharsets.UTF_8));
+        zos.closeEntry();
+      }
+    }
+  }
 }
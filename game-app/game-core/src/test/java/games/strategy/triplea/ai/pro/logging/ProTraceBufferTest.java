@@ -0,0 +1,69 @@
+package games.strategy.triplea.ai.pro.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import org.junit.jupiter.api.Test;
+
+class ProTraceBufferTest {
+
+  @Test
+  void formatReplacesPlaceholdersInOrder() {
+    assertThat(
+        ProTraceBuffer.format("{}, value={}, units={}", "Germany", 2.5, List.of("infantry")),
+        is("Germany, value=2.5, units=[infantry]"));
+  }
+
+  @Test
+  void formatKeepsSurplusPlaceholdersAndIgnoresSurplusArguments() {
+    assertThat(ProTraceBuffer.format("a={} b={}", 1), is("a=1 b={}"));
+    assertThat(ProTraceBuffer.format("a={}", 1, 2), is("a=1"));
+    assertThat(ProTraceBuffer.format("no placeholders {}"), is("no placeholders {}"));
+    assertThat(ProTraceBuffer.format("null={}", (Object) null), is("null=null"));
+  }
+
+  @Test
+  void lazyArgumentsAreComputedWhenFormatted() {
+    final AtomicInteger computations = new AtomicInteger();
+    final Object units = ProLogger.lazy(() -> "infantry x" + computations.incrementAndGet());
+
+    assertThat(computations.get(), is(0));
+    assertThat(ProTraceBuffer.format("units={}", units), is("units=infantry x1"));
+  }
+
+  @Test
+  void eventsKeepTheArgumentsAsTheyWereWhenRecorded() {
+    final ProTraceBuffer.Ring ring = new ProTraceBuffer.Ring(Thread.currentThread(), 4);
+    final Set<String> territories = new HashSet<>(Set.of("Germany"));
+    ring.add(Level.FINE, ProTraceBuffer.format("territories: {}", territories));
+    territories.clear();
+
+    final List<String> lines = new ArrayList<>();
+    ring.dumpTo(lines);
+
+    assertThat(lines.get(1), endsWith("FINE territories: [Germany]"));
+  }
+
+  @Test
+  void onlyTheMostRecentEventsAreKept() {
+    final ProTraceBuffer.Ring ring = new ProTraceBuffer.Ring(Thread.currentThread(), 2);
+    ring.add(Level.FINE, "first");
+    ring.add(Level.FINE, "second");
+    ring.add(Level.FINE, "third");
+
+    final List<String> lines = new ArrayList<>();
+    ring.dumpTo(lines);
+
+    assertThat(
+        lines.stream().skip(1).map(line -> line.substring(line.lastIndexOf(' ') + 1)).toList(),
+        contains("second", "third"));
+  }
+}
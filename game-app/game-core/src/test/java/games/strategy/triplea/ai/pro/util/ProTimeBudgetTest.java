@@ -0,0 +1,85 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import games.strategy.engine.data.GamePlayer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ProTimeBudgetTest {
+  private final AtomicLong now = new AtomicLong();
+  private final ProTimeBudget timeBudget =
+      new ProTimeBudget(Duration.ofSeconds(100), Duration.ofSeconds(40), now::get);
+  private final GamePlayer player = mock(GamePlayer.class);
+
+  @Test
+  void isUnlimitedOutsideOfPhases() {
+    timeBudget.startPhase("purchase", 1, player);
+    advanceSeconds(50);
+    timeBudget.finishPhase();
+
+    assertThat(timeBudget.getRemainingFraction(), is(1.0));
+    assertThat(timeBudget.scaleRunCount(100, 16), is(100));
+  }
+
+  @Test
+  void isUnlimitedUnlessALimitIsSet() {
+    final ProTimeBudget defaultBudget = new ProTimeBudget();
+    defaultBudget.startPhase("purchase", 1, player);
+
+    assertThat(defaultBudget.getRemainingFraction(), is(1.0));
+    assertFalse(defaultBudget.isExpired());
+  }
+
+  @Test
+  void phaseLimitExpires() {
+    timeBudget.startPhase("purchase", 1, player);
+    advanceSeconds(10);
+    assertThat(timeBudget.getRemainingFraction(), is(0.75));
+    assertThat(timeBudget.scaleRunCount(100, 16), is(100));
+
+    advanceSeconds(20);
+    assertThat(timeBudget.scaleRunCount(100, 16), is(50));
+
+    advanceSeconds(10);
+    assertTrue(timeBudget.isExpired());
+    assertThat(timeBudget.scaleRunCount(100, 16), is(16));
+  }
+
+  @Test
+  void turnLimitSpansPhasesOfTheSameTurn() {
+    timeBudget.startPhase("purchase", 1, player);
+    advanceSeconds(35);
+    timeBudget.finishPhase();
+    timeBudget.startPhase("combat move", 1, player);
+    advanceSeconds(35);
+    timeBudget.finishPhase();
+    timeBudget.startPhase("non-combat move", 1, player);
+    advanceSeconds(20);
+    assertThat(timeBudget.getRemainingFraction(), closeTo(0.1, 0.0001));
+
+    advanceSeconds(10);
+    assertTrue(timeBudget.isExpired());
+  }
+
+  @Test
+  void turnIsResetForNextPlayer() {
+    timeBudget.startPhase("purchase", 1, player);
+    advanceSeconds(99);
+    timeBudget.finishPhase();
+
+    timeBudget.startPhase("purchase", 1, mock(GamePlayer.class));
+    assertFalse(timeBudget.isExpired());
+    assertThat(timeBudget.getRemainingFraction(), is(1.0));
+  }
+
+  private void advanceSeconds(final long seconds) {
+    now.addAndGet(Duration.ofSeconds(seconds).toNanos());
+  }
+}
@@ -0,0 +1,71 @@
+package games.strategy.triplea.attachments;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.delegate.IDelegateBridge;
+import games.strategy.triplea.delegate.GameDataTestUtil;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConditionEvaluationCacheTest {
+  private static final String CONDITION_NAME = "conditionAttachmentCacheTest";
+
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final GamePlayer germans = GameDataTestUtil.germans(gameData);
+  private final GamePlayer russians = GameDataTestUtil.russians(gameData);
+  private final Territory germany = gameData.getMap().getTerritoryOrNull("Germany");
+  private final Territory russia = gameData.getMap().getTerritoryOrNull("Russia");
+  private final IDelegateBridge bridge = mock(IDelegateBridge.class);
+  private RulesAttachment condition;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    when(bridge.getData()).thenReturn(gameData);
+    condition = new RulesAttachment(CONDITION_NAME, germans, gameData);
+    condition.getPropertyOrThrow("directOwnershipTerritories").setValue("Germany");
+    germans.addAttachment(CONDITION_NAME, condition);
+  }
+
+  private boolean test() {
+    return AbstractConditionsAttachment.testAllConditionsRecursive(Set.of(condition), null, bridge)
+        .get(condition);
+  }
+
+  @Test
+  void ownershipChangeOfReadTerritoryIsSeen() {
+    assertThat(test(), is(true));
+
+    gameData.performChange(ChangeFactory.changeOwner(germany, russians));
+
+    assertThat(test(), is(false));
+  }
+
+  @Test
+  void resultIsReusedWhileReadTerritoriesAreUnchanged() throws Exception {
+    assertThat(test(), is(true));
+    // bypasses the change mechanism, so only a re-test would notice it
+    condition.getPropertyOrThrow("switch").setValue(false);
+
+    gameData.performChange(ChangeFactory.changeOwner(russia, germans));
+
+    assertThat(test(), is(true));
+  }
+
+  @Test
+  void attachmentChangeDiscardsResults() throws Exception {
+    assertThat(test(), is(true));
+
+    gameData.performChange(ChangeFactory.attachmentPropertyChange(condition, false, "switch"));
+
+    assertThat(test(), is(false));
+  }
+}
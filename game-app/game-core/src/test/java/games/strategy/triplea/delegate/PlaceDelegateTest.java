@@ -11,8 +11,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
@@ -23,6 +25,7 @@ import static org.mockito.Mockito.when;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.engine.delegate.IDelegateBridge;
 import games.strategy.triplea.delegate.data.PlaceableUnits;
 import java.util.Collection;
@@ -117,6 +120,21 @@ class PlaceDelegateTest extends PlaceDelegateTestCommon {
     assertEquals(0, response.getMaxUnits());
   }
 
+  @Test
+  void unitsAtStartOfStepLeaveOutPlacedUnitsAndFollowOtherChanges() {
+    final Collection<Unit> atStartInNorthSea = delegate.unitsAtStartOfStepInTerritory(northSea);
+    final List<Unit> transports = create(british, transport, 1);
+    assertValid(delegate.placeUnits(transports, northSea, NOT_BID));
+
+    final Collection<Unit> afterPlacing = delegate.unitsAtStartOfStepInTerritory(northSea);
+    assertThat(afterPlacing, hasSize(atStartInNorthSea.size()));
+    assertThat(afterPlacing, not(hasItem(transports.get(0))));
+
+    final Unit movedIn = infantry.create(1, british).get(0);
+    gameData.performChange(ChangeFactory.addUnits(uk, List.of(movedIn)));
+    assertThat(delegate.unitsAtStartOfStepInTerritory(uk), hasItem(movedIn));
+  }
+
   // Regression test for https://github.com/triplea-game/triplea/issues/8434.
   // When "Move existing fighters to new carriers" is enabled, placing a carrier may move a
   // previously-placed fighter onto it. Undoing the fighter placement first would otherwise
@@ -0,0 +1,75 @@
+package games.strategy.triplea.delegate.battle;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.addTo;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.italians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.removeFrom;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static games.strategy.triplea.delegate.GameDataTestUtil.transport;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.triplea.java.collections.CollectionUtils;
+
+class ContestedTerritoriesTest {
+  private final GameData gameData = TestMapGameData.PACT_OF_STEEL_2.getGameData();
+  private final BattleTracker battleTracker = new BattleTracker();
+  // owned by the Russians and holding only Russian units
+  private final Territory karelia = territory("Karelia S.S.R.", gameData);
+  // unowned water holding only British units
+  private final Territory seaZone = territory("35 Sea Zone", gameData);
+
+  private List<Territory> fullScan() {
+    return CollectionUtils.getMatches(
+        gameData.getMap().getTerritories(), ContestedTerritories::isContested);
+  }
+
+  @Test
+  void unitsOfAnotherPlayerMakeATerritoryContestedUntilTheyLeave() {
+    assertThat(battleTracker.getContestedTerritories(gameData), not(hasItem(karelia)));
+
+    final List<Unit> italianTanks = armour(gameData).create(1, italians(gameData));
+    addTo(karelia, italianTanks);
+    assertThat(battleTracker.getContestedTerritories(gameData), hasItem(karelia));
+
+    removeFrom(karelia, italianTanks);
+    assertThat(battleTracker.getContestedTerritories(gameData), not(hasItem(karelia)));
+  }
+
+  @Test
+  void unitsInATerritoryOwnedByAnotherPlayerMakeItContested() {
+    battleTracker.getContestedTerritories(gameData);
+
+    gameData.performChange(ChangeFactory.changeOwner(karelia, italians(gameData)));
+
+    assertThat(battleTracker.getContestedTerritories(gameData), hasItem(karelia));
+  }
+
+  @Test
+  void unitsOfOnePlayerInUnownedWaterAreNotContestedButOfTwoPlayersAre() {
+    assertThat(ContestedTerritories.isContested(seaZone), is(false));
+
+    addTo(seaZone, transport(gameData).create(1, russians(gameData)));
+
+    assertThat(ContestedTerritories.isContested(seaZone), is(true));
+  }
+
+  @Test
+  void contestedTerritoriesAreTheSameAsAFullScanInMapOrder() {
+    battleTracker.getContestedTerritories(gameData);
+    addTo(karelia, armour(gameData).create(1, italians(gameData)));
+    addTo(seaZone, transport(gameData).create(1, russians(gameData)));
+
+    assertThat(battleTracker.getContestedTerritories(gameData), is(fullScan()));
+  }
+}
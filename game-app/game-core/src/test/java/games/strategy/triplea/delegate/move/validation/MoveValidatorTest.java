@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -264,6 +265,32 @@ class MoveValidatorTest extends AbstractDelegateTestCase {
         () -> MoveValidator.getBestRoute(westCanada, eastCanada, gameData, british, units, false));
   }
 
+  @Test
+  void testReachabilityFieldChoosesTheRoutesOfGetBestRoute() {
+    final Collection<Unit> units = new ArrayList<>(infantry.create(1, british));
+    units.addAll(fighter.create(1, british));
+    westCanada.getUnitCollection().addAll(units);
+    final Collection<Unit> ships = transport.create(1, british);
+    northSea.getUnitCollection().addAll(ships);
+
+    assertReachabilityFieldChoosesTheRoutesOfGetBestRoute(westCanada, units);
+    assertReachabilityFieldChoosesTheRoutesOfGetBestRoute(northSea, ships);
+  }
+
+  private void assertReachabilityFieldChoosesTheRoutesOfGetBestRoute(
+      final Territory start, final Collection<Unit> units) {
+    final ReachabilityField field = new ReachabilityField(start, gameData, british, units, true);
+    for (final Territory end : gameData.getMap().getTerritories()) {
+      final Optional<Route> expected =
+          MoveValidator.getBestRoute(start, end, gameData, british, units, true);
+      final Optional<Route> actual = field.getBestRoute(end);
+      // routes of the same cost may differ in the territories they pass
+      assertEquals(
+          expected.map(Route::numberOfSteps), actual.map(Route::numberOfSteps), end.getName());
+      actual.ifPresent(route -> assertEquals(end, route.getEnd()));
+    }
+  }
+
   @Test
   void testStackingLimitOnMove() {
     MoveValidator moveValidator = new MoveValidator(gameData, true);
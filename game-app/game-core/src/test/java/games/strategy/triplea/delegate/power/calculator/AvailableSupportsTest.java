@@ -70,6 +70,42 @@ class AvailableSupportsTest {
           filtered.supportRules.keySet(),
           hasSize(1));
     }
+
+    @Test
+    void usingSupportOfCopyDoesNotChangeOriginal() throws GameParseException {
+      final GameData gameData = givenGameData().build();
+
+      final GamePlayer owner = mock(GamePlayer.class);
+
+      final UnitType unitType = new UnitType("unit", gameData);
+      final Unit unit = unitType.createTemp(1, owner).get(0);
+
+      final UnitType supportUnitType = new UnitType("support", gameData);
+      final List<Unit> supportUnits = supportUnitType.createTemp(2, owner);
+
+      final UnitSupportAttachment rule =
+          new UnitSupportAttachment("rule", supportUnitType, gameData);
+      rule.setSide("offence")
+          .setFaction("enemy")
+          .setPlayers(List.of(owner))
+          .setBonusType("bonus")
+          .setUnitType(Set.of(unitType))
+          .setBonus(1)
+          .setNumber(1);
+
+      final AvailableSupports tracker =
+          AvailableSupports.getSupport(
+              new SupportCalculator(supportUnits, List.of(rule), BattleState.Side.OFFENSE, false));
+
+      final AvailableSupports copy = tracker.copy();
+      copy.giveSupportToUnit(unit);
+      copy.giveSupportToUnit(unit);
+
+      assertThat("All the support of the copy was used", copy.getSupportLeft(rule), is(0));
+      assertThat("The original still has all its support", tracker.getSupportLeft(rule), is(2));
+      assertThat(
+          "The original can still give support", tracker.copy().giveSupportToUnit(unit), is(1));
+    }
   }
 
   @Nested
@@ -0,0 +1,133 @@
+package games.strategy.triplea.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TileImageCacheTest {
+  // 4 by 4 pixels with 4 bytes each
+  private static final long IMAGE_SIZE = 64;
+
+  private static BufferedImage newImage() {
+    return new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+  }
+
+  @Test
+  void estimateSizeCountsTheBytesOfThePixels() {
+    assertThat(TileImageCache.estimateSize(newImage()), is(IMAGE_SIZE));
+    assertThat(
+        TileImageCache.estimateSize(new BufferedImage(4, 4, BufferedImage.TYPE_3BYTE_BGR)),
+        is(48L));
+  }
+
+  @Test
+  void imagesAreCreatedOnce() {
+    final TileImageCache cache = new TileImageCache(IMAGE_SIZE, 0);
+    final AtomicInteger creations = new AtomicInteger();
+
+    final Image image =
+        cache.getImage(
+            "tile",
+            () -> {
+              creations.incrementAndGet();
+              return newImage();
+            });
+
+    assertThat(cache.getImage("tile", TileImageCacheTest::newImage), is(sameInstance(image)));
+    assertThat(creations.get(), is(1));
+    assertThat(cache.getDecodedSize(), is(IMAGE_SIZE));
+  }
+
+  @Test
+  void missingImagesAreNotCached() {
+    final TileImageCache cache = new TileImageCache(IMAGE_SIZE, 0);
+
+    assertThat(cache.getImage("tile", () -> null), is(nullValue()));
+
+    assertThat(cache.containsImage("tile"), is(false));
+  }
+
+  @Test
+  void leastRecentlyUsedImagesAreEvictedWhenOverBudget() {
+    final TileImageCache cache = new TileImageCache(2 * IMAGE_SIZE, 0);
+    cache.getImage("first", TileImageCacheTest::newImage);
+    cache.getImage("second", TileImageCacheTest::newImage);
+    cache.getImage("first", TileImageCacheTest::newImage);
+
+    cache.getImage("third", TileImageCacheTest::newImage);
+
+    assertThat(cache.containsImage("first"), is(true));
+    assertThat(cache.containsImage("second"), is(false));
+    assertThat(cache.containsImage("third"), is(true));
+    assertThat(cache.getDecodedSize(), is(2 * IMAGE_SIZE));
+  }
+
+  @Test
+  void imagesOverBudgetAreKeptUntilTheNextImage() {
+    final TileImageCache cache = new TileImageCache(IMAGE_SIZE / 2, 0);
+
+    cache.getImage("first", TileImageCacheTest::newImage);
+    assertThat(cache.containsImage("first"), is(true));
+
+    cache.getImage("second", TileImageCacheTest::newImage);
+    assertThat(cache.containsImage("first"), is(false));
+    assertThat(cache.containsImage("second"), is(true));
+  }
+
+  @Test
+  void imageFilesAreReadOnce(@TempDir final Path tempDir) throws Exception {
+    final Path file = tempDir.resolve("tile.png");
+    ImageIO.write(newImage(), "png", file.toFile());
+    final long fileSize = Files.size(file);
+    final TileImageCache cache = new TileImageCache(0, fileSize);
+
+    assertThat(cache.readImage(file.toUri().toURL()), is(notNullValue()));
+    Files.delete(file);
+
+    final BufferedImage image = cache.readImage(file.toUri().toURL());
+    assertThat(image.getWidth(), is(4));
+    assertThat(cache.getCompressedSize(), is(fileSize));
+  }
+
+  @Test
+  void clearRemovesAllImages(@TempDir final Path tempDir) throws Exception {
+    final Path file = tempDir.resolve("tile.png");
+    ImageIO.write(newImage(), "png", file.toFile());
+    final TileImageCache cache = new TileImageCache(IMAGE_SIZE, IMAGE_SIZE * 10);
+    cache.getImage("tile", TileImageCacheTest::newImage);
+    cache.readImage(file.toUri().toURL());
+
+    cache.clear();
+
+    assertThat(cache.containsImage("tile"), is(false));
+    assertThat(cache.getDecodedSize(), is(0L));
+    assertThat(cache.getCompressedSize(), is(0L));
+  }
+
+  @Test
+  void imagesCreatedWhileTheCacheIsClearedAreNotCached() {
+    final TileImageCache cache = new TileImageCache(IMAGE_SIZE, 0);
+
+    final Image image =
+        cache.getImage(
+            "tile",
+            () -> {
+              cache.clear();
+              return newImage();
+            });
+
+    assertThat(image, is(notNullValue()));
+    assertThat(cache.containsImage("tile"), is(false));
+  }
+}
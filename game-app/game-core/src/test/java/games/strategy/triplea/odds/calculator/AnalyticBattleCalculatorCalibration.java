@@ -0,0 +1,172 @@
+package games.strategy.triplea.odds.calculator;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.random.SimulationRandomSource;
+import games.strategy.triplea.delegate.GameDataTestUtil;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.settings.ClientSetting;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.sonatype.goodies.prefs.memory.MemoryPreferences;
+
+/**
+ * Compares the win percentages of {@link AnalyticBattleCalculator} with the ones of {@link
+ * BattleCalculator} over random battles on the bundled test maps and prints the distribution of
+ * the differences. It is not run as part of the tests because the simulations take a while; run
+ * its main method after changing the estimate, or to choose the Pro AI prefilter margin.
+ */
+public final class AnalyticBattleCalculatorCalibration {
+  private static final int BATTLES_PER_MAP = 200;
+  private static final int RUN_COUNT = 1000;
+  private static final double[] PREFILTER_MARGINS = {0.01, 0.02, 0.05, 0.1};
+  // a prefiltered battle is misjudged if the simulation is further off than this
+  private static final double MISJUDGED_ERROR = 0.05;
+
+  private AnalyticBattleCalculatorCalibration() {}
+
+  public static void main(final String[] args) {
+    ClientSetting.setPreferences(new MemoryPreferences());
+    try {
+      for (final TestMapGameData map :
+          List.of(TestMapGameData.REVISED, TestMapGameData.WW2V3_1942)) {
+        calibrate(map, new Random(42));
+      }
+    } finally {
+      ClientSetting.resetPreferences();
+    }
+  }
+
+  private static void calibrate(final TestMapGameData map, final Random random) {
+    final GameData gameData = map.getGameData();
+    final GamePlayer attacker = GameDataTestUtil.russians(gameData);
+    final GamePlayer defender = GameDataTestUtil.germans(gameData);
+    final Territory land = gameData.getMap().getTerritoryOrNull("Germany");
+    final Territory sea = gameData.getMap().getTerritoryOrNull("5 Sea Zone");
+    final List<Function<GameData, UnitType>> landAttackers =
+        List.of(
+            GameDataTestUtil::infantry,
+            GameDataTestUtil::artillery,
+            GameDataTestUtil::armour,
+            GameDataTestUtil::fighter,
+            GameDataTestUtil::bomber);
+    final List<Function<GameData, UnitType>> landDefenders =
+        List.of(
+            GameDataTestUtil::infantry,
+            GameDataTestUtil::artillery,
+            GameDataTestUtil::armour,
+            GameDataTestUtil::fighter,
+            GameDataTestUtil::aaGun);
+    final List<Function<GameData, UnitType>> seaUnits =
+        List.of(
+            GameDataTestUtil::battleship,
+            GameDataTestUtil::destroyer,
+            GameDataTestUtil::submarine,
+            GameDataTestUtil::fighter);
+
+    final IBattleCalculator estimator = new AnalyticBattleCalculator();
+    final BattleCalculator simulator = new BattleCalculator(gameData);
+    simulator.setRandomSource(new SimulationRandomSource(42));
+    final double[] errors = new double[BATTLES_PER_MAP];
+    final double[] estimates = new double[BATTLES_PER_MAP];
+    final double[] simulations = new double[BATTLES_PER_MAP];
+    long estimateNanos = 0;
+    long simulationNanos = 0;
+    for (int i = 0; i < BATTLES_PER_MAP; i++) {
+      final boolean isSeaBattle = sea != null && random.nextInt(3) == 0;
+      final Territory location = isSeaBattle ? sea : land;
+      final List<Unit> attacking =
+          createUnits(gameData, isSeaBattle ? seaUnits : landAttackers, attacker, random);
+      final List<Unit> defending =
+          createUnits(gameData, isSeaBattle ? seaUnits : landDefenders, defender, random);
+
+      long start = System.nanoTime();
+      estimates[i] =
+          estimator
+              .calculate(
+                  attacker,
+                  defender,
+                  location,
+                  attacking,
+                  defending,
+                  List.of(),
+                  TerritoryEffectHelper.getEffects(location),
+                  false,
+                  RUN_COUNT)
+              .getAttackerWinPercent();
+      estimateNanos += System.nanoTime() - start;
+      start = System.nanoTime();
+      simulations[i] =
+          simulator
+              .calculate(
+                  attacker,
+                  defender,
+                  location,
+                  attacking,
+                  defending,
+                  List.of(),
+                  TerritoryEffectHelper.getEffects(location),
+                  false,
+                  RUN_COUNT)
+              .getAttackerWinPercent();
+      simulationNanos += System.nanoTime() - start;
+      errors[i] = estimates[i] - simulations[i];
+    }
+
+    final double[] absoluteErrors = Arrays.stream(errors).map(Math::abs).sorted().toArray();
+    System.out.printf(
+        "%s: %d battles, estimate %d ms, simulation %d ms%n",
+        map,
+        BATTLES_PER_MAP,
+        estimateNanos / 1_000_000,
+        simulationNanos / 1_000_000);
+    System.out.printf(
+        "  win percentage error: bias %.3f, mean %.3f, p50 %.3f, p90 %.3f, p99 %.3f, max %.3f%n",
+        Arrays.stream(errors).average().orElse(0),
+        Arrays.stream(absoluteErrors).average().orElse(0),
+        percentile(absoluteErrors, 0.5),
+        percentile(absoluteErrors, 0.9),
+        percentile(absoluteErrors, 0.99),
+        absoluteErrors[absoluteErrors.length - 1]);
+    for (final double margin : PREFILTER_MARGINS) {
+      int prefiltered = 0;
+      int misjudged = 0;
+      for (int i = 0; i < BATTLES_PER_MAP; i++) {
+        if (estimates[i] <= margin || estimates[i] >= 1 - margin) {
+          prefiltered++;
+          if (Math.abs(errors[i]) > MISJUDGED_ERROR) {
+            misjudged++;
+          }
+        }
+      }
+      System.out.printf(
+          "  prefilter margin %.2f: %d battles not simulated, %d of them misjudged%n",
+          margin, prefiltered, misjudged);
+    }
+  }
+
+  private static List<Unit> createUnits(
+      final GameData gameData,
+      final List<Function<GameData, UnitType>> unitTypes,
+      final GamePlayer player,
+      final Random random) {
+    final List<Unit> units = new ArrayList<>();
+    while (units.isEmpty()) {
+      for (final Function<GameData, UnitType> unitType : unitTypes) {
+        units.addAll(unitType.apply(gameData).create(random.nextInt(5), player));
+      }
+    }
+    return units;
+  }
+
+  private static double percentile(final double[] sortedValues, final double percentile) {
+    return sortedValues[(int) Math.min(sortedValues.length - 1, percentile * sortedValues.length)];
+  }
+}
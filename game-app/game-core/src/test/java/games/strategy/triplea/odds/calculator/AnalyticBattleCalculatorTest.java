@@ -0,0 +1,186 @@
+package games.strategy.triplea.odds.calculator;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.aaGun;
+import static games.strategy.triplea.delegate.GameDataTestUtil.artillery;
+import static games.strategy.triplea.delegate.GameDataTestUtil.battleship;
+import static games.strategy.triplea.delegate.GameDataTestUtil.bomber;
+import static games.strategy.triplea.delegate.GameDataTestUtil.carrier;
+import static games.strategy.triplea.delegate.GameDataTestUtil.destroyer;
+import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.submarine;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AnalyticBattleCalculatorTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final Territory germany = gameData.getMap().getTerritoryOrNull("Germany");
+  private final Territory seaZone = gameData.getMap().getTerritoryOrNull("5 Sea Zone");
+  private final GamePlayer russians = russians(gameData);
+  private final GamePlayer germans = germans(gameData);
+
+  @Test
+  void strongAttackerWins() {
+    final List<Unit> attackingUnits = infantry(gameData).create(20, russians);
+    final List<Unit> defendingUnits = infantry(gameData).create(1, germans);
+
+    final AggregateResults results = calculate(attackingUnits, defendingUnits);
+
+    assertThat(results.getAttackerWinPercent(), is(greaterThan(0.99)));
+    assertThat(results.getAverageAttackingUnitsRemaining(), is(not(empty())));
+    assertThat(results.getAverageDefendingUnitsRemaining(), is(empty()));
+  }
+
+  @Test
+  void strongDefenderWins() {
+    final List<Unit> attackingUnits = infantry(gameData).create(1, russians);
+    final List<Unit> defendingUnits = infantry(gameData).create(20, germans);
+
+    final AggregateResults results = calculate(attackingUnits, defendingUnits);
+
+    assertThat(results.getAttackerWinPercent(), is(lessThan(0.01)));
+    assertThat(results.getAverageAttackingUnitsRemaining(), is(empty()));
+    assertThat(results.getAverageDefendingUnitsRemaining(), is(not(empty())));
+  }
+
+  @Test
+  void defenderAdvantageOutweighsEqualNumbers() {
+    final AggregateResults results =
+        calculate(
+            infantry(gameData).create(10, russians), infantry(gameData).create(10, germans));
+
+    assertThat(results.getAttackerWinPercent(), is(lessThan(0.5)));
+  }
+
+  @Test
+  void firstStrikeUnitsHitBeforeTheEnemyFires() {
+    final double againstCarrier =
+        calculate(
+                seaZone,
+                submarine(gameData).create(3, russians),
+                carrier(gameData).create(1, germans),
+                List.of())
+            .getAttackerWinPercent();
+    // a destroyer defends like a carrier, but takes away the first strike of the submarines
+    final double againstDestroyer =
+        calculate(
+                seaZone,
+                submarine(gameData).create(3, russians),
+                destroyer(gameData).create(1, germans),
+                List.of())
+            .getAttackerWinPercent();
+
+    assertThat(againstCarrier, is(greaterThan(againstDestroyer)));
+  }
+
+  @Test
+  void aaShootsDownTheTargetsWithTheLeastPowerFirst() {
+    final List<Unit> attackingUnits = new ArrayList<>(bomber(gameData).create(1, russians));
+    attackingUnits.addAll(fighter(gameData).create(5, russians));
+    final List<Unit> defendingUnits = new ArrayList<>(aaGun(gameData).create(1, germans));
+    defendingUnits.addAll(infantry(gameData).create(1, germans));
+
+    // one hit is expected from six planes, it is taken by a fighter and not the bomber
+    final AggregateResults results = calculate(attackingUnits, defendingUnits);
+
+    assertThat(results.getAverageAttackingUnitsRemaining(), hasSize(5));
+    assertThat(results.getAverageAttackingUnitsRemaining(), hasItem(attackingUnits.get(0)));
+  }
+
+  @Test
+  void unitsWithSeveralHitPointsCountTheirHitsLeft() {
+    final List<Unit> damagedBattleship = battleship(gameData).create(1, germans);
+    damagedBattleship.get(0).setHits(1);
+
+    final double againstDamaged =
+        calculate(seaZone, destroyer(gameData).create(3, russians), damagedBattleship, List.of())
+            .getAttackerWinPercent();
+    final double againstUndamaged =
+        calculate(
+                seaZone,
+                destroyer(gameData).create(3, russians),
+                battleship(gameData).create(1, germans),
+                List.of())
+            .getAttackerWinPercent();
+
+    assertThat(againstDamaged, is(greaterThan(againstUndamaged)));
+  }
+
+  @Test
+  void supportedUnitsFireWithTheirSupport() {
+    final List<Unit> supported = new ArrayList<>(infantry(gameData).create(3, russians));
+    supported.addAll(artillery(gameData).create(3, russians));
+
+    // each artillery supports one infantry, so all six units attack like artillery
+    final double withSupport =
+        calculate(supported, infantry(gameData).create(5, germans)).getAttackerWinPercent();
+    final double allArtillery =
+        calculate(artillery(gameData).create(6, russians), infantry(gameData).create(5, germans))
+            .getAttackerWinPercent();
+
+    assertThat(withSupport, is(closeTo(allArtillery, 1e-9)));
+  }
+
+  @Test
+  void bombardmentAddsHitsInTheFirstRound() {
+    final double withBombardment =
+        calculate(
+                germany,
+                infantry(gameData).create(4, russians),
+                infantry(gameData).create(4, germans),
+                battleship(gameData).create(1, russians))
+            .getAttackerWinPercent();
+    final double withoutBombardment =
+        calculate(
+                germany,
+                infantry(gameData).create(4, russians),
+                infantry(gameData).create(4, germans),
+                List.of())
+            .getAttackerWinPercent();
+
+    assertThat(withBombardment, is(greaterThan(withoutBombardment)));
+  }
+
+  private AggregateResults calculate(
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    return calculate(germany, attackingUnits, defendingUnits, List.of());
+  }
+
+  private AggregateResults calculate(
+      final Territory location,
+      final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits) {
+    return new AnalyticBattleCalculator()
+        .calculate(
+            russians,
+            germans,
+            location,
+            attackingUnits,
+            defendingUnits,
+            bombardingUnits,
+            TerritoryEffectHelper.getEffects(location),
+            false,
+            1);
+  }
+}
@@ -17,6 +17,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.random.SimulationRandomSource;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.settings.AbstractClientSettingTestCase;
 import games.strategy.triplea.xml.TestMapGameData;
@@ -52,6 +53,39 @@ class BattleCalculatorTest extends AbstractClientSettingTestCase {
     assertTrue(results.getDrawPercent() < 0.1);
   }
 
+  @Test
+  void seededCalculationsAreReproducible() {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final Territory germany = gameData.getMap().getTerritoryOrNull("Germany");
+    final Collection<Unit> defendingUnits = new ArrayList<>(germany.getUnits());
+    final GamePlayer russians = russians(gameData);
+    final GamePlayer germans = germans(gameData);
+    final List<Unit> attackingUnits = infantry(gameData).create(20, russians);
+    final List<AggregateResults> results = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      final BattleCalculator calculator = new BattleCalculator(gameData);
+      calculator.setRandomSource(new SimulationRandomSource(42));
+      results.add(
+          calculator.calculate(
+              russians,
+              germans,
+              germany,
+              attackingUnits,
+              defendingUnits,
+              List.of(),
+              TerritoryEffectHelper.getEffects(germany),
+              false,
+              50));
+    }
+    assertEquals(results.get(0).getAttackerWinPercent(), results.get(1).getAttackerWinPercent());
+    assertEquals(
+        results.get(0).getAverageAttackingUnitsLeft(),
+        results.get(1).getAverageAttackingUnitsLeft());
+    assertEquals(
+        results.get(0).getAverageBattleRoundsFought(),
+        results.get(1).getAverageBattleRoundsFought());
+  }
+
   @Test
   void testKeepOneAttackingLand() {
     final GameData gameData = TestMapGameData.REVISED.getGameData();
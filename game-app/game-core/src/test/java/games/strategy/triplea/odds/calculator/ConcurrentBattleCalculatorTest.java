@@ -5,6 +5,8 @@ import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
 import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,6 +18,7 @@ import games.strategy.engine.data.Unit;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.settings.AbstractClientSettingTestCase;
 import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
@@ -71,4 +74,87 @@ class ConcurrentBattleCalculatorTest extends AbstractClientSettingTestCase {
 
     assertThat(results.getResults(), empty());
   }
+
+  @Test
+  void calculateBattles_returnsResultsInSubmissionOrder() {
+    final ConcurrentBattleCalculator calc = new ConcurrentBattleCalculator();
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    assertTrue(calc.setGameData(gameData).join());
+
+    final Territory germany = gameData.getMap().getTerritoryOrNull("Germany");
+    final GamePlayer russians = russians(gameData);
+    final GamePlayer germans = germans(gameData);
+    final BattleSetup attackerWins =
+        BattleSetup.builder()
+            .attacker(russians)
+            .defender(germans)
+            .location(germany)
+            .attacking(infantry(gameData).create(20, russians))
+            .defending(infantry(gameData).create(1, germans))
+            .runCount(10)
+            .build();
+    final BattleSetup defenderWins =
+        attackerWins.toBuilder()
+            .attacking(infantry(gameData).create(1, russians))
+            .defending(infantry(gameData).create(20, germans))
+            .build();
+    // more battles than workers, so that the battles are spread across the workers
+    final List<BattleSetup> battles = new ArrayList<>();
+    for (int i = 0; i < Runtime.getRuntime().availableProcessors() + 1; i++) {
+      battles.add(attackerWins);
+      battles.add(defenderWins);
+    }
+
+    final List<AggregateResults> results = calc.calculate(battles);
+
+    assertThat(results, hasSize(battles.size()));
+    for (int i = 0; i < results.size(); i += 2) {
+      assertThat(results.get(i).getRollCount(), is(10));
+      assertThat(results.get(i).getAttackerWinPercent(), is(1.0));
+      assertThat(results.get(i + 1).getAttackerWinPercent(), is(0.0));
+    }
+  }
+
+  @Test
+  void calculate_returnsSameResultsForSameSeed_whenGameDataIsSetAfterTheSeed() {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final Territory germany = gameData.getMap().getTerritoryOrNull("Germany");
+    final GamePlayer russians = russians(gameData);
+    final GamePlayer germans = germans(gameData);
+    final BattleSetup battle =
+        BattleSetup.builder()
+            .attacker(russians)
+            .defender(germans)
+            .location(germany)
+            .attacking(infantry(gameData).create(6, russians))
+            .defending(infantry(gameData).create(5, germans))
+            .runCount(200)
+            .build();
+
+    final AggregateResults first = calculateSeeded(gameData, battle);
+    final AggregateResults second = calculateSeeded(gameData, battle);
+
+    assertThat(second.getRollCount(), is(200));
+    assertThat(second.getAttackerWinPercent(), is(first.getAttackerWinPercent()));
+    assertThat(second.getDefenderWinPercent(), is(first.getDefenderWinPercent()));
+    assertThat(second.getAverageAttackingUnitsLeft(), is(first.getAverageAttackingUnitsLeft()));
+    assertThat(second.getAverageBattleRoundsFought(), is(first.getAverageBattleRoundsFought()));
+  }
+
+  private static AggregateResults calculateSeeded(
+      final GameData gameData, final BattleSetup battle) {
+    final ConcurrentBattleCalculator calc = new ConcurrentBattleCalculator();
+    calc.setRandomSeed(42);
+    assertTrue(calc.setGameData(gameData).join());
+    return calc.calculate(
+        battle.getAttacker(),
+        battle.getDefender(),
+        battle.getLocation(),
+        battle.getAttacking(),
+        battle.getDefending(),
+        battle.getBombarding(),
+        battle.getTerritoryEffects(),
+        battle.isRetreatWhenOnlyAirLeft(),
+        battle.getRunCount());
+  }
 }
@@ -0,0 +1,37 @@
+package games.strategy.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Rectangle;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class GridIndexTest {
+  private final GridIndex<String> gridIndex = new GridIndex<>(10);
+
+  @Test
+  void pointQueryReturnsValuesContainingThePoint() {
+    gridIndex.add(new Rectangle(0, 0, 30, 30), "large");
+    gridIndex.add(new Rectangle(5, 5, 10, 10), "small");
+    gridIndex.add(new Rectangle(-20, -20, 10, 10), "negative");
+
+    assertThat(gridIndex.get(7, 7), contains("large", "small"));
+    assertThat(gridIndex.get(25, 25), contains("large"));
+    assertThat(gridIndex.get(-15, -15), contains("negative"));
+    assertThat(gridIndex.get(30, 30), is(empty()));
+    assertThat(gridIndex.get(500, 500), is(empty()));
+  }
+
+  @Test
+  void areaQueryReturnsIntersectingValuesOnceInInsertionOrder() {
+    gridIndex.add(new Rectangle(40, 0, 10, 10), "right");
+    gridIndex.add(new Rectangle(0, 0, 30, 30), "left");
+    gridIndex.add(new Rectangle(30, 30, 10, 10), "touching");
+
+    assertThat(gridIndex.get(new Rectangle(5, 5, 40, 20)), contains("right", "left"));
+    assertThat(gridIndex.get(new Rectangle(0, 0, 30, 30)), is(List.of("left")));
+  }
+}
@@ -10,6 +10,7 @@ import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.events.GameDataChangeListener;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.delegate.AbstractMoveDelegate.MoveType;
 import games.strategy.triplea.delegate.EditDelegate;
@@ -20,6 +21,7 @@ import games.strategy.triplea.delegate.UnitComparator;
 import games.strategy.triplea.delegate.battle.ScrambleLogic;
 import games.strategy.triplea.delegate.data.MustMoveWithDetails;
 import games.strategy.triplea.delegate.move.validation.MoveValidator;
+import games.strategy.triplea.delegate.move.validation.ReachabilityField;
 import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.triplea.ui.AbstractMovePanel;
 import games.strategy.triplea.ui.DefaultMapSelectionListener;
@@ -55,6 +57,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -67,10 +70,12 @@ import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.ObjectUtils;
 import org.triplea.java.PredicateBuilder;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
+import org.triplea.java.concurrency.AsyncRunner;
 import org.triplea.swing.CollapsiblePanel;
 import org.triplea.swing.JLabelBuilder;
 import org.triplea.swing.jpanel.JPanelBuilder;
@@ -78,6 +83,7 @@ import org.triplea.swing.key.binding.KeyCode;
 import org.triplea.swing.key.binding.SwingKeyBinding;
 
 /** The action panel displayed during the combat and non-combat move actions. */
+@Slf4j
 public class MovePanel extends AbstractMovePanel {
   @Serial private static final long serialVersionUID = 5004515340964828564L;
   private static final int DEFAULT_MIN_TRANSPORT_COST = 5;
@@ -85,6 +91,9 @@ public class MovePanel extends AbstractMovePanel {
   /** Number of units to add/remove when Alt key is down. */
   private static final int MULTI_SELECT_NUMBER = 10;
 
+  // enough for the selected units and their air units, from a few territories of a forced route
+  private static final int MAX_REACHABILITY_FIELDS = 8;
+
   // Map from air transport to units being transported for the current move being made.
   private final Map<Unit, Collection<Unit>> airTransportDependents = new HashMap<>();
 
@@ -109,6 +118,11 @@ public class MovePanel extends AbstractMovePanel {
   private final @Nullable Image warningImage;
   private final @Nullable Image errorImage;
   private @Nullable Route routeCached = null;
+  // routes of the units selected to move from the territories they move from, dropped when the
+  // game data changes
+  private final Map<List<Object>, ReachabilityField> reachabilityFields = new ConcurrentHashMap<>();
+  private final GameDataChangeListener reachabilityFieldsInvalidator =
+      change -> reachabilityFields.clear();
   private String displayText = "Combat Move";
   @Setter private MoveType moveType = MoveType.DEFAULT;
   private final UnitScroller unitScroller;
@@ -1413,13 +1427,35 @@ public class MovePanel extends AbstractMovePanel {
     // can't rely on current player being the unit owner in Edit Mode
     // look at the units being moved to determine allies and enemies
     final GamePlayer owner = getUnitOwner(selectedUnits);
-    return MoveValidator.getBestRoute(
-        start,
-        end,
-        getData(),
-        owner,
-        selectedUnits,
-        !GameStepPropertiesHelper.isAirborneMove(getData()));
+    return getReachabilityField(
+            start, owner, selectedUnits, !GameStepPropertiesHelper.isAirborneMove(getData()))
+        .getBestRoute(end);
+  }
+
+  /**
+   * Returns the routes of {@code units} from {@code start}. A new field searches the routes of the
+   * usual conditions in the background, the route under the mouse only waits for the searches it
+   * needs.
+   */
+  private ReachabilityField getReachabilityField(
+      final Territory start,
+      final GamePlayer owner,
+      final Collection<Unit> units,
+      final boolean forceLandOrSeaRoute) {
+    final List<Object> key = List.of(start, owner, Set.copyOf(units), forceLandOrSeaRoute);
+    final ReachabilityField cached = reachabilityFields.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    if (reachabilityFields.size() >= MAX_REACHABILITY_FIELDS) {
+      reachabilityFields.clear();
+    }
+    final ReachabilityField field =
+        new ReachabilityField(start, getData(), owner, units, forceLandOrSeaRoute);
+    reachabilityFields.put(key, field);
+    AsyncRunner.runAsync(field::searchAhead)
+        .exceptionally(e -> log.warn("Failed to search the routes from " + start, e));
+    return field;
   }
 
   private void updateUnitsThatCanMoveOnRoute(
@@ -1513,6 +1549,8 @@ public class MovePanel extends AbstractMovePanel {
     getMap().removeUnitSelectionListener(unitSelectionListener);
     getMap().removeMouseOverUnitListener(mouseOverUnitListener);
     getMap().setUnitHighlight(Set.of());
+    getData().removeDataChangeListener(reachabilityFieldsInvalidator);
+    reachabilityFields.clear();
     selectedUnits.clear();
     updateRouteAndMouseShadowUnits(null);
     forced = null;
@@ -1527,6 +1565,7 @@ public class MovePanel extends AbstractMovePanel {
     mouseCurrentTerritory = null;
     forced = null;
     selectedUnits.clear();
+    reachabilityFields.clear();
     airTransportDependents.clear();
     currentCursorImage = null;
     updateRouteAndMouseShadowUnits(null);
@@ -1556,6 +1595,7 @@ public class MovePanel extends AbstractMovePanel {
     getMap().addMapSelectionListener(mapSelectionListener);
     getMap().addUnitSelectionListener(unitSelectionListener);
     getMap().addMouseOverUnitListener(mouseOverUnitListener);
+    getData().addDataChangeListener(reachabilityFieldsInvalidator);
   }
 
   private void registerKeyBindings(final JFrame frame) {
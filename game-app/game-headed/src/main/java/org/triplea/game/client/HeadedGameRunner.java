@@ -51,6 +51,7 @@ import org.triplea.debug.ErrorMessage;
 import org.triplea.java.Interruptibles;
 import org.triplea.java.ThreadRunner;
 import org.triplea.map.description.file.MapDescriptionYamlGeneratorRunner;
+import org.triplea.metrics.MetricsReporter;
 import org.triplea.swing.SwingAction;
 import org.triplea.util.ExitStatus;
 
@@ -147,17 +148,20 @@ public final class HeadedGameRunner {
             + "prohibited by design to avoid UI rendering errors in the headless environment.");
 
     initializeClientSettingAndLogging();
+    MetricsReporter.startFromSystemProperties();
     initializeLookAndFeel();
 
     initializeDesktopIntegrations(args);
     SwingUtilities.invokeLater(ErrorMessage::initialize);
 
-    ZippedMapsExtractor.builder()
-        .downloadedMapsFolder(ClientFileSystemHelper.getUserMapsFolder())
-        .progressIndicator(
-            unzipTask -> BackgroundTaskRunner.runInBackground("Unzipping map files", unzipTask))
-        .build()
-        .unzipMapFiles();
+    if (ClientSetting.extractMapZips.getValueOrThrow()) {
+      ZippedMapsExtractor.builder()
+          .downloadedMapsFolder(ClientFileSystemHelper.getUserMapsFolder())
+          .progressIndicator(
+              unzipTask -> BackgroundTaskRunner.runInBackground("Unzipping map files", unzipTask))
+          .build()
+          .unzipMapFiles();
+    }
 
     MapDescriptionYamlGeneratorRunner.builder()
         .downloadedMapsFolder(ClientFileSystemHelper.getUserMapsFolder())
@@ -16,6 +16,7 @@ import java.nio.file.Path;
 import java.util.Locale;
 import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
+import org.triplea.metrics.MetricsReporter;
 import org.triplea.util.ExitStatus;
 
 /** Runs a headless game server. */
@@ -88,6 +89,7 @@ public final class HeadlessGameRunner {
     }
 
     ClientSetting.initialize();
+    MetricsReporter.startFromSystemProperties();
 
     Path mapsFolder = Path.of(System.getenv("MAPS_FOLDER"));
     ClientSetting.mapFolderOverride.setValue(Path.of(System.getenv("MAPS_FOLDER")));
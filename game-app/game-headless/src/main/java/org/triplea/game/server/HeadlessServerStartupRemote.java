@@ -10,7 +10,7 @@ import java.io.InputStream;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.io.IoUtils;
-import org.triplea.performance.PerfTimer;
+import org.triplea.metrics.Metrics;
 
 @Slf4j
 public class HeadlessServerStartupRemote implements IServerStartupRemote {
@@ -66,8 +66,8 @@ public class HeadlessServerStartupRemote implements IServerStartupRemote {
 
   @Override
   public List<String> getAvailableGames() {
-    return PerfTimer.time(
-        "loading maps", () -> InstalledMapsListing.parseMapFiles().getSortedGameList());
+    return Metrics.timer("headless.loadMaps")
+        .time(() -> InstalledMapsListing.parseMapFiles().getSortedGameList());
   }
 
   @Override
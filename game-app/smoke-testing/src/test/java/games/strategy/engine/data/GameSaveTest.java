@@ -6,13 +6,18 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.io.FileMatchers.aFileWithSize;
 
 import games.strategy.engine.framework.GameDataFileUtils;
+import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.ServerGame;
+import games.strategy.engine.history.History;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.triplea.io.IoUtils;
 
 /**
  * Checks that no error is encountered when saving a game on several different maps. This test
@@ -44,4 +49,21 @@ class GameSaveTest {
     game.saveGame(saveFile);
     assertThat(saveFile.toFile(), is(not(aFileWithSize(0))));
   }
+
+  @Test
+  void startingALoadedGameDoesNotReadItsHistory() throws Exception {
+    ServerGame game = GameTestUtils.setUpGameWithAis("Test1.xml");
+    byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, game.getData()));
+    GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame).orElseThrow();
+    AtomicBoolean historyRead = new AtomicBoolean();
+    loaded.setHistoryLoader(
+        () -> {
+          historyRead.set(true);
+          return new History(loaded);
+        });
+
+    GameTestUtils.setUpGameWithAis(loaded);
+
+    assertThat(historyRead.get(), is(false));
+  }
 }
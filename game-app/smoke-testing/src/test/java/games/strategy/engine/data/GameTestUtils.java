@@ -57,6 +57,10 @@ public class GameTestUtils {
     GameData gameData =
         GameParser.parse(xmlFilePath, false)
             .orElseThrow(() -> new RuntimeException("Error parsing file: " + xmlFilePath));
+    return setUpGameWithAis(gameData);
+  }
+
+  public static ServerGame setUpGameWithAis(GameData gameData) {
     Map<String, PlayerTypes.Type> playerTypes = new HashMap<>();
     for (var player : gameData.getPlayerList().getPlayers()) {
       playerTypes.put(player.getName(), PlayerTypes.PRO_AI);
@@ -0,0 +1,22 @@
+package org.triplea.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+
+/** A count that only goes up, e.g. of messages sent. Concurrent increments do not contend. */
+@ThreadSafe
+public class Counter {
+  private final LongAdder count = new LongAdder();
+
+  public void increment() {
+    count.increment();
+  }
+
+  public void add(final long amount) {
+    count.add(amount);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+}
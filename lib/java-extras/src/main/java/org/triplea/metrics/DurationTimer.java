@@ -0,0 +1,55 @@
+package org.triplea.metrics;
+
+import java.util.function.Supplier;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Measures how long something takes, in nanoseconds. Example usage:
+ *
+ * <pre>{@code
+ * private static final DurationTimer PAINT_TIMER = Metrics.timer("ui.map.paint");
+ *
+ * try (DurationTimer.Sample ignored = PAINT_TIMER.start()) {
+ *   // code to be timed
+ * }
+ * }</pre>
+ */
+@ThreadSafe
+public class DurationTimer {
+  private final Histogram nanos = new Histogram();
+
+  /** A running measurement, it is recorded when closed. */
+  public final class Sample implements AutoCloseable {
+    private final long startNanos = System.nanoTime();
+
+    @Override
+    public void close() {
+      record(System.nanoTime() - startNanos);
+    }
+  }
+
+  public Sample start() {
+    return new Sample();
+  }
+
+  public void record(final long durationNanos) {
+    nanos.record(durationNanos);
+  }
+
+  public void time(final Runnable runnable) {
+    try (Sample ignored = start()) {
+      runnable.run();
+    }
+  }
+
+  public <T> T time(final Supplier<T> supplier) {
+    try (Sample ignored = start()) {
+      return supplier.get();
+    }
+  }
+
+  /** Returns the recorded durations in nanoseconds. */
+  public Histogram.Snapshot getSnapshot() {
+    return nanos.getSnapshot();
+  }
+}
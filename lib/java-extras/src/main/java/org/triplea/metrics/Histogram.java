@@ -0,0 +1,94 @@
+package org.triplea.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Records the distribution of non-negative values, e.g. latencies or message sizes, without
+ * locking. Like an HDR histogram, values are counted in buckets whose width grows with the value:
+ * every power of two range is split into eight equal buckets, so a percentile is never off by more
+ * than an eighth of its value. Recording a value is a few atomic additions.
+ */
+@ThreadSafe
+public class Histogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  // values below SUB_BUCKET_COUNT get a bucket each, every higher power of two gets sub buckets
+  private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /** Records the value, negative values are recorded as 0. */
+  public void record(final long value) {
+    final long nonNegativeValue = Math.max(0, value);
+    buckets.incrementAndGet(getBucket(nonNegativeValue));
+    sum.add(nonNegativeValue);
+    max.accumulate(nonNegativeValue);
+  }
+
+  /** Returns a copy of the recorded values that later records do not change. */
+  public Snapshot getSnapshot() {
+    final long[] bucketCounts = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      bucketCounts[i] = buckets.get(i);
+      count += bucketCounts[i];
+    }
+    return new Snapshot(bucketCounts, count, sum.sum(), max.get());
+  }
+
+  static int getBucket(final long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+  }
+
+  static long getBucketUpperBound(final int bucket) {
+    if (bucket < SUB_BUCKET_COUNT) {
+      return bucket;
+    }
+    final int exponent = (bucket >> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+    final int shift = exponent - SUB_BUCKET_BITS;
+    final long lowerBound = (long) (SUB_BUCKET_COUNT + (bucket & (SUB_BUCKET_COUNT - 1))) << shift;
+    return lowerBound + (1L << shift) - 1;
+  }
+
+  /** The values recorded by a histogram up to some point. */
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  public static final class Snapshot {
+    private final long[] buckets;
+    @Getter private final long count;
+    @Getter private final long sum;
+    @Getter private final long max;
+
+    public double getMean() {
+      return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns an upper bound of the value below which the given fraction of the recorded values
+     * fall, e.g. {@code 0.99} for the 99th percentile, or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(final double fraction) {
+      final long rank = Math.max(1, (long) Math.ceil(fraction * count));
+      long seen = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        seen += buckets[i];
+        if (seen >= rank) {
+          return Math.min(max, getBucketUpperBound(i));
+        }
+      }
+      return max;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package org.triplea.metrics;
+
+import java.util.function.DoubleSupplier;
+import lombok.experimental.UtilityClass;
+
+/**
+ * The registry the game engine, the network code and the AI report into. Metrics are always on:
+ * recording into them takes no lock, see {@link MetricsReporter} for how they are exported.
+ *
+ * <p>Names are dot separated and start with the area they belong to, e.g. {@code
+ * engine.save} or {@code net.received.bytes}.
+ */
+@UtilityClass
+public class Metrics {
+  private final MetricsRegistry registry = new MetricsRegistry();
+
+  public MetricsRegistry getRegistry() {
+    return registry;
+  }
+
+  public Counter counter(final String name) {
+    return registry.counter(name);
+  }
+
+  public Histogram histogram(final String name) {
+    return registry.histogram(name);
+  }
+
+  public DurationTimer timer(final String name) {
+    return registry.timer(name);
+  }
+
+  public void gauge(final String name, final DoubleSupplier value) {
+    registry.gauge(name, value);
+  }
+}
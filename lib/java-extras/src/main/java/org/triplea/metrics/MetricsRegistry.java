@@ -0,0 +1,76 @@
+package org.triplea.metrics;
+
+import com.google.common.base.Preconditions;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Holds named counters, histograms, timers and gauges. Looking up a metric creates it on first use
+ * and returns the same instance afterwards, so hot paths should keep the instance in a field rather
+ * than look it up for every value. Most code reports into the registry of {@link Metrics}.
+ */
+@ThreadSafe
+public class MetricsRegistry {
+  private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+
+  public Counter counter(final String name) {
+    return getOrCreate(name, Counter.class, key -> new Counter());
+  }
+
+  public Histogram histogram(final String name) {
+    return getOrCreate(name, Histogram.class, key -> new Histogram());
+  }
+
+  public DurationTimer timer(final String name) {
+    return getOrCreate(name, DurationTimer.class, key -> new DurationTimer());
+  }
+
+  /**
+   * Registers a value that is read whenever a snapshot is taken, e.g. the size of a queue. A gauge
+   * registered under the same name before is replaced.
+   */
+  public void gauge(final String name, final DoubleSupplier value) {
+    metrics.compute(
+        name,
+        (key, previous) -> {
+          Preconditions.checkArgument(
+              previous == null || previous instanceof DoubleSupplier,
+              "Metric %s is not a gauge",
+              name);
+          return value;
+        });
+  }
+
+  /** Returns the current values of all metrics. */
+  public MetricsSnapshot getSnapshot() {
+    final Map<String, Long> counters = new TreeMap<>();
+    final Map<String, Double> gauges = new TreeMap<>();
+    final Map<String, MetricsSnapshot.Summary> histograms = new TreeMap<>();
+    final Map<String, MetricsSnapshot.Summary> timers = new TreeMap<>();
+    metrics.forEach(
+        (name, metric) -> {
+          if (metric instanceof Counter counter) {
+            counters.put(name, counter.getCount());
+          } else if (metric instanceof DoubleSupplier gauge) {
+            gauges.put(name, gauge.getAsDouble());
+          } else if (metric instanceof Histogram histogram) {
+            histograms.put(name, MetricsSnapshot.Summary.of(histogram.getSnapshot(), 1));
+          } else if (metric instanceof DurationTimer timer) {
+            timers.put(name, MetricsSnapshot.Summary.of(timer.getSnapshot(), 1_000_000));
+          }
+        });
+    return new MetricsSnapshot(System.currentTimeMillis(), counters, gauges, histograms, timers);
+  }
+
+  private <T> T getOrCreate(
+      final String name, final Class<T> type, final Function<String, T> factory) {
+    final Object metric = metrics.computeIfAbsent(name, factory);
+    Preconditions.checkArgument(
+        type.isInstance(metric), "Metric %s is not a %s", name, type.getSimpleName());
+    return type.cast(metric);
+  }
+}
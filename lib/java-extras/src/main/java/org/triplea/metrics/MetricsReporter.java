@@ -0,0 +1,80 @@
+package org.triplea.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.java.timer.ScheduledTimer;
+import org.triplea.java.timer.Timers;
+
+/**
+ * Exports snapshots of a metrics registry on a schedule, either to the log or as JSON lines
+ * appended to a file.
+ */
+@Slf4j
+@UtilityClass
+public class MetricsReporter {
+  /** Seconds between two snapshots of {@link Metrics}, 0 (the default) does not export them. */
+  public static final String INTERVAL_PROPERTY = "triplea.metrics.intervalSeconds";
+
+  /** The file snapshots are appended to, they are logged if this is not set. */
+  public static final String FILE_PROPERTY = "triplea.metrics.file";
+
+  /**
+   * Starts exporting snapshots of {@link Metrics} as configured by the system properties {@link
+   * #INTERVAL_PROPERTY} and {@link #FILE_PROPERTY}.
+   *
+   * @return The timer exporting the snapshots, empty if exporting is disabled.
+   */
+  public static Optional<ScheduledTimer> startFromSystemProperties() {
+    final long intervalSeconds = Long.getLong(INTERVAL_PROPERTY, 0);
+    if (intervalSeconds <= 0) {
+      return Optional.empty();
+    }
+    final Consumer<MetricsSnapshot> exporter =
+        Optional.ofNullable(System.getProperty(FILE_PROPERTY))
+            .map(Path::of)
+            .map(MetricsReporter::appendingTo)
+            .orElse(MetricsReporter::logSnapshot);
+    return Optional.of(
+        start(Metrics.getRegistry(), Duration.ofSeconds(intervalSeconds), exporter));
+  }
+
+  /** Passes a snapshot of the registry to the exporter every interval, starting after one. */
+  public static ScheduledTimer start(
+      final MetricsRegistry registry,
+      final Duration interval,
+      final Consumer<MetricsSnapshot> exporter) {
+    return Timers.fixedRateTimer("Metrics reporter")
+        .period(interval.toMillis())
+        .delay(interval.toMillis())
+        .task(() -> exporter.accept(registry.getSnapshot()))
+        .start();
+  }
+
+  public static void logSnapshot(final MetricsSnapshot snapshot) {
+    log.info("Metrics: {}", snapshot.toJson());
+  }
+
+  /** Returns an exporter appending every snapshot as a line of JSON to the file. */
+  public static Consumer<MetricsSnapshot> appendingTo(final Path file) {
+    return snapshot -> {
+      try {
+        Files.writeString(
+            file,
+            snapshot.toJson() + System.lineSeparator(),
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+      } catch (final IOException e) {
+        log.warn("Failed to write metrics to " + file.toAbsolutePath(), e);
+      }
+    };
+  }
+}
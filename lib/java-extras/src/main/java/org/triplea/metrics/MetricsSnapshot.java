@@ -0,0 +1,46 @@
+package org.triplea.metrics;
+
+import com.google.gson.Gson;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * The values of the metrics of a registry at one point in time. Timers are summarized in
+ * milliseconds, histograms in the unit of their values.
+ */
+@Value
+public class MetricsSnapshot {
+  private static final Gson gson = new Gson();
+
+  long timestampMillis;
+  Map<String, Long> counters;
+  Map<String, Double> gauges;
+  Map<String, Summary> histograms;
+  Map<String, Summary> timers;
+
+  /** The count and the distribution of the values recorded by a histogram or timer. */
+  @Value
+  public static class Summary {
+    long count;
+    double mean;
+    double p50;
+    double p90;
+    double p99;
+    double max;
+
+    static Summary of(final Histogram.Snapshot snapshot, final double unit) {
+      return new Summary(
+          snapshot.getCount(),
+          snapshot.getMean() / unit,
+          snapshot.getValueAtPercentile(0.5) / unit,
+          snapshot.getValueAtPercentile(0.9) / unit,
+          snapshot.getValueAtPercentile(0.99) / unit,
+          snapshot.getMax() / unit);
+    }
+  }
+
+  /** Returns the snapshot as a single line JSON object. */
+  public String toJson() {
+    return gson.toJson(this);
+  }
+}
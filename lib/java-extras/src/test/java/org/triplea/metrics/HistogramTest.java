@@ -0,0 +1,58 @@
+package org.triplea.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class HistogramTest {
+  private final Histogram histogram = new Histogram();
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 1, 7, 8, 9, 15, 16, 1_000, 123_456_789, Long.MAX_VALUE})
+  void bucketUpperBoundShouldBeWithinAnEighthOfTheValue(final long value) {
+    final long upperBound = Histogram.getBucketUpperBound(Histogram.getBucket(value));
+
+    assertThat(upperBound, is(greaterThanOrEqualTo(value)));
+    assertThat(upperBound - value, is(lessThanOrEqualTo(value / 8)));
+  }
+
+  @Test
+  void snapshotShouldSummarizeRecordedValues() {
+    histogram.record(10);
+    histogram.record(20);
+    histogram.record(-5);
+
+    final Histogram.Snapshot snapshot = histogram.getSnapshot();
+
+    assertThat(snapshot.getCount(), is(3L));
+    assertThat(snapshot.getSum(), is(30L));
+    assertThat(snapshot.getMax(), is(20L));
+    assertThat(snapshot.getMean(), is(10.0));
+  }
+
+  @Test
+  void percentilesShouldBeUpperBoundsOfTheRecordedValues() {
+    for (int i = 0; i < 90; i++) {
+      histogram.record(100);
+    }
+    for (int i = 0; i < 10; i++) {
+      histogram.record(10_000);
+    }
+
+    final Histogram.Snapshot snapshot = histogram.getSnapshot();
+
+    assertThat(snapshot.getValueAtPercentile(0.5), is(103L));
+    assertThat(snapshot.getValueAtPercentile(0.9), is(103L));
+    assertThat(snapshot.getValueAtPercentile(0.99), is(10_000L));
+  }
+
+  @Test
+  void percentileOfEmptyHistogramShouldBeZero() {
+    assertThat(histogram.getSnapshot().getValueAtPercentile(0.5), is(0L));
+  }
+}
@@ -0,0 +1,49 @@
+package org.triplea.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+final class MetricsRegistryTest {
+  private final MetricsRegistry registry = new MetricsRegistry();
+
+  @Test
+  void shouldReturnTheSameMetricForTheSameName() {
+    assertThat(registry.counter("counter"), is(sameInstance(registry.counter("counter"))));
+    assertThat(registry.timer("timer"), is(sameInstance(registry.timer("timer"))));
+  }
+
+  @Test
+  void shouldNotReturnAMetricOfAnotherType() {
+    registry.counter("metric");
+
+    assertThrows(IllegalArgumentException.class, () -> registry.timer("metric"));
+    assertThrows(IllegalArgumentException.class, () -> registry.gauge("metric", () -> 1));
+  }
+
+  @Test
+  void snapshotShouldContainAllMetrics() {
+    registry.counter("messages").add(3);
+    registry.gauge("queue", () -> 5);
+    registry.histogram("size").record(100);
+    registry.timer("paint").record(2_000_000);
+
+    final MetricsSnapshot snapshot = registry.getSnapshot();
+
+    assertThat(snapshot.getCounters().get("messages"), is(3L));
+    assertThat(snapshot.getGauges().get("queue"), is(5.0));
+    assertThat(snapshot.getHistograms().get("size").getMax(), is(100.0));
+    assertThat(snapshot.getTimers().get("paint").getMax(), is(2.0));
+  }
+
+  @Test
+  void snapshotShouldBeWrittenAsJson() {
+    registry.counter("messages").increment();
+
+    assertThat(registry.getSnapshot().toJson(), containsString("\"messages\":1"));
+  }
+}